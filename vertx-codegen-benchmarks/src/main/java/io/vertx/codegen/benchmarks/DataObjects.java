@@ -0,0 +1,124 @@
+package io.vertx.codegen.benchmarks;
+
+import io.vertx.codegen.benchmarks.model.FlatObject;
+import io.vertx.codegen.benchmarks.model.JsonObjectHolder;
+import io.vertx.codegen.benchmarks.model.ListObject;
+import io.vertx.codegen.benchmarks.model.MapObject;
+import io.vertx.codegen.benchmarks.model.NestedObject;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The data objects used by the benchmarks.
+ */
+public class DataObjects {
+
+  public static FlatObject flat(int index) {
+    FlatObject obj = new FlatObject();
+    obj.setName("name-" + index);
+    obj.setDescription("The description of the flat object number " + index);
+    obj.setId(index);
+    obj.setTimestamp(1_700_000_000_000L + index);
+    obj.setScore(index * 1.5d);
+    obj.setActive(index % 2 == 0);
+    obj.setCount(index * 100);
+    return obj;
+  }
+
+  public static NestedObject nested() {
+    NestedObject obj = new NestedObject();
+    obj.setId("nested");
+    obj.setFirst(flat(1));
+    obj.setSecond(flat(2));
+    obj.setThird(flat(3));
+    return obj;
+  }
+
+  public static ListObject list(int size) {
+    List<Integer> integers = new ArrayList<>(size);
+    List<Long> longs = new ArrayList<>(size);
+    List<Double> doubles = new ArrayList<>(size);
+    List<FlatObject> objects = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      integers.add(i * 31);
+      longs.add(1_700_000_000_000L + i);
+      doubles.add(i / 3d);
+      objects.add(flat(i));
+    }
+    ListObject obj = new ListObject();
+    obj.setIntegers(integers);
+    obj.setLongs(longs);
+    obj.setDoubles(doubles);
+    obj.setObjects(objects);
+    return obj;
+  }
+
+  public static MapObject map(int size) {
+    Map<String, String> strings = new HashMap<>();
+    Map<String, Integer> integers = new HashMap<>();
+    Map<String, FlatObject> objects = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      strings.put("key-" + i, "value-" + i);
+      integers.put("key-" + i, i);
+      objects.put("key-" + i, flat(i));
+    }
+    MapObject obj = new MapObject();
+    obj.setStrings(strings);
+    obj.setIntegers(integers);
+    obj.setObjects(objects);
+    return obj;
+  }
+
+  public static JsonObjectHolder jsonObjectHolder(int size) {
+    JsonObjectHolder obj = new JsonObjectHolder();
+    obj.setId("holder");
+    obj.setPayload(json(size));
+    return obj;
+  }
+
+  /**
+   * @return a document mixing the JSON value types, with {@code size} entries at the top level
+   */
+  public static JsonObject json(int size) {
+    JsonObject json = new JsonObject();
+    for (int i = 0; i < size; i++) {
+      switch (i % 5) {
+        case 0:
+          json.put("string-" + i, "value-" + i);
+          break;
+        case 1:
+          json.put("number-" + i, i * 1.5d);
+          break;
+        case 2:
+          json.put("boolean-" + i, i % 2 == 0);
+          break;
+        case 3:
+          json.put("object-" + i, new JsonObject().put("name", "name-" + i).put("id", i));
+          break;
+        default:
+          json.put("array-" + i, new JsonArray().add(i).add("element-" + i));
+          break;
+      }
+    }
+    return json;
+  }
+
+  /**
+   * @return a document of JSON objects nested {@code depth} levels deep, each level holding a few scalar entries
+   */
+  public static JsonObject deepJson(int depth) {
+    JsonObject json = new JsonObject().put("depth", depth);
+    for (int i = depth - 1; i >= 0; i--) {
+      json = new JsonObject()
+        .put("depth", i)
+        .put("name", "level-" + i)
+        .put("child", json);
+    }
+    return json;
+  }
+}
@@ -0,0 +1,39 @@
+package io.vertx.codegen.benchmarks;
+
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.converters.VertxStructProtoConverter;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * Encodes deeply nested {@code JsonObject} documents with {@link VertxStructProtoConverter}, the time of an encoding
+ * grows linearly with the depth since each nested object is sized once.
+ */
+@State(Scope.Thread)
+public class DeepStructProtoConverterBenchmark extends BenchmarkBase {
+
+  @Param({"8", "64", "512"})
+  public int depth;
+
+  private JsonObject json;
+  private byte[] buffer;
+
+  @Setup
+  public void setup() {
+    json = DataObjects.deepJson(depth);
+    buffer = new byte[VertxStructProtoConverter.computeSize(json)];
+  }
+
+  @Benchmark
+  public CodedOutputStream toProto() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    VertxStructProtoConverter.toProto(json, output);
+    return output;
+  }
+}
@@ -0,0 +1,259 @@
+package io.vertx.codegen.benchmarks;
+
+import io.vertx.codegen.benchmarks.model.FlatObject;
+import io.vertx.codegen.benchmarks.model.FlatObjectConverter;
+import io.vertx.codegen.benchmarks.model.JsonObjectHolder;
+import io.vertx.codegen.benchmarks.model.JsonObjectHolderConverter;
+import io.vertx.codegen.benchmarks.model.ListObject;
+import io.vertx.codegen.benchmarks.model.ListObjectConverter;
+import io.vertx.codegen.benchmarks.model.MapObject;
+import io.vertx.codegen.benchmarks.model.MapObjectConverter;
+import io.vertx.codegen.benchmarks.model.NestedObject;
+import io.vertx.codegen.benchmarks.model.NestedObjectConverter;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the generated {@code *Converter.toJson} and {@code *Converter.fromJson} methods.
+ * <p>
+ * The {@code encode*} benchmarks encode the {@code JsonObject} built by the converter, the {@code stream*}
+ * benchmarks write the data object to a buffer in a single pass with the streaming converter. Likewise the
+ * {@code decode*} benchmarks convert the {@code JsonObject} decoded from a buffer, the {@code parse*} benchmarks
+ * read the data object from the buffer in a single pass.
+ */
+@State(Scope.Thread)
+public class JsonConverterBenchmark extends BenchmarkBase {
+
+  @Param({"16"})
+  public int size;
+
+  private FlatObject flat;
+  private NestedObject nested;
+  private ListObject list;
+  private MapObject map;
+  private JsonObjectHolder jsonObjectHolder;
+  private JsonObject flatJson;
+  private JsonObject nestedJson;
+  private JsonObject listJson;
+  private JsonObject mapJson;
+  private JsonObject jsonObjectHolderJson;
+  private Buffer flatBuffer;
+  private Buffer nestedBuffer;
+  private Buffer listBuffer;
+  private Buffer mapBuffer;
+  private Buffer jsonObjectHolderBuffer;
+
+  @Setup
+  public void setup() {
+    flat = DataObjects.flat(1);
+    nested = DataObjects.nested();
+    list = DataObjects.list(size);
+    map = DataObjects.map(size);
+    jsonObjectHolder = DataObjects.jsonObjectHolder(size);
+    flatJson = flat.toJson();
+    nestedJson = nested.toJson();
+    listJson = list.toJson();
+    mapJson = map.toJson();
+    jsonObjectHolderJson = jsonObjectHolder.toJson();
+    flatBuffer = flatJson.toBuffer();
+    nestedBuffer = nestedJson.toBuffer();
+    listBuffer = listJson.toBuffer();
+    mapBuffer = mapJson.toBuffer();
+    jsonObjectHolderBuffer = jsonObjectHolderJson.toBuffer();
+  }
+
+  @Benchmark
+  public JsonObject toJsonFlat() {
+    JsonObject json = new JsonObject();
+    FlatObjectConverter.toJson(flat, json);
+    return json;
+  }
+
+  @Benchmark
+  public JsonObject toJsonNested() {
+    JsonObject json = new JsonObject();
+    NestedObjectConverter.toJson(nested, json);
+    return json;
+  }
+
+  @Benchmark
+  public JsonObject toJsonList() {
+    JsonObject json = new JsonObject();
+    ListObjectConverter.toJson(list, json);
+    return json;
+  }
+
+  @Benchmark
+  public JsonObject toJsonMap() {
+    JsonObject json = new JsonObject();
+    MapObjectConverter.toJson(map, json);
+    return json;
+  }
+
+  @Benchmark
+  public JsonObject toJsonJsonObject() {
+    JsonObject json = new JsonObject();
+    JsonObjectHolderConverter.toJson(jsonObjectHolder, json);
+    return json;
+  }
+
+  @Benchmark
+  public FlatObject fromJsonFlat() {
+    FlatObject obj = new FlatObject();
+    FlatObjectConverter.fromJson(flatJson, obj);
+    return obj;
+  }
+
+  @Benchmark
+  public NestedObject fromJsonNested() {
+    NestedObject obj = new NestedObject();
+    NestedObjectConverter.fromJson(nestedJson, obj);
+    return obj;
+  }
+
+  @Benchmark
+  public ListObject fromJsonList() {
+    ListObject obj = new ListObject();
+    ListObjectConverter.fromJson(listJson, obj);
+    return obj;
+  }
+
+  @Benchmark
+  public MapObject fromJsonMap() {
+    MapObject obj = new MapObject();
+    MapObjectConverter.fromJson(mapJson, obj);
+    return obj;
+  }
+
+  @Benchmark
+  public JsonObjectHolder fromJsonJsonObject() {
+    JsonObjectHolder obj = new JsonObjectHolder();
+    JsonObjectHolderConverter.fromJson(jsonObjectHolderJson, obj);
+    return obj;
+  }
+
+  @Benchmark
+  public Buffer encodeFlat() {
+    return flat.toJson().toBuffer();
+  }
+
+  @Benchmark
+  public Buffer encodeNested() {
+    return nested.toJson().toBuffer();
+  }
+
+  @Benchmark
+  public Buffer encodeList() {
+    return list.toJson().toBuffer();
+  }
+
+  @Benchmark
+  public Buffer encodeMap() {
+    return map.toJson().toBuffer();
+  }
+
+  @Benchmark
+  public Buffer encodeJsonObject() {
+    return jsonObjectHolder.toJson().toBuffer();
+  }
+
+  @Benchmark
+  public Buffer streamFlat() {
+    return FlatObjectConverter.toBuffer(flat);
+  }
+
+  @Benchmark
+  public Buffer streamNested() {
+    return NestedObjectConverter.toBuffer(nested);
+  }
+
+  @Benchmark
+  public Buffer streamList() {
+    return ListObjectConverter.toBuffer(list);
+  }
+
+  @Benchmark
+  public Buffer streamMap() {
+    return MapObjectConverter.toBuffer(map);
+  }
+
+  @Benchmark
+  public Buffer streamJsonObject() {
+    return JsonObjectHolderConverter.toBuffer(jsonObjectHolder);
+  }
+
+  @Benchmark
+  public FlatObject decodeFlat() {
+    FlatObject obj = new FlatObject();
+    FlatObjectConverter.fromJson(new JsonObject(flatBuffer), obj);
+    return obj;
+  }
+
+  @Benchmark
+  public NestedObject decodeNested() {
+    NestedObject obj = new NestedObject();
+    NestedObjectConverter.fromJson(new JsonObject(nestedBuffer), obj);
+    return obj;
+  }
+
+  @Benchmark
+  public ListObject decodeList() {
+    ListObject obj = new ListObject();
+    ListObjectConverter.fromJson(new JsonObject(listBuffer), obj);
+    return obj;
+  }
+
+  @Benchmark
+  public MapObject decodeMap() {
+    MapObject obj = new MapObject();
+    MapObjectConverter.fromJson(new JsonObject(mapBuffer), obj);
+    return obj;
+  }
+
+  @Benchmark
+  public JsonObjectHolder decodeJsonObject() {
+    JsonObjectHolder obj = new JsonObjectHolder();
+    JsonObjectHolderConverter.fromJson(new JsonObject(jsonObjectHolderBuffer), obj);
+    return obj;
+  }
+
+  @Benchmark
+  public FlatObject parseFlat() {
+    FlatObject obj = new FlatObject();
+    FlatObjectConverter.fromBuffer(flatBuffer, obj);
+    return obj;
+  }
+
+  @Benchmark
+  public NestedObject parseNested() {
+    NestedObject obj = new NestedObject();
+    NestedObjectConverter.fromBuffer(nestedBuffer, obj);
+    return obj;
+  }
+
+  @Benchmark
+  public ListObject parseList() {
+    ListObject obj = new ListObject();
+    ListObjectConverter.fromBuffer(listBuffer, obj);
+    return obj;
+  }
+
+  @Benchmark
+  public MapObject parseMap() {
+    MapObject obj = new MapObject();
+    MapObjectConverter.fromBuffer(mapBuffer, obj);
+    return obj;
+  }
+
+  @Benchmark
+  public JsonObjectHolder parseJsonObject() {
+    JsonObjectHolder obj = new JsonObjectHolder();
+    JsonObjectHolderConverter.fromBuffer(jsonObjectHolderBuffer, obj);
+    return obj;
+  }
+}
@@ -0,0 +1,30 @@
+package io.vertx.codegen.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the JMH command line options, the allocation rate is always reported
+ * with the GC profiler.
+ */
+public class Main {
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmdOptions = new CommandLineOptions(args);
+    if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListProfilers() || cmdOptions.shouldListResultFormats()) {
+      // Let JMH handle the informational options
+      org.openjdk.jmh.Main.main(args);
+      return;
+    }
+    OptionsBuilder builder = new OptionsBuilder();
+    builder.parent(cmdOptions);
+    if (cmdOptions.getProfilers().stream().noneMatch(profiler -> profiler.getKlass().equals(GCProfiler.class.getName()))) {
+      builder.addProfiler(GCProfiler.class);
+    }
+    Options options = builder.build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,203 @@
+package io.vertx.codegen.benchmarks;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.benchmarks.model.FlatObject;
+import io.vertx.codegen.benchmarks.model.FlatObjectProtoConverter;
+import io.vertx.codegen.benchmarks.model.JsonObjectHolder;
+import io.vertx.codegen.benchmarks.model.JsonObjectHolderProtoConverter;
+import io.vertx.codegen.benchmarks.model.ListObject;
+import io.vertx.codegen.benchmarks.model.ListObjectProtoConverter;
+import io.vertx.codegen.benchmarks.model.MapObject;
+import io.vertx.codegen.benchmarks.model.MapObjectProtoConverter;
+import io.vertx.codegen.benchmarks.model.NestedObject;
+import io.vertx.codegen.benchmarks.model.NestedObjectProtoConverter;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * Benchmarks the generated {@code *ProtoConverter.toProto}, {@code *ProtoConverter.fromProto} and
+ * {@code *ProtoConverter.computeSize} methods.
+ * <p>
+ * The {@code *SinglePass} benchmarks encode the same data objects with the single pass {@code toProto} into
+ * a {@link BackpatchingOutput} copied to the output, to be compared with the two pass {@code toProto*} ones.
+ */
+@State(Scope.Thread)
+public class ProtoConverterBenchmark extends BenchmarkBase {
+
+  @Param({"16"})
+  public int size;
+
+  private FlatObject flat;
+  private NestedObject nested;
+  private ListObject list;
+  private MapObject map;
+  private JsonObjectHolder jsonObjectHolder;
+  private byte[] flatBytes;
+  private byte[] nestedBytes;
+  private byte[] listBytes;
+  private byte[] mapBytes;
+  private byte[] jsonObjectHolderBytes;
+  private byte[] buffer;
+  private BackpatchingOutput backpatchingOutput;
+
+  @Setup
+  public void setup() throws IOException {
+    flat = DataObjects.flat(1);
+    nested = DataObjects.nested();
+    list = DataObjects.list(size);
+    map = DataObjects.map(size);
+    jsonObjectHolder = DataObjects.jsonObjectHolder(size);
+    flatBytes = new byte[FlatObjectProtoConverter.computeSize(flat)];
+    FlatObjectProtoConverter.toProto(flat, CodedOutputStream.newInstance(flatBytes));
+    nestedBytes = new byte[NestedObjectProtoConverter.computeSize(nested)];
+    NestedObjectProtoConverter.toProto(nested, CodedOutputStream.newInstance(nestedBytes));
+    listBytes = new byte[ListObjectProtoConverter.computeSize(list)];
+    ListObjectProtoConverter.toProto(list, CodedOutputStream.newInstance(listBytes));
+    mapBytes = new byte[MapObjectProtoConverter.computeSize(map)];
+    MapObjectProtoConverter.toProto(map, CodedOutputStream.newInstance(mapBytes));
+    jsonObjectHolderBytes = new byte[JsonObjectHolderProtoConverter.computeSize(jsonObjectHolder)];
+    JsonObjectHolderProtoConverter.toProto(jsonObjectHolder, CodedOutputStream.newInstance(jsonObjectHolderBytes));
+    // Large enough for any of the messages
+    buffer = new byte[flatBytes.length + nestedBytes.length + listBytes.length + mapBytes.length + jsonObjectHolderBytes.length];
+    backpatchingOutput = new BackpatchingOutput(buffer.length);
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoFlat() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    FlatObjectProtoConverter.toProto(flat, output);
+    return output;
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoNested() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    NestedObjectProtoConverter.toProto(nested, output);
+    return output;
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoList() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    ListObjectProtoConverter.toProto(list, output);
+    return output;
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoMap() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    MapObjectProtoConverter.toProto(map, output);
+    return output;
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoJsonObject() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    JsonObjectHolderProtoConverter.toProto(jsonObjectHolder, output);
+    return output;
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoFlatSinglePass() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    backpatchingOutput.reset();
+    FlatObjectProtoConverter.toProto(flat, backpatchingOutput, ProtobufEncodingMode.VERTX);
+    backpatchingOutput.writeTo(output);
+    return output;
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoNestedSinglePass() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    backpatchingOutput.reset();
+    NestedObjectProtoConverter.toProto(nested, backpatchingOutput, ProtobufEncodingMode.VERTX);
+    backpatchingOutput.writeTo(output);
+    return output;
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoListSinglePass() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    backpatchingOutput.reset();
+    ListObjectProtoConverter.toProto(list, backpatchingOutput, ProtobufEncodingMode.VERTX);
+    backpatchingOutput.writeTo(output);
+    return output;
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoMapSinglePass() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    backpatchingOutput.reset();
+    MapObjectProtoConverter.toProto(map, backpatchingOutput, ProtobufEncodingMode.VERTX);
+    backpatchingOutput.writeTo(output);
+    return output;
+  }
+
+  @Benchmark
+  public FlatObject fromProtoFlat() throws IOException {
+    FlatObject obj = new FlatObject();
+    FlatObjectProtoConverter.fromProto(CodedInputStream.newInstance(flatBytes), obj);
+    return obj;
+  }
+
+  @Benchmark
+  public NestedObject fromProtoNested() throws IOException {
+    NestedObject obj = new NestedObject();
+    NestedObjectProtoConverter.fromProto(CodedInputStream.newInstance(nestedBytes), obj);
+    return obj;
+  }
+
+  @Benchmark
+  public ListObject fromProtoList() throws IOException {
+    ListObject obj = new ListObject();
+    ListObjectProtoConverter.fromProto(CodedInputStream.newInstance(listBytes), obj);
+    return obj;
+  }
+
+  @Benchmark
+  public MapObject fromProtoMap() throws IOException {
+    MapObject obj = new MapObject();
+    MapObjectProtoConverter.fromProto(CodedInputStream.newInstance(mapBytes), obj);
+    return obj;
+  }
+
+  @Benchmark
+  public JsonObjectHolder fromProtoJsonObject() throws IOException {
+    JsonObjectHolder obj = new JsonObjectHolder();
+    JsonObjectHolderProtoConverter.fromProto(CodedInputStream.newInstance(jsonObjectHolderBytes), obj);
+    return obj;
+  }
+
+  @Benchmark
+  public int computeSizeFlat() {
+    return FlatObjectProtoConverter.computeSize(flat);
+  }
+
+  @Benchmark
+  public int computeSizeNested() {
+    return NestedObjectProtoConverter.computeSize(nested);
+  }
+
+  @Benchmark
+  public int computeSizeList() {
+    return ListObjectProtoConverter.computeSize(list);
+  }
+
+  @Benchmark
+  public int computeSizeMap() {
+    return MapObjectProtoConverter.computeSize(map);
+  }
+
+  @Benchmark
+  public int computeSizeJsonObject() {
+    return JsonObjectHolderProtoConverter.computeSize(jsonObjectHolder);
+  }
+}
@@ -0,0 +1,81 @@
+package io.vertx.codegen.benchmarks;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.converters.GoogleStructProtoConverter;
+import io.vertx.codegen.protobuf.converters.VertxStructProtoConverter;
+import io.vertx.codegen.protobuf.utils.ProtoStringInterner;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * Compares the {@code JsonObject} encodings, {@link VertxStructProtoConverter} vs {@link GoogleStructProtoConverter}.
+ */
+@State(Scope.Thread)
+public class StructProtoConverterBenchmark extends BenchmarkBase {
+
+  @Param({"16", "256"})
+  public int size;
+
+  private JsonObject json;
+  private byte[] vertxBytes;
+  private byte[] googleBytes;
+  private byte[] buffer;
+  private ProtoStringInterner interner;
+
+  @Setup
+  public void setup() throws IOException {
+    json = DataObjects.json(size);
+    vertxBytes = new byte[VertxStructProtoConverter.computeSize(json)];
+    VertxStructProtoConverter.toProto(json, CodedOutputStream.newInstance(vertxBytes));
+    googleBytes = new byte[GoogleStructProtoConverter.computeSize(json)];
+    GoogleStructProtoConverter.toProto(json, CodedOutputStream.newInstance(googleBytes));
+    buffer = new byte[Math.max(vertxBytes.length, googleBytes.length)];
+    interner = new ProtoStringInterner(ProtoStringInterner.DEFAULT_CAPACITY, 16);
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoVertx() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    VertxStructProtoConverter.toProto(json, output);
+    return output;
+  }
+
+  @Benchmark
+  public CodedOutputStream toProtoGoogle() throws IOException {
+    CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+    GoogleStructProtoConverter.toProto(json, output);
+    return output;
+  }
+
+  @Benchmark
+  public JsonObject fromProtoVertx() throws IOException {
+    return VertxStructProtoConverter.fromProto(CodedInputStream.newInstance(vertxBytes));
+  }
+
+  @Benchmark
+  public JsonObject fromProtoVertxInterned() throws IOException {
+    return VertxStructProtoConverter.fromProto(CodedInputStream.newInstance(vertxBytes), false, interner);
+  }
+
+  @Benchmark
+  public JsonObject fromProtoGoogle() throws IOException {
+    return GoogleStructProtoConverter.fromProto(CodedInputStream.newInstance(googleBytes));
+  }
+
+  @Benchmark
+  public int computeSizeVertx() {
+    return VertxStructProtoConverter.computeSize(json);
+  }
+
+  @Benchmark
+  public int computeSizeGoogle() {
+    return GoogleStructProtoConverter.computeSize(json);
+  }
+}
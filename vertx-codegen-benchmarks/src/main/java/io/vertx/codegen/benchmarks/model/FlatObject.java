@@ -0,0 +1,93 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A data object with scalar properties only.
+ */
+@DataObject
+@JsonGen(streaming = true)
+@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT)
+public class FlatObject {
+
+  private String name;
+  private String description;
+  private int id;
+  private long timestamp;
+  private double score;
+  private boolean active;
+  private Integer count;
+
+  public FlatObject() {
+  }
+
+  public FlatObject(JsonObject json) {
+    FlatObjectConverter.fromJson(json, this);
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    FlatObjectConverter.toJson(this, json);
+    return json;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public void setId(int id) {
+    this.id = id;
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(long timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  public double getScore() {
+    return score;
+  }
+
+  public void setScore(double score) {
+    this.score = score;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public void setActive(boolean active) {
+    this.active = active;
+  }
+
+  public Integer getCount() {
+    return count;
+  }
+
+  public void setCount(Integer count) {
+    this.count = count;
+  }
+}
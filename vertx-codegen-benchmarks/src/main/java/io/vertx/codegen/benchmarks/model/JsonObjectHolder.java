@@ -0,0 +1,48 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A data object carrying a {@code JsonObject}.
+ */
+@DataObject
+@JsonGen(streaming = true)
+@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT)
+public class JsonObjectHolder {
+
+  private String id;
+  private JsonObject payload;
+
+  public JsonObjectHolder() {
+  }
+
+  public JsonObjectHolder(JsonObject json) {
+    JsonObjectHolderConverter.fromJson(json, this);
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    JsonObjectHolderConverter.toJson(this, json);
+    return json;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public JsonObject getPayload() {
+    return payload;
+  }
+
+  public void setPayload(JsonObject payload) {
+    this.payload = payload;
+  }
+}
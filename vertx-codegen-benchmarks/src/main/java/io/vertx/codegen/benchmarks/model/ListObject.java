@@ -0,0 +1,68 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+
+/**
+ * A data object with list properties.
+ */
+@DataObject
+@JsonGen(streaming = true)
+@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT)
+public class ListObject {
+
+  private List<Integer> integers;
+  private List<Long> longs;
+  private List<Double> doubles;
+  private List<FlatObject> objects;
+
+  public ListObject() {
+  }
+
+  public ListObject(JsonObject json) {
+    ListObjectConverter.fromJson(json, this);
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    ListObjectConverter.toJson(this, json);
+    return json;
+  }
+
+  public List<Integer> getIntegers() {
+    return integers;
+  }
+
+  public void setIntegers(List<Integer> integers) {
+    this.integers = integers;
+  }
+
+  public List<Long> getLongs() {
+    return longs;
+  }
+
+  public void setLongs(List<Long> longs) {
+    this.longs = longs;
+  }
+
+  public List<Double> getDoubles() {
+    return doubles;
+  }
+
+  public void setDoubles(List<Double> doubles) {
+    this.doubles = doubles;
+  }
+
+  public List<FlatObject> getObjects() {
+    return objects;
+  }
+
+  public void setObjects(List<FlatObject> objects) {
+    this.objects = objects;
+  }
+}
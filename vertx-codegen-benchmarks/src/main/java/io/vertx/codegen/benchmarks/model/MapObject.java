@@ -0,0 +1,59 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Map;
+
+/**
+ * A data object with map properties.
+ */
+@DataObject
+@JsonGen(streaming = true)
+@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT)
+public class MapObject {
+
+  private Map<String, String> strings;
+  private Map<String, Integer> integers;
+  private Map<String, FlatObject> objects;
+
+  public MapObject() {
+  }
+
+  public MapObject(JsonObject json) {
+    MapObjectConverter.fromJson(json, this);
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    MapObjectConverter.toJson(this, json);
+    return json;
+  }
+
+  public Map<String, String> getStrings() {
+    return strings;
+  }
+
+  public void setStrings(Map<String, String> strings) {
+    this.strings = strings;
+  }
+
+  public Map<String, Integer> getIntegers() {
+    return integers;
+  }
+
+  public void setIntegers(Map<String, Integer> integers) {
+    this.integers = integers;
+  }
+
+  public Map<String, FlatObject> getObjects() {
+    return objects;
+  }
+
+  public void setObjects(Map<String, FlatObject> objects) {
+    this.objects = objects;
+  }
+}
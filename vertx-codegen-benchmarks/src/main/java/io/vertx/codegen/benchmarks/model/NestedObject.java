@@ -0,0 +1,66 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A data object nesting other data objects.
+ */
+@DataObject
+@JsonGen(streaming = true)
+@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT)
+public class NestedObject {
+
+  private String id;
+  private FlatObject first;
+  private FlatObject second;
+  private FlatObject third;
+
+  public NestedObject() {
+  }
+
+  public NestedObject(JsonObject json) {
+    NestedObjectConverter.fromJson(json, this);
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    NestedObjectConverter.toJson(this, json);
+    return json;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public FlatObject getFirst() {
+    return first;
+  }
+
+  public void setFirst(FlatObject first) {
+    this.first = first;
+  }
+
+  public FlatObject getSecond() {
+    return second;
+  }
+
+  public void setSecond(FlatObject second) {
+    this.second = second;
+  }
+
+  public FlatObject getThird() {
+    return third;
+  }
+
+  public void setThird(FlatObject third) {
+    this.third = third;
+  }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+/**
+ * JMH benchmarks of the generated data object converters.
+ */
+@ModuleGen(name = "benchmarks", groupPackage = "io.vertx.codegen.benchmarks")
+package io.vertx.codegen.benchmarks;
+
+import io.vertx.codegen.annotations.ModuleGen;
@@ -0,0 +1,18 @@
+package io.vertx.codegen.json.annotations;
+
+/**
+ * The Jackson binary formats a data object can be converted to, see {@link JsonGen#binaryFormats()}.
+ */
+public enum JsonBinaryFormat {
+
+  /**
+   * CBOR (RFC 8949), requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-cbor}.
+   */
+  CBOR,
+
+  /**
+   * Smile, requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile}.
+   */
+  SMILE
+
+}
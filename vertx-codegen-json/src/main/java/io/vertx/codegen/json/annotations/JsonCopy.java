@@ -0,0 +1,15 @@
+package io.vertx.codegen.json.annotations;
+
+/**
+ * Overrides {@link JsonGen#copyJson()} for a {@code JsonObject} or {@code JsonArray} property of a data object,
+ * the annotation can be placed on the field, the getter or the setter of the property.
+ *
+ * <p>{@code @JsonCopy(false)} hands the JSON value over to the data object, {@code @JsonCopy} copies it.
+ */
+public @interface JsonCopy {
+
+  /**
+   * @return whether the generated {@code fromJson} method should copy the JSON value of the property
+   */
+  boolean value() default true;
+}
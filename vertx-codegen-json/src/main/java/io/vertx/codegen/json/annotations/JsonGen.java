@@ -52,4 +52,100 @@ public @interface JsonGen {
    * @return if generated converters are enabled, buffers should default to the configured type.
    */
   String base64Type() default "";
+
+  /**
+   * The encoding of {@code Instant} properties, ISO-8601 strings by default. Regardless of this setting, the converter
+   * decodes {@code Instant} properties from ISO-8601 strings as well.
+   *
+   * @return the encoding of the {@code Instant} properties
+   */
+  JsonInstantEncoding instantEncoding() default JsonInstantEncoding.ISO_8601;
+
+  /**
+   * By default the {@code fromJson} method of the converter copies the {@code JsonObject} and {@code JsonArray} values
+   * it sets on the data object. When disabled, the values are handed over to the data object as is, the caller
+   * must not modify them afterwards.
+   *
+   * <p>A property can override this setting with {@link JsonCopy}.
+   *
+   * @return whether the converter should copy the JSON values of the data object properties
+   */
+  boolean copyJson() default true;
+
+  /**
+   * When enabled, the converter also has a {@code fromJson(JsonObject,T,List<String>)} method validating the JSON
+   * object while converting it. Instead of skipping the values that cannot be converted, the method adds a violation
+   * to the list for each of them, as well as for each {@link JsonRequired} property missing from the JSON object and
+   * each {@code null} value of a property not annotated with {@link io.vertx.codegen.annotations.Nullable}. A violation
+   * is the JSON pointer of the value followed by a description, e.g {@code "/port: expected integer"}. A nested data
+   * object whose converter validates as well is validated recursively, e.g {@code "/server/port: expected integer"}.
+   *
+   * <p>A JSON schema of the data object is generated as well, as the {@literal <Type>.schema.json} resource in the
+   * package directory of the data object, it references the schemas of the nested data objects validated recursively.
+   *
+   * @return whether the converter should validate the JSON object and the JSON schema should be generated
+   */
+  boolean validation() default false;
+
+  /**
+   * When enabled, the converter also has {@code toJson} methods converting only the properties selected by a
+   * {@code FieldMask}. A field mask is compiled once by the {@code compileMask} method of the converter from a list
+   * of JSON property paths, e.g {@code compileMask("name", "address.city")}, and can be reused for any number of
+   * conversions.
+   *
+   * <p>A path selecting the property of a nested data object requires the converter of the nested data object to be
+   * generated with projection as well.
+   *
+   * @return whether the converter should have {@code toJson} methods converting a selection of the properties
+   */
+  boolean projection() default false;
+
+  /**
+   * Triggers the generation of a diff class, the name of this class is the name of the data object with the
+   * {@literal Diff} suffix. The diff class compares two data objects property by property, without converting them
+   * to JSON, with the following methods:
+   *
+   * <ul>
+   *   <li>{@code equals(T,T)} and {@code hashCode(T)} compare the JSON properties of the data objects</li>
+   *   <li>{@code jsonPatch(T,T)} returns the RFC 6902 JSON patch of the changes</li>
+   *   <li>{@code mergePatch(T,T)} returns the RFC 7386 JSON merge patch of the changes</li>
+   * </ul>
+   *
+   * <p>A nested data object is compared and patched property by property when its diff class is generated as well,
+   * otherwise it is compared with its JSON form and patched as a whole.
+   *
+   * @return whether the diff class of the data object should be generated
+   */
+  boolean diff() default false;
+
+  /**
+   * When enabled, the converter also has a {@code toJson(T,JsonGenerator)} method writing the data object to a Jackson
+   * {@code JsonGenerator} in a single pass, without building an intermediate {@code JsonObject}, and {@code toBuffer}
+   * methods writing the JSON encoded data object to a Vert.x {@code Buffer}.
+   *
+   * <p>Likewise, the converter has a {@code fromJson(JsonParser,T)} method reading the data object from a Jackson
+   * {@code JsonParser} token by token, and a {@code fromBuffer} method reading the data object from a JSON encoded
+   * Vert.x {@code Buffer}.
+   *
+   * <p>A nested data object with a streaming converter is written and read by its own converter, other nested data
+   * objects are converted from their JSON form.
+   *
+   * @return whether the converter should stream the data object to a Jackson {@code JsonGenerator} and from a Jackson
+   *         {@code JsonParser}
+   */
+  boolean streaming() default false;
+
+  /**
+   * Triggers the generation of a binary converter, the name of this converter is the name of the data object with
+   * the {@literal BinaryConverter} suffix. For each format, the binary converter has {@code toXXX} and {@code fromXXX}
+   * methods converting the data object to and from a Vert.x {@code Buffer}, e.g {@code toCbor} and {@code fromCbor}.
+   *
+   * <p>The binary converter relies on the {@link #streaming()} converter, therefore streaming must be enabled. When the
+   * format supports it, {@code Buffer} properties are written as raw binary instead of Base64 strings and
+   * {@code Instant} properties are written as a {@code [seconds, nanos]} array of integers instead of ISO-8601 strings,
+   * unless an epoch {@link #instantEncoding()} is used.
+   *
+   * @return the binary formats of the data object
+   */
+  JsonBinaryFormat[] binaryFormats() default {};
 }
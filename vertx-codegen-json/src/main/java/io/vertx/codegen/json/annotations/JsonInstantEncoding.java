@@ -0,0 +1,24 @@
+package io.vertx.codegen.json.annotations;
+
+/**
+ * The JSON encoding of {@code java.time.Instant} properties, see {@link JsonGen#instantEncoding()}.
+ */
+public enum JsonInstantEncoding {
+
+  /**
+   * An ISO-8601 string, e.g {@code "2011-12-03T10:15:30Z"}.
+   */
+  ISO_8601,
+
+  /**
+   * The number of milliseconds from the epoch of {@code 1970-01-01T00:00:00Z}, the sub-millisecond precision is lost.
+   */
+  EPOCH_MILLIS,
+
+  /**
+   * The number of nanoseconds from the epoch of {@code 1970-01-01T00:00:00Z}, only instants between the years 1677 and
+   * 2262 can be encoded.
+   */
+  EPOCH_NANOS
+
+}
@@ -0,0 +1,10 @@
+package io.vertx.codegen.json.annotations;
+
+/**
+ * Marks a data object property as required by the validating {@code fromJson} method of the converter and by the
+ * JSON schema of the data object, the annotation can be placed on the field, the getter or the setter of the property.
+ *
+ * @see JsonGen#validation()
+ */
+public @interface JsonRequired {
+}
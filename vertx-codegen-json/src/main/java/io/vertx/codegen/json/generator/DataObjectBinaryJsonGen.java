@@ -0,0 +1,111 @@
+package io.vertx.codegen.json.generator;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.GenException;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonBinaryFormat;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.type.AnnotationValueInfo;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the binary converter of a data object, the binary converter encodes and decodes the data object with
+ * a Jackson binary format factory and the streaming methods of the data object converter.
+ */
+public class DataObjectBinaryJsonGen extends Generator<DataObjectModel> {
+
+  public DataObjectBinaryJsonGen() {
+    kinds = Collections.singleton("dataObject");
+    name = "data_object_binary_converters";
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(DataObject.class);
+  }
+
+  @Override
+  public String filename(DataObjectModel model) {
+    if (model.isClass() && !binaryFormats(model).isEmpty()) {
+      return model.getFqn() + "BinaryConverter.java";
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String> binaryFormats(DataObjectModel model) {
+    return model.getAnnotation(JsonGen.class)
+      .map(ann -> (List<String>) ann.getMember("binaryFormats"))
+      .orElse(Collections.emptyList());
+  }
+
+  @Override
+  public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
+    AnnotationValueInfo jsonGenAnn = model.getAnnotation(JsonGen.class).get();
+    if (jsonGenAnn.getMember("streaming") != Boolean.TRUE) {
+      throw new GenException(model.getElement(), "Data object binary formats require a streaming converter");
+    }
+    String visibility = jsonGenAnn.getMember("publicConverter") == Boolean.TRUE ? "public" : "";
+    String simpleName = model.getType().getSimpleName();
+    List<String> formats = binaryFormats(model);
+
+    StringWriter buffer = new StringWriter();
+    PrintWriter writer = new PrintWriter(buffer);
+    writer.print("package " + model.getType().getPackageName() + ";\n");
+    writer.print("\n");
+    for (String format : formats) {
+      writer.print("import " + factoryClass(format) + ";\n");
+    }
+    writer.print("\n");
+    writer.print("/**\n");
+    writer.print(" * Binary converter for {@link " + model.getType() + "}.\n");
+    writer.print(" * NOTE: This class has been automatically generated from the {@link " + model.getType() + "} original class using Vert.x codegen.\n");
+    writer.print(" */\n");
+    writer.print("public class " + simpleName + "BinaryConverter {\n");
+    writer.print("\n");
+    for (String format : formats) {
+      String factory = factoryClass(format);
+      String factorySimpleName = factory.substring(factory.lastIndexOf('.') + 1);
+      writer.print("  private static final " + factorySimpleName + " " + format + "_FACTORY = new " + factorySimpleName + "();\n");
+    }
+    for (String format : formats) {
+      String method = format.charAt(0) + format.substring(1).toLowerCase();
+      String factory = format + "_FACTORY";
+      writer.print("\n");
+      writer.print("  " + visibility + " static io.vertx.core.buffer.Buffer to" + method + "(" + simpleName + " obj) {\n");
+      writer.print("    io.vertx.core.buffer.Buffer buffer = io.vertx.core.buffer.Buffer.buffer();\n");
+      writer.print("    " + simpleName + "Converter.toBuffer(obj, buffer, " + factory + ");\n");
+      writer.print("    return buffer;\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static void to" + method + "(" + simpleName + " obj, io.vertx.core.buffer.Buffer buffer) {\n");
+      writer.print("    " + simpleName + "Converter.toBuffer(obj, buffer, " + factory + ");\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static void from" + method + "(io.vertx.core.buffer.Buffer buffer, " + simpleName + " obj) {\n");
+      writer.print("    " + simpleName + "Converter.fromBuffer(buffer, obj, " + factory + ");\n");
+      writer.print("  }\n");
+    }
+    writer.print("}\n");
+    return buffer.toString();
+  }
+
+  private static String factoryClass(String format) {
+    switch (JsonBinaryFormat.valueOf(format)) {
+      case CBOR:
+        return "com.fasterxml.jackson.dataformat.cbor.CBORFactory";
+      case SMILE:
+        return "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+      default:
+        throw new UnsupportedOperationException("Unsupported binary format " + format);
+    }
+  }
+}
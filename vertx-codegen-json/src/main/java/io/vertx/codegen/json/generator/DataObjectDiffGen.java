@@ -0,0 +1,537 @@
+package io.vertx.codegen.json.generator;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.MapperKind;
+import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.type.ClassKind;
+import io.vertx.codegen.type.DataObjectInfo;
+import io.vertx.codegen.type.PrimitiveTypeInfo;
+import io.vertx.codegen.type.TypeInfo;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.annotation.Annotation;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the diff class of a data object, the diff class compares two data objects property by property and
+ * produces the JSON patch of their differences.
+ */
+public class DataObjectDiffGen extends Generator<DataObjectModel> {
+
+  private DataObjectJsonGen json;
+  private String packageName;
+
+  public DataObjectDiffGen() {
+    kinds = Collections.singleton("dataObject");
+    name = "data_object_diffs";
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(DataObject.class);
+  }
+
+  @Override
+  public String filename(DataObjectModel model) {
+    if (model.isClass() && model.getAnnotation(JsonGen.class).map(ann -> ann.getMember("diff") == Boolean.TRUE).orElse(false)) {
+      return model.getFqn() + "Diff.java";
+    }
+    return null;
+  }
+
+  @Override
+  public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
+    json = new DataObjectJsonGen();
+    json.load(env);
+    json.configure(model);
+    packageName = model.getType().getPackageName();
+    String visibility = json.isPublic() ? "public" : "";
+    String simpleName = model.getType().getSimpleName();
+    List<PropertyInfo> props = model.getPropertyMap().values().stream()
+      .filter(prop -> json.isToJson(prop) && json.toJsonConversion(prop.getType()) != null)
+      .collect(Collectors.toList());
+
+    StringWriter buffer = new StringWriter();
+    PrintWriter writer = new PrintWriter(buffer);
+    writer.print("package " + packageName + ";\n");
+    writer.print("\n");
+    writer.print("import io.vertx.core.json.JsonObject;\n");
+    writer.print("import io.vertx.core.json.JsonArray;\n");
+    writer.print("import io.vertx.core.json.impl.JsonUtil;\n");
+    writer.print("import java.time.Instant;\n");
+    writer.print("import java.time.format.DateTimeFormatter;\n");
+    writer.print("import java.util.Base64;\n");
+    writer.print("\n");
+    writer.print("/**\n");
+    writer.print(" * Diff for {@link " + model.getType() + "}.\n");
+    writer.print(" * NOTE: This class has been automatically generated from the {@link " + model.getType() + "} original class using Vert.x codegen.\n");
+    writer.print(" */\n");
+    writer.print("public class " + simpleName + "Diff {\n");
+    writer.print("\n");
+    json.genBase64Codecs(writer);
+    writer.print("\n");
+
+    // equals
+    writer.print("  " + visibility + " static boolean equals(" + simpleName + " a, " + simpleName + " b) {\n");
+    writer.print("    if (a == b) {\n");
+    writer.print("      return true;\n");
+    writer.print("    }\n");
+    writer.print("    if (a == null || b == null) {\n");
+    writer.print("      return false;\n");
+    writer.print("    }\n");
+    for (PropertyInfo prop : props) {
+      writer.print("    if (!" + propEquals(prop, "a." + prop.getGetterMethod() + "()", "b." + prop.getGetterMethod() + "()") + ") {\n");
+      writer.print("      return false;\n");
+      writer.print("    }\n");
+    }
+    writer.print("    return true;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+
+    // hashCode
+    writer.print("  " + visibility + " static int hashCode(" + simpleName + " obj) {\n");
+    writer.print("    if (obj == null) {\n");
+    writer.print("      return 0;\n");
+    writer.print("    }\n");
+    writer.print("    int result = 1;\n");
+    for (PropertyInfo prop : props) {
+      String value = "obj." + prop.getGetterMethod() + "()";
+      String hash = prop.isList() || prop.isSet() || prop.isMap() ? prop.getName() + "HashCode(" + value + ")" : hashCode(prop.getType(), value);
+      writer.print("    result = 31 * result + " + hash + ";\n");
+    }
+    writer.print("    return result;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+
+    // RFC 6902
+    writer.print("  " + visibility + " static JsonArray jsonPatch(" + simpleName + " from, " + simpleName + " to) {\n");
+    writer.print("    JsonArray patch = new JsonArray();\n");
+    writer.print("    jsonPatch(from, to, \"\", patch);\n");
+    writer.print("    return patch;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static void jsonPatch(" + simpleName + " from, " + simpleName + " to, String path, JsonArray patch) {\n");
+    for (PropertyInfo prop : props) {
+      genJsonPatch(prop, writer);
+    }
+    writer.print("  }\n");
+    writer.print("\n");
+
+    // RFC 7386
+    writer.print("  " + visibility + " static JsonObject mergePatch(" + simpleName + " from, " + simpleName + " to) {\n");
+    writer.print("    JsonObject patch = new JsonObject();\n");
+    for (PropertyInfo prop : props) {
+      genMergePatch(prop, writer);
+    }
+    writer.print("    return patch;\n");
+    writer.print("  }\n");
+
+    for (PropertyInfo prop : props) {
+      if (prop.isList() || prop.isSet() || prop.isMap()) {
+        writer.print("\n");
+        genCollectionHelpers(prop, writer);
+      }
+    }
+
+    writer.print("\n");
+    writer.print("  private static void addOp(JsonArray patch, String path, Object value) {\n");
+    writer.print("    patch.add(new JsonObject().put(\"op\", \"add\").put(\"path\", path).put(\"value\", value));\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static void removeOp(JsonArray patch, String path) {\n");
+    writer.print("    patch.add(new JsonObject().put(\"op\", \"remove\").put(\"path\", path));\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static void replaceOp(JsonArray patch, String path, Object value) {\n");
+    writer.print("    patch.add(new JsonObject().put(\"op\", \"replace\").put(\"path\", path).put(\"value\", value));\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static String escapePointer(String name) {\n");
+    writer.print("    return name.replace(\"~\", \"~0\").replace(\"/\", \"~1\");\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @SuppressWarnings(\"unchecked\")\n");
+    writer.print("  private static <T> java.util.List<T> asList(java.util.Collection<T> collection) {\n");
+    writer.print("    return collection instanceof java.util.List ? (java.util.List<T>) collection : new java.util.ArrayList<>(collection);\n");
+    writer.print("  }\n");
+    if (json.instantEncoding().equals("EPOCH_NANOS") && props.stream().anyMatch(prop -> prop.getType().getName().equals(Instant.class.getName()))) {
+      writer.print("\n");
+      writer.print("  private static long toEpochNanos(Instant value) {\n");
+      writer.print("    return Math.addExact(Math.multiplyExact(value.getEpochSecond(), 1_000_000_000L), value.getNano());\n");
+      writer.print("  }\n");
+    }
+    writer.print("}\n");
+    return buffer.toString();
+  }
+
+  private void genJsonPatch(PropertyInfo prop, PrintWriter writer) {
+    String name = json.jsonPropertyName(prop);
+    String getter = prop.getGetterMethod() + "()";
+    String pointer = "path + \"/" + name + "\"";
+    TypeInfo type = prop.getType();
+    String diff = diffClass(type);
+    if (type.getKind() == ClassKind.PRIMITIVE) {
+      writer.print("    if (!" + equals(type, "from." + getter, "to." + getter) + ") {\n");
+      writer.print("      replaceOp(patch, " + pointer + ", " + toJson(type, "to." + getter) + ");\n");
+      writer.print("    }\n");
+      return;
+    }
+    writer.print("    {\n");
+    if (prop.isSet()) {
+      // Set elements have no index to patch, the set is replaced as a whole
+      String setType = "java.util.Set<" + type.getName() + ">";
+      writer.print("      " + setType + " fromValue = from." + getter + ";\n");
+      writer.print("      " + setType + " toValue = to." + getter + ";\n");
+      writer.print("      if (!" + propEquals(prop, "fromValue", "toValue") + ") {\n");
+      writer.print("        if (toValue == null) {\n");
+      writer.print("          removeOp(patch, " + pointer + ");\n");
+      writer.print("        } else if (fromValue == null) {\n");
+      writer.print("          addOp(patch, " + pointer + ", " + prop.getName() + "ToJson(toValue));\n");
+      writer.print("        } else {\n");
+      writer.print("          replaceOp(patch, " + pointer + ", " + prop.getName() + "ToJson(toValue));\n");
+      writer.print("        }\n");
+      writer.print("      }\n");
+    } else if (prop.isList()) {
+      String elementType = "java.util.List<" + type.getName() + ">";
+      writer.print("      " + elementType + " fromValue = from." + getter + " != null ? asList(from." + getter + ") : null;\n");
+      writer.print("      " + elementType + " toValue = to." + getter + " != null ? asList(to." + getter + ") : null;\n");
+      writer.print("      if (toValue == null) {\n");
+      writer.print("        if (fromValue != null) {\n");
+      writer.print("          removeOp(patch, " + pointer + ");\n");
+      writer.print("        }\n");
+      writer.print("      } else if (fromValue == null) {\n");
+      writer.print("        addOp(patch, " + pointer + ", " + prop.getName() + "ToJson(toValue));\n");
+      writer.print("      } else {\n");
+      writer.print("        int common = Math.min(fromValue.size(), toValue.size());\n");
+      writer.print("        for (int i = 0;i < common;i++) {\n");
+      writer.print("          " + type.getName() + " fromItem = fromValue.get(i);\n");
+      writer.print("          " + type.getName() + " toItem = toValue.get(i);\n");
+      genItemPatch(type, diff, pointer + " + \"/\" + i", "fromItem", "toItem", "          ", writer);
+      writer.print("        }\n");
+      writer.print("        for (int i = fromValue.size() - 1;i >= common;i--) {\n");
+      writer.print("          removeOp(patch, " + pointer + " + \"/\" + i);\n");
+      writer.print("        }\n");
+      writer.print("        for (int i = common;i < toValue.size();i++) {\n");
+      writer.print("          addOp(patch, " + pointer + " + \"/-\", " + toJson(type, "toValue.get(i)") + ");\n");
+      writer.print("        }\n");
+      writer.print("      }\n");
+    } else if (prop.isMap()) {
+      String mapType = "java.util.Map<String, " + type.getName() + ">";
+      writer.print("      " + mapType + " fromValue = from." + getter + ";\n");
+      writer.print("      " + mapType + " toValue = to." + getter + ";\n");
+      writer.print("      if (toValue == null) {\n");
+      writer.print("        if (fromValue != null) {\n");
+      writer.print("          removeOp(patch, " + pointer + ");\n");
+      writer.print("        }\n");
+      writer.print("      } else if (fromValue == null) {\n");
+      writer.print("        addOp(patch, " + pointer + ", " + prop.getName() + "ToJson(toValue));\n");
+      writer.print("      } else {\n");
+      writer.print("        for (String key : fromValue.keySet()) {\n");
+      writer.print("          if (!toValue.containsKey(key)) {\n");
+      writer.print("            removeOp(patch, " + pointer + " + \"/\" + escapePointer(key));\n");
+      writer.print("          }\n");
+      writer.print("        }\n");
+      writer.print("        for (java.util.Map.Entry<String, " + type.getName() + "> entry : toValue.entrySet()) {\n");
+      writer.print("          " + type.getName() + " toItem = entry.getValue();\n");
+      writer.print("          if (!fromValue.containsKey(entry.getKey())) {\n");
+      writer.print("            addOp(patch, " + pointer + " + \"/\" + escapePointer(entry.getKey()), " + toJson(type, "toItem") + ");\n");
+      writer.print("          } else {\n");
+      writer.print("            " + type.getName() + " fromItem = fromValue.get(entry.getKey());\n");
+      genItemPatch(type, diff, pointer + " + \"/\" + escapePointer(entry.getKey())", "fromItem", "toItem", "            ", writer);
+      writer.print("          }\n");
+      writer.print("        }\n");
+      writer.print("      }\n");
+    } else {
+      writer.print("      " + type.getName() + " fromValue = from." + getter + ";\n");
+      writer.print("      " + type.getName() + " toValue = to." + getter + ";\n");
+      writer.print("      if (!" + equals(type, "fromValue", "toValue") + ") {\n");
+      writer.print("        if (toValue == null) {\n");
+      writer.print("          removeOp(patch, " + pointer + ");\n");
+      writer.print("        } else if (fromValue == null) {\n");
+      writer.print("          addOp(patch, " + pointer + ", " + toJson(type, "toValue") + ");\n");
+      if (diff != null) {
+        writer.print("        } else {\n");
+        writer.print("          " + diff + ".jsonPatch(fromValue, toValue, " + pointer + ", patch);\n");
+      } else {
+        writer.print("        } else {\n");
+        writer.print("          replaceOp(patch, " + pointer + ", " + toJson(type, "toValue") + ");\n");
+      }
+      writer.print("        }\n");
+      writer.print("      }\n");
+    }
+    writer.print("    }\n");
+  }
+
+  private void genItemPatch(TypeInfo type, String diff, String pointer, String fromItem, String toItem, String indent, PrintWriter writer) {
+    writer.print(indent + "if (!" + equals(type, fromItem, toItem) + ") {\n");
+    if (diff != null) {
+      writer.print(indent + "  if (" + fromItem + " != null && " + toItem + " != null) {\n");
+      writer.print(indent + "    " + diff + ".jsonPatch(" + fromItem + ", " + toItem + ", " + pointer + ", patch);\n");
+      writer.print(indent + "  } else {\n");
+      writer.print(indent + "    replaceOp(patch, " + pointer + ", " + toJson(type, toItem) + ");\n");
+      writer.print(indent + "  }\n");
+    } else {
+      writer.print(indent + "  replaceOp(patch, " + pointer + ", " + toJson(type, toItem) + ");\n");
+    }
+    writer.print(indent + "}\n");
+  }
+
+  private void genMergePatch(PropertyInfo prop, PrintWriter writer) {
+    String name = json.jsonPropertyName(prop);
+    String getter = prop.getGetterMethod() + "()";
+    TypeInfo type = prop.getType();
+    String diff = diffClass(type);
+    if (type.getKind() == ClassKind.PRIMITIVE) {
+      writer.print("    if (!" + equals(type, "from." + getter, "to." + getter) + ") {\n");
+      writer.print("      patch.put(\"" + name + "\", " + toJson(type, "to." + getter) + ");\n");
+      writer.print("    }\n");
+      return;
+    }
+    if (prop.isList() || prop.isSet()) {
+      // Merge patches replace arrays as a whole
+      writer.print("    if (!" + propEquals(prop, "from." + getter, "to." + getter) + ") {\n");
+      writer.print("      patch.put(\"" + name + "\", to." + getter + " != null ? " + prop.getName() + "ToJson(to." + getter + ") : null);\n");
+      writer.print("    }\n");
+    } else if (prop.isMap()) {
+      String mapType = "java.util.Map<String, " + type.getName() + ">";
+      writer.print("    if (!" + propEquals(prop, "from." + getter, "to." + getter) + ") {\n");
+      writer.print("      " + mapType + " fromValue = from." + getter + ";\n");
+      writer.print("      " + mapType + " toValue = to." + getter + ";\n");
+      writer.print("      if (toValue == null || fromValue == null) {\n");
+      writer.print("        patch.put(\"" + name + "\", toValue != null ? " + prop.getName() + "ToJson(toValue) : null);\n");
+      writer.print("      } else {\n");
+      writer.print("        JsonObject map = new JsonObject();\n");
+      writer.print("        for (String key : fromValue.keySet()) {\n");
+      writer.print("          if (!toValue.containsKey(key)) {\n");
+      writer.print("            map.put(key, null);\n");
+      writer.print("          }\n");
+      writer.print("        }\n");
+      writer.print("        for (java.util.Map.Entry<String, " + type.getName() + "> entry : toValue.entrySet()) {\n");
+      writer.print("          " + type.getName() + " fromItem = fromValue.get(entry.getKey());\n");
+      writer.print("          " + type.getName() + " toItem = entry.getValue();\n");
+      writer.print("          if (!fromValue.containsKey(entry.getKey()) || !" + equals(type, "fromItem", "toItem") + ") {\n");
+      if (diff != null) {
+        writer.print("            map.put(entry.getKey(), fromItem != null && toItem != null ? " + diff + ".mergePatch(fromItem, toItem) : " + toJson(type, "toItem") + ");\n");
+      } else {
+        writer.print("            map.put(entry.getKey(), " + toJson(type, "toItem") + ");\n");
+      }
+      writer.print("          }\n");
+      writer.print("        }\n");
+      writer.print("        patch.put(\"" + name + "\", map);\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+    } else {
+      writer.print("    if (!" + equals(type, "from." + getter, "to." + getter) + ") {\n");
+      if (diff != null) {
+        writer.print("      patch.put(\"" + name + "\", from." + getter + " != null && to." + getter + " != null ? " + diff + ".mergePatch(from." + getter + ", to." + getter + ") : " + toJson(type, "to." + getter) + ");\n");
+      } else {
+        writer.print("      patch.put(\"" + name + "\", " + toJson(type, "to." + getter) + ");\n");
+      }
+      writer.print("    }\n");
+    }
+  }
+
+  private void genCollectionHelpers(PropertyInfo prop, PrintWriter writer) {
+    TypeInfo type = prop.getType();
+    String name = prop.getName();
+    if (prop.isMap()) {
+      String mapType = "java.util.Map<String, " + type.getName() + ">";
+      writer.print("  private static boolean " + name + "Equals(" + mapType + " a, " + mapType + " b) {\n");
+      writer.print("    if (a == b) {\n");
+      writer.print("      return true;\n");
+      writer.print("    }\n");
+      writer.print("    if (a == null || b == null || a.size() != b.size()) {\n");
+      writer.print("      return false;\n");
+      writer.print("    }\n");
+      writer.print("    for (java.util.Map.Entry<String, " + type.getName() + "> entry : a.entrySet()) {\n");
+      writer.print("      if (!b.containsKey(entry.getKey()) || !" + equals(type, "entry.getValue()", "b.get(entry.getKey())") + ") {\n");
+      writer.print("        return false;\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("    return true;\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static int " + name + "HashCode(" + mapType + " value) {\n");
+      writer.print("    int result = 0;\n");
+      writer.print("    if (value != null) {\n");
+      writer.print("      for (java.util.Map.Entry<String, " + type.getName() + "> entry : value.entrySet()) {\n");
+      writer.print("        result += entry.getKey().hashCode() ^ " + hashCode(type, "entry.getValue()") + ";\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("    return result;\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static JsonObject " + name + "ToJson(" + mapType + " value) {\n");
+      writer.print("    java.util.Map<String, Object> map = new java.util.LinkedHashMap<>(value.size() * 4 / 3 + 1);\n");
+      writer.print("    for (java.util.Map.Entry<String, " + type.getName() + "> entry : value.entrySet()) {\n");
+      writer.print("      map.put(entry.getKey(), " + toJson(type, "entry.getValue()") + ");\n");
+      writer.print("    }\n");
+      writer.print("    return new JsonObject(map);\n");
+      writer.print("  }\n");
+    } else if (prop.isSet()) {
+      // Sets are compared and hashed regardless of their iteration order
+      String setType = "java.util.Set<" + type.getName() + ">";
+      writer.print("  private static boolean " + name + "Equals(" + setType + " a, " + setType + " b) {\n");
+      writer.print("    if (a == b) {\n");
+      writer.print("      return true;\n");
+      writer.print("    }\n");
+      writer.print("    if (a == null || b == null || a.size() != b.size()) {\n");
+      writer.print("      return false;\n");
+      writer.print("    }\n");
+      if (type.getDataObject() != null && type.getDataObject().isSerializable()) {
+        // Data objects may not implement equals, each element is matched with the diff class or its JSON form
+        writer.print("    for (" + type.getName() + " item : a) {\n");
+        writer.print("      boolean found = false;\n");
+        writer.print("      for (" + type.getName() + " other : b) {\n");
+        writer.print("        if (" + equals(type, "item", "other") + ") {\n");
+        writer.print("          found = true;\n");
+        writer.print("          break;\n");
+        writer.print("        }\n");
+        writer.print("      }\n");
+        writer.print("      if (!found) {\n");
+        writer.print("        return false;\n");
+        writer.print("      }\n");
+        writer.print("    }\n");
+        writer.print("    return true;\n");
+      } else {
+        writer.print("    return a.containsAll(b);\n");
+      }
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static int " + name + "HashCode(" + setType + " value) {\n");
+      writer.print("    int result = 0;\n");
+      writer.print("    if (value != null) {\n");
+      writer.print("      for (" + type.getName() + " item : value) {\n");
+      writer.print("        result += " + hashCode(type, "item") + ";\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("    return result;\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      genCollectionToJson(type, name, setType, writer);
+    } else {
+      String collectionType = "java.util.Collection<" + type.getName() + ">";
+      writer.print("  private static boolean " + name + "Equals(" + collectionType + " a, " + collectionType + " b) {\n");
+      writer.print("    if (a == b) {\n");
+      writer.print("      return true;\n");
+      writer.print("    }\n");
+      writer.print("    if (a == null || b == null || a.size() != b.size()) {\n");
+      writer.print("      return false;\n");
+      writer.print("    }\n");
+      writer.print("    java.util.Iterator<" + type.getName() + "> it = b.iterator();\n");
+      writer.print("    for (" + type.getName() + " item : a) {\n");
+      writer.print("      if (!" + equals(type, "item", "it.next()") + ") {\n");
+      writer.print("        return false;\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("    return true;\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static int " + name + "HashCode(" + collectionType + " value) {\n");
+      writer.print("    int result = 0;\n");
+      writer.print("    if (value != null) {\n");
+      writer.print("      result = 1;\n");
+      writer.print("      for (" + type.getName() + " item : value) {\n");
+      writer.print("        result = 31 * result + " + hashCode(type, "item") + ";\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("    return result;\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      genCollectionToJson(type, name, collectionType, writer);
+    }
+  }
+
+  private void genCollectionToJson(TypeInfo type, String name, String collectionType, PrintWriter writer) {
+    writer.print("  private static JsonArray " + name + "ToJson(" + collectionType + " value) {\n");
+    writer.print("    java.util.List<Object> list = new java.util.ArrayList<>(value.size());\n");
+    writer.print("    for (" + type.getName() + " item : value) {\n");
+    writer.print("      list.add(" + toJson(type, "item") + ");\n");
+    writer.print("    }\n");
+    writer.print("    return new JsonArray(list);\n");
+    writer.print("  }\n");
+  }
+
+  /**
+   * @return the name of the diff class of the data object {@code type} or {@code null} when the type is not a data
+   *         object with an accessible diff class
+   */
+  private String diffClass(TypeInfo type) {
+    DataObjectInfo dataObject = type.getDataObject();
+    if (dataObject != null && dataObject.isSerializable() && dataObject.getSerializer().getKind() == MapperKind.SELF
+      && json.converter(type, packageName, "diff") != null) {
+      return type.getName() + "Diff";
+    }
+    return null;
+  }
+
+  private String propEquals(PropertyInfo prop, String a, String b) {
+    if (prop.isList() || prop.isSet() || prop.isMap()) {
+      return prop.getName() + "Equals(" + a + ", " + b + ")";
+    }
+    return equals(prop.getType(), a, b);
+  }
+
+  /**
+   * @return the expression comparing the values {@code a} and {@code b} of {@code type}
+   */
+  private String equals(TypeInfo type, String a, String b) {
+    if (type.getKind() == ClassKind.PRIMITIVE) {
+      switch (type.getSimpleName()) {
+        case "float":
+          return "(Float.compare(" + a + ", " + b + ") == 0)";
+        case "double":
+          return "(Double.compare(" + a + ", " + b + ") == 0)";
+        default:
+          return "(" + a + " == " + b + ")";
+      }
+    }
+    String diff = diffClass(type);
+    if (diff != null) {
+      return diff + ".equals(" + a + ", " + b + ")";
+    }
+    if (type.getDataObject() != null && type.getDataObject().isSerializable()) {
+      // Data objects may not implement equals, their JSON form is compared instead
+      return "java.util.Objects.equals(" + toJson(type, a) + ", " + toJson(type, b) + ")";
+    }
+    return "java.util.Objects.equals(" + a + ", " + b + ")";
+  }
+
+  /**
+   * @return the expression of the hash code of the {@code value} of {@code type}
+   */
+  private String hashCode(TypeInfo type, String value) {
+    if (type.getKind() == ClassKind.PRIMITIVE) {
+      return ((PrimitiveTypeInfo) type).getBoxed().getSimpleName() + ".hashCode(" + value + ")";
+    }
+    String diff = diffClass(type);
+    if (diff != null) {
+      return diff + ".hashCode(" + value + ")";
+    }
+    if (type.getDataObject() != null && type.getDataObject().isSerializable()) {
+      return "java.util.Objects.hashCode(" + toJson(type, value) + ")";
+    }
+    return "java.util.Objects.hashCode(" + value + ")";
+  }
+
+  /**
+   * @return the expression converting the {@code value} of {@code type} to JSON
+   */
+  private String toJson(TypeInfo type, String value) {
+    String[] conversion = json.toJsonConversion(type);
+    String expression = conversion[0] + value + conversion[1];
+    if (type.getKind() == ClassKind.PRIMITIVE || expression.equals(value)) {
+      return expression;
+    }
+    return "(" + value + " != null ? " + expression + " : null)";
+  }
+}
@@ -3,6 +3,7 @@ package io.vertx.codegen.json.generator;
 import io.vertx.codegen.DataObjectModel;
 import io.vertx.codegen.GenException;
 import io.vertx.codegen.Generator;
+import io.vertx.codegen.MapperKind;
 import io.vertx.codegen.PropertyInfo;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.format.CamelCase;
@@ -11,7 +12,9 @@ import io.vertx.codegen.format.KebabCase;
 import io.vertx.codegen.format.LowerCamelCase;
 import io.vertx.codegen.format.QualifiedCase;
 import io.vertx.codegen.format.SnakeCase;
+import io.vertx.codegen.json.annotations.JsonCopy;
 import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.json.annotations.JsonRequired;
 import io.vertx.codegen.type.AnnotationValueInfo;
 import io.vertx.codegen.type.ClassKind;
 import io.vertx.codegen.type.ClassTypeInfo;
@@ -20,13 +23,25 @@ import io.vertx.codegen.type.MapperInfo;
 import io.vertx.codegen.type.TypeInfo;
 import io.vertx.codegen.writer.CodeWriter;
 
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.annotation.Annotation;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -37,6 +52,16 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
   private boolean isPublic;
   private boolean inheritConverter;
   private String base64Type;
+  private boolean streaming;
+  private boolean copyJson;
+  private List<String> fieldNames;
+  private String instantEncoding;
+  private boolean validation;
+  private boolean projection;
+  private List<String> propertyNames;
+  private boolean projecting;
+  private List<String> requiredNames;
+  private Map<String, String> nestedValidators;
   private boolean generate;
 
   public DataObjectJsonGen() {
@@ -68,6 +93,15 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
 
   @Override
   public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
+    configure(model);
+    generate = true;
+    return renderJson(model);
+  }
+
+  /**
+   * Configures the generator with the {@link JsonGen} annotation of the data object.
+   */
+  void configure(DataObjectModel model) {
     AnnotationValueInfo jsonGenAnn = findJsonGenAnnotation(model);
     ClassTypeInfo cti = getFormatter(model, JsonGen.class, "jsonPropertyNameFormatter");
     String base64Type = (String) jsonGenAnn.getMember("base64Type");
@@ -88,9 +122,35 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
     formatter = getCase(cti);
     isPublic = jsonGenAnn.getMember("publicConverter") == Boolean.TRUE;
     inheritConverter = jsonGenAnn.getMember("inheritConverter") == Boolean.TRUE;
+    streaming = jsonGenAnn.getMember("streaming") == Boolean.TRUE;
+    copyJson = jsonGenAnn.getMember("copyJson") == Boolean.TRUE;
+    instantEncoding = (String) jsonGenAnn.getMember("instantEncoding");
+    validation = jsonGenAnn.getMember("validation") == Boolean.TRUE;
+    projection = jsonGenAnn.getMember("projection") == Boolean.TRUE;
     this.base64Type = base64Type;
-    generate = true;
-    return renderJson(model);
+  }
+
+  /**
+   * Generates the {@code BASE64_DECODER} and {@code BASE64_ENCODER} constants.
+   */
+  void genBase64Codecs(PrintWriter writer) {
+    switch (base64Type) {
+      case "basic":
+        writer.print(
+          "  private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();\n" +
+          "  private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder();\n");
+        break;
+      case "base64url":
+        writer.print(
+          "  private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();\n" +
+          "  private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();\n");
+        break;
+      default:
+        writer.print(
+          "  private static final Base64.Decoder BASE64_DECODER = JsonUtil.BASE64_DECODER;\n" +
+          "  private static final Base64.Encoder BASE64_ENCODER = JsonUtil.BASE64_ENCODER;\n");
+        break;
+    }
   }
 
   private ClassTypeInfo getFormatter(DataObjectModel model, Class<? extends Annotation> annType, String annotationName) {
@@ -112,6 +172,21 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
     writer.print("import io.vertx.core.json.JsonObject;\n");
     writer.print("import io.vertx.core.json.JsonArray;\n");
     writer.print("import io.vertx.core.json.impl.JsonUtil;\n");
+    if (streaming) {
+      writer.print("import com.fasterxml.jackson.core.Base64Variant;\n");
+      writer.print("import com.fasterxml.jackson.core.Base64Variants;\n");
+      writer.print("import com.fasterxml.jackson.core.JsonFactory;\n");
+      writer.print("import com.fasterxml.jackson.core.JsonGenerator;\n");
+      writer.print("import com.fasterxml.jackson.core.JsonParseException;\n");
+      writer.print("import com.fasterxml.jackson.core.JsonParser;\n");
+      writer.print("import com.fasterxml.jackson.core.JsonToken;\n");
+      writer.print("import com.fasterxml.jackson.core.SerializableString;\n");
+      writer.print("import com.fasterxml.jackson.core.io.SerializedString;\n");
+      writer.print("import io.vertx.core.json.DecodeException;\n");
+      writer.print("import java.io.IOException;\n");
+      writer.print("import java.io.OutputStream;\n");
+      writer.print("import java.io.UncheckedIOException;\n");
+    }
     writer.print("import java.time.Instant;\n");
     writer.print("import java.time.format.DateTimeFormatter;\n");
     writer.print("import java.util.Base64;\n");
@@ -125,28 +200,59 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
       ).newLine();
     if (generate) {
       writer.print("\n");
-      switch (base64Type) {
-        case "basic":
-          writer.print(
-            "  private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();\n" +
-            "  private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder();\n");
-          break;
-        case "base64url":
-          writer.print(
-            "  private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();\n" +
-            "  private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();\n");
-          break;
-        default:
-          writer.print(
-            "  private static final Base64.Decoder BASE64_DECODER = JsonUtil.BASE64_DECODER;\n" +
-            "  private static final Base64.Encoder BASE64_ENCODER = JsonUtil.BASE64_ENCODER;\n");
-          break;
+      genBase64Codecs(writer);
+      if (streaming) {
+        switch (base64Type) {
+          case "basic":
+            writer.print("  private static final Base64Variant BASE64_VARIANT = Base64Variants.MIME_NO_LINEFEEDS.withPaddingAllowed();\n");
+            break;
+          case "base64url":
+            writer.print("  private static final Base64Variant BASE64_VARIANT = Base64Variants.MODIFIED_FOR_URL.withPaddingAllowed();\n");
+            break;
+          default:
+            writer.print("  private static final Base64Variant BASE64_VARIANT = (BASE64_ENCODER == Base64.getEncoder() ? Base64Variants.MIME_NO_LINEFEEDS : Base64Variants.MODIFIED_FOR_URL).withPaddingAllowed();\n");
+            break;
+        }
+        writer.print("  private static final JsonFactory JSON_FACTORY = new JsonFactory();\n");
+        fieldNames = model.getPropertyMap().values().stream()
+          .filter(prop -> prop.isDeclared() || inheritConverter)
+          .map(prop -> LowerCamelCase.INSTANCE.to(formatter, prop.getName()))
+          .collect(Collectors.toList());
+        writer.print("  private static final SerializableString[] FIELD_NAMES = {\n");
+        for (String fieldName : fieldNames) {
+          writer.print("    new SerializedString(\"" + fieldName + "\"),\n");
+        }
+        writer.print("  };\n");
       }
       writer.print("\n");
 
       genFromJson(visibility, inheritConverter, model, writer);
+      if (validation) {
+        writer.print("\n");
+        genValidatingFromJson(visibility, inheritConverter, model, writer);
+      }
+      if (streaming) {
+        writer.print("\n");
+        genFromJsonParser(visibility, inheritConverter, model, writer);
+      }
       writer.print("\n");
       genToJson(visibility, inheritConverter, model, writer);
+      if (projection) {
+        writer.print("\n");
+        genProjection(visibility, inheritConverter, model, writer);
+      }
+      if (streaming) {
+        writer.print("\n");
+        genToJsonGenerator(visibility, inheritConverter, model, writer);
+      }
+      if (model.getPropertyMap().values().stream().anyMatch(prop -> prop.getType().getName().equals(Instant.class.getName()))) {
+        writer.print("\n");
+        genInstantHelpers(writer);
+      }
+      if (validation) {
+        writer.print("\n");
+        genValidationHelpers(writer);
+      }
     }
     writer.print("}\n");
     return buffer.toString();
@@ -159,83 +265,141 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
     writer.print("  }\n");
     writer.print("\n");
     writer.print("  " + visibility + " static void toJson(" + simpleName + " obj, java.util.Map<String, Object> json) {\n");
+    genToJsonProps(inheritConverter, model_, writer);
+    writer.print("  }\n");
+  }
+
+  /**
+   * @return the name of the property in the JSON object
+   */
+  String jsonPropertyName(PropertyInfo prop) {
+    return LowerCamelCase.INSTANCE.to(formatter, prop.getName());
+  }
+
+  /**
+   * @return whether the converter is public
+   */
+  boolean isPublic() {
+    return isPublic;
+  }
+
+  /**
+   * @return the encoding of the {@code Instant} properties
+   */
+  String instantEncoding() {
+    return instantEncoding;
+  }
+
+  /**
+   * @return whether the property is converted by the {@code toJson} method
+   */
+  boolean isToJson(PropertyInfo prop) {
+    return (prop.isDeclared() || inheritConverter) && prop.getGetterMethod() != null && prop.isJsonifiable();
+  }
+
+  /**
+   * Generates the conversion of the properties of the {@code toJson} method, when {@link #projecting} is {@code true}
+   * only the properties selected by the {@code mask} are converted.
+   */
+  private void genToJsonProps(boolean inheritConverter, DataObjectModel model_, PrintWriter writer) {
+    String packageName = model_.getType().getPackageName();
     model_.getPropertyMap().values().forEach(prop -> {
-      if ((prop.isDeclared() || inheritConverter) && prop.getGetterMethod() != null && prop.isJsonifiable()) {
-        ClassKind propKind = prop.getType().getKind();
-        if (propKind.basic) {
-          if (propKind == ClassKind.STRING) {
-            genPropToJson("", "", prop, writer);
-          } else {
-            switch (prop.getType().getSimpleName()) {
-              case "char":
-              case "Character":
-                genPropToJson("Character.toString(", ")", prop, writer);
-                break;
-              default:
-                genPropToJson("", "", prop, writer);
-            }
-          }
+      if (isToJson(prop)) {
+        String converter;
+        if (projecting && prop.getType().getDataObject() != null && prop.getType().getDataObject().isSerializable()
+          && prop.getType().getDataObject().getSerializer().getKind() == MapperKind.SELF
+          && (converter = converter(prop.getType(), packageName, "projection")) != null) {
+          genPropToJson(converter + ".toJson(", ", (" + converter + ".FieldMask) mask.nested[" + propertyNames.indexOf(prop.getName()) + "])", prop, writer);
         } else {
-          DataObjectInfo dataObject = prop.getType().getDataObject();
-          if (dataObject != null) {
-            if (dataObject.isSerializable()) {
-              String m;
-              MapperInfo mapperInfo = dataObject.getSerializer();
-              String match;
-              switch (mapperInfo.getKind()) {
-                case SELF:
-                  m = "";
-                  match = "." + String.join(".", mapperInfo.getSelectors()) + "()";
-                  break;
-                case STATIC_METHOD:
-                  m = mapperInfo.getQualifiedName() + "." + String.join(".", mapperInfo.getSelectors()) + "(";
-                  match = ")";
-                  break;
-                default:
-                  throw new UnsupportedOperationException();
-              }
-              genPropToJson(m, match, prop, writer);
-            } else if (prop.getType().getName().equals("io.vertx.core.buffer.Buffer")) {
-              genPropToJson("BASE64_ENCODER.encodeToString(", ".getBytes())", prop, writer);
-            }
-          } else {
-            switch (propKind) {
-              case ENUM:
-                genPropToJson("", ".name()", prop, writer);
-                break;
-              case JSON_OBJECT:
-              case JSON_ARRAY:
-              case OBJECT:
-                genPropToJson("", "", prop, writer);
-                break;
-              case OTHER:
-                if (prop.getType().getName().equals(Instant.class.getName())) {
-                  genPropToJson("DateTimeFormatter.ISO_INSTANT.format(", ")", prop, writer);
-                }
-                break;
-            }
+          String[] conversion = toJsonConversion(prop.getType());
+          if (conversion != null) {
+            genPropToJson(conversion[0], conversion[1], prop, writer);
           }
         }
       }
     });
+  }
 
-    writer.print("  }\n");
+  /**
+   * @return the prefix and the suffix of the expression converting a non {@code null} value of {@code type} to JSON,
+   *         or {@code null} when the type is not converted
+   */
+  String[] toJsonConversion(TypeInfo type) {
+    ClassKind kind = type.getKind();
+    if (kind.basic) {
+      switch (type.getSimpleName()) {
+        case "char":
+        case "Character":
+          return new String[] { "Character.toString(", ")" };
+        default:
+          return new String[] { "", "" };
+      }
+    }
+    DataObjectInfo dataObject = type.getDataObject();
+    if (dataObject != null) {
+      if (dataObject.isSerializable()) {
+        MapperInfo mapperInfo = dataObject.getSerializer();
+        switch (mapperInfo.getKind()) {
+          case SELF:
+            return new String[] { "", "." + String.join(".", mapperInfo.getSelectors()) + "()" };
+          case STATIC_METHOD:
+            return new String[] { mapperInfo.getQualifiedName() + "." + String.join(".", mapperInfo.getSelectors()) + "(", ")" };
+          default:
+            throw new UnsupportedOperationException();
+        }
+      } else if (type.getName().equals("io.vertx.core.buffer.Buffer")) {
+        return new String[] { "BASE64_ENCODER.encodeToString(", ".getBytes())" };
+      }
+      return null;
+    }
+    switch (kind) {
+      case ENUM:
+        return new String[] { "", ".name()" };
+      case JSON_OBJECT:
+      case JSON_ARRAY:
+      case OBJECT:
+        return new String[] { "", "" };
+      case OTHER:
+        if (type.getName().equals(Instant.class.getName())) {
+          switch (instantEncoding) {
+            case "EPOCH_MILLIS":
+              return new String[] { "", ".toEpochMilli()" };
+            case "EPOCH_NANOS":
+              return new String[] { "toEpochNanos(", ")" };
+            default:
+              return new String[] { "DateTimeFormatter.ISO_INSTANT.format(", ")" };
+          }
+        }
+        return null;
+      default:
+        return null;
+    }
   }
 
   private void genPropToJson(String before, String after, PropertyInfo prop, PrintWriter writer) {
     String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
     String indent = "    ";
+    if (projecting) {
+      writer.print(indent + "if (mask.fields.get(" + propertyNames.indexOf(prop.getName()) + ")) {\n");
+      indent += "  ";
+    }
+    String getter = "obj." + prop.getGetterMethod() + "()";
     if (prop.isList() || prop.isSet()) {
-      writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
-      writer.print(indent + "  JsonArray array = new JsonArray();\n");
-      writer.print(indent + "  obj." + prop.getGetterMethod() + "().forEach(item -> array.add(" + before + "item" + after + "));\n");
-      writer.print(indent + "  json.put(\"" + jsonPropertyName + "\", array);\n");
+      writer.print(indent + "if (" + getter + " != null) {\n");
+      writer.print(indent + "  java.util.List<Object> list = new java.util.ArrayList<>(" + getter + ".size());\n");
+      writer.print(indent + "  for (" + prop.getType().getName() + " item : " + getter + ") {\n");
+      writer.print(indent + "    list.add(" + before + "item" + after + ");\n");
+      writer.print(indent + "  }\n");
+      writer.print(indent + "  json.put(\"" + jsonPropertyName + "\", new JsonArray(list));\n");
       writer.print(indent + "}\n");
     } else if (prop.isMap()) {
-      writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
-      writer.print(indent + "  JsonObject map = new JsonObject();\n");
-      writer.print(indent + "  obj." + prop.getGetterMethod() + "().forEach((key, value) -> map.put(key, " + before + "value" + after + "));\n");
-      writer.print(indent + "  json.put(\"" + jsonPropertyName + "\", map);\n");
+      writer.print(indent + "if (" + getter + " != null) {\n");
+      // Sized for the default load factor so that the map is never rehashed
+      writer.print(indent + "  java.util.Map<String, Object> map = new java.util.LinkedHashMap<>(" + getter + ".size() * 4 / 3 + 1);\n");
+      writer.print(indent + "  for (java.util.Map.Entry<String, " + prop.getType().getName() + "> entry : " + getter + ".entrySet()) {\n");
+      writer.print(indent + "    map.put(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
+      writer.print(indent + "  }\n");
+      writer.print(indent + "  json.put(\"" + jsonPropertyName + "\", new JsonObject(map));\n");
       writer.print(indent + "}\n");
     } else {
       String sp = "";
@@ -248,12 +412,794 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
         writer.print(indent + "}\n");
       }
     }
+    if (projecting) {
+      writer.print("    }\n");
+    }
+  }
+
+  private void genProjection(String visibility, boolean inheritConverter, DataObjectModel model_, PrintWriter writer) {
+    String simpleName = model_.getType().getSimpleName();
+    String packageName = model_.getType().getPackageName();
+    propertyNames = new java.util.ArrayList<>(model_.getPropertyMap().keySet());
+    int size = propertyNames.size();
+    writer.print("  /**\n");
+    writer.print("   * A selection of the properties of {@link " + model_.getType() + "} compiled by {@link #compileMask}.\n");
+    writer.print("   */\n");
+    writer.print("  public static final class FieldMask {\n");
+    writer.print("\n");
+    writer.print("    private final java.util.BitSet fields;\n");
+    writer.print("    private final Object[] nested;\n");
+    writer.print("\n");
+    writer.print("    private FieldMask(java.util.BitSet fields, Object[] nested) {\n");
+    writer.print("      this.fields = fields;\n");
+    writer.print("      this.nested = nested;\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static FieldMask compileMask(String... paths) {\n");
+    writer.print("    return compileMask(java.util.Arrays.asList(paths));\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static FieldMask compileMask(Iterable<String> paths) {\n");
+    writer.print("    java.util.BitSet fields = new java.util.BitSet(" + size + ");\n");
+    writer.print("    java.util.BitSet whole = new java.util.BitSet(" + size + ");\n");
+    writer.print("    java.util.Map<String, java.util.List<String>> nestedPaths = new java.util.HashMap<>();\n");
+    writer.print("    for (String path : paths) {\n");
+    writer.print("      int dot = path.indexOf('.');\n");
+    writer.print("      String name = dot == -1 ? path : path.substring(0, dot);\n");
+    writer.print("      int index = propertyIndex(name);\n");
+    writer.print("      if (index == -1) {\n");
+    writer.print("        throw new IllegalArgumentException(\"Unknown property \" + name);\n");
+    writer.print("      }\n");
+    writer.print("      fields.set(index);\n");
+    writer.print("      if (dot == -1) {\n");
+    writer.print("        whole.set(index);\n");
+    writer.print("      } else {\n");
+    writer.print("        nestedPaths.computeIfAbsent(name, key -> new java.util.ArrayList<>()).add(path.substring(dot + 1));\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("    Object[] nested = new Object[" + size + "];\n");
+    writer.print("    for (java.util.Map.Entry<String, java.util.List<String>> entry : nestedPaths.entrySet()) {\n");
+    writer.print("      int index = propertyIndex(entry.getKey());\n");
+    writer.print("      if (!whole.get(index)) {\n");
+    writer.print("        switch (index) {\n");
+    model_.getPropertyMap().values().forEach(prop -> {
+      if (isToJson(prop) && prop.getType().getDataObject() != null && prop.getType().getDataObject().isSerializable()
+        && prop.getType().getDataObject().getSerializer().getKind() == MapperKind.SELF) {
+        String converter = converter(prop.getType(), packageName, "projection");
+        if (converter != null) {
+          writer.print("          case " + propertyNames.indexOf(prop.getName()) + ":\n");
+          writer.print("            nested[index] = " + converter + ".compileMask(entry.getValue());\n");
+          writer.print("            break;\n");
+        }
+      }
+    });
+    writer.print("          default:\n");
+    writer.print("            throw new IllegalArgumentException(\"Property \" + entry.getKey() + \" cannot be projected\");\n");
+    writer.print("        }\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("    return new FieldMask(fields, nested);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static int propertyIndex(String name) {\n");
+    writer.print("    switch (name) {\n");
+    model_.getPropertyMap().values().forEach(prop -> {
+      if (isToJson(prop)) {
+        writer.print("      case \"" + LowerCamelCase.INSTANCE.to(formatter, prop.getName()) + "\":\n");
+        writer.print("        return " + propertyNames.indexOf(prop.getName()) + ";\n");
+      }
+    });
+    writer.print("      default:\n");
+    writer.print("        return -1;\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static JsonObject toJson(" + simpleName + " obj, FieldMask mask) {\n");
+    writer.print("    JsonObject json = new JsonObject();\n");
+    writer.print("    toJson(obj, json.getMap(), mask);\n");
+    writer.print("    return json;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static void toJson(" + simpleName + " obj, JsonObject json, FieldMask mask) {\n");
+    writer.print("    toJson(obj, json.getMap(), mask);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static void toJson(" + simpleName + " obj, java.util.Map<String, Object> json, FieldMask mask) {\n");
+    // A null mask selects all the properties, it stands for the nested properties selected as a whole
+    writer.print("    if (mask == null) {\n");
+    writer.print("      toJson(obj, json);\n");
+    writer.print("      return;\n");
+    writer.print("    }\n");
+    projecting = true;
+    try {
+      genToJsonProps(inheritConverter, model_, writer);
+    } finally {
+      projecting = false;
+    }
+    writer.print("  }\n");
+  }
+
+  private void genToJsonGenerator(String visibility, boolean inheritConverter, DataObjectModel model_, PrintWriter writer) {
+    String simpleName = model_.getType().getSimpleName();
+    writer.print("  " + visibility + " static io.vertx.core.buffer.Buffer toBuffer(" + simpleName + " obj) {\n");
+    writer.print("    io.vertx.core.buffer.Buffer buffer = io.vertx.core.buffer.Buffer.buffer();\n");
+    writer.print("    toBuffer(obj, buffer);\n");
+    writer.print("    return buffer;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static void toBuffer(" + simpleName + " obj, io.vertx.core.buffer.Buffer buffer) {\n");
+    writer.print("    toBuffer(obj, buffer, JSON_FACTORY);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static void toBuffer(" + simpleName + " obj, io.vertx.core.buffer.Buffer buffer, JsonFactory factory) {\n");
+    writer.print("    OutputStream out = new OutputStream() {\n");
+    writer.print("      @Override\n");
+    writer.print("      public void write(int b) {\n");
+    writer.print("        buffer.appendByte((byte) b);\n");
+    writer.print("      }\n");
+    writer.print("      @Override\n");
+    writer.print("      public void write(byte[] b, int off, int len) {\n");
+    writer.print("        buffer.appendBytes(b, off, len);\n");
+    writer.print("      }\n");
+    writer.print("    };\n");
+    writer.print("    try (JsonGenerator generator = factory.createGenerator(out)) {\n");
+    writer.print("      toJson(obj, generator);\n");
+    writer.print("    } catch (IOException e) {\n");
+    writer.print("      throw new UncheckedIOException(e);\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static void toJson(" + simpleName + " obj, JsonGenerator generator) throws IOException {\n");
+    writer.print("    generator.writeStartObject();\n");
+    model_.getPropertyMap().values().forEach(prop -> {
+      if ((prop.isDeclared() || inheritConverter) && prop.getGetterMethod() != null && prop.isJsonifiable()) {
+        genPropToJsonGenerator(prop, model_.getType().getPackageName(), writer);
+      }
+    });
+    writer.print("    generator.writeEndObject();\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static void writeJson(JsonGenerator generator, Object value) throws IOException {\n");
+    writer.print("    if (value == null) {\n");
+    writer.print("      generator.writeNull();\n");
+    writer.print("    } else if (value instanceof String) {\n");
+    writer.print("      generator.writeString((String) value);\n");
+    writer.print("    } else if (value instanceof Boolean) {\n");
+    writer.print("      generator.writeBoolean((Boolean) value);\n");
+    writer.print("    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {\n");
+    writer.print("      generator.writeNumber(((Number) value).intValue());\n");
+    writer.print("    } else if (value instanceof Long) {\n");
+    writer.print("      generator.writeNumber((Long) value);\n");
+    writer.print("    } else if (value instanceof Float) {\n");
+    writer.print("      generator.writeNumber((Float) value);\n");
+    writer.print("    } else if (value instanceof Double) {\n");
+    writer.print("      generator.writeNumber((Double) value);\n");
+    writer.print("    } else if (value instanceof java.math.BigDecimal) {\n");
+    writer.print("      generator.writeNumber((java.math.BigDecimal) value);\n");
+    writer.print("    } else if (value instanceof java.math.BigInteger) {\n");
+    writer.print("      generator.writeNumber((java.math.BigInteger) value);\n");
+    writer.print("    } else if (value instanceof JsonObject || value instanceof java.util.Map) {\n");
+    writer.print("      java.util.Map<?, ?> map = value instanceof JsonObject ? ((JsonObject) value).getMap() : (java.util.Map<?, ?>) value;\n");
+    writer.print("      generator.writeStartObject();\n");
+    writer.print("      for (java.util.Map.Entry<?, ?> entry : map.entrySet()) {\n");
+    writer.print("        generator.writeFieldName(String.valueOf(entry.getKey()));\n");
+    writer.print("        writeJson(generator, entry.getValue());\n");
+    writer.print("      }\n");
+    writer.print("      generator.writeEndObject();\n");
+    writer.print("    } else if (value instanceof JsonArray || value instanceof Iterable) {\n");
+    writer.print("      Iterable<?> list = value instanceof JsonArray ? ((JsonArray) value).getList() : (Iterable<?>) value;\n");
+    writer.print("      generator.writeStartArray();\n");
+    writer.print("      for (Object item : list) {\n");
+    writer.print("        writeJson(generator, item);\n");
+    writer.print("      }\n");
+    writer.print("      generator.writeEndArray();\n");
+    writer.print("    } else if (value instanceof Instant) {\n");
+    writer.print("      generator.writeString(DateTimeFormatter.ISO_INSTANT.format((Instant) value));\n");
+    writer.print("    } else if (value instanceof byte[]) {\n");
+    writer.print("      writeBinary(generator, (byte[]) value);\n");
+    writer.print("    } else if (value instanceof io.vertx.core.buffer.Buffer) {\n");
+    writer.print("      writeBinary(generator, (io.vertx.core.buffer.Buffer) value);\n");
+    writer.print("    } else if (value instanceof Enum) {\n");
+    writer.print("      generator.writeString(((Enum<?>) value).name());\n");
+    writer.print("    } else if (value instanceof CharSequence) {\n");
+    writer.print("      generator.writeString(value.toString());\n");
+    writer.print("    } else {\n");
+    writer.print("      throw new IllegalArgumentException(\"Cannot write \" + value.getClass().getName() + \" as JSON\");\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    writer.print("\n");
+  }
+
+  private void genPropToJsonGenerator(PropertyInfo prop, String packageName, PrintWriter writer) {
+    String fieldName = "FIELD_NAMES[" + fieldNames.indexOf(LowerCamelCase.INSTANCE.to(formatter, prop.getName())) + "]";
+    String indent = "    ";
+    String getter = "obj." + prop.getGetterMethod() + "()";
+    if (prop.isList() || prop.isSet()) {
+      String write = genValueToJsonGenerator(prop.getType(), "item", packageName);
+      if (write != null) {
+        writer.print(indent + "if (" + getter + " != null) {\n");
+        writer.print(indent + "  generator.writeFieldName(" + fieldName + ");\n");
+        writer.print(indent + "  generator.writeStartArray();\n");
+        writer.print(indent + "  for (" + prop.getType().getName() + " item : " + getter + ") {\n");
+        writer.print(indent + "    if (item == null) {\n");
+        writer.print(indent + "      generator.writeNull();\n");
+        writer.print(indent + "    } else {\n");
+        writer.print(indent + "      " + write + "\n");
+        writer.print(indent + "    }\n");
+        writer.print(indent + "  }\n");
+        writer.print(indent + "  generator.writeEndArray();\n");
+        writer.print(indent + "}\n");
+      }
+    } else if (prop.isMap()) {
+      String write = genValueToJsonGenerator(prop.getType(), "entry.getValue()", packageName);
+      if (write != null) {
+        writer.print(indent + "if (" + getter + " != null) {\n");
+        writer.print(indent + "  generator.writeFieldName(" + fieldName + ");\n");
+        writer.print(indent + "  generator.writeStartObject();\n");
+        writer.print(indent + "  for (java.util.Map.Entry<String, " + prop.getType().getName() + "> entry : " + getter + ".entrySet()) {\n");
+        writer.print(indent + "    generator.writeFieldName(entry.getKey());\n");
+        writer.print(indent + "    if (entry.getValue() == null) {\n");
+        writer.print(indent + "      generator.writeNull();\n");
+        writer.print(indent + "    } else {\n");
+        writer.print(indent + "      " + write + "\n");
+        writer.print(indent + "    }\n");
+        writer.print(indent + "  }\n");
+        writer.print(indent + "  generator.writeEndObject();\n");
+        writer.print(indent + "}\n");
+      }
+    } else {
+      String write = genValueToJsonGenerator(prop.getType(), getter, packageName);
+      if (write != null) {
+        if (prop.getType().getKind() == ClassKind.PRIMITIVE) {
+          writer.print(indent + "generator.writeFieldName(" + fieldName + ");\n");
+          writer.print(indent + write + "\n");
+        } else {
+          writer.print(indent + "if (" + getter + " != null) {\n");
+          writer.print(indent + "  generator.writeFieldName(" + fieldName + ");\n");
+          writer.print(indent + "  " + write + "\n");
+          writer.print(indent + "}\n");
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the statement writing the non null {@code value} to the generator or {@code null} when the type is not
+   *         converted to JSON
+   */
+  private String genValueToJsonGenerator(TypeInfo type, String value, String packageName) {
+    ClassKind kind = type.getKind();
+    if (kind.basic) {
+      if (kind == ClassKind.STRING) {
+        return "generator.writeString(" + value + ");";
+      }
+      switch (type.getSimpleName()) {
+        case "char":
+        case "Character":
+          return "generator.writeString(Character.toString(" + value + "));";
+        case "boolean":
+        case "Boolean":
+          return "generator.writeBoolean(" + value + ");";
+        default:
+          return "generator.writeNumber(" + value + ");";
+      }
+    }
+    DataObjectInfo dataObject = type.getDataObject();
+    if (dataObject != null) {
+      if (dataObject.isSerializable()) {
+        MapperInfo mapperInfo = dataObject.getSerializer();
+        switch (mapperInfo.getKind()) {
+          case SELF:
+            String converter = streamingConverter(type, packageName);
+            if (converter != null) {
+              return converter + ".toJson(" + value + ", generator);";
+            }
+            return "writeJson(generator, " + value + "." + String.join(".", mapperInfo.getSelectors()) + "());";
+          case STATIC_METHOD:
+            return "writeJson(generator, " + mapperInfo.getQualifiedName() + "." + String.join(".", mapperInfo.getSelectors()) + "(" + value + "));";
+          default:
+            throw new UnsupportedOperationException();
+        }
+      } else if (type.getName().equals("io.vertx.core.buffer.Buffer")) {
+        return "writeBinary(generator, " + value + ");";
+      }
+      return null;
+    }
+    switch (kind) {
+      case ENUM:
+        return "generator.writeString(" + value + ".name());";
+      case JSON_OBJECT:
+      case JSON_ARRAY:
+      case OBJECT:
+        return "writeJson(generator, " + value + ");";
+      case OTHER:
+        if (type.getName().equals(Instant.class.getName())) {
+          return "writeInstant(generator, " + value + ");";
+        }
+        return null;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * @return the name of the converter streaming the data object {@code type} or {@code null} when the data object
+   *         has no streaming converter accessible from {@code packageName}
+   */
+  private String streamingConverter(TypeInfo type, String packageName) {
+    return converter(type, packageName, "streaming");
+  }
+
+  /**
+   * @return the name of the converter of the data object {@code type} generated with the {@code option} member
+   *         of {@link JsonGen} enabled or {@code null} when the data object has no such converter accessible from
+   *         {@code packageName}
+   */
+  String converter(TypeInfo type, String packageName, String option) {
+    TypeElement elt = env.getElementUtils().getTypeElement(type.getName());
+    if (elt == null || elt.getKind() != ElementKind.CLASS) {
+      return null;
+    }
+    if (isEnabled(env.getElementUtils(), elt, option) && (isEnabled(env.getElementUtils(), elt, "publicConverter") || packageName.equals(env.getElementUtils().getPackageOf(elt).getQualifiedName().toString()))) {
+      return type.getName() + "Converter";
+    }
+    return null;
+  }
+
+  /**
+   * @return whether the {@code option} member of the {@link JsonGen} annotation of {@code elt} is enabled
+   */
+  static boolean isEnabled(Elements elementUtils, TypeElement elt, String option) {
+    for (AnnotationMirror mirror : elt.getAnnotationMirrors()) {
+      if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(JsonGen.class.getName())) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> member : elementUtils.getElementValuesWithDefaults(mirror).entrySet()) {
+          if (member.getKey().getSimpleName().contentEquals(option)) {
+            return Boolean.TRUE.equals(member.getValue().getValue());
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private void genFromJsonParser(String visibility, boolean inheritConverter, DataObjectModel model_, PrintWriter writer) {
+    String simpleName = model_.getType().getSimpleName();
+    String packageName = model_.getType().getPackageName();
+    writer.print("  " + visibility + " static void fromBuffer(io.vertx.core.buffer.Buffer buffer, " + simpleName + " obj) {\n");
+    writer.print("    fromBuffer(buffer, obj, JSON_FACTORY);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static void fromBuffer(io.vertx.core.buffer.Buffer buffer, " + simpleName + " obj, JsonFactory factory) {\n");
+    writer.print("    try (JsonParser parser = createParser(factory, buffer)) {\n");
+    writer.print("      fromJson(parser, obj);\n");
+    writer.print("    } catch (IOException e) {\n");
+    writer.print("      throw new DecodeException(\"Failed to decode:\" + e.getMessage(), e);\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static JsonParser createParser(JsonFactory factory, io.vertx.core.buffer.Buffer buffer) throws IOException {\n");
+    // A heap buffer is parsed from its backing array, a direct buffer is streamed, other buffers are copied
+    writer.print("    if (buffer instanceof io.vertx.core.internal.buffer.BufferInternal) {\n");
+    writer.print("      io.netty.buffer.ByteBuf byteBuf = ((io.vertx.core.internal.buffer.BufferInternal) buffer).unwrap();\n");
+    writer.print("      if (byteBuf.hasArray()) {\n");
+    writer.print("        return factory.createParser(byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(), byteBuf.readableBytes());\n");
+    writer.print("      }\n");
+    writer.print("      return factory.createParser(new io.netty.buffer.ByteBufInputStream(byteBuf.duplicate()));\n");
+    writer.print("    }\n");
+    writer.print("    return factory.createParser(buffer.getBytes());\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  " + visibility + " static void fromJson(JsonParser parser, " + simpleName + " obj) throws IOException {\n");
+    writer.print("    JsonToken token = parser.currentToken();\n");
+    writer.print("    if (token == null) {\n");
+    writer.print("      token = parser.nextToken();\n");
+    writer.print("    }\n");
+    writer.print("    if (token != JsonToken.START_OBJECT) {\n");
+    writer.print("      throw new JsonParseException(parser, \"Expected a JSON object instead of \" + token);\n");
+    writer.print("    }\n");
+    if (fieldNames.isEmpty()) {
+      writer.print("    while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+      writer.print("      parser.nextToken();\n");
+      writer.print("      parser.skipChildren();\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+    } else {
+      // Fields are expected in declaration order, the parser then matches the raw name with the pre-encoded name
+      writer.print("    int expected = 0;\n");
+      writer.print("    while (true) {\n");
+      writer.print("      int field;\n");
+      writer.print("      if (parser.nextFieldName(FIELD_NAMES[expected])) {\n");
+      writer.print("        field = expected;\n");
+      writer.print("      } else if (parser.currentToken() == JsonToken.FIELD_NAME) {\n");
+      writer.print("        field = fieldIndex(parser.currentName());\n");
+      writer.print("      } else {\n");
+      writer.print("        break;\n");
+      writer.print("      }\n");
+      writer.print("      if (field >= 0) {\n");
+      writer.print("        expected = (field + 1) % FIELD_NAMES.length;\n");
+      writer.print("      }\n");
+      writer.print("      parser.nextToken();\n");
+      writer.print("      switch (field) {\n");
+      model_.getPropertyMap().values().forEach(prop -> {
+        if (prop.isDeclared() || inheritConverter) {
+          genPropFromJsonParser(prop, packageName, writer);
+        }
+      });
+      writer.print("        default:\n");
+      writer.print("          parser.skipChildren();\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static int fieldIndex(String name) {\n");
+      writer.print("    switch (name) {\n");
+      for (int i = 0; i < fieldNames.size(); i++) {
+        writer.print("      case \"" + fieldNames.get(i) + "\":\n");
+        writer.print("        return " + i + ";\n");
+      }
+      writer.print("      default:\n");
+      writer.print("        return -1;\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+    }
+    writer.print("\n");
+    writer.print("  private static Object readJson(JsonParser parser) throws IOException {\n");
+    writer.print("    switch (parser.currentToken()) {\n");
+    writer.print("      case START_OBJECT:\n");
+    writer.print("        JsonObject object = new JsonObject();\n");
+    writer.print("        while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+    writer.print("          String name = parser.currentName();\n");
+    writer.print("          parser.nextToken();\n");
+    writer.print("          object.put(name, readJson(parser));\n");
+    writer.print("        }\n");
+    writer.print("        return object;\n");
+    writer.print("      case START_ARRAY:\n");
+    writer.print("        JsonArray array = new JsonArray();\n");
+    writer.print("        while (parser.nextToken() != JsonToken.END_ARRAY) {\n");
+    writer.print("          array.add(readJson(parser));\n");
+    writer.print("        }\n");
+    writer.print("        return array;\n");
+    writer.print("      case VALUE_STRING:\n");
+    writer.print("        return parser.getText();\n");
+    writer.print("      case VALUE_NUMBER_INT:\n");
+    writer.print("      case VALUE_NUMBER_FLOAT:\n");
+    writer.print("        return parser.getNumberValue();\n");
+    writer.print("      case VALUE_TRUE:\n");
+    writer.print("        return Boolean.TRUE;\n");
+    writer.print("      case VALUE_FALSE:\n");
+    writer.print("        return Boolean.FALSE;\n");
+    writer.print("      case VALUE_EMBEDDED_OBJECT:\n");
+    writer.print("        return BASE64_ENCODER.encodeToString(parser.getBinaryValue());\n");
+    writer.print("      case VALUE_NULL:\n");
+    writer.print("        return null;\n");
+    writer.print("      default:\n");
+    writer.print("        throw new JsonParseException(parser, \"Unexpected token \" + parser.currentToken());\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("\n");
+    writer.print("  private static void writeBinary(JsonGenerator generator, byte[] value) throws IOException {\n");
+    // Base64 is encoded straight into the output buffer of the generator, binary formats ignore the variant
+    writer.print("    generator.writeBinary(BASE64_VARIANT, value, 0, value.length);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static void writeBinary(JsonGenerator generator, io.vertx.core.buffer.Buffer value) throws IOException {\n");
+    // A heap buffer is written from its backing array, other buffers are copied
+    writer.print("    if (value instanceof io.vertx.core.internal.buffer.BufferInternal) {\n");
+    writer.print("      io.netty.buffer.ByteBuf byteBuf = ((io.vertx.core.internal.buffer.BufferInternal) value).unwrap();\n");
+    writer.print("      if (byteBuf.hasArray()) {\n");
+    writer.print("        generator.writeBinary(BASE64_VARIANT, byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(), byteBuf.readableBytes());\n");
+    writer.print("        return;\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("    writeBinary(generator, value.getBytes());\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static byte[] readBinary(JsonParser parser) throws IOException {\n");
+    writer.print("    return parser.getBinaryValue(BASE64_VARIANT);\n");
+    writer.print("  }\n");
+  }
+
+  private void genPropFromJsonParser(PropertyInfo prop, String packageName, PrintWriter writer) {
+    String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
+    String label = "case " + fieldNames.indexOf(jsonPropertyName) + ": { // " + jsonPropertyName;
+    String indent = "        ";
+    String typeName = prop.getType().getName();
+    if (prop.isList() || prop.isSet()) {
+      Function<String, String> consumer;
+      if (prop.isSetter()) {
+        consumer = value -> "list.add(" + value + ");";
+      } else if (prop.isAdder()) {
+        consumer = value -> "obj." + prop.getAdderMethod() + "(" + value + ");";
+      } else {
+        return;
+      }
+      String read = genValueFromJsonParser(prop.getType(), packageName, indent + "      ", consumer);
+      if (read == null) {
+        return;
+      }
+      writer.print(indent + label + "\n");
+      writer.print(indent + "  if (parser.currentToken() == JsonToken.START_ARRAY) {\n");
+      if (prop.isSetter()) {
+        String coll = prop.isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
+        writer.print(indent + "    " + coll + "<" + typeName + "> list = new " + coll + "<>();\n");
+      }
+      writer.print(indent + "    while (parser.nextToken() != JsonToken.END_ARRAY) {\n");
+      writer.print(read);
+      writer.print(indent + "    }\n");
+      if (prop.isSetter()) {
+        writer.print(indent + "    obj." + prop.getSetterMethod() + "(list);\n");
+      }
+      writer.print(indent + "  } else {\n");
+      writer.print(indent + "    parser.skipChildren();\n");
+      writer.print(indent + "  }\n");
+    } else if (prop.isMap()) {
+      Function<String, String> consumer;
+      if (prop.isAdder()) {
+        consumer = value -> "obj." + prop.getAdderMethod() + "(key, " + value + ");";
+      } else if (prop.isSetter()) {
+        consumer = value -> "map.put(key, " + value + ");";
+      } else {
+        return;
+      }
+      String read = genValueFromJsonParser(prop.getType(), packageName, indent + "      ", consumer);
+      if (read == null) {
+        return;
+      }
+      writer.print(indent + label + "\n");
+      writer.print(indent + "  if (parser.currentToken() == JsonToken.START_OBJECT) {\n");
+      if (!prop.isAdder()) {
+        writer.print(indent + "    java.util.Map<String, " + typeName + "> map = new java.util.LinkedHashMap<>();\n");
+      }
+      writer.print(indent + "    while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+      writer.print(indent + "      String key = parser.currentName();\n");
+      writer.print(indent + "      parser.nextToken();\n");
+      writer.print(read);
+      writer.print(indent + "    }\n");
+      if (!prop.isAdder()) {
+        writer.print(indent + "    obj." + prop.getSetterMethod() + "(map);\n");
+      }
+      writer.print(indent + "  } else {\n");
+      writer.print(indent + "    parser.skipChildren();\n");
+      writer.print(indent + "  }\n");
+    } else {
+      if (!prop.isSetter()) {
+        return;
+      }
+      String read = genValueFromJsonParser(prop.getType(), packageName, indent + "  ", value -> "obj." + prop.getSetterMethod() + "(" + value + ");");
+      if (read == null) {
+        return;
+      }
+      writer.print(indent + label + "\n");
+      writer.print(read);
+    }
+    writer.print(indent + "  break;\n");
+    writer.print(indent + "}\n");
+  }
+
+  /**
+   * @return the statements reading the current value of the parser and passing it to the {@code consumer} statement,
+   *         or {@code null} when the type is not converted from JSON
+   */
+  private String genValueFromJsonParser(TypeInfo type, String packageName, String indent, Function<String, String> consumer) {
+    String token;
+    String value;
+    ClassKind kind = type.getKind();
+    DataObjectInfo dataObject = type.getDataObject();
+    if (kind.basic) {
+      if (kind == ClassKind.STRING) {
+        token = "parser.currentToken() == JsonToken.VALUE_STRING";
+        value = "parser.getText()";
+      } else {
+        switch (type.getSimpleName()) {
+          case "boolean":
+          case "Boolean":
+            token = "parser.currentToken().isBoolean()";
+            value = "parser.getBooleanValue()";
+            break;
+          case "byte":
+          case "Byte":
+            token = "parser.currentToken().isNumeric()";
+            value = "(byte) parser.getIntValue()";
+            break;
+          case "short":
+          case "Short":
+            token = "parser.currentToken().isNumeric()";
+            value = "(short) parser.getIntValue()";
+            break;
+          case "int":
+          case "Integer":
+            token = "parser.currentToken().isNumeric()";
+            value = "parser.getIntValue()";
+            break;
+          case "long":
+          case "Long":
+            token = "parser.currentToken().isNumeric()";
+            value = "parser.getLongValue()";
+            break;
+          case "float":
+          case "Float":
+            token = "parser.currentToken().isNumeric()";
+            value = "parser.getFloatValue()";
+            break;
+          case "double":
+          case "Double":
+            token = "parser.currentToken().isNumeric()";
+            value = "parser.getDoubleValue()";
+            break;
+          case "char":
+          case "Character":
+            token = "parser.currentToken() == JsonToken.VALUE_STRING";
+            value = "parser.getText().charAt(0)";
+            break;
+          default:
+            return null;
+        }
+      }
+    } else if (dataObject != null) {
+      if (dataObject.isDeserializable()) {
+        MapperInfo mapper = dataObject.getDeserializer();
+        TypeInfo jsonType = mapper.getJsonType();
+        String before;
+        switch (mapper.getKind()) {
+          case SELF:
+            String converter = streamingConverter(type, packageName);
+            if (converter != null && hasEmptyConstructor(type)) {
+              return
+                indent + "if (parser.currentToken() == JsonToken.START_OBJECT) {\n" +
+                indent + "  " + type.getName() + " value = new " + type.getName() + "();\n" +
+                indent + "  " + converter + ".fromJson(parser, value);\n" +
+                indent + "  " + consumer.apply("value") + "\n" +
+                indent + "} else {\n" +
+                indent + "  parser.skipChildren();\n" +
+                indent + "}\n";
+            }
+            before = "new " + type.getName() + "((" + jsonType.getName() + ")";
+            break;
+          case STATIC_METHOD:
+            before = mapper.getQualifiedName() + "." + String.join(".", mapper.getSelectors()) + "((" + jsonType.getSimpleName() + ")";
+            break;
+          default:
+            throw new AssertionError();
+        }
+        return
+          indent + "Object value = readJson(parser);\n" +
+          indent + "if (value instanceof " + jsonType.getSimpleName() + ") {\n" +
+          indent + "  " + consumer.apply(before + "value)") + "\n" +
+          indent + "}\n";
+      } else if (type.getName().equals("io.vertx.core.buffer.Buffer")) {
+        token = "parser.currentToken() == JsonToken.VALUE_STRING || parser.currentToken() == JsonToken.VALUE_EMBEDDED_OBJECT";
+        value = "io.vertx.core.buffer.Buffer.buffer(readBinary(parser))";
+      } else {
+        return null;
+      }
+    } else {
+      switch (kind) {
+        case JSON_OBJECT:
+          token = "parser.currentToken() == JsonToken.START_OBJECT";
+          value = "(JsonObject) readJson(parser)";
+          break;
+        case JSON_ARRAY:
+          token = "parser.currentToken() == JsonToken.START_ARRAY";
+          value = "(JsonArray) readJson(parser)";
+          break;
+        case ENUM:
+          token = "parser.currentToken() == JsonToken.VALUE_STRING";
+          value = type.getName() + ".valueOf(parser.getText())";
+          break;
+        case OBJECT:
+          token = "parser.currentToken() != JsonToken.VALUE_NULL";
+          value = "readJson(parser)";
+          break;
+        case OTHER:
+          if (type.getName().equals(Instant.class.getName())) {
+            token = "parser.currentToken() == JsonToken.VALUE_STRING || parser.currentToken() == JsonToken.START_ARRAY";
+            if (!instantEncoding.equals("ISO_8601")) {
+              token += " || parser.currentToken() == JsonToken.VALUE_NUMBER_INT";
+            }
+            value = "readInstant(parser)";
+            break;
+          }
+          return null;
+        default:
+          return null;
+      }
+    }
+    return
+      indent + "if (" + token + ") {\n" +
+      indent + "  " + consumer.apply(value) + "\n" +
+      indent + "} else {\n" +
+      indent + "  parser.skipChildren();\n" +
+      indent + "}\n";
+  }
+
+  /**
+   * @return whether the data object {@code type} can be instantiated with a public no-arg constructor
+   */
+  private boolean hasEmptyConstructor(TypeInfo type) {
+    TypeElement elt = env.getElementUtils().getTypeElement(type.getName());
+    if (elt == null || elt.getModifiers().contains(Modifier.ABSTRACT)) {
+      return false;
+    }
+    return ElementFilter.constructorsIn(elt.getEnclosedElements())
+      .stream()
+      .anyMatch(constructor -> constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC));
   }
 
   private void genFromJson(String visibility, boolean inheritConverter, DataObjectModel model_, PrintWriter writer) {
     writer.print("  " + visibility + " static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, " + model_.getType().getSimpleName() + " obj) {\n");
     writer.print("    for (java.util.Map.Entry<String, Object> member : json) {\n");
     writer.print("      switch (member.getKey()) {\n");
+    genFromJsonCases(inheritConverter, model_, writer);
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+  }
+
+  private void genValidatingFromJson(String visibility, boolean inheritConverter, DataObjectModel model_, PrintWriter writer) {
+    // The cases are rendered first to find out the required properties they handle
+    StringWriter cases = new StringWriter();
+    requiredNames = new java.util.ArrayList<>();
+    nestedValidators = nestedValidators(inheritConverter, model_);
+    genFromJsonCases(inheritConverter, model_, new PrintWriter(cases));
+    List<String> required = requiredNames;
+    requiredNames = null;
+    writer.print("  " + visibility + " static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, " + model_.getType().getSimpleName() + " obj, java.util.List<String> violations) {\n");
+    if (required.size() > 0) {
+      writer.print("    boolean[] present = new boolean[" + required.size() + "];\n");
+    }
+    writer.print("    for (java.util.Map.Entry<String, Object> member : json) {\n");
+    writer.print("      switch (member.getKey()) {\n");
+    writer.print(cases);
+    writer.print("      }\n");
+    writer.print("    }\n");
+    for (int i = 0;i < required.size();i++) {
+      writer.print("    if (!present[" + i + "]) {\n");
+      writer.print("      violations.add(\"/" + required.get(i) + ": required property is missing\");\n");
+      writer.print("    }\n");
+    }
+    writer.print("  }\n");
+  }
+
+  /**
+   * @return the names of the helpers validating the nested data objects converted by a validating converter, keyed
+   *         by data object type, the nested data object must have a no-arg constructor
+   */
+  private Map<String, String> nestedValidators(boolean inheritConverter, DataObjectModel model_) {
+    Map<String, String> validators = new java.util.LinkedHashMap<>();
+    for (PropertyInfo prop : model_.getPropertyMap().values()) {
+      TypeInfo type = prop.getType();
+      DataObjectInfo dataObject = type.getDataObject();
+      if ((!prop.isDeclared() && !inheritConverter) || dataObject == null || !dataObject.isDeserializable() || validators.containsKey(type.getName())) {
+        continue;
+      }
+      MapperInfo deserializer = dataObject.getDeserializer();
+      if (deserializer.getKind() != MapperKind.SELF || deserializer.getJsonType().getKind() != ClassKind.JSON_OBJECT) {
+        continue;
+      }
+      if (converter(type, model_.getType().getPackageName(), "validation") == null) {
+        continue;
+      }
+      TypeElement elt = env.getElementUtils().getTypeElement(type.getName());
+      boolean noArgConstructor = ElementFilter.constructorsIn(elt.getEnclosedElements()).stream()
+        .anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+      if (noArgConstructor) {
+        String name = "validate" + type.getSimpleName();
+        if (validators.containsValue(name)) {
+          name += validators.size();
+        }
+        validators.put(type.getName(), name);
+      }
+    }
+    return validators;
+  }
+
+  /**
+   * Generates the {@code switch} cases of the {@code fromJson} method, when {@link #requiredNames} is not {@code null}
+   * the validating cases are generated.
+   */
+  private void genFromJsonCases(boolean inheritConverter, DataObjectModel model_, PrintWriter writer) {
     model_.getPropertyMap().values().forEach(prop -> {
       if (prop.isDeclared() || inheritConverter) {
         ClassKind propKind = prop.getType().getKind();
@@ -331,10 +1277,10 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
           } else {
             switch (propKind) {
               case JSON_OBJECT:
-                genPropFromJson("JsonObject", "((JsonObject)", ").copy()", prop, writer);
+                genPropFromJson("JsonObject", "((JsonObject)", isCopyJson(prop) ? ").copy()" : ")", prop, writer);
                 break;
               case JSON_ARRAY:
-                genPropFromJson("JsonArray", "((JsonArray)", ").copy()", prop, writer);
+                genPropFromJson("JsonArray", "((JsonArray)", isCopyJson(prop) ? ").copy()" : ")", prop, writer);
                 break;
               case ENUM:
                 genPropFromJson("String", prop.getType().getName() + ".valueOf((String)", ")", prop, writer);
@@ -344,7 +1290,11 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
                 break;
               case OTHER:
                 if (prop.getType().getName().equals(Instant.class.getName())) {
-                  genPropFromJson("String", "Instant.from(DateTimeFormatter.ISO_INSTANT.parse((String)", "))", prop, writer);
+                  if (instantEncoding.equals("ISO_8601")) {
+                    genPropFromJson("String", "parseInstant((String)", ")", prop, writer);
+                  } else {
+                    genPropFromJson("Number|String", "toInstant(", ")", prop, writer);
+                  }
                 }
                 break;
               default:
@@ -353,12 +1303,24 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
         }
       }
     });
-    writer.print("      }\n");
-    writer.print("    }\n");
-    writer.print("  }\n");
+  }
+
+  /**
+   * @return whether the JSON value of the property is copied, {@link JsonCopy} overrides {@link JsonGen#copyJson()}
+   */
+  private boolean isCopyJson(PropertyInfo prop) {
+    AnnotationValueInfo ann = prop.getAnnotation(JsonCopy.class.getName());
+    if (ann != null) {
+      return ann.getMember("value") == Boolean.TRUE;
+    }
+    return copyJson;
   }
 
   private void genPropFromJson(String cast, String before, String after, PropertyInfo prop, PrintWriter writer) {
+    if (requiredNames != null) {
+      genValidatingPropFromJson(cast, before, after, prop, writer);
+      return;
+    }
     String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
     String indent = "        ";
     writer.print(indent + "case \"" + jsonPropertyName + "\":\n");
@@ -368,13 +1330,13 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
         String coll = prop.isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
         writer.print(indent + "    " + coll + "<" + prop.getType().getName() + "> list =  new " + coll + "<>();\n");
         writer.print(indent + "    ((Iterable<Object>)member.getValue()).forEach( item -> {\n");
-        writer.print(indent + "      if (item instanceof " + cast + ")\n");
+        writer.print(indent + "      if (" + isInstance("item", cast) + ")\n");
         writer.print(indent + "        list.add(" + before + "item" + after + ");\n");
         writer.print(indent + "    });\n");
         writer.print(indent + "    obj." + prop.getSetterMethod() + "(list);\n");
       } else if (prop.isAdder()) {
         writer.print(indent + "    ((Iterable<Object>)member.getValue()).forEach( item -> {\n");
-        writer.print(indent + "      if (item instanceof " + cast + ")\n");
+        writer.print(indent + "      if (" + isInstance("item", cast) + ")\n");
         writer.print(indent + "        obj." + prop.getAdderMethod() + "(" + before + "item" + after + ");\n");
         writer.print(indent + "    });\n");
       }
@@ -383,13 +1345,13 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
       writer.print(indent + "  if (member.getValue() instanceof JsonObject) {\n");
       if (prop.isAdder()) {
         writer.print(indent + "    ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {\n");
-        writer.print(indent + "      if (entry.getValue() instanceof " + cast + ")\n");
+        writer.print(indent + "      if (" + isInstance("entry.getValue()", cast) + ")\n");
         writer.print(indent + "        obj." + prop.getAdderMethod() + "(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
         writer.print(indent + "    });\n");
       } else if (prop.isSetter()) {
         writer.print(indent + "    java.util.Map<String, " + prop.getType().getName() + "> map = new java.util.LinkedHashMap<>();\n");
         writer.print(indent + "    ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {\n");
-        writer.print(indent + "      if (entry.getValue() instanceof " + cast + ")\n");
+        writer.print(indent + "      if (" + isInstance("entry.getValue()", cast) + ")\n");
         writer.print(indent + "        map.put(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
         writer.print(indent + "    });\n");
         writer.print(indent + "    obj." + prop.getSetterMethod() + "(map);\n");
@@ -397,7 +1359,7 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
       writer.print(indent + "  }\n");
     } else {
       if (prop.isSetter()) {
-        writer.print(indent + "  if (member.getValue() instanceof " + cast + ") {\n");
+        writer.print(indent + "  if (" + isInstance("member.getValue()", cast) + ") {\n");
         writer.print(indent + "    obj." + prop.getSetterMethod()+ "(" + before + "member.getValue()" + after + ");\n");
         writer.print(indent + "  }\n");
       }
@@ -405,7 +1367,314 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
     writer.print(indent + "  break;\n");
   }
 
-  private Case getCase(ClassTypeInfo cti) {
+  private void genValidatingPropFromJson(String cast, String before, String after, PropertyInfo prop, PrintWriter writer) {
+    String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
+    String indent = "        ";
+    String check;
+    String expected;
+    switch (prop.getType().getSimpleName()) {
+      case "byte":
+      case "Byte":
+        check = "isInteger(%s, Byte.MIN_VALUE, Byte.MAX_VALUE)";
+        expected = "integer";
+        break;
+      case "short":
+      case "Short":
+        check = "isInteger(%s, Short.MIN_VALUE, Short.MAX_VALUE)";
+        expected = "integer";
+        break;
+      case "int":
+      case "Integer":
+        check = "isInteger(%s, Integer.MIN_VALUE, Integer.MAX_VALUE)";
+        expected = "integer";
+        break;
+      case "long":
+      case "Long":
+        check = "isInteger(%s, Long.MIN_VALUE, Long.MAX_VALUE)";
+        expected = "integer";
+        break;
+      case "char":
+      case "Character":
+        check = "%1$s instanceof String && ((String) %1$s).length() > 0";
+        expected = "non empty string";
+        break;
+      default:
+        check = isInstance("%1$s", cast);
+        expected = Arrays.stream(cast.split("\\|")).map(DataObjectJsonGen::jsonTypeName).collect(Collectors.joining(" or "));
+        break;
+    }
+    // Conversions failing on a value of the expected JSON type, e.g an unknown enum constant or a data object
+    // constructor rejecting its JSON
+    ClassKind kind = prop.getType().getKind();
+    boolean mayFail = kind == ClassKind.ENUM
+      || prop.getType().getName().equals(Instant.class.getName())
+      || prop.getType().getDataObject() != null;
+    String pointer = "\"/" + jsonPropertyName;
+    // A nested data object with a validating converter reports its violations under the pointer of the value
+    String validator = nestedValidators.get(prop.getType().getName());
+    if (validator != null) {
+      before = validator + "((JsonObject) ";
+    }
+    writer.print(indent + "case \"" + jsonPropertyName + "\": {\n");
+    if (prop.getAnnotation(JsonRequired.class.getName()) != null) {
+      writer.print(indent + "  present[" + requiredNames.size() + "] = true;\n");
+      requiredNames.add(jsonPropertyName);
+    }
+    if (!prop.isSetter() && !prop.isAdder()) {
+      // Read-only property
+    } else if (prop.isList() || prop.isSet() || prop.isMap()) {
+      writer.print(indent + "  Object value = member.getValue();\n");
+      String container = prop.isMap() ? "JsonObject" : "JsonArray";
+      writer.print(indent + "  if (value instanceof " + container + ") {\n");
+      String item;
+      String itemPointer;
+      String add;
+      if (prop.isMap()) {
+        item = "entry.getValue()";
+        itemPointer = pointer + "/\" + escapePointer(entry.getKey()) + \"";
+        after = validatorArguments(validator, itemPointer, after);
+        if (prop.isAdder()) {
+          add = "obj." + prop.getAdderMethod() + "(entry.getKey(), " + before + item + after + ");";
+        } else {
+          writer.print(indent + "    java.util.Map<String, " + prop.getType().getName() + "> map = new java.util.LinkedHashMap<>();\n");
+          add = "map.put(entry.getKey(), " + before + item + after + ");";
+        }
+        writer.print(indent + "    for (java.util.Map.Entry<String, Object> entry : (Iterable<java.util.Map.Entry<String, Object>>) value) {\n");
+      } else {
+        item = "item";
+        itemPointer = pointer + "/\" + index + \"";
+        after = validatorArguments(validator, itemPointer, after);
+        if (prop.isAdder() && !prop.isSetter()) {
+          add = "obj." + prop.getAdderMethod() + "(" + before + item + after + ");";
+        } else {
+          String coll = prop.isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
+          writer.print(indent + "    " + coll + "<" + prop.getType().getName() + "> list = new " + coll + "<>();\n");
+          add = "list.add(" + before + item + after + ");";
+        }
+        writer.print(indent + "    int index = 0;\n");
+        writer.print(indent + "    for (Object item : (Iterable<Object>) value) {\n");
+      }
+      genValidatingConversion(indent + "      ", String.format(check, item), add, itemPointer, expected, mayFail, writer);
+      if (!prop.isMap()) {
+        writer.print(indent + "      index++;\n");
+      }
+      writer.print(indent + "    }\n");
+      if (prop.isMap() ? !prop.isAdder() : prop.isSetter()) {
+        writer.print(indent + "    obj." + prop.getSetterMethod() + "(" + (prop.isMap() ? "map" : "list") + ");\n");
+      }
+      writer.print(indent + "  } else " + (prop.isNullable() ? "if (value != null) " : "") + "{\n");
+      writer.print(indent + "    violations.add(" + pointer + ": expected " + jsonTypeName(container) + "\");\n");
+      writer.print(indent + "  }\n");
+    } else {
+      writer.print(indent + "  Object value = member.getValue();\n");
+      if (prop.isNullable()) {
+        writer.print(indent + "  if (value != null) {\n");
+      } else {
+        writer.print(indent + "  if (value == null) {\n");
+        writer.print(indent + "    violations.add(" + pointer + ": must not be null\");\n");
+        writer.print(indent + "  } else {\n");
+      }
+      after = validatorArguments(validator, pointer, after);
+      genValidatingConversion(indent + "    ", String.format(check, "value"), "obj." + prop.getSetterMethod() + "(" + before + "value" + after + ");", pointer, expected, mayFail, writer);
+      writer.print(indent + "  }\n");
+    }
+    writer.print(indent + "  break;\n");
+    writer.print(indent + "}\n");
+  }
+
+  private static String validatorArguments(String validator, String pointer, String after) {
+    return validator != null ? ", " + (pointer + "\"").replace(" + \"\"", "") + ", violations)" : after;
+  }
+
+  private static void genValidatingConversion(String indent, String check, String conversion, String pointer, String expected, boolean mayFail, PrintWriter writer) {
+    writer.print(indent + "if (" + check + ") {\n");
+    if (mayFail) {
+      writer.print(indent + "  try {\n");
+      writer.print(indent + "    " + conversion + "\n");
+      writer.print(indent + "  } catch (RuntimeException e) {\n");
+      writer.print(indent + "    violations.add(" + pointer + ": invalid value\");\n");
+      writer.print(indent + "  }\n");
+    } else {
+      writer.print(indent + "  " + conversion + "\n");
+    }
+    writer.print(indent + "} else {\n");
+    writer.print(indent + "  violations.add(" + pointer + ": expected " + expected + "\");\n");
+    writer.print(indent + "}\n");
+  }
+
+  /**
+   * @return the JSON type name of a Java type used by the converter
+   */
+  private static String jsonTypeName(String javaType) {
+    switch (javaType) {
+      case "String":
+        return "string";
+      case "Boolean":
+        return "boolean";
+      case "Number":
+        return "number";
+      case "JsonObject":
+        return "object";
+      case "JsonArray":
+        return "array";
+      default:
+        return javaType;
+    }
+  }
+
+  private void genValidationHelpers(PrintWriter writer) {
+    for (Map.Entry<String, String> validator : nestedValidators.entrySet()) {
+      String type = validator.getKey();
+      writer.print("  private static " + type + " " + validator.getValue() + "(JsonObject json, String pointer, java.util.List<String> violations) {\n");
+      writer.print("    " + type + " obj = new " + type + "();\n");
+      writer.print("    java.util.List<String> nested = new java.util.ArrayList<>();\n");
+      writer.print("    " + type + "Converter.fromJson(json, obj, nested);\n");
+      writer.print("    for (String violation : nested) {\n");
+      writer.print("      violations.add(pointer + violation);\n");
+      writer.print("    }\n");
+      writer.print("    return obj;\n");
+      writer.print("  }\n");
+      writer.print("\n");
+    }
+    writer.print("  private static boolean isInteger(Object value, long min, long max) {\n");
+    writer.print("    if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {\n");
+    writer.print("      long l = ((Number) value).longValue();\n");
+    writer.print("      return l >= min && l <= max;\n");
+    writer.print("    }\n");
+    writer.print("    if (value instanceof Number) {\n");
+    writer.print("      double d = ((Number) value).doubleValue();\n");
+    writer.print("      return d == Math.rint(d) && d >= min && d <= max;\n");
+    writer.print("    }\n");
+    writer.print("    return false;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static String escapePointer(String name) {\n");
+    writer.print("    return name.replace(\"~\", \"~0\").replace(\"/\", \"~1\");\n");
+    writer.print("  }\n");
+  }
+
+  /**
+   * @return the test of {@code value} being an instance of {@code cast}, alternative types are separated by {@code |}
+   */
+  private static String isInstance(String value, String cast) {
+    return Arrays.stream(cast.split("\\|"))
+      .map(type -> value + " instanceof " + type)
+      .collect(Collectors.joining(" || "));
+  }
+
+  private void genInstantHelpers(PrintWriter writer) {
+    if (streaming) {
+      writer.print("  private static void writeInstant(JsonGenerator generator, Instant value) throws IOException {\n");
+      switch (instantEncoding) {
+        case "EPOCH_MILLIS":
+          writer.print("    generator.writeNumber(value.toEpochMilli());\n");
+          break;
+        case "EPOCH_NANOS":
+          writer.print("    generator.writeNumber(toEpochNanos(value));\n");
+          break;
+        default:
+          writer.print("    if (generator.canWriteBinaryNatively()) {\n");
+          writer.print("      generator.writeStartArray();\n");
+          writer.print("      generator.writeNumber(value.getEpochSecond());\n");
+          writer.print("      generator.writeNumber(value.getNano());\n");
+          writer.print("      generator.writeEndArray();\n");
+          writer.print("    } else {\n");
+          writer.print("      generator.writeString(DateTimeFormatter.ISO_INSTANT.format(value));\n");
+          writer.print("    }\n");
+          break;
+      }
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static Instant readInstant(JsonParser parser) throws IOException {\n");
+      writer.print("    switch (parser.currentToken()) {\n");
+      writer.print("      case VALUE_STRING:\n");
+      writer.print("        return parseInstant(parser.getText());\n");
+      if (!instantEncoding.equals("ISO_8601")) {
+        writer.print("      case VALUE_NUMBER_INT:\n");
+        writer.print("        return toInstant(parser.getLongValue());\n");
+      }
+      writer.print("      default:\n");
+      writer.print("        if (parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {\n");
+      writer.print("          throw new JsonParseException(parser, \"Expected the seconds of an instant\");\n");
+      writer.print("        }\n");
+      writer.print("        long seconds = parser.getLongValue();\n");
+      writer.print("        if (parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {\n");
+      writer.print("          throw new JsonParseException(parser, \"Expected the nanos of an instant\");\n");
+      writer.print("        }\n");
+      writer.print("        int nanos = parser.getIntValue();\n");
+      writer.print("        if (parser.nextToken() != JsonToken.END_ARRAY) {\n");
+      writer.print("          throw new JsonParseException(parser, \"Expected the end of an instant\");\n");
+      writer.print("        }\n");
+      writer.print("        return Instant.ofEpochSecond(seconds, nanos);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+    }
+    switch (instantEncoding) {
+      case "EPOCH_MILLIS":
+        writer.print("  private static Instant toInstant(Object value) {\n");
+        writer.print("    return value instanceof Number ? toInstant(((Number) value).longValue()) : parseInstant((String) value);\n");
+        writer.print("  }\n");
+        writer.print("\n");
+        writer.print("  private static Instant toInstant(long value) {\n");
+        writer.print("    return Instant.ofEpochMilli(value);\n");
+        writer.print("  }\n");
+        writer.print("\n");
+        break;
+      case "EPOCH_NANOS":
+        writer.print("  private static Instant toInstant(Object value) {\n");
+        writer.print("    return value instanceof Number ? toInstant(((Number) value).longValue()) : parseInstant((String) value);\n");
+        writer.print("  }\n");
+        writer.print("\n");
+        writer.print("  private static Instant toInstant(long value) {\n");
+        writer.print("    return Instant.ofEpochSecond(0L, value);\n");
+        writer.print("  }\n");
+        writer.print("\n");
+        writer.print("  private static long toEpochNanos(Instant value) {\n");
+        writer.print("    return Math.addExact(Math.multiplyExact(value.getEpochSecond(), 1_000_000_000L), value.getNano());\n");
+        writer.print("  }\n");
+        writer.print("\n");
+        break;
+    }
+    // Fast path for the UTC form written by DateTimeFormatter.ISO_INSTANT, e.g 2011-12-03T10:15:30.123Z
+    writer.print("  private static Instant parseInstant(String value) {\n");
+    writer.print("    int length = value.length();\n");
+    writer.print("    if (length >= 20 && length <= 30 && value.charAt(4) == '-' && value.charAt(7) == '-' && value.charAt(10) == 'T'\n");
+    writer.print("      && value.charAt(13) == ':' && value.charAt(16) == ':' && value.charAt(length - 1) == 'Z'\n");
+    writer.print("      && (length == 20 || (length > 21 && value.charAt(19) == '.'))) {\n");
+    writer.print("      int year = parseDigits(value, 0, 4);\n");
+    writer.print("      int month = parseDigits(value, 5, 7);\n");
+    writer.print("      int day = parseDigits(value, 8, 10);\n");
+    writer.print("      int hour = parseDigits(value, 11, 13);\n");
+    writer.print("      int minute = parseDigits(value, 14, 16);\n");
+    writer.print("      int second = parseDigits(value, 17, 19);\n");
+    writer.print("      int nanos = length == 20 ? 0 : parseDigits(value, 20, length - 1);\n");
+    writer.print("      if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= 31 && hour >= 0 && hour <= 23\n");
+    writer.print("        && minute >= 0 && minute <= 59 && second >= 0 && second <= 59 && nanos >= 0) {\n");
+    writer.print("        for (int i = length - 21;i < 9;i++) {\n");
+    writer.print("          nanos *= 10;\n");
+    writer.print("        }\n");
+    writer.print("        long epochDay = java.time.LocalDate.of(year, month, day).toEpochDay();\n");
+    writer.print("        return Instant.ofEpochSecond(epochDay * 86400L + hour * 3600 + minute * 60 + second, nanos);\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("    return Instant.from(DateTimeFormatter.ISO_INSTANT.parse(value));\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static int parseDigits(String value, int from, int to) {\n");
+    writer.print("    int result = 0;\n");
+    writer.print("    for (int i = from;i < to;i++) {\n");
+    writer.print("      char c = value.charAt(i);\n");
+    writer.print("      if (c < '0' || c > '9') {\n");
+    writer.print("        return -1;\n");
+    writer.print("      }\n");
+    writer.print("      result = result * 10 + (c - '0');\n");
+    writer.print("    }\n");
+    writer.print("    return result;\n");
+    writer.print("  }\n");
+  }
+
+  static Case getCase(ClassTypeInfo cti) {
     switch (cti.getName()) {
       case "io.vertx.codegen.format.CamelCase":
         return CamelCase.INSTANCE;
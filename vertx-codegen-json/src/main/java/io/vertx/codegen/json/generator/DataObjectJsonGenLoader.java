@@ -10,6 +10,6 @@ public class DataObjectJsonGenLoader implements GeneratorLoader {
 
   @Override
   public Stream<Generator<?>> loadGenerators(ProcessingEnvironment processingEnv) {
-    return Stream.of(new DataObjectJsonGen());
+    return Stream.of(new DataObjectJsonGen(), new DataObjectBinaryJsonGen(), new DataObjectJsonSchemaGen(), new DataObjectDiffGen());
   }
 }
@@ -0,0 +1,204 @@
+package io.vertx.codegen.json.generator;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.format.Case;
+import io.vertx.codegen.format.LowerCamelCase;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.json.annotations.JsonRequired;
+import io.vertx.codegen.type.AnnotationValueInfo;
+import io.vertx.codegen.type.ClassKind;
+import io.vertx.codegen.type.ClassTypeInfo;
+import io.vertx.codegen.type.DataObjectInfo;
+import io.vertx.codegen.type.EnumTypeInfo;
+import io.vertx.codegen.type.TypeInfo;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import java.lang.annotation.Annotation;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the JSON schema of a data object, the schema describes the JSON objects accepted by the validating
+ * {@code fromJson} method of the data object converter.
+ */
+public class DataObjectJsonSchemaGen extends Generator<DataObjectModel> {
+
+  public DataObjectJsonSchemaGen() {
+    kinds = Collections.singleton("dataObject");
+    name = "data_object_json_schemas";
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(DataObject.class);
+  }
+
+  @Override
+  public String filename(DataObjectModel model) {
+    if (model.isClass() && model.getAnnotation(JsonGen.class).map(ann -> ann.getMember("validation") == Boolean.TRUE).orElse(false)) {
+      return "resources/" + model.getFqn().replace('.', '/') + ".schema.json";
+    }
+    return null;
+  }
+
+  @Override
+  public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
+    AnnotationValueInfo jsonGenAnn = model.getAnnotation(JsonGen.class).get();
+    Case formatter = DataObjectJsonGen.getCase((ClassTypeInfo) jsonGenAnn.getMember("jsonPropertyNameFormatter"));
+    boolean inheritConverter = jsonGenAnn.getMember("inheritConverter") == Boolean.TRUE;
+    String instantEncoding = (String) jsonGenAnn.getMember("instantEncoding");
+    StringBuilder properties = new StringBuilder();
+    List<String> required = new ArrayList<>();
+    for (PropertyInfo prop : model.getPropertyMap().values()) {
+      if ((prop.isDeclared() || inheritConverter) && (prop.isSetter() || prop.isAdder())) {
+        String schema = valueSchema(prop.getType(), model.getType().getPackageName(), instantEncoding);
+        if (schema == null) {
+          continue;
+        }
+        if (prop.isList() || prop.isSet()) {
+          schema = "{ \"type\": " + type("array", prop.isNullable()) + ", \"items\": " + schema + " }";
+        } else if (prop.isMap()) {
+          schema = "{ \"type\": " + type("object", prop.isNullable()) + ", \"additionalProperties\": " + schema + " }";
+        } else if (prop.isNullable()) {
+          schema = "{ \"anyOf\": [ " + schema + ", { \"type\": \"null\" } ] }";
+        }
+        String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
+        if (properties.length() > 0) {
+          properties.append(",\n");
+        }
+        properties.append("    \"").append(jsonPropertyName).append("\": ").append(schema);
+        if (prop.getAnnotation(JsonRequired.class.getName()) != null) {
+          required.add(jsonPropertyName);
+        }
+      }
+    }
+    StringBuilder buffer = new StringBuilder();
+    buffer.append("{\n");
+    buffer.append("  \"$schema\": \"https://json-schema.org/draft/2020-12/schema\",\n");
+    buffer.append("  \"title\": \"").append(model.getType().getSimpleName()).append("\",\n");
+    buffer.append("  \"type\": \"object\",\n");
+    buffer.append("  \"properties\": {\n");
+    if (properties.length() > 0) {
+      buffer.append(properties).append("\n");
+    }
+    buffer.append("  }");
+    if (required.size() > 0) {
+      buffer.append(",\n  \"required\": [ ");
+      buffer.append(required.stream().map(name -> "\"" + name + "\"").collect(Collectors.joining(", ")));
+      buffer.append(" ]");
+    }
+    buffer.append("\n}\n");
+    return buffer.toString();
+  }
+
+  /**
+   * @return the location of the schema of {@code type} relative to the schemas of the {@code packageName} package
+   */
+  private static String schemaRef(String packageName, TypeInfo type) {
+    String name = type.getName();
+    int index = name.lastIndexOf('.');
+    List<String> from = packageName.isEmpty() ? Collections.emptyList() : Arrays.asList(packageName.split("\\."));
+    List<String> to = index == -1 ? Collections.emptyList() : Arrays.asList(name.substring(0, index).split("\\."));
+    int common = 0;
+    while (common < from.size() && common < to.size() && from.get(common).equals(to.get(common))) {
+      common++;
+    }
+    StringBuilder ref = new StringBuilder();
+    for (int i = common; i < from.size(); i++) {
+      ref.append("../");
+    }
+    for (int i = common; i < to.size(); i++) {
+      ref.append(to.get(i)).append('/');
+    }
+    return ref.append(name.substring(index + 1)).append(".schema.json").toString();
+  }
+
+  private static String type(String type, boolean nullable) {
+    return nullable ? "[ \"" + type + "\", \"null\" ]" : "\"" + type + "\"";
+  }
+
+  /**
+   * @return the schema of the JSON values converted to {@code type} by the converter or {@code null} when the converter
+   *         does not convert such values, a nested data object with a validating converter references its own schema
+   */
+  private String valueSchema(TypeInfo type, String packageName, String instantEncoding) {
+    ClassKind kind = type.getKind();
+    if (kind.basic) {
+      switch (type.getSimpleName()) {
+        case "String":
+          return "{ \"type\": \"string\" }";
+        case "char":
+        case "Character":
+          return "{ \"type\": \"string\", \"minLength\": 1 }";
+        case "boolean":
+        case "Boolean":
+          return "{ \"type\": \"boolean\" }";
+        case "byte":
+        case "Byte":
+          return "{ \"type\": \"integer\", \"minimum\": " + Byte.MIN_VALUE + ", \"maximum\": " + Byte.MAX_VALUE + " }";
+        case "short":
+        case "Short":
+          return "{ \"type\": \"integer\", \"minimum\": " + Short.MIN_VALUE + ", \"maximum\": " + Short.MAX_VALUE + " }";
+        case "int":
+        case "Integer":
+          return "{ \"type\": \"integer\", \"minimum\": " + Integer.MIN_VALUE + ", \"maximum\": " + Integer.MAX_VALUE + " }";
+        case "long":
+        case "Long":
+          return "{ \"type\": \"integer\", \"minimum\": " + Long.MIN_VALUE + ", \"maximum\": " + Long.MAX_VALUE + " }";
+        case "float":
+        case "Float":
+        case "double":
+        case "Double":
+          return "{ \"type\": \"number\" }";
+        default:
+          return null;
+      }
+    }
+    DataObjectInfo dataObject = type.getDataObject();
+    if (dataObject != null) {
+      if (dataObject.isDeserializable()) {
+        TypeElement elt = env.getElementUtils().getTypeElement(type.getName());
+        if (elt != null && elt.getKind() == ElementKind.CLASS && DataObjectJsonGen.isEnabled(env.getElementUtils(), elt, "validation")) {
+          return "{ \"$ref\": \"" + schemaRef(packageName, type) + "\" }";
+        }
+        return valueSchema(dataObject.getDeserializer().getJsonType(), packageName, instantEncoding);
+      }
+      if (type.getName().equals("io.vertx.core.buffer.Buffer")) {
+        return "{ \"type\": \"string\", \"contentEncoding\": \"base64\" }";
+      }
+      return null;
+    }
+    switch (kind) {
+      case JSON_OBJECT:
+        return "{ \"type\": \"object\" }";
+      case JSON_ARRAY:
+        return "{ \"type\": \"array\" }";
+      case ENUM:
+        return "{ \"type\": \"string\", \"enum\": [ " + ((EnumTypeInfo) type).getValues().stream()
+          .map(value -> "\"" + value + "\"")
+          .collect(Collectors.joining(", ")) + " ] }";
+      case OBJECT:
+        return "{ }";
+      case OTHER:
+        if (type.getName().equals(Instant.class.getName())) {
+          if (instantEncoding.equals("ISO_8601")) {
+            return "{ \"type\": \"string\", \"format\": \"date-time\" }";
+          }
+          return "{ \"anyOf\": [ { \"type\": \"integer\" }, { \"type\": \"string\", \"format\": \"date-time\" } ] }";
+        }
+        return null;
+      default:
+        return null;
+    }
+  }
+}
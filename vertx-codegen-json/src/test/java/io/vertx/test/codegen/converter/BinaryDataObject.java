@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonBinaryFormat;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+import java.time.Instant;
+import java.util.List;
+
+@DataObject
+@JsonGen(streaming = true, binaryFormats = { JsonBinaryFormat.CBOR, JsonBinaryFormat.SMILE })
+public class BinaryDataObject {
+
+  private String name;
+  private long longValue;
+  private double doubleValue;
+  private Buffer bufferValue;
+  private List<Buffer> bufferValues;
+  private Instant instantValue;
+  private JsonObject jsonObjectValue;
+  private StreamingDataObject child;
+
+  public BinaryDataObject() {
+  }
+
+  public BinaryDataObject(JsonObject json) {
+    BinaryDataObjectConverter.fromJson(json, this);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public BinaryDataObject setName(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public long getLongValue() {
+    return longValue;
+  }
+
+  public BinaryDataObject setLongValue(long longValue) {
+    this.longValue = longValue;
+    return this;
+  }
+
+  public double getDoubleValue() {
+    return doubleValue;
+  }
+
+  public BinaryDataObject setDoubleValue(double doubleValue) {
+    this.doubleValue = doubleValue;
+    return this;
+  }
+
+  public Buffer getBufferValue() {
+    return bufferValue;
+  }
+
+  public BinaryDataObject setBufferValue(Buffer bufferValue) {
+    this.bufferValue = bufferValue;
+    return this;
+  }
+
+  public List<Buffer> getBufferValues() {
+    return bufferValues;
+  }
+
+  public BinaryDataObject setBufferValues(List<Buffer> bufferValues) {
+    this.bufferValues = bufferValues;
+    return this;
+  }
+
+  public Instant getInstantValue() {
+    return instantValue;
+  }
+
+  public BinaryDataObject setInstantValue(Instant instantValue) {
+    this.instantValue = instantValue;
+    return this;
+  }
+
+  public JsonObject getJsonObjectValue() {
+    return jsonObjectValue;
+  }
+
+  public BinaryDataObject setJsonObjectValue(JsonObject jsonObjectValue) {
+    this.jsonObjectValue = jsonObjectValue;
+    return this;
+  }
+
+  public StreamingDataObject getChild() {
+    return child;
+  }
+
+  public BinaryDataObject setChild(StreamingDataObject child) {
+    this.child = child;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    BinaryDataObjectConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -11,7 +11,16 @@
 
 package io.vertx.test.codegen.converter;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.impl.JsonUtil;
@@ -20,7 +29,11 @@ import org.junit.Test;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -787,6 +800,716 @@ public class DataObjectTest {
     assertEquals(new JsonObject().put(key, autoMappedWithVertxGen.toJson()), json.get("keyedAutoMappedWithVertxGenValues"));
   }
 
+  @Test
+  public void testCopyJson() {
+    JsonObject jsonObject = new JsonObject().put("wibble", TestUtils.randomAlphaString(20));
+    JsonArray jsonArray = new JsonArray().add(TestUtils.randomAlphaString(20));
+    JsonObject json = new JsonObject()
+      .put("jsonObjectValue", jsonObject)
+      .put("jsonArrayValue", jsonArray);
+    TestDataObject obj = new TestDataObject();
+    TestDataObjectConverter.fromJson(json, obj);
+    assertEquals(jsonObject, obj.getJsonObjectValue());
+    assertNotSame(jsonObject, obj.getJsonObjectValue());
+    assertEquals(jsonArray, obj.getJsonArrayValue());
+    assertNotSame(jsonArray, obj.getJsonArrayValue());
+  }
+
+  @Test
+  public void testTransferJson() {
+    JsonObject jsonObject = new JsonObject().put("wibble", TestUtils.randomAlphaString(20));
+    JsonArray jsonArray = new JsonArray().add(TestUtils.randomAlphaString(20));
+    JsonObject item = new JsonObject().put("wobble", TestUtils.randomAlphaString(20));
+    JsonObject json = new JsonObject()
+      .put("jsonObjectValue", jsonObject)
+      .put("jsonArrayValue", jsonArray)
+      .put("jsonObjectValueList", new JsonArray().add(item));
+    TransferJsonDataObject obj = new TransferJsonDataObject(json);
+    assertSame(jsonObject, obj.getJsonObjectValue());
+    assertSame(item, obj.getJsonObjectValueList().get(0));
+    // @JsonCopy overrides the data object setting
+    assertEquals(jsonArray, obj.getJsonArrayValue());
+    assertNotSame(jsonArray, obj.getJsonArrayValue());
+  }
+
+  @Test
+  public void testDataObjectToJsonGenerator() throws Exception {
+    TestDataObject obj = streamingDataObject();
+
+    Map<String, Object> json = new LinkedHashMap<>();
+    TestDataObjectConverter.toJson(obj, json);
+
+    StringWriter out = new StringWriter();
+    try (JsonGenerator generator = new JsonFactory().createGenerator(out)) {
+      TestDataObjectConverter.toJson(obj, generator);
+    }
+    assertEquals(encode(json), out.toString());
+    assertEquals(encode(json), new String(TestDataObjectConverter.toBuffer(obj).getBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testNestedDataObjectToJsonGenerator() throws Exception {
+    StreamingDataObject obj = new StreamingDataObject()
+      .setName("root")
+      .setCount(3)
+      .setChild(new StreamingDataObject().setName("child").setCount(1))
+      .setChildren(Arrays.asList(new StreamingDataObject().setCount(2), null))
+      .setChildMap(Collections.singletonMap("key", new StreamingDataObject().setName("value")))
+      .setNested(new NestedJsonObjectDataObject().setValue("nested"));
+    Buffer buffer = Buffer.buffer();
+    StreamingDataObjectConverter.toBuffer(obj, buffer);
+    assertEquals("{\"name\":\"root\",\"count\":3," +
+      "\"child\":{\"name\":\"child\",\"count\":1}," +
+      "\"children\":[{\"count\":2},null]," +
+      "\"childMap\":{\"key\":{\"name\":\"value\",\"count\":0}}," +
+      "\"nested\":{\"value\":\"nested\"}}", new String(buffer.getBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testDataObjectFromJsonParser() throws Exception {
+    TestDataObject obj = streamingDataObject();
+    Map<String, Object> json = new LinkedHashMap<>();
+    TestDataObjectConverter.toJson(obj, json);
+    TestDataObject expected = new TestDataObject();
+    TestDataObjectConverter.fromJson(json.entrySet(), expected);
+
+    TestDataObject decoded = new TestDataObject();
+    TestDataObjectConverter.fromBuffer(TestDataObjectConverter.toBuffer(obj), decoded);
+    assertEquals(
+      new String(TestDataObjectConverter.toBuffer(expected).getBytes(), StandardCharsets.UTF_8),
+      new String(TestDataObjectConverter.toBuffer(decoded).getBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testNestedDataObjectFromJsonParser() throws Exception {
+    StreamingDataObject obj = new StreamingDataObject();
+    String json = "{\"unknown\":{\"a\":[1,{\"b\":2}]},\"name\":\"root\",\"count\":3," +
+      "\"child\":{\"name\":\"child\",\"count\":1,\"unknown\":[]}," +
+      "\"children\":[{\"count\":2},true]," +
+      "\"childMap\":{\"key\":{\"name\":\"value\"}}," +
+      "\"nested\":{\"value\":\"nested\"}}";
+    StreamingDataObjectConverter.fromBuffer(Buffer.buffer(json.getBytes(StandardCharsets.UTF_8)), obj);
+    assertEquals("root", obj.getName());
+    assertEquals(3, obj.getCount());
+    assertEquals("child", obj.getChild().getName());
+    assertEquals(1, obj.getChild().getCount());
+    assertEquals(1, obj.getChildren().size());
+    assertEquals(2, obj.getChildren().get(0).getCount());
+    assertEquals(Collections.singleton("key"), obj.getChildMap().keySet());
+    assertEquals("value", obj.getChildMap().get("key").getName());
+    assertEquals("nested", obj.getNested().getValue());
+  }
+
+  @Test
+  public void testFromJsonParserFieldOrder() throws Exception {
+    StreamingDataObject obj = new StreamingDataObject();
+    String json = "{\"nested\":{\"value\":\"nested\"},\"count\":3,\"unknown\":1,\"name\":\"root\",\"count\":4}";
+    StreamingDataObjectConverter.fromBuffer(Buffer.buffer(json.getBytes(StandardCharsets.UTF_8)), obj);
+    assertEquals("root", obj.getName());
+    assertEquals(4, obj.getCount());
+    assertEquals("nested", obj.getNested().getValue());
+    assertNull(obj.getChild());
+  }
+
+  @Test
+  public void testFromJsonParserIgnoresMistypedValues() throws Exception {
+    StreamingDataObject obj = new StreamingDataObject().setName("name").setCount(4);
+    try (JsonParser parser = new JsonFactory().createParser("{\"name\":{\"value\":1},\"count\":\"5\",\"children\":{}}")) {
+      StreamingDataObjectConverter.fromJson(parser, obj);
+      assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+      assertNull(parser.nextToken());
+    }
+    assertEquals("name", obj.getName());
+    assertEquals(4, obj.getCount());
+    assertNull(obj.getChildren());
+  }
+
+  @Test
+  public void testFromJsonParserInvalidInput() {
+    try {
+      StreamingDataObjectConverter.fromBuffer(Buffer.buffer("[]".getBytes(StandardCharsets.UTF_8)), new StreamingDataObject());
+      fail();
+    } catch (DecodeException expected) {
+    }
+    try {
+      StreamingDataObjectConverter.fromBuffer(Buffer.buffer("{\"name\":\"root\"".getBytes(StandardCharsets.UTF_8)), new StreamingDataObject());
+      fail();
+    } catch (DecodeException expected) {
+    }
+  }
+
+  @Test
+  public void testBinaryFormats() {
+    BinaryDataObject obj = new BinaryDataObject()
+      .setName(TestUtils.randomAlphaString(20))
+      .setLongValue(TestUtils.randomLong())
+      .setDoubleValue(TestUtils.randomDouble())
+      .setBufferValue(TestUtils.randomBuffer(20))
+      .setBufferValues(Arrays.asList(TestUtils.randomBuffer(10), TestUtils.randomBuffer(10)))
+      .setInstantValue(Instant.ofEpochSecond(TestUtils.randomInt() & 0x7FFFFFFF, 123456789))
+      .setJsonObjectValue(new JsonObject().put("wibble", TestUtils.randomAlphaString(20)))
+      .setChild(new StreamingDataObject().setName("child").setCount(TestUtils.randomInt()));
+    String json = new String(BinaryDataObjectConverter.toBuffer(obj).getBytes(), StandardCharsets.UTF_8);
+
+    BinaryDataObject cbor = new BinaryDataObject();
+    BinaryDataObjectBinaryConverter.fromCbor(BinaryDataObjectBinaryConverter.toCbor(obj), cbor);
+    assertEquals(json, new String(BinaryDataObjectConverter.toBuffer(cbor).getBytes(), StandardCharsets.UTF_8));
+
+    BinaryDataObject smile = new BinaryDataObject();
+    Buffer buffer = Buffer.buffer();
+    BinaryDataObjectBinaryConverter.toSmile(obj, buffer);
+    BinaryDataObjectBinaryConverter.fromSmile(buffer, smile);
+    assertEquals(json, new String(BinaryDataObjectConverter.toBuffer(smile).getBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testBinaryInJsonObject() throws IOException {
+    Buffer value = TestUtils.randomBuffer(20);
+    BinaryDataObject obj = new BinaryDataObject()
+      .setJsonObjectValue(new JsonObject().put("buffer", value).put("bytes", value.getBytes()));
+    String json = new String(BinaryDataObjectConverter.toBuffer(obj).getBytes(), StandardCharsets.UTF_8);
+    assertTrue(json.contains("\"buffer\":\"" + obj.getJsonObjectValue().getString("buffer") + "\""));
+
+    Buffer encoded = BinaryDataObjectBinaryConverter.toCbor(obj);
+    int embedded = 0;
+    try (JsonParser parser = new CBORFactory().createParser(encoded.getBytes())) {
+      for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+          assertArrayEquals(value.getBytes(), parser.getBinaryValue());
+          embedded++;
+        }
+      }
+    }
+    assertEquals(2, embedded);
+    BinaryDataObject cbor = new BinaryDataObject();
+    BinaryDataObjectBinaryConverter.fromCbor(encoded, cbor);
+    assertEquals(json, new String(BinaryDataObjectConverter.toBuffer(cbor).getBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testBinaryFormatsDecodeJsonEncoding() {
+    BinaryDataObject obj = new BinaryDataObject()
+      .setBufferValue(TestUtils.randomBuffer(20))
+      .setInstantValue(Instant.ofEpochSecond(TestUtils.randomInt() & 0x7FFFFFFF, 123456789));
+    BinaryDataObject decoded = new BinaryDataObject();
+    BinaryDataObjectConverter.fromBuffer(BinaryDataObjectConverter.toBuffer(obj), decoded);
+    assertEquals(obj.getBufferValue(), decoded.getBufferValue());
+    assertEquals(obj.getInstantValue(), decoded.getInstantValue());
+  }
+
+  @Test
+  public void testBinaryFromByteBuf() {
+    Buffer expected = TestUtils.randomBuffer(20);
+    String json = new String(BinaryDataObjectConverter.toBuffer(new BinaryDataObject().setBufferValue(expected)).getBytes(), StandardCharsets.UTF_8);
+    byte[] padded = new byte[expected.getBytes().length + 8];
+    System.arraycopy(expected.getBytes(), 0, padded, 4, expected.getBytes().length);
+    ByteBuf heap = Unpooled.wrappedBuffer(padded, 2, padded.length - 4);
+    heap.readerIndex(2);
+    heap.writerIndex(heap.writerIndex() - 2);
+    ByteBuf direct = Unpooled.directBuffer().writeBytes(expected.getBytes());
+    for (ByteBuf byteBuf : Arrays.asList(heap, direct)) {
+      BinaryDataObject obj = new BinaryDataObject().setBufferValue(byteBufBuffer(byteBuf));
+      assertEquals(json, new String(BinaryDataObjectConverter.toBuffer(obj).getBytes(), StandardCharsets.UTF_8));
+      BinaryDataObject cbor = new BinaryDataObject();
+      BinaryDataObjectBinaryConverter.fromCbor(BinaryDataObjectBinaryConverter.toCbor(obj), cbor);
+      assertEquals(expected, cbor.getBufferValue());
+    }
+  }
+
+  @Test
+  public void testFromByteBuf() {
+    byte[] json = "{\"name\":\"root\",\"count\":3}".getBytes(StandardCharsets.UTF_8);
+    byte[] padded = new byte[json.length + 8];
+    System.arraycopy(json, 0, padded, 4, json.length);
+    ByteBuf heap = Unpooled.wrappedBuffer(padded, 2, padded.length - 4);
+    heap.readerIndex(2);
+    heap.writerIndex(heap.writerIndex() - 2);
+    ByteBuf direct = Unpooled.directBuffer().writeBytes(json);
+    for (ByteBuf byteBuf : Arrays.asList(heap, direct)) {
+      StreamingDataObject obj = new StreamingDataObject();
+      StreamingDataObjectConverter.fromBuffer(byteBufBuffer(byteBuf), obj);
+      assertEquals("root", obj.getName());
+      assertEquals(3, obj.getCount());
+      assertEquals(json.length, byteBuf.readableBytes());
+    }
+  }
+
+  private static BufferInternal byteBufBuffer(ByteBuf byteBuf) {
+    return new BufferInternal() {
+      @Override
+      public ByteBuf unwrap() {
+        return byteBuf;
+      }
+      @Override
+      public byte[] getBytes() {
+        byte[] bytes = new byte[byteBuf.readableBytes()];
+        byteBuf.getBytes(byteBuf.readerIndex(), bytes);
+        return bytes;
+      }
+    };
+  }
+
+  @Test
+  public void testEpochMillisInstant() {
+    Instant instant = Instant.ofEpochMilli(TestUtils.randomLong() >> 20);
+    EpochInstantDataObject obj = new EpochInstantDataObject()
+      .setInstantValue(instant)
+      .setInstantValues(Arrays.asList(instant, Instant.EPOCH));
+    JsonObject json = obj.toJson();
+    assertEquals((Object) instant.toEpochMilli(), json.getValue("instantValue"));
+    assertEquals(new JsonArray().add(instant.toEpochMilli()).add(0L), json.getValue("instantValues"));
+    EpochInstantDataObject decoded = new EpochInstantDataObject(json);
+    assertEquals(instant, decoded.getInstantValue());
+    assertEquals(obj.getInstantValues(), decoded.getInstantValues());
+
+    String encoded = new String(EpochInstantDataObjectConverter.toBuffer(obj).getBytes(), StandardCharsets.UTF_8);
+    assertTrue(encoded.contains("\"instantValue\":" + instant.toEpochMilli()));
+    decoded = new EpochInstantDataObject();
+    EpochInstantDataObjectConverter.fromBuffer(Buffer.buffer(encoded.getBytes(StandardCharsets.UTF_8)), decoded);
+    assertEquals(instant, decoded.getInstantValue());
+    assertEquals(obj.getInstantValues(), decoded.getInstantValues());
+  }
+
+  @Test
+  public void testEpochInstantDecodesIsoString() {
+    String json = "{\"instantValue\":\"2011-12-03T10:15:30.123Z\",\"instantValues\":[\"2011-12-03T10:15:30Z\",1000]}";
+    EpochInstantDataObject decoded = new EpochInstantDataObject(new JsonObject()
+      .put("instantValue", "2011-12-03T10:15:30.123Z")
+      .put("instantValues", new JsonArray().add("2011-12-03T10:15:30Z").add(1000)));
+    assertEquals(Instant.parse("2011-12-03T10:15:30.123Z"), decoded.getInstantValue());
+    assertEquals(Arrays.asList(Instant.parse("2011-12-03T10:15:30Z"), Instant.ofEpochSecond(1)), decoded.getInstantValues());
+    decoded = new EpochInstantDataObject();
+    EpochInstantDataObjectConverter.fromBuffer(Buffer.buffer(json.getBytes(StandardCharsets.UTF_8)), decoded);
+    assertEquals(Instant.parse("2011-12-03T10:15:30.123Z"), decoded.getInstantValue());
+    assertEquals(Arrays.asList(Instant.parse("2011-12-03T10:15:30Z"), Instant.ofEpochSecond(1)), decoded.getInstantValues());
+  }
+
+  @Test
+  public void testParseIsoInstant() {
+    String[] values = {
+      "1970-01-01T00:00:00Z",
+      "2011-12-03T10:15:30Z",
+      "2011-12-03T10:15:30.1Z",
+      "2011-12-03T10:15:30.123456789Z",
+      "2024-02-29T23:59:59.000001Z",
+      "1969-12-31T23:59:59.999Z",
+      "+12011-12-03T10:15:30Z",
+    };
+    for (String value : values) {
+      BinaryDataObject decoded = new BinaryDataObject(new JsonObject().put("instantValue", value));
+      assertEquals(value, Instant.parse(value), decoded.getInstantValue());
+    }
+    try {
+      new BinaryDataObject(new JsonObject().put("instantValue", "2011-02-30T10:15:30Z"));
+      fail();
+    } catch (DateTimeException expected) {
+    }
+  }
+
+  @Test
+  public void testValidatingFromJson() {
+    Buffer buffer = TestUtils.randomBuffer(20);
+    JsonObject json = new JsonObject()
+      .put("name", "the-name")
+      .put("port", 8080)
+      .put("description", null)
+      .put("unit", "SECONDS")
+      .put("instantValue", "2011-12-03T10:15:30Z")
+      .put("bufferValue", JsonUtil.BASE64_ENCODER.encodeToString(buffer.getBytes()))
+      .put("shortValues", new JsonArray().add(1).add(2.0))
+      .put("flags", new JsonObject().put("a", true))
+      .put("config", new JsonObject().put("key", "value"));
+    List<String> violations = new ArrayList<>();
+    ValidatedDataObject obj = new ValidatedDataObject();
+    ValidatedDataObjectConverter.fromJson(json, obj, violations);
+    assertEquals(Collections.emptyList(), violations);
+    assertEquals("the-name", obj.getName());
+    assertEquals(8080, obj.getPort());
+    assertNull(obj.getDescription());
+    assertEquals(Arrays.asList((short) 1, (short) 2), obj.getShortValues());
+    assertEquals(TimeUnit.SECONDS, obj.getUnit());
+    assertEquals(Instant.parse("2011-12-03T10:15:30Z"), obj.getInstantValue());
+    assertEquals(new String(buffer.getBytes(), StandardCharsets.ISO_8859_1), new String(obj.getBufferValue().getBytes(), StandardCharsets.ISO_8859_1));
+    assertEquals(Collections.singletonMap("a", true), obj.getFlags());
+    assertEquals("value", obj.getConfig().getString("key"));
+  }
+
+  @Test
+  public void testValidatingFromJsonViolations() {
+    JsonObject json = new JsonObject()
+      .put("port", 1.5)
+      .put("description", 4)
+      .put("unit", "FORTNIGHTS")
+      .put("instantValue", "yesterday")
+      .put("bufferValue", null)
+      .put("shortValues", new JsonArray().add(1).add(40000).add("3"))
+      .put("flags", new JsonObject().put("a/b", "true"))
+      .put("config", new JsonArray());
+    List<String> violations = new ArrayList<>();
+    ValidatedDataObject obj = new ValidatedDataObject();
+    ValidatedDataObjectConverter.fromJson(json, obj, violations);
+    assertEquals(new HashSet<>(Arrays.asList(
+      "/port: expected integer",
+      "/description: expected string",
+      "/unit: invalid value",
+      "/instantValue: invalid value",
+      "/bufferValue: must not be null",
+      "/shortValues/1: expected integer",
+      "/shortValues/2: expected integer",
+      "/flags/a~1b: expected boolean",
+      "/config: expected object",
+      "/name: required property is missing"
+    )), new HashSet<>(violations));
+    assertEquals(10, violations.size());
+    assertEquals(Collections.singletonList((short) 1), obj.getShortValues());
+    assertEquals(Collections.emptyMap(), obj.getFlags());
+  }
+
+  @Test
+  public void testJsonSchema() throws IOException {
+    Map<String, String> properties = new LinkedHashMap<>();
+    List<String> required = new ArrayList<>();
+    try (JsonParser parser = new JsonFactory().createParser(DataObjectTest.class.getResource("ValidatedDataObject.schema.json"))) {
+      assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        switch (field) {
+          case "properties":
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+              String name = parser.currentName();
+              parser.nextToken();
+              StringWriter type = new StringWriter();
+              try (JsonGenerator generator = new JsonFactory().createGenerator(type)) {
+                generator.copyCurrentStructure(parser);
+              }
+              properties.put(name, type.toString());
+            }
+            break;
+          case "required":
+            while (parser.nextToken() == JsonToken.VALUE_STRING) {
+              required.add(parser.getText());
+            }
+            break;
+          default:
+            parser.skipChildren();
+            break;
+        }
+      }
+    }
+    assertEquals(Arrays.asList("name", "port", "description", "unit", "instantValue", "bufferValue", "shortValues", "flags", "config"), new ArrayList<>(properties.keySet()));
+    assertEquals(Arrays.asList("name", "port"), required);
+    assertEquals("{\"type\":\"integer\",\"minimum\":-2147483648,\"maximum\":2147483647}", properties.get("port"));
+    assertEquals("{\"anyOf\":[{\"type\":\"string\"},{\"type\":\"null\"}]}", properties.get("description"));
+    assertEquals("{\"type\":\"array\",\"items\":{\"type\":\"integer\",\"minimum\":-32768,\"maximum\":32767}}", properties.get("shortValues"));
+    assertEquals("{\"type\":\"object\",\"additionalProperties\":{\"type\":\"boolean\"}}", properties.get("flags"));
+  }
+
+  @Test
+  public void testValidatingFromJsonNested() {
+    JsonObject json = new JsonObject()
+      .put("child", new JsonObject().put("name", "child").put("port", "80"))
+      .put("children", new JsonArray()
+        .add(new JsonObject().put("name", "first").put("port", 1))
+        .add(new JsonObject().put("port", 2)))
+      .put("binary", new JsonObject().put("instantValue", "yesterday"));
+    List<String> violations = new ArrayList<>();
+    NestedValidatedDataObject obj = new NestedValidatedDataObject();
+    NestedValidatedDataObjectConverter.fromJson(json, obj, violations);
+    assertEquals(new HashSet<>(Arrays.asList(
+      "/child/port: expected integer",
+      "/children/1/name: required property is missing",
+      "/binary: invalid value"
+    )), new HashSet<>(violations));
+    assertEquals(3, violations.size());
+    assertEquals("child", obj.getChild().getName());
+    assertEquals(2, obj.getChildren().size());
+    assertEquals(1, obj.getChildren().get(0).getPort());
+    assertNull(obj.getBinary());
+  }
+
+  @Test
+  public void testJsonSchemaNested() throws IOException {
+    Map<String, String> properties = new LinkedHashMap<>();
+    try (JsonParser parser = new JsonFactory().createParser(DataObjectTest.class.getResource("NestedValidatedDataObject.schema.json"))) {
+      assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        if (field.equals("properties")) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            StringWriter type = new StringWriter();
+            try (JsonGenerator generator = new JsonFactory().createGenerator(type)) {
+              generator.copyCurrentStructure(parser);
+            }
+            properties.put(name, type.toString());
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    assertEquals("{\"anyOf\":[{\"$ref\":\"ValidatedDataObject.schema.json\"},{\"type\":\"null\"}]}", properties.get("child"));
+    assertEquals("{\"type\":\"array\",\"items\":{\"$ref\":\"ValidatedDataObject.schema.json\"}}", properties.get("children"));
+    assertEquals("{\"anyOf\":[{\"type\":\"object\"},{\"type\":\"null\"}]}", properties.get("binary"));
+  }
+
+  @Test
+  public void testProjection() {
+    ProjectedDataObject obj = new ProjectedDataObject()
+      .setName("root")
+      .setCount(3)
+      .setTags(Arrays.asList("a", "b"))
+      .setChild(new ProjectedDataObject().setName("child").setCount(4).setTags(Collections.singletonList("c")))
+      .setChildren(Arrays.asList(new ProjectedDataObject().setName("first").setCount(5), new ProjectedDataObject().setName("second").setCount(6)))
+      .setChildMap(Collections.singletonMap("key", new ProjectedDataObject().setName("value")))
+      .setNested(new NestedJsonObjectDataObject().setValue("nested"));
+    ProjectedDataObjectConverter.FieldMask mask = ProjectedDataObjectConverter.compileMask("name", "child.count", "children.name", "nested");
+    JsonObject json = ProjectedDataObjectConverter.toJson(obj, mask);
+    assertEquals(new HashSet<>(Arrays.asList("name", "child", "children", "nested")), json.getMap().keySet());
+    assertEquals("root", json.getString("name"));
+    JsonObject child = json.getValue("child");
+    assertEquals(Collections.singleton("count"), child.getMap().keySet());
+    assertEquals(4, (int) child.getValue("count"));
+    JsonArray children = json.getValue("children");
+    assertEquals(2, children.size());
+    assertEquals(Collections.singletonMap("name", "first"), ((JsonObject) children.getValue(0)).getMap());
+    assertEquals(Collections.singletonMap("name", "second"), ((JsonObject) children.getValue(1)).getMap());
+    assertEquals("nested", ((JsonObject) json.getValue("nested")).getString("value"));
+
+    // The mask can be reused
+    json = ProjectedDataObjectConverter.toJson(new ProjectedDataObject().setName("other").setCount(7), mask);
+    assertEquals(Collections.singletonMap("name", "other"), json.getMap());
+  }
+
+  @Test
+  public void testProjectionWholeProperty() {
+    ProjectedDataObject obj = new ProjectedDataObject()
+      .setCount(3)
+      .setChild(new ProjectedDataObject().setName("child").setCount(4));
+    JsonObject json = ProjectedDataObjectConverter.toJson(obj, ProjectedDataObjectConverter.compileMask("child", "child.name"));
+    assertEquals(Collections.singleton("child"), json.getMap().keySet());
+    assertEquals(obj.getChild().toJson().getMap(), ((JsonObject) json.getValue("child")).getMap());
+    json = ProjectedDataObjectConverter.toJson(obj, ProjectedDataObjectConverter.compileMask());
+    assertEquals(0, json.size());
+  }
+
+  @Test
+  public void testProjectionInvalidMask() {
+    try {
+      ProjectedDataObjectConverter.compileMask("unknown");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      ProjectedDataObjectConverter.compileMask("child.unknown");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      ProjectedDataObjectConverter.compileMask("name.length");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      ProjectedDataObjectConverter.compileMask("nested.value");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  @Test
+  public void testDiffEquals() {
+    assertTrue(DiffDataObjectDiff.equals(diffDataObject(), diffDataObject()));
+    assertEquals(DiffDataObjectDiff.hashCode(diffDataObject()), DiffDataObjectDiff.hashCode(diffDataObject()));
+    assertTrue(DiffDataObjectDiff.equals(null, null));
+    assertFalse(DiffDataObjectDiff.equals(diffDataObject(), null));
+    assertFalse(DiffDataObjectDiff.equals(diffDataObject(), diffDataObject().setCount(4)));
+    assertFalse(DiffDataObjectDiff.equals(diffDataObject(), diffDataObject().setTags(Arrays.asList("a"))));
+    assertFalse(DiffDataObjectDiff.equals(diffDataObject(), diffDataObject().setNested(new NestedJsonObjectDataObject().setValue("other"))));
+    DiffDataObject obj = diffDataObject();
+    obj.getChild().setName("other");
+    assertFalse(DiffDataObjectDiff.equals(diffDataObject(), obj));
+    obj = diffDataObject();
+    obj.getChildMap().put("c", new DiffDataObject());
+    assertFalse(DiffDataObjectDiff.equals(diffDataObject(), obj));
+    obj = diffDataObject()
+      .setLabels(new LinkedHashSet<>(Arrays.asList("y", "x")))
+      .setChildren(new LinkedHashSet<>(Arrays.asList(new DiffDataObject().setName("b"), new DiffDataObject().setName("a"))));
+    assertTrue(DiffDataObjectDiff.equals(diffDataObject(), obj));
+    assertEquals(DiffDataObjectDiff.hashCode(diffDataObject()), DiffDataObjectDiff.hashCode(obj));
+    obj.getChildren().iterator().next().setCount(1);
+    assertFalse(DiffDataObjectDiff.equals(diffDataObject(), obj));
+  }
+
+  @Test
+  public void testDiffJsonPatch() {
+    assertEquals(0, DiffDataObjectDiff.jsonPatch(diffDataObject(), diffDataObject()).size());
+    DiffDataObject to = diffDataObject();
+    to.setCount(4);
+    to.setTags(Arrays.asList("a", "c", "d", "e"));
+    to.getChild().setName("other");
+    to.getChildMap().remove("a");
+    to.getChildMap().get("b").setCount(5);
+    to.getChildMap().put("c/d", new DiffDataObject().setName("c"));
+    to.setNested(null);
+    to.setLabels(new LinkedHashSet<>(Arrays.asList("y", "x")));
+    to.setChildren(new LinkedHashSet<>(Arrays.asList(new DiffDataObject().setName("b"), new DiffDataObject().setName("c"))));
+    JsonArray patch = DiffDataObjectDiff.jsonPatch(diffDataObject(), to);
+    List<JsonObject> expected = Arrays.asList(
+      new JsonObject().put("op", "replace").put("path", "/count").put("value", 4),
+      new JsonObject().put("op", "replace").put("path", "/child/name").put("value", "other"),
+      new JsonObject().put("op", "replace").put("path", "/tags/1").put("value", "c"),
+      new JsonObject().put("op", "add").put("path", "/tags/-").put("value", "d"),
+      new JsonObject().put("op", "add").put("path", "/tags/-").put("value", "e"),
+      new JsonObject().put("op", "remove").put("path", "/childMap/a"),
+      new JsonObject().put("op", "replace").put("path", "/childMap/b/count").put("value", 5),
+      new JsonObject().put("op", "add").put("path", "/childMap/c~1d").put("value", new JsonObject().put("name", "c").put("count", 0)),
+      new JsonObject().put("op", "remove").put("path", "/nested"),
+      new JsonObject().put("op", "replace").put("path", "/children").put("value", new JsonArray()
+        .add(new JsonObject().put("name", "b").put("count", 0))
+        .add(new JsonObject().put("name", "c").put("count", 0))));
+    assertEquals(expected, patch.getList());
+    patch = DiffDataObjectDiff.jsonPatch(diffDataObject(), diffDataObject().setTags(Arrays.asList("a")));
+    assertEquals(1, patch.size());
+    assertEquals(new JsonObject().put("op", "remove").put("path", "/tags/1"), patch.getValue(0));
+  }
+
+  @Test
+  public void testDiffMergePatch() {
+    assertEquals(0, DiffDataObjectDiff.mergePatch(diffDataObject(), diffDataObject()).size());
+    DiffDataObject to = diffDataObject();
+    to.setTags(Arrays.asList("a"));
+    to.getChild().setCount(7);
+    to.getChildMap().remove("a");
+    to.getChildMap().get("b").setName("bb");
+    to.setNested(new NestedJsonObjectDataObject().setValue("other"));
+    JsonObject patch = DiffDataObjectDiff.mergePatch(diffDataObject(), to);
+    assertEquals(4, patch.size());
+    assertEquals(new JsonArray().add("a"), patch.getValue("tags"));
+    assertEquals(new JsonObject().put("count", 7), patch.getValue("child"));
+    Map<String, Object> childMap = ((JsonObject) patch.getValue("childMap")).getMap();
+    assertEquals(2, childMap.size());
+    assertTrue(childMap.containsKey("a"));
+    assertNull(childMap.get("a"));
+    assertEquals(new JsonObject().put("name", "bb"), childMap.get("b"));
+    assertEquals(new JsonObject().put("value", "other"), patch.getValue("nested"));
+  }
+
+  private static DiffDataObject diffDataObject() {
+    Map<String, DiffDataObject> childMap = new LinkedHashMap<>();
+    childMap.put("a", new DiffDataObject().setName("a"));
+    childMap.put("b", new DiffDataObject().setName("b").setCount(2));
+    return new DiffDataObject()
+      .setName("name")
+      .setCount(3)
+      .setTags(Arrays.asList("a", "b"))
+      .setChild(new DiffDataObject().setName("child"))
+      .setChildMap(childMap)
+      .setNested(new NestedJsonObjectDataObject().setValue("nested"))
+      .setLabels(new LinkedHashSet<>(Arrays.asList("x", "y")))
+      .setChildren(new LinkedHashSet<>(Arrays.asList(new DiffDataObject().setName("a"), new DiffDataObject().setName("b"))));
+  }
+
+  private static TestDataObject streamingDataObject() {
+    String key = TestUtils.randomAlphaString(10);
+    String stringValue = TestUtils.randomAlphaString(20);
+    Buffer buffer = TestUtils.randomBuffer(20);
+    JsonObject jsonObject = new JsonObject().put("wibble", TestUtils.randomAlphaString(20));
+    JsonArray jsonArray = new JsonArray().add(TestUtils.randomAlphaString(20));
+    NestedJsonObjectDataObject jsonObjectDataObject = new NestedJsonObjectDataObject().setValue(TestUtils.randomAlphaString(20));
+    NestedStringDataObject stringDataObject = new NestedStringDataObject().setValue(TestUtils.randomAlphaString(20));
+    ZonedDateTime dateTime = ZonedDateTime.now();
+    AutoMapped autoMapped = AutoMapped.of("vertx.io", 80);
+    List<Object> list = new ArrayList<>();
+    list.add(TestUtils.randomAlphaString(20));
+    list.add(TestUtils.randomBoolean());
+    list.add(TestUtils.randomInt());
+
+    TestDataObject obj = new TestDataObject();
+    obj.setStringValue(stringValue);
+    obj.setPrimitiveBooleanValue(TestUtils.randomBoolean());
+    obj.setPrimitiveByteValue(TestUtils.randomByte());
+    obj.setPrimitiveShortValue(TestUtils.randomShort());
+    obj.setPrimitiveIntValue(TestUtils.randomInt());
+    obj.setPrimitiveLongValue(TestUtils.randomLong());
+    obj.setPrimitiveFloatValue(TestUtils.randomFloat());
+    obj.setPrimitiveDoubleValue(TestUtils.randomDouble());
+    obj.setPrimitiveCharValue(TestUtils.randomChar());
+    obj.setBoxedByteValue(TestUtils.randomByte());
+    obj.setBoxedIntValue(TestUtils.randomInt());
+    obj.setBoxedFloatValue(TestUtils.randomFloat());
+    obj.setBoxedCharValue(TestUtils.randomChar());
+    obj.setJsonObjectDataObjectValue(jsonObjectDataObject);
+    obj.setStringDataObjectValue(stringDataObject);
+    obj.setBufferValue(buffer);
+    obj.setJsonObjectValue(jsonObject);
+    obj.setJsonArrayValue(jsonArray);
+    obj.setEnumValue(TimeUnit.SECONDS);
+    obj.setMethodMappedValue(dateTime);
+    obj.setNoConverter2DataObjectValue(new NoConverter2DataObject());
+    obj.setCustomEnumValue(TestCustomEnum.DEV);
+    obj.setAutoMappedValue(autoMapped);
+    obj.setStringValueList(Arrays.asList(stringValue, null));
+    obj.setBoxedDoubleValueList(Collections.singletonList(TestUtils.randomDouble()));
+    obj.setJsonObjectDataObjectValueList(Collections.singletonList(jsonObjectDataObject));
+    obj.setBufferValueList(Collections.singletonList(buffer));
+    obj.setJsonArrayValueList(Collections.singletonList(jsonArray));
+    obj.setObjectValueList(list);
+    obj.setBoxedLongValueSet(Collections.singleton(TestUtils.randomLong()));
+    obj.setEnumValueSet(Collections.singleton(TimeUnit.DAYS));
+    obj.setStringValueMap(Collections.singletonMap(key, stringValue));
+    obj.setMethodMappedValueMap(Collections.singletonMap(key, dateTime));
+    obj.setObjectValueMap(Collections.singletonMap(key, list));
+    obj.setAutoMappedValueMap(Collections.singletonMap(key, autoMapped));
+    obj.addKeyedBoxedBooleanValue(key, TestUtils.randomBoolean());
+    obj.addKeyedJsonObjectValue(key, jsonObject);
+    return obj;
+  }
+
+  private static String encode(Object json) throws IOException {
+    StringWriter out = new StringWriter();
+    try (JsonGenerator generator = new JsonFactory().createGenerator(out)) {
+      encode(json, generator);
+    }
+    return out.toString();
+  }
+
+  private static void encode(Object json, JsonGenerator generator) throws IOException {
+    if (json == null) {
+      generator.writeNull();
+    } else if (json instanceof String) {
+      generator.writeString((String) json);
+    } else if (json instanceof Boolean) {
+      generator.writeBoolean((Boolean) json);
+    } else if (json instanceof Long) {
+      generator.writeNumber((Long) json);
+    } else if (json instanceof Float) {
+      generator.writeNumber((Float) json);
+    } else if (json instanceof Double) {
+      generator.writeNumber((Double) json);
+    } else if (json instanceof Number) {
+      generator.writeNumber(((Number) json).intValue());
+    } else if (json instanceof JsonObject || json instanceof Map) {
+      generator.writeStartObject();
+      for (Map.Entry<?, ?> entry : (json instanceof JsonObject ? ((JsonObject) json).getMap() : (Map<?, ?>) json).entrySet()) {
+        generator.writeFieldName((String) entry.getKey());
+        encode(entry.getValue(), generator);
+      }
+      generator.writeEndObject();
+    } else if (json instanceof JsonArray || json instanceof List) {
+      generator.writeStartArray();
+      for (Object item : json instanceof JsonArray ? ((JsonArray) json).getList() : (List<?>) json) {
+        encode(item, generator);
+      }
+      generator.writeEndArray();
+    } else {
+      throw new AssertionError("Unexpected JSON value " + json.getClass());
+    }
+  }
+
   @Test
   public void testEmptyDataObjectToJson() {
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@DataObject
+@JsonGen(diff = true)
+public class DiffDataObject {
+
+  private String name;
+  private int count;
+  private DiffDataObject child;
+  private List<String> tags;
+  private Map<String, DiffDataObject> childMap;
+  private NestedJsonObjectDataObject nested;
+  private Set<String> labels;
+  private Set<DiffDataObject> children;
+
+  public DiffDataObject() {
+  }
+
+  public DiffDataObject(JsonObject json) {
+    DiffDataObjectConverter.fromJson(json, this);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public DiffDataObject setName(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public DiffDataObject setCount(int count) {
+    this.count = count;
+    return this;
+  }
+
+  public DiffDataObject getChild() {
+    return child;
+  }
+
+  public DiffDataObject setChild(DiffDataObject child) {
+    this.child = child;
+    return this;
+  }
+
+  public List<String> getTags() {
+    return tags;
+  }
+
+  public DiffDataObject setTags(List<String> tags) {
+    this.tags = tags;
+    return this;
+  }
+
+  public Map<String, DiffDataObject> getChildMap() {
+    return childMap;
+  }
+
+  public DiffDataObject setChildMap(Map<String, DiffDataObject> childMap) {
+    this.childMap = childMap;
+    return this;
+  }
+
+  public NestedJsonObjectDataObject getNested() {
+    return nested;
+  }
+
+  public DiffDataObject setNested(NestedJsonObjectDataObject nested) {
+    this.nested = nested;
+    return this;
+  }
+
+  public Set<String> getLabels() {
+    return labels;
+  }
+
+  public DiffDataObject setLabels(Set<String> labels) {
+    this.labels = labels;
+    return this;
+  }
+
+  public Set<DiffDataObject> getChildren() {
+    return children;
+  }
+
+  public DiffDataObject setChildren(Set<DiffDataObject> children) {
+    this.children = children;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    DiffDataObjectConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.json.annotations.JsonInstantEncoding;
+import io.vertx.core.json.JsonObject;
+
+import java.time.Instant;
+import java.util.List;
+
+@DataObject
+@JsonGen(streaming = true, instantEncoding = JsonInstantEncoding.EPOCH_MILLIS)
+public class EpochInstantDataObject {
+
+  private Instant instantValue;
+  private List<Instant> instantValues;
+
+  public EpochInstantDataObject() {
+  }
+
+  public EpochInstantDataObject(JsonObject json) {
+    EpochInstantDataObjectConverter.fromJson(json, this);
+  }
+
+  public Instant getInstantValue() {
+    return instantValue;
+  }
+
+  public EpochInstantDataObject setInstantValue(Instant instantValue) {
+    this.instantValue = instantValue;
+    return this;
+  }
+
+  public List<Instant> getInstantValues() {
+    return instantValues;
+  }
+
+  public EpochInstantDataObject setInstantValues(List<Instant> instantValues) {
+    this.instantValues = instantValues;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    EpochInstantDataObjectConverter.toJson(this, json);
+    return json;
+  }
+}
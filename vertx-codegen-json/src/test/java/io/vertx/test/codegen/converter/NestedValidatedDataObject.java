@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+
+@DataObject
+@JsonGen(validation = true)
+public class NestedValidatedDataObject {
+
+  private ValidatedDataObject child;
+  private List<ValidatedDataObject> children;
+  private BinaryDataObject binary;
+
+  public NestedValidatedDataObject() {
+  }
+
+  public NestedValidatedDataObject(JsonObject json) {
+    NestedValidatedDataObjectConverter.fromJson(json, this);
+  }
+
+  public ValidatedDataObject getChild() {
+    return child;
+  }
+
+  public NestedValidatedDataObject setChild(@Nullable ValidatedDataObject child) {
+    this.child = child;
+    return this;
+  }
+
+  public List<ValidatedDataObject> getChildren() {
+    return children;
+  }
+
+  public NestedValidatedDataObject setChildren(List<ValidatedDataObject> children) {
+    this.children = children;
+    return this;
+  }
+
+  public BinaryDataObject getBinary() {
+    return binary;
+  }
+
+  public NestedValidatedDataObject setBinary(@Nullable BinaryDataObject binary) {
+    this.binary = binary;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    NestedValidatedDataObjectConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+
+@DataObject
+@JsonGen(projection = true)
+public class ProjectedDataObject {
+
+  private String name;
+  private int count;
+  private List<String> tags;
+  private ProjectedDataObject child;
+  private List<ProjectedDataObject> children;
+  private Map<String, ProjectedDataObject> childMap;
+  private NestedJsonObjectDataObject nested;
+
+  public ProjectedDataObject() {
+  }
+
+  public ProjectedDataObject(JsonObject json) {
+    ProjectedDataObjectConverter.fromJson(json, this);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public ProjectedDataObject setName(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public ProjectedDataObject setCount(int count) {
+    this.count = count;
+    return this;
+  }
+
+  public List<String> getTags() {
+    return tags;
+  }
+
+  public ProjectedDataObject setTags(List<String> tags) {
+    this.tags = tags;
+    return this;
+  }
+
+  public ProjectedDataObject getChild() {
+    return child;
+  }
+
+  public ProjectedDataObject setChild(ProjectedDataObject child) {
+    this.child = child;
+    return this;
+  }
+
+  public List<ProjectedDataObject> getChildren() {
+    return children;
+  }
+
+  public ProjectedDataObject setChildren(List<ProjectedDataObject> children) {
+    this.children = children;
+    return this;
+  }
+
+  public Map<String, ProjectedDataObject> getChildMap() {
+    return childMap;
+  }
+
+  public ProjectedDataObject setChildMap(Map<String, ProjectedDataObject> childMap) {
+    this.childMap = childMap;
+    return this;
+  }
+
+  public NestedJsonObjectDataObject getNested() {
+    return nested;
+  }
+
+  public ProjectedDataObject setNested(NestedJsonObjectDataObject nested) {
+    this.nested = nested;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    ProjectedDataObjectConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+
+@DataObject
+@JsonGen(streaming = true)
+public class StreamingDataObject {
+
+  private String name;
+  private int count;
+  private StreamingDataObject child;
+  private List<StreamingDataObject> children;
+  private Map<String, StreamingDataObject> childMap;
+  private NestedJsonObjectDataObject nested;
+
+  public StreamingDataObject() {
+  }
+
+  public StreamingDataObject(JsonObject json) {
+    StreamingDataObjectConverter.fromJson(json, this);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public StreamingDataObject setName(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public StreamingDataObject setCount(int count) {
+    this.count = count;
+    return this;
+  }
+
+  public StreamingDataObject getChild() {
+    return child;
+  }
+
+  public StreamingDataObject setChild(StreamingDataObject child) {
+    this.child = child;
+    return this;
+  }
+
+  public List<StreamingDataObject> getChildren() {
+    return children;
+  }
+
+  public StreamingDataObject setChildren(List<StreamingDataObject> children) {
+    this.children = children;
+    return this;
+  }
+
+  public Map<String, StreamingDataObject> getChildMap() {
+    return childMap;
+  }
+
+  public StreamingDataObject setChildMap(Map<String, StreamingDataObject> childMap) {
+    this.childMap = childMap;
+    return this;
+  }
+
+  public NestedJsonObjectDataObject getNested() {
+    return nested;
+  }
+
+  public StreamingDataObject setNested(NestedJsonObjectDataObject nested) {
+    this.nested = nested;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    StreamingDataObjectConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -26,7 +26,7 @@ import java.util.concurrent.TimeUnit;
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 @DataObject
-@JsonGen
+@JsonGen(streaming = true)
 public class TestDataObject {
 
   public static String serializeZonedDateTime(ZonedDateTime value) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonCopy;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+
+@DataObject
+@JsonGen(copyJson = false)
+public class TransferJsonDataObject {
+
+  private JsonObject jsonObjectValue;
+  @JsonCopy
+  private JsonArray jsonArrayValue;
+  private List<JsonObject> jsonObjectValueList;
+
+  public TransferJsonDataObject() {
+  }
+
+  public TransferJsonDataObject(JsonObject json) {
+    TransferJsonDataObjectConverter.fromJson(json, this);
+  }
+
+  public JsonObject getJsonObjectValue() {
+    return jsonObjectValue;
+  }
+
+  public TransferJsonDataObject setJsonObjectValue(JsonObject jsonObjectValue) {
+    this.jsonObjectValue = jsonObjectValue;
+    return this;
+  }
+
+  public JsonArray getJsonArrayValue() {
+    return jsonArrayValue;
+  }
+
+  public TransferJsonDataObject setJsonArrayValue(JsonArray jsonArrayValue) {
+    this.jsonArrayValue = jsonArrayValue;
+    return this;
+  }
+
+  public List<JsonObject> getJsonObjectValueList() {
+    return jsonObjectValueList;
+  }
+
+  public TransferJsonDataObject setJsonObjectValueList(List<JsonObject> jsonObjectValueList) {
+    this.jsonObjectValueList = jsonObjectValueList;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    TransferJsonDataObjectConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.codegen.json.annotations.JsonRequired;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@DataObject
+@JsonGen(validation = true)
+public class ValidatedDataObject {
+
+  @JsonRequired
+  private String name;
+  @JsonRequired
+  private int port;
+  private String description;
+  private TimeUnit unit;
+  private Instant instantValue;
+  private Buffer bufferValue;
+  private List<Short> shortValues;
+  private Map<String, Boolean> flags;
+  private JsonObject config;
+
+  public ValidatedDataObject() {
+  }
+
+  public ValidatedDataObject(JsonObject json) {
+    ValidatedDataObjectConverter.fromJson(json, this);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public ValidatedDataObject setName(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  public ValidatedDataObject setPort(int port) {
+    this.port = port;
+    return this;
+  }
+
+  public @Nullable String getDescription() {
+    return description;
+  }
+
+  public ValidatedDataObject setDescription(@Nullable String description) {
+    this.description = description;
+    return this;
+  }
+
+  public TimeUnit getUnit() {
+    return unit;
+  }
+
+  public ValidatedDataObject setUnit(TimeUnit unit) {
+    this.unit = unit;
+    return this;
+  }
+
+  public Instant getInstantValue() {
+    return instantValue;
+  }
+
+  public ValidatedDataObject setInstantValue(Instant instantValue) {
+    this.instantValue = instantValue;
+    return this;
+  }
+
+  public Buffer getBufferValue() {
+    return bufferValue;
+  }
+
+  public ValidatedDataObject setBufferValue(Buffer bufferValue) {
+    this.bufferValue = bufferValue;
+    return this;
+  }
+
+  public List<Short> getShortValues() {
+    return shortValues;
+  }
+
+  public ValidatedDataObject setShortValues(List<Short> shortValues) {
+    this.shortValues = shortValues;
+    return this;
+  }
+
+  public Map<String, Boolean> getFlags() {
+    return flags;
+  }
+
+  public ValidatedDataObject setFlags(Map<String, Boolean> flags) {
+    this.flags = flags;
+    return this;
+  }
+
+  public JsonObject getConfig() {
+    return config;
+  }
+
+  public ValidatedDataObject setConfig(JsonObject config) {
+    this.config = config;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    ValidatedDataObjectConverter.toJson(this, json);
+    return json;
+  }
+}
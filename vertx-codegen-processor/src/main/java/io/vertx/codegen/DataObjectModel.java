@@ -33,6 +33,7 @@ public class DataObjectModel implements Model {
   private static final int CTOR_JSON_OBJECT = 2;
   private static final int CTOR_STRING = 4;
 
+  private final ProcessingEnvironment env;
   private final Elements elementUtils;
   private final Types typeUtils;
   private final Doc.Factory docFactory;
@@ -61,6 +62,7 @@ public class DataObjectModel implements Model {
   private List<AnnotationValueInfo> annotations;
 
   public DataObjectModel(ProcessingEnvironment env, TypeMirrorFactory typeFactory, TypeElement modelElt) {
+    this.env = env;
     this.elementUtils = env.getElementUtils();
     this.typeUtils = env.getTypeUtils();
     this.typeFactory = typeFactory;
@@ -586,11 +588,19 @@ public class DataObjectModel implements Model {
       }
     }
 
+    boolean nullable = false;
+    if (setterElt != null) {
+      nullable |= TypeUse.createParamTypeUse(env, new ExecutableElement[] { setterElt }, 0).isNullable();
+    }
+    if (getterElt != null) {
+      nullable |= TypeUse.createReturnTypeUse(env, getterElt).isNullable();
+    }
+
     PropertyInfo property = new PropertyInfo(declared, name, doc, propType,
       setterElt != null ? setterElt.getSimpleName().toString() : null,
       adderElt != null ? adderElt.getSimpleName().toString() : null,
       getterElt != null ? getterElt.getSimpleName().toString() : null,
-      annotationValueInfos, propKind, jsonifiable, propertyDeprecated, propertyDeprecatedDesc);
+      annotationValueInfos, propKind, jsonifiable, propertyDeprecated, propertyDeprecatedDesc, nullable);
     propertyMap.put(property.name, property);
   }
 
@@ -29,9 +29,16 @@ public class PropertyInfo {
   final boolean deprecated;
   final Text deprecatedDesc;
   final Map<String, AnnotationValueInfo> annotations;
+  final boolean nullable;
 
   public PropertyInfo(boolean declared, String name, Doc doc, TypeInfo type, String setterMethod, String adderMethod, String getterMethod,
                       List<AnnotationValueInfo> annotations, PropertyKind kind, boolean jsonifiable, boolean deprecated, Text deprecatedDesc) {
+    this(declared, name, doc, type, setterMethod, adderMethod, getterMethod, annotations, kind, jsonifiable, deprecated, deprecatedDesc, false);
+  }
+
+  public PropertyInfo(boolean declared, String name, Doc doc, TypeInfo type, String setterMethod, String adderMethod, String getterMethod,
+                      List<AnnotationValueInfo> annotations, PropertyKind kind, boolean jsonifiable, boolean deprecated, Text deprecatedDesc,
+                      boolean nullable) {
     this.kind = kind;
     this.declared = declared;
     this.name = name;
@@ -44,6 +51,7 @@ public class PropertyInfo {
     this.jsonifiable = jsonifiable;
     this.deprecated = deprecated;
     this.deprecatedDesc = deprecatedDesc;
+    this.nullable = nullable;
   }
 
   /**
@@ -166,6 +174,14 @@ public class PropertyInfo {
     return !annotations.isEmpty();
   }
 
+  /**
+   * @return true if the setter parameter or the getter return type of the property is annotated with
+   *         {@link io.vertx.codegen.annotations.Nullable}
+   */
+  public boolean isNullable() {
+    return nullable;
+  }
+
   /**
    * @return true if the property type can be converted to a Json type
    */
@@ -30,6 +30,8 @@ public class TypeReflectionFactory {
       Class<?> classType = (Class<?>) type;
       if (classType.isPrimitive()) {
         return PrimitiveTypeInfo.PRIMITIVES.get(classType.getName());
+      } else if (classType.isArray()) {
+        return new ArrayTypeInfo(create(classType.getComponentType()), false);
       } else {
         Package pkg = classType.getPackage();
         ModuleInfo module = null;
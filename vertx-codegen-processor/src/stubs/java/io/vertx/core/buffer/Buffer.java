@@ -4,6 +4,7 @@ import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 
 /**
@@ -12,6 +13,27 @@ import java.util.Arrays;
 @DataObject
 public interface Buffer {
 
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static Buffer buffer() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    return new Buffer() {
+      @Override
+      public byte[] getBytes() {
+        return out.toByteArray();
+      }
+      @Override
+      public Buffer appendByte(byte b) {
+        out.write(b);
+        return this;
+      }
+      @Override
+      public Buffer appendBytes(byte[] bytes, int offset, int len) {
+        out.write(bytes, offset, len);
+        return this;
+      }
+    };
+  }
+
   @GenIgnore(GenIgnore.PERMITTED_TYPE)
   static Buffer buffer(byte[] bytes) {
     return new Buffer() {
@@ -32,4 +54,14 @@ public interface Buffer {
 
   @GenIgnore(GenIgnore.PERMITTED_TYPE)
   byte[] getBytes();
+
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default Buffer appendByte(byte b) {
+    throw new UnsupportedOperationException();
+  }
+
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default Buffer appendBytes(byte[] bytes, int offset, int len) {
+    throw new UnsupportedOperationException();
+  }
 }
@@ -0,0 +1,18 @@
+package io.vertx.core.internal.buffer;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Compile stub
+ */
+public interface BufferInternal extends Buffer {
+
+  /**
+   * @return the underlying buffer
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  ByteBuf unwrap();
+
+}
@@ -0,0 +1,18 @@
+package io.vertx.core.json;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class DecodeException extends RuntimeException {
+
+  public DecodeException() {
+  }
+
+  public DecodeException(String message) {
+    super(message);
+  }
+
+  public DecodeException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -42,6 +42,11 @@ public class JsonArray implements Iterable<Object> {
     return false;
   }
 
+  @Override
+  public int hashCode() {
+    return list.hashCode();
+  }
+
   public int size() {
     return list.size();
   }
@@ -54,7 +59,7 @@ public class JsonArray implements Iterable<Object> {
 //  public JsonArray add(JsonArray array) { throw new UnsupportedOperationException(); }
 // public JsonArray add(byte[] value) { throw new UnsupportedOperationException(); }
   public List getList() {
-    throw new UnsupportedOperationException();
+    return list;
   }
   public Stream<Object> stream() {
     throw new UnsupportedOperationException();
@@ -64,6 +64,11 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>> {
     return false;
   }
 
+  @Override
+  public int hashCode() {
+    return map.hashCode();
+  }
+
   public Map<String, Object> getMap() {
     return map;
   }
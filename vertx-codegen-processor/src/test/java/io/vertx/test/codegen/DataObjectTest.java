@@ -138,6 +138,19 @@ public class DataObjectTest {
     assertProperty(model.getPropertyMap().get("enumerated"), "enumerated", "setEnumerated", null, null, TypeReflectionFactory.create(Enumerated.class), true, PropertyKind.VALUE, true);
   }
 
+  @Test
+  public void testPropertyArrayGettersSetters() throws Exception {
+    DataObjectModel model = new GeneratorHelper().generateDataObject(PropertyArrayGettersSetters.class);
+    assertNotNull(model);
+    assertEquals(4, model.getPropertyMap().size());
+    assertProperty(model.getPropertyMap().get("ints"), "ints", "setInts", null, "getInts", TypeReflectionFactory.create(int[].class), true, PropertyKind.VALUE, false);
+    assertProperty(model.getPropertyMap().get("longs"), "longs", "setLongs", null, "getLongs", TypeReflectionFactory.create(long[].class), true, PropertyKind.VALUE, false);
+    assertProperty(model.getPropertyMap().get("doubles"), "doubles", "setDoubles", null, "getDoubles", TypeReflectionFactory.create(double[].class), true, PropertyKind.VALUE, false);
+    assertProperty(model.getPropertyMap().get("floats"), "floats", "setFloats", null, "getFloats", TypeReflectionFactory.create(float[].class), true, PropertyKind.VALUE, false);
+    ArrayTypeInfo type = (ArrayTypeInfo) model.getPropertyMap().get("ints").getType();
+    assertEquals(TypeReflectionFactory.create(int.class), type.getComponentType());
+  }
+
   @Test
   public void testSetterNormalizationRules() throws Exception {
     DataObjectModel model = new GeneratorHelper().generateDataObject(SetterNormalizationRules.class);
@@ -896,6 +909,16 @@ public class DataObjectTest {
     assertNotNull(fieldWithMethodAnnotationModel.getAnnotation(SomeMethodAnnotation.class.getName()).getName());
   }
 
+  @Test
+  public void testNullableProperties() throws Exception {
+    DataObjectModel model = new GeneratorHelper().generateDataObject(NullableProperties.class);
+    assertNotNull(model);
+    assertTrue(model.getPropertyMap().get("nullableGetter").isNullable());
+    assertTrue(model.getPropertyMap().get("nullableSetter").isNullable());
+    assertFalse(model.getPropertyMap().get("nonNullable").isNullable());
+    assertFalse(model.getPropertyMap().get("primitive").isNullable());
+  }
+
   @Test
   public void testDataObjectWithJsonMapper() throws Exception {
     DataObjectModel model = new GeneratorHelper()
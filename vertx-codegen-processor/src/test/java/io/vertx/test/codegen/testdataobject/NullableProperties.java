@@ -0,0 +1,40 @@
+package io.vertx.test.codegen.testdataobject;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.json.JsonObject;
+
+@DataObject
+public class NullableProperties {
+
+  public NullableProperties(JsonObject json) {
+  }
+
+  public @Nullable String getNullableGetter() {
+    return null;
+  }
+
+  public NullableProperties setNullableGetter(String s) {
+    return this;
+  }
+
+  public String getNullableSetter() {
+    return null;
+  }
+
+  public NullableProperties setNullableSetter(@Nullable String s) {
+    return this;
+  }
+
+  public String getNonNullable() {
+    return null;
+  }
+
+  public NullableProperties setNonNullable(String s) {
+    return this;
+  }
+
+  public NullableProperties setPrimitive(int i) {
+    return this;
+  }
+}
@@ -0,0 +1,29 @@
+package io.vertx.test.codegen.testdataobject;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@DataObject
+public interface PropertyArrayGettersSetters {
+
+  static PropertyArrayGettersSetters dataObject() {
+    throw new UnsupportedOperationException();
+  }
+
+  static PropertyArrayGettersSetters dataObjectFromJson(JsonObject obj) {
+    throw new UnsupportedOperationException();
+  }
+
+  void setInts(int[] i);
+  int[] getInts();
+  void setLongs(long[] l);
+  long[] getLongs();
+  void setDoubles(double[] d);
+  double[] getDoubles();
+  void setFloats(float[] f);
+  float[] getFloats();
+
+}
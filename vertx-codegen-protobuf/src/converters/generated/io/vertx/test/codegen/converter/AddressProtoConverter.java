@@ -2,6 +2,7 @@ package io.vertx.test.codegen.converter;
 
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -11,23 +12,42 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Arrays;
 import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;
+import io.vertx.codegen.protobuf.utils.CodedBuffers;
 import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ProtoArrays;
+import io.vertx.codegen.protobuf.utils.ProtoReadStream;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
 import io.vertx.codegen.protobuf.converters.*;
 
 public class AddressProtoConverter {
 
+  private static int cacheCapacity = 16;
+
   public static void fromProto(CodedInputStream input, Address obj) throws IOException {
     fromProto(input, obj, ProtobufEncodingMode.VERTX);
   }
 
   public static void fromProto(CodedInputStream input, Address obj, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
-    if (compatibleMode) {
-      obj.setName("");
-      obj.setLongitude(0f);
-      obj.setLatitude(0f);
+    switch (encodingMode) {
+      case VERTX:
+        fromProtoVertx(input, obj);
+        break;
+      case GOOGLE_COMPATIBLE:
+        fromProtoGoogleCompatible(input, obj);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
     }
+  }
+
+  static void fromProtoVertx(CodedInputStream input, Address obj) throws IOException {
     int tag;
     while ((tag = input.readTag()) != 0) {
       switch (tag) {
@@ -43,6 +63,41 @@ public class AddressProtoConverter {
           obj.setLatitude(input.readFloat());
           break;
         }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+  }
+
+  static void fromProtoGoogleCompatible(CodedInputStream input, Address obj) throws IOException {
+    obj.setName("");
+    obj.setLongitude(0f);
+    obj.setLatitude(0f);
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setName(input.readString());
+          break;
+        }
+        case 21: {
+          obj.setLongitude(input.readFloat());
+          break;
+        }
+        case 29: {
+          obj.setLatitude(input.readFloat());
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
       }
     } // while loop
   }
@@ -52,49 +107,160 @@ public class AddressProtoConverter {
   }
 
   public static void toProto(Address obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    AddressProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      AddressProtoConverter.toProto(obj, output, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toProto(Address obj, CodedOutputStream output, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) throws IOException {
+    AddressProtoConverter.computeSize(obj, cache, encodingMode);
     AddressProtoConverter.toProto(obj, output, cache, 0, encodingMode);
   }
 
   static int toProto(Address obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
+    switch (encodingMode) {
+      case VERTX:
+        return toProtoVertx(obj, output, cache, index);
+      case GOOGLE_COMPATIBLE:
+        return toProtoGoogleCompatible(obj, output, cache, index);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int toProtoVertx(Address obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
     index = index + 1;
     // name
-    if (compatibleMode && obj.getName() == null) {
+    if (obj.getName() != null) {
+      output.writeString(1, obj.getName());
+    }
+    // longitude
+    if (obj.getLongitude() != null) {
+      output.writeFloat(2, obj.getLongitude());
+    }
+    // latitude
+    if (obj.getLatitude() != null) {
+      output.writeFloat(3, obj.getLatitude());
+    }
+    return index;
+  }
+
+  static int toProtoGoogleCompatible(Address obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // name
+    if (obj.getName() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getName() != null) || (compatibleMode && !obj.getName().isEmpty())) {
+    if (!obj.getName().isEmpty()) {
       output.writeString(1, obj.getName());
     }
     // longitude
-    if (compatibleMode && obj.getLongitude() == null) {
+    if (obj.getLongitude() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getLongitude() != null) || (compatibleMode && obj.getLongitude() != 0f)) {
+    if (obj.getLongitude() != 0f) {
       output.writeFloat(2, obj.getLongitude());
     }
     // latitude
-    if (compatibleMode && obj.getLatitude() == null) {
+    if (obj.getLatitude() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getLatitude() != null) || (compatibleMode && obj.getLatitude() != 0f)) {
+    if (obj.getLatitude() != 0f) {
       output.writeFloat(3, obj.getLatitude());
     }
     return index;
   }
 
+  public static void toProto(Address obj, BackpatchingOutput output, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        toProtoVertx(obj, output);
+        break;
+      case GOOGLE_COMPATIBLE:
+        toProtoGoogleCompatible(obj, output);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static void toProtoVertx(Address obj, BackpatchingOutput output) throws IOException {
+    // name
+    if (obj.getName() != null) {
+      output.writeString(1, obj.getName());
+    }
+    // longitude
+    if (obj.getLongitude() != null) {
+      output.writeFloat(2, obj.getLongitude());
+    }
+    // latitude
+    if (obj.getLatitude() != null) {
+      output.writeFloat(3, obj.getLatitude());
+    }
+  }
+
+  public static void toProtoGoogleCompatible(Address obj, BackpatchingOutput output) throws IOException {
+    // name
+    if (obj.getName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getName().isEmpty()) {
+      output.writeString(1, obj.getName());
+    }
+    // longitude
+    if (obj.getLongitude() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getLongitude() != 0f) {
+      output.writeFloat(2, obj.getLongitude());
+    }
+    // latitude
+    if (obj.getLatitude() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getLatitude() != 0f) {
+      output.writeFloat(3, obj.getLatitude());
+    }
+  }
+
   public static int computeSize(Address obj) {
     return computeSize(obj, ProtobufEncodingMode.VERTX);
   }
 
   public static int computeSize(Address obj, ProtobufEncodingMode encodingMode) {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    AddressProtoConverter.computeSize(obj, cache, 0, encodingMode);
-    return cache.get(0);
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      return AddressProtoConverter.computeSize(obj, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static int computeSize(Address obj, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) {
+    cache.reset();
+    cache.ensureCapacity(cacheCapacity);
+    int cacheSize = AddressProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    if (cacheSize > cacheCapacity) {
+      cacheCapacity = cacheSize;
+    }
+    return cache.getUnchecked(0);
   }
 
-  static int computeSize(Address obj, ExpandableIntArray cache, final int baseIndex, ProtobufEncodingMode encodingMode) {
+  static int computeSize(Address obj, ExpandableIntArray cache, int baseIndex, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return computeSizeVertx(obj, cache, baseIndex);
+      case GOOGLE_COMPATIBLE:
+        return computeSizeGoogleCompatible(obj, cache, baseIndex);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int computeSizeVertx(Address obj, ExpandableIntArray cache, final int baseIndex) {
     int size = 0;
     int index = baseIndex + 1;
     if (obj.getName() != null) {
@@ -110,4 +276,77 @@ public class AddressProtoConverter {
     return index;
   }
 
+  static int computeSizeGoogleCompatible(Address obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getName().isEmpty()) {
+      size += CodedOutputStream.computeStringSize(1, obj.getName());
+    }
+    if (obj.getLongitude() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getLongitude() != 0f) {
+      size += CodedOutputStream.computeFloatSize(2, obj.getLongitude());
+    }
+    if (obj.getLatitude() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getLatitude() != 0f) {
+      size += CodedOutputStream.computeFloatSize(3, obj.getLatitude());
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  public static Buffer toBuffer(Address obj) throws IOException {
+    return toBuffer(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Buffer toBuffer(Address obj, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = AddressProtoConverter.computeSize(obj, cache, encodingMode);
+      Buffer buffer = Buffer.buffer(size);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      AddressProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+      return buffer;
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toBuffer(Address obj, Buffer buffer) throws IOException {
+    toBuffer(obj, buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toBuffer(Address obj, Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = AddressProtoConverter.computeSize(obj, cache, encodingMode);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      AddressProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static Address fromBuffer(Buffer buffer) throws IOException {
+    return fromBuffer(buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Address fromBuffer(Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    Address obj = new Address();
+    fromBuffer(buffer, 0, buffer.length(), obj, encodingMode);
+    return obj;
+  }
+
+  public static void fromBuffer(Buffer buffer, int start, int end, Address obj, ProtobufEncodingMode encodingMode) throws IOException {
+    fromProto(CodedBuffers.input(buffer, start, end), obj, encodingMode);
+  }
+
 }
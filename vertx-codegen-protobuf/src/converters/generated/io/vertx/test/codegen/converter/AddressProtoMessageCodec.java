@@ -0,0 +1,59 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class AddressProtoMessageCodec implements MessageCodec<Address, Address> {
+
+  public static final String NAME = "io.vertx.test.codegen.converter.AddressProtoMessageCodec";
+
+  @Override
+  public void encodeToWire(Buffer buffer, Address obj) {
+    int pos = buffer.length();
+    buffer.appendInt(0);
+    try {
+      AddressProtoConverter.toBuffer(obj, buffer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    buffer.setInt(pos, buffer.length() - pos - 4);
+  }
+
+  @Override
+  public Address decodeFromWire(int pos, Buffer buffer) {
+    int length = buffer.getInt(pos);
+    int start = pos + 4;
+    Address obj = new Address();
+    try {
+      AddressProtoConverter.fromBuffer(buffer, start, start + length, obj, ProtobufEncodingMode.VERTX);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return obj;
+  }
+
+  @Override
+  public Address transform(Address obj) {
+    if (obj == null) {
+      return null;
+    }
+    try {
+      return AddressProtoConverter.fromBuffer(AddressProtoConverter.toBuffer(obj));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
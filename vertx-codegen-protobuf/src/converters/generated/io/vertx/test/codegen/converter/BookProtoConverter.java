@@ -2,6 +2,7 @@ package io.vertx.test.codegen.converter;
 
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -11,24 +12,76 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Arrays;
 import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;
+import io.vertx.codegen.protobuf.utils.CodedBuffers;
 import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ProtoArrays;
+import io.vertx.codegen.protobuf.utils.ProtoReadStream;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
 import io.vertx.codegen.protobuf.converters.*;
 
 public class BookProtoConverter {
 
+  private static int cacheCapacity = 16;
+
   public static void fromProto(CodedInputStream input, Book obj) throws IOException {
     fromProto(input, obj, ProtobufEncodingMode.VERTX);
   }
 
   public static void fromProto(CodedInputStream input, Book obj, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
-    if (compatibleMode) {
-      obj.setName("");
-      obj.setAuthor("");
-      obj.setIsbn("");
-      obj.setGenre("");
+    switch (encodingMode) {
+      case VERTX:
+        fromProtoVertx(input, obj);
+        break;
+      case GOOGLE_COMPATIBLE:
+        fromProtoGoogleCompatible(input, obj);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
     }
+  }
+
+  static void fromProtoVertx(CodedInputStream input, Book obj) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setName(input.readString());
+          break;
+        }
+        case 26: {
+          obj.setAuthor(input.readString());
+          break;
+        }
+        case 82: {
+          obj.setIsbn(input.readString());
+          break;
+        }
+        case 162: {
+          obj.setGenre(input.readString());
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+  }
+
+  static void fromProtoGoogleCompatible(CodedInputStream input, Book obj) throws IOException {
+    obj.setName("");
+    obj.setAuthor("");
+    obj.setIsbn("");
+    obj.setGenre("");
     int tag;
     while ((tag = input.readTag()) != 0) {
       switch (tag) {
@@ -48,6 +101,12 @@ public class BookProtoConverter {
           obj.setGenre(input.readString());
           break;
         }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
       }
     } // while loop
   }
@@ -57,56 +116,182 @@ public class BookProtoConverter {
   }
 
   public static void toProto(Book obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    BookProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      BookProtoConverter.toProto(obj, output, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toProto(Book obj, CodedOutputStream output, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) throws IOException {
+    BookProtoConverter.computeSize(obj, cache, encodingMode);
     BookProtoConverter.toProto(obj, output, cache, 0, encodingMode);
   }
 
   static int toProto(Book obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
+    switch (encodingMode) {
+      case VERTX:
+        return toProtoVertx(obj, output, cache, index);
+      case GOOGLE_COMPATIBLE:
+        return toProtoGoogleCompatible(obj, output, cache, index);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int toProtoVertx(Book obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
     index = index + 1;
     // name
-    if (compatibleMode && obj.getName() == null) {
+    if (obj.getName() != null) {
+      output.writeString(1, obj.getName());
+    }
+    // author
+    if (obj.getAuthor() != null) {
+      output.writeString(3, obj.getAuthor());
+    }
+    // isbn
+    if (obj.getIsbn() != null) {
+      output.writeString(10, obj.getIsbn());
+    }
+    // genre
+    if (obj.getGenre() != null) {
+      output.writeString(20, obj.getGenre());
+    }
+    return index;
+  }
+
+  static int toProtoGoogleCompatible(Book obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // name
+    if (obj.getName() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getName() != null) || (compatibleMode && !obj.getName().isEmpty())) {
+    if (!obj.getName().isEmpty()) {
       output.writeString(1, obj.getName());
     }
     // author
-    if (compatibleMode && obj.getAuthor() == null) {
+    if (obj.getAuthor() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getAuthor() != null) || (compatibleMode && !obj.getAuthor().isEmpty())) {
+    if (!obj.getAuthor().isEmpty()) {
       output.writeString(3, obj.getAuthor());
     }
     // isbn
-    if (compatibleMode && obj.getIsbn() == null) {
+    if (obj.getIsbn() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getIsbn() != null) || (compatibleMode && !obj.getIsbn().isEmpty())) {
+    if (!obj.getIsbn().isEmpty()) {
       output.writeString(10, obj.getIsbn());
     }
     // genre
-    if (compatibleMode && obj.getGenre() == null) {
+    if (obj.getGenre() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getGenre() != null) || (compatibleMode && !obj.getGenre().isEmpty())) {
+    if (!obj.getGenre().isEmpty()) {
       output.writeString(20, obj.getGenre());
     }
     return index;
   }
 
+  public static void toProto(Book obj, BackpatchingOutput output, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        toProtoVertx(obj, output);
+        break;
+      case GOOGLE_COMPATIBLE:
+        toProtoGoogleCompatible(obj, output);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static void toProtoVertx(Book obj, BackpatchingOutput output) throws IOException {
+    // name
+    if (obj.getName() != null) {
+      output.writeString(1, obj.getName());
+    }
+    // author
+    if (obj.getAuthor() != null) {
+      output.writeString(3, obj.getAuthor());
+    }
+    // isbn
+    if (obj.getIsbn() != null) {
+      output.writeString(10, obj.getIsbn());
+    }
+    // genre
+    if (obj.getGenre() != null) {
+      output.writeString(20, obj.getGenre());
+    }
+  }
+
+  public static void toProtoGoogleCompatible(Book obj, BackpatchingOutput output) throws IOException {
+    // name
+    if (obj.getName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getName().isEmpty()) {
+      output.writeString(1, obj.getName());
+    }
+    // author
+    if (obj.getAuthor() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getAuthor().isEmpty()) {
+      output.writeString(3, obj.getAuthor());
+    }
+    // isbn
+    if (obj.getIsbn() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getIsbn().isEmpty()) {
+      output.writeString(10, obj.getIsbn());
+    }
+    // genre
+    if (obj.getGenre() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getGenre().isEmpty()) {
+      output.writeString(20, obj.getGenre());
+    }
+  }
+
   public static int computeSize(Book obj) {
     return computeSize(obj, ProtobufEncodingMode.VERTX);
   }
 
   public static int computeSize(Book obj, ProtobufEncodingMode encodingMode) {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    BookProtoConverter.computeSize(obj, cache, 0, encodingMode);
-    return cache.get(0);
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      return BookProtoConverter.computeSize(obj, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
   }
 
-  static int computeSize(Book obj, ExpandableIntArray cache, final int baseIndex, ProtobufEncodingMode encodingMode) {
+  public static int computeSize(Book obj, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) {
+    cache.reset();
+    cache.ensureCapacity(cacheCapacity);
+    int cacheSize = BookProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    if (cacheSize > cacheCapacity) {
+      cacheCapacity = cacheSize;
+    }
+    return cache.getUnchecked(0);
+  }
+
+  static int computeSize(Book obj, ExpandableIntArray cache, int baseIndex, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return computeSizeVertx(obj, cache, baseIndex);
+      case GOOGLE_COMPATIBLE:
+        return computeSizeGoogleCompatible(obj, cache, baseIndex);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int computeSizeVertx(Book obj, ExpandableIntArray cache, final int baseIndex) {
     int size = 0;
     int index = baseIndex + 1;
     if (obj.getName() != null) {
@@ -125,4 +310,83 @@ public class BookProtoConverter {
     return index;
   }
 
+  static int computeSizeGoogleCompatible(Book obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getName().isEmpty()) {
+      size += CodedOutputStream.computeStringSize(1, obj.getName());
+    }
+    if (obj.getAuthor() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getAuthor().isEmpty()) {
+      size += CodedOutputStream.computeStringSize(3, obj.getAuthor());
+    }
+    if (obj.getIsbn() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getIsbn().isEmpty()) {
+      size += CodedOutputStream.computeStringSize(10, obj.getIsbn());
+    }
+    if (obj.getGenre() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getGenre().isEmpty()) {
+      size += CodedOutputStream.computeStringSize(20, obj.getGenre());
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  public static Buffer toBuffer(Book obj) throws IOException {
+    return toBuffer(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Buffer toBuffer(Book obj, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = BookProtoConverter.computeSize(obj, cache, encodingMode);
+      Buffer buffer = Buffer.buffer(size);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      BookProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+      return buffer;
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toBuffer(Book obj, Buffer buffer) throws IOException {
+    toBuffer(obj, buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toBuffer(Book obj, Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = BookProtoConverter.computeSize(obj, cache, encodingMode);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      BookProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static Book fromBuffer(Buffer buffer) throws IOException {
+    return fromBuffer(buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Book fromBuffer(Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    Book obj = new Book();
+    fromBuffer(buffer, 0, buffer.length(), obj, encodingMode);
+    return obj;
+  }
+
+  public static void fromBuffer(Buffer buffer, int start, int end, Book obj, ProtobufEncodingMode encodingMode) throws IOException {
+    fromProto(CodedBuffers.input(buffer, start, end), obj, encodingMode);
+  }
+
 }
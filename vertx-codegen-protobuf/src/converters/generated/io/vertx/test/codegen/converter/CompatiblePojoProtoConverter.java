@@ -0,0 +1,243 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Arrays;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;
+import io.vertx.codegen.protobuf.utils.CodedBuffers;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ProtoArrays;
+import io.vertx.codegen.protobuf.utils.ProtoReadStream;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
+import io.vertx.codegen.protobuf.converters.*;
+
+public class CompatiblePojoProtoConverter {
+
+  private static int cacheCapacity = 16;
+
+  public static void fromProto(CodedInputStream input, CompatiblePojo obj) throws IOException {
+    fromProto(input, obj, ProtobufEncodingMode.GOOGLE_COMPATIBLE);
+  }
+
+  public static void fromProto(CodedInputStream input, CompatiblePojo obj, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case GOOGLE_COMPATIBLE:
+        fromProtoGoogleCompatible(input, obj);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static void fromProtoGoogleCompatible(CodedInputStream input, CompatiblePojo obj) throws IOException {
+    obj.setIntegerField(0);
+    obj.setStringField("");
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 8: {
+          obj.setIntegerField(input.readInt32());
+          break;
+        }
+        case 18: {
+          obj.setStringField(input.readString());
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+  }
+
+  public static void toProto(CompatiblePojo obj, CodedOutputStream output) throws IOException {
+    toProto(obj, output, ProtobufEncodingMode.GOOGLE_COMPATIBLE);
+  }
+
+  public static void toProto(CompatiblePojo obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      CompatiblePojoProtoConverter.toProto(obj, output, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toProto(CompatiblePojo obj, CodedOutputStream output, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) throws IOException {
+    CompatiblePojoProtoConverter.computeSize(obj, cache, encodingMode);
+    CompatiblePojoProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+  }
+
+  static int toProto(CompatiblePojo obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case GOOGLE_COMPATIBLE:
+        return toProtoGoogleCompatible(obj, output, cache, index);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int toProtoGoogleCompatible(CompatiblePojo obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // integerField
+    if (obj.getIntegerField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getIntegerField() != 0) {
+      output.writeInt32(1, obj.getIntegerField());
+    }
+    // stringField
+    if (obj.getStringField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getStringField().isEmpty()) {
+      output.writeString(2, obj.getStringField());
+    }
+    return index;
+  }
+
+  public static void toProto(CompatiblePojo obj, BackpatchingOutput output, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case GOOGLE_COMPATIBLE:
+        toProtoGoogleCompatible(obj, output);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static void toProtoGoogleCompatible(CompatiblePojo obj, BackpatchingOutput output) throws IOException {
+    // integerField
+    if (obj.getIntegerField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getIntegerField() != 0) {
+      output.writeInt32(1, obj.getIntegerField());
+    }
+    // stringField
+    if (obj.getStringField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getStringField().isEmpty()) {
+      output.writeString(2, obj.getStringField());
+    }
+  }
+
+  public static int computeSize(CompatiblePojo obj) {
+    return computeSize(obj, ProtobufEncodingMode.GOOGLE_COMPATIBLE);
+  }
+
+  public static int computeSize(CompatiblePojo obj, ProtobufEncodingMode encodingMode) {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      return CompatiblePojoProtoConverter.computeSize(obj, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static int computeSize(CompatiblePojo obj, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) {
+    cache.reset();
+    cache.ensureCapacity(cacheCapacity);
+    int cacheSize = CompatiblePojoProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    if (cacheSize > cacheCapacity) {
+      cacheCapacity = cacheSize;
+    }
+    return cache.getUnchecked(0);
+  }
+
+  static int computeSize(CompatiblePojo obj, ExpandableIntArray cache, int baseIndex, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case GOOGLE_COMPATIBLE:
+        return computeSizeGoogleCompatible(obj, cache, baseIndex);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int computeSizeGoogleCompatible(CompatiblePojo obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getIntegerField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getIntegerField() != 0) {
+      size += CodedOutputStream.computeInt32Size(1, obj.getIntegerField());
+    }
+    if (obj.getStringField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getStringField().isEmpty()) {
+      size += CodedOutputStream.computeStringSize(2, obj.getStringField());
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  public static Buffer toBuffer(CompatiblePojo obj) throws IOException {
+    return toBuffer(obj, ProtobufEncodingMode.GOOGLE_COMPATIBLE);
+  }
+
+  public static Buffer toBuffer(CompatiblePojo obj, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = CompatiblePojoProtoConverter.computeSize(obj, cache, encodingMode);
+      Buffer buffer = Buffer.buffer(size);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      CompatiblePojoProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+      return buffer;
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toBuffer(CompatiblePojo obj, Buffer buffer) throws IOException {
+    toBuffer(obj, buffer, ProtobufEncodingMode.GOOGLE_COMPATIBLE);
+  }
+
+  public static void toBuffer(CompatiblePojo obj, Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = CompatiblePojoProtoConverter.computeSize(obj, cache, encodingMode);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      CompatiblePojoProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static CompatiblePojo fromBuffer(Buffer buffer) throws IOException {
+    return fromBuffer(buffer, ProtobufEncodingMode.GOOGLE_COMPATIBLE);
+  }
+
+  public static CompatiblePojo fromBuffer(Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    CompatiblePojo obj = new CompatiblePojo();
+    fromBuffer(buffer, 0, buffer.length(), obj, encodingMode);
+    return obj;
+  }
+
+  public static void fromBuffer(Buffer buffer, int start, int end, CompatiblePojo obj, ProtobufEncodingMode encodingMode) throws IOException {
+    fromProto(CodedBuffers.input(buffer, start, end), obj, encodingMode);
+  }
+
+}
@@ -0,0 +1,59 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class CompatiblePojoProtoMessageCodec implements MessageCodec<CompatiblePojo, CompatiblePojo> {
+
+  public static final String NAME = "io.vertx.test.codegen.converter.CompatiblePojoProtoMessageCodec";
+
+  @Override
+  public void encodeToWire(Buffer buffer, CompatiblePojo obj) {
+    int pos = buffer.length();
+    buffer.appendInt(0);
+    try {
+      CompatiblePojoProtoConverter.toBuffer(obj, buffer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    buffer.setInt(pos, buffer.length() - pos - 4);
+  }
+
+  @Override
+  public CompatiblePojo decodeFromWire(int pos, Buffer buffer) {
+    int length = buffer.getInt(pos);
+    int start = pos + 4;
+    CompatiblePojo obj = new CompatiblePojo();
+    try {
+      CompatiblePojoProtoConverter.fromBuffer(buffer, start, start + length, obj, ProtobufEncodingMode.GOOGLE_COMPATIBLE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return obj;
+  }
+
+  @Override
+  public CompatiblePojo transform(CompatiblePojo obj) {
+    if (obj == null) {
+      return null;
+    }
+    try {
+      return CompatiblePojoProtoConverter.fromBuffer(CompatiblePojoProtoConverter.toBuffer(obj));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
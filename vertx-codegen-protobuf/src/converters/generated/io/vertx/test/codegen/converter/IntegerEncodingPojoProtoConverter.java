@@ -0,0 +1,862 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Arrays;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;
+import io.vertx.codegen.protobuf.utils.CodedBuffers;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ProtoArrays;
+import io.vertx.codegen.protobuf.utils.ProtoReadStream;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
+import io.vertx.codegen.protobuf.converters.*;
+
+public class IntegerEncodingPojoProtoConverter {
+
+  private static int cacheCapacity = 16;
+
+  public static void fromProto(CodedInputStream input, IntegerEncodingPojo obj) throws IOException {
+    fromProto(input, obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void fromProto(CodedInputStream input, IntegerEncodingPojo obj, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        fromProtoVertx(input, obj);
+        break;
+      case GOOGLE_COMPATIBLE:
+        fromProtoGoogleCompatible(input, obj);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static void fromProtoVertx(CodedInputStream input, IntegerEncodingPojo obj) throws IOException {
+    long[] fixedArrayFieldArray = null;
+    int fixedArrayFieldCount = 0;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 8: {
+          obj.setSintField(input.readSInt32());
+          break;
+        }
+        case 16: {
+          obj.setSint64Field(input.readSInt64());
+          break;
+        }
+        case 24: {
+          obj.setSintShortField((short) input.readSInt32());
+          break;
+        }
+        case 37: {
+          obj.setFixedField(input.readFixed32());
+          break;
+        }
+        case 41: {
+          obj.setFixed64Field(input.readFixed64());
+          break;
+        }
+        case 53: {
+          obj.setSfixedField(input.readSFixed32());
+          break;
+        }
+        case 57: {
+          obj.setSfixed64Field(input.readSFixed64());
+          break;
+        }
+        case 66: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getSintListField() == null) {
+            obj.setSintListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Integer> list = obj.getSintListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readSInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 64: {
+          if (obj.getSintListField() == null) {
+            obj.setSintListField(new ArrayList<>());
+          }
+          obj.getSintListField().add(input.readSInt32());
+          break;
+        }
+        case 74: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field fixedArrayField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (fixedArrayFieldArray == null) {
+            fixedArrayFieldArray = obj.getFixedArrayField();
+            fixedArrayFieldCount = fixedArrayFieldArray == null ? 0 : fixedArrayFieldArray.length;
+          }
+          fixedArrayFieldArray = ProtoArrays.ensureCapacity(fixedArrayFieldArray, fixedArrayFieldCount, ProtoArrays.initialCapacity(length, 8));
+          while (input.getBytesUntilLimit() > 0) {
+            if (fixedArrayFieldCount == fixedArrayFieldArray.length) {
+              fixedArrayFieldArray = ProtoArrays.ensureCapacity(fixedArrayFieldArray, fixedArrayFieldCount, 1);
+            }
+            fixedArrayFieldArray[fixedArrayFieldCount++] = input.readFixed64();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 73: {
+          if (fixedArrayFieldArray == null) {
+            fixedArrayFieldArray = obj.getFixedArrayField();
+            fixedArrayFieldCount = fixedArrayFieldArray == null ? 0 : fixedArrayFieldArray.length;
+          }
+          fixedArrayFieldArray = ProtoArrays.ensureCapacity(fixedArrayFieldArray, fixedArrayFieldCount, 1);
+          fixedArrayFieldArray[fixedArrayFieldCount++] = input.readFixed64();
+          break;
+        }
+        case 82: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, Integer> map = obj.getSfixedMapField();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          Integer value = input.readSFixed32();
+          map.put(key, value);
+          obj.setSfixedMapField(map);
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            if (fixedArrayFieldArray != null) {
+              obj.setFixedArrayField(fixedArrayFieldCount == fixedArrayFieldArray.length ? fixedArrayFieldArray : Arrays.copyOf(fixedArrayFieldArray, fixedArrayFieldCount));
+            }
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+    if (fixedArrayFieldArray != null) {
+      obj.setFixedArrayField(fixedArrayFieldCount == fixedArrayFieldArray.length ? fixedArrayFieldArray : Arrays.copyOf(fixedArrayFieldArray, fixedArrayFieldCount));
+    }
+  }
+
+  static void fromProtoGoogleCompatible(CodedInputStream input, IntegerEncodingPojo obj) throws IOException {
+    obj.setSintField(0);
+    obj.setSintShortField((short)0);
+    obj.setFixedField(0);
+    obj.setFixed64Field(0L);
+    obj.setSfixed64Field(0L);
+    long[] fixedArrayFieldArray = null;
+    int fixedArrayFieldCount = 0;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 8: {
+          obj.setSintField(input.readSInt32());
+          break;
+        }
+        case 16: {
+          obj.setSint64Field(input.readSInt64());
+          break;
+        }
+        case 24: {
+          obj.setSintShortField((short) input.readSInt32());
+          break;
+        }
+        case 37: {
+          obj.setFixedField(input.readFixed32());
+          break;
+        }
+        case 41: {
+          obj.setFixed64Field(input.readFixed64());
+          break;
+        }
+        case 53: {
+          obj.setSfixedField(input.readSFixed32());
+          break;
+        }
+        case 57: {
+          obj.setSfixed64Field(input.readSFixed64());
+          break;
+        }
+        case 66: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getSintListField() == null) {
+            obj.setSintListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Integer> list = obj.getSintListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readSInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 64: {
+          if (obj.getSintListField() == null) {
+            obj.setSintListField(new ArrayList<>());
+          }
+          obj.getSintListField().add(input.readSInt32());
+          break;
+        }
+        case 74: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field fixedArrayField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (fixedArrayFieldArray == null) {
+            fixedArrayFieldArray = obj.getFixedArrayField();
+            fixedArrayFieldCount = fixedArrayFieldArray == null ? 0 : fixedArrayFieldArray.length;
+          }
+          fixedArrayFieldArray = ProtoArrays.ensureCapacity(fixedArrayFieldArray, fixedArrayFieldCount, ProtoArrays.initialCapacity(length, 8));
+          while (input.getBytesUntilLimit() > 0) {
+            if (fixedArrayFieldCount == fixedArrayFieldArray.length) {
+              fixedArrayFieldArray = ProtoArrays.ensureCapacity(fixedArrayFieldArray, fixedArrayFieldCount, 1);
+            }
+            fixedArrayFieldArray[fixedArrayFieldCount++] = input.readFixed64();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 73: {
+          if (fixedArrayFieldArray == null) {
+            fixedArrayFieldArray = obj.getFixedArrayField();
+            fixedArrayFieldCount = fixedArrayFieldArray == null ? 0 : fixedArrayFieldArray.length;
+          }
+          fixedArrayFieldArray = ProtoArrays.ensureCapacity(fixedArrayFieldArray, fixedArrayFieldCount, 1);
+          fixedArrayFieldArray[fixedArrayFieldCount++] = input.readFixed64();
+          break;
+        }
+        case 82: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, Integer> map = obj.getSfixedMapField();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          Integer value = input.readSFixed32();
+          map.put(key, value);
+          obj.setSfixedMapField(map);
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            if (fixedArrayFieldArray != null) {
+              obj.setFixedArrayField(fixedArrayFieldCount == fixedArrayFieldArray.length ? fixedArrayFieldArray : Arrays.copyOf(fixedArrayFieldArray, fixedArrayFieldCount));
+            }
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+    if (fixedArrayFieldArray != null) {
+      obj.setFixedArrayField(fixedArrayFieldCount == fixedArrayFieldArray.length ? fixedArrayFieldArray : Arrays.copyOf(fixedArrayFieldArray, fixedArrayFieldCount));
+    }
+  }
+
+  public static void toProto(IntegerEncodingPojo obj, CodedOutputStream output) throws IOException {
+    toProto(obj, output, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toProto(IntegerEncodingPojo obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      IntegerEncodingPojoProtoConverter.toProto(obj, output, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toProto(IntegerEncodingPojo obj, CodedOutputStream output, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) throws IOException {
+    IntegerEncodingPojoProtoConverter.computeSize(obj, cache, encodingMode);
+    IntegerEncodingPojoProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+  }
+
+  static int toProto(IntegerEncodingPojo obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        return toProtoVertx(obj, output, cache, index);
+      case GOOGLE_COMPATIBLE:
+        return toProtoGoogleCompatible(obj, output, cache, index);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int toProtoVertx(IntegerEncodingPojo obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // sintField
+    if (obj.getSintField() != null) {
+      output.writeSInt32(1, obj.getSintField());
+    }
+    // sint64Field
+    if (obj.getSint64Field() != 0) {
+      output.writeSInt64(2, obj.getSint64Field());
+    }
+    // sintShortField
+    if (obj.getSintShortField() != null) {
+      output.writeSInt32(3, obj.getSintShortField());
+    }
+    // fixedField
+    if (obj.getFixedField() != null) {
+      output.writeFixed32(4, obj.getFixedField());
+    }
+    // fixed64Field
+    if (obj.getFixed64Field() != null) {
+      output.writeFixed64(5, obj.getFixed64Field());
+    }
+    // sfixedField
+    if (obj.getSfixedField() != 0) {
+      output.writeSFixed32(6, obj.getSfixedField());
+    }
+    // sfixed64Field
+    if (obj.getSfixed64Field() != null) {
+      output.writeSFixed64(7, obj.getSfixed64Field());
+    }
+    // sintListField
+    if (obj.getSintListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getSintListField().size() > 0) {
+        output.writeUInt32NoTag(66);
+        int dataSize = 0;
+        for (Integer element: obj.getSintListField()) {
+          dataSize += CodedOutputStream.computeSInt32SizeNoTag(element);
+        }
+        output.writeUInt32NoTag(dataSize);
+        for (Integer element: obj.getSintListField()) {
+          output.writeSInt32NoTag(element);
+        }
+      }
+    }
+    // fixedArrayField
+    if (obj.getFixedArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFixedArrayField().length > 0) {
+        output.writeUInt32NoTag(74);
+        int dataSize = obj.getFixedArrayField().length * 8;
+        output.writeUInt32NoTag(dataSize);
+        for (long element: obj.getFixedArrayField()) {
+          output.writeFixed64NoTag(element);
+        }
+      }
+    }
+    // sfixedMapField
+    if (obj.getSfixedMapField() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getSfixedMapField().entrySet()) {
+        output.writeUInt32NoTag(82);
+        // calculate data size
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeSFixed32Size(2, entry.getValue());
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeSFixed32(2, entry.getValue());
+      }
+    }
+    return index;
+  }
+
+  static int toProtoGoogleCompatible(IntegerEncodingPojo obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // sintField
+    if (obj.getSintField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getSintField() != 0) {
+      output.writeSInt32(1, obj.getSintField());
+    }
+    // sint64Field
+    if (obj.getSint64Field() != 0) {
+      output.writeSInt64(2, obj.getSint64Field());
+    }
+    // sintShortField
+    if (obj.getSintShortField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getSintShortField() != (short)0) {
+      output.writeSInt32(3, obj.getSintShortField());
+    }
+    // fixedField
+    if (obj.getFixedField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getFixedField() != 0) {
+      output.writeFixed32(4, obj.getFixedField());
+    }
+    // fixed64Field
+    if (obj.getFixed64Field() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getFixed64Field() != 0L) {
+      output.writeFixed64(5, obj.getFixed64Field());
+    }
+    // sfixedField
+    if (obj.getSfixedField() != 0) {
+      output.writeSFixed32(6, obj.getSfixedField());
+    }
+    // sfixed64Field
+    if (obj.getSfixed64Field() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getSfixed64Field() != 0L) {
+      output.writeSFixed64(7, obj.getSfixed64Field());
+    }
+    // sintListField
+    if (obj.getSintListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getSintListField().size() > 0) {
+        output.writeUInt32NoTag(66);
+        int dataSize = 0;
+        for (Integer element: obj.getSintListField()) {
+          dataSize += CodedOutputStream.computeSInt32SizeNoTag(element);
+        }
+        output.writeUInt32NoTag(dataSize);
+        for (Integer element: obj.getSintListField()) {
+          output.writeSInt32NoTag(element);
+        }
+      }
+    }
+    // fixedArrayField
+    if (obj.getFixedArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFixedArrayField().length > 0) {
+        output.writeUInt32NoTag(74);
+        int dataSize = obj.getFixedArrayField().length * 8;
+        output.writeUInt32NoTag(dataSize);
+        for (long element: obj.getFixedArrayField()) {
+          output.writeFixed64NoTag(element);
+        }
+      }
+    }
+    // sfixedMapField
+    if (obj.getSfixedMapField() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getSfixedMapField().entrySet()) {
+        output.writeUInt32NoTag(82);
+        // calculate data size
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeSFixed32Size(2, entry.getValue());
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeSFixed32(2, entry.getValue());
+      }
+    }
+    return index;
+  }
+
+  public static void toProto(IntegerEncodingPojo obj, BackpatchingOutput output, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        toProtoVertx(obj, output);
+        break;
+      case GOOGLE_COMPATIBLE:
+        toProtoGoogleCompatible(obj, output);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static void toProtoVertx(IntegerEncodingPojo obj, BackpatchingOutput output) throws IOException {
+    // sintField
+    if (obj.getSintField() != null) {
+      output.writeSInt32(1, obj.getSintField());
+    }
+    // sint64Field
+    if (obj.getSint64Field() != 0) {
+      output.writeSInt64(2, obj.getSint64Field());
+    }
+    // sintShortField
+    if (obj.getSintShortField() != null) {
+      output.writeSInt32(3, obj.getSintShortField());
+    }
+    // fixedField
+    if (obj.getFixedField() != null) {
+      output.writeFixed32(4, obj.getFixedField());
+    }
+    // fixed64Field
+    if (obj.getFixed64Field() != null) {
+      output.writeFixed64(5, obj.getFixed64Field());
+    }
+    // sfixedField
+    if (obj.getSfixedField() != 0) {
+      output.writeSFixed32(6, obj.getSfixedField());
+    }
+    // sfixed64Field
+    if (obj.getSfixed64Field() != null) {
+      output.writeSFixed64(7, obj.getSfixed64Field());
+    }
+    // sintListField
+    if (obj.getSintListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getSintListField().size() > 0) {
+        output.writeUInt32NoTag(66);
+        int mark = output.reserveLength();
+        for (Integer element: obj.getSintListField()) {
+          output.writeSInt32NoTag(element);
+        }
+        output.backpatchLength(mark);
+      }
+    }
+    // fixedArrayField
+    if (obj.getFixedArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFixedArrayField().length > 0) {
+        output.writeUInt32NoTag(74);
+        output.writeUInt32NoTag(obj.getFixedArrayField().length * 8);
+        for (long element: obj.getFixedArrayField()) {
+          output.writeFixed64NoTag(element);
+        }
+      }
+    }
+    // sfixedMapField
+    if (obj.getSfixedMapField() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getSfixedMapField().entrySet()) {
+        output.writeUInt32NoTag(82);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeSFixed32(2, entry.getValue());
+        output.backpatchLength(mark);
+      }
+    }
+  }
+
+  public static void toProtoGoogleCompatible(IntegerEncodingPojo obj, BackpatchingOutput output) throws IOException {
+    // sintField
+    if (obj.getSintField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getSintField() != 0) {
+      output.writeSInt32(1, obj.getSintField());
+    }
+    // sint64Field
+    if (obj.getSint64Field() != 0) {
+      output.writeSInt64(2, obj.getSint64Field());
+    }
+    // sintShortField
+    if (obj.getSintShortField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getSintShortField() != (short)0) {
+      output.writeSInt32(3, obj.getSintShortField());
+    }
+    // fixedField
+    if (obj.getFixedField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getFixedField() != 0) {
+      output.writeFixed32(4, obj.getFixedField());
+    }
+    // fixed64Field
+    if (obj.getFixed64Field() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getFixed64Field() != 0L) {
+      output.writeFixed64(5, obj.getFixed64Field());
+    }
+    // sfixedField
+    if (obj.getSfixedField() != 0) {
+      output.writeSFixed32(6, obj.getSfixedField());
+    }
+    // sfixed64Field
+    if (obj.getSfixed64Field() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getSfixed64Field() != 0L) {
+      output.writeSFixed64(7, obj.getSfixed64Field());
+    }
+    // sintListField
+    if (obj.getSintListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getSintListField().size() > 0) {
+        output.writeUInt32NoTag(66);
+        int mark = output.reserveLength();
+        for (Integer element: obj.getSintListField()) {
+          output.writeSInt32NoTag(element);
+        }
+        output.backpatchLength(mark);
+      }
+    }
+    // fixedArrayField
+    if (obj.getFixedArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFixedArrayField().length > 0) {
+        output.writeUInt32NoTag(74);
+        output.writeUInt32NoTag(obj.getFixedArrayField().length * 8);
+        for (long element: obj.getFixedArrayField()) {
+          output.writeFixed64NoTag(element);
+        }
+      }
+    }
+    // sfixedMapField
+    if (obj.getSfixedMapField() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getSfixedMapField().entrySet()) {
+        output.writeUInt32NoTag(82);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeSFixed32(2, entry.getValue());
+        output.backpatchLength(mark);
+      }
+    }
+  }
+
+  public static int computeSize(IntegerEncodingPojo obj) {
+    return computeSize(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static int computeSize(IntegerEncodingPojo obj, ProtobufEncodingMode encodingMode) {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      return IntegerEncodingPojoProtoConverter.computeSize(obj, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static int computeSize(IntegerEncodingPojo obj, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) {
+    cache.reset();
+    cache.ensureCapacity(cacheCapacity);
+    int cacheSize = IntegerEncodingPojoProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    if (cacheSize > cacheCapacity) {
+      cacheCapacity = cacheSize;
+    }
+    return cache.getUnchecked(0);
+  }
+
+  static int computeSize(IntegerEncodingPojo obj, ExpandableIntArray cache, int baseIndex, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return computeSizeVertx(obj, cache, baseIndex);
+      case GOOGLE_COMPATIBLE:
+        return computeSizeGoogleCompatible(obj, cache, baseIndex);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int computeSizeVertx(IntegerEncodingPojo obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getSintField() != null) {
+      size += CodedOutputStream.computeSInt32Size(1, obj.getSintField());
+    }
+    if (obj.getSint64Field() != 0) {
+      size += CodedOutputStream.computeSInt64Size(2, obj.getSint64Field());
+    }
+    if (obj.getSintShortField() != null) {
+      size += CodedOutputStream.computeSInt32Size(3, obj.getSintShortField());
+    }
+    if (obj.getFixedField() != null) {
+      size += CodedOutputStream.computeFixed32Size(4, obj.getFixedField());
+    }
+    if (obj.getFixed64Field() != null) {
+      size += CodedOutputStream.computeFixed64Size(5, obj.getFixed64Field());
+    }
+    if (obj.getSfixedField() != 0) {
+      size += CodedOutputStream.computeSFixed32Size(6, obj.getSfixedField());
+    }
+    if (obj.getSfixed64Field() != null) {
+      size += CodedOutputStream.computeSFixed64Size(7, obj.getSfixed64Field());
+    }
+    if (obj.getSintListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getSintListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(66);
+        int dataSize = 0;
+        for (Integer element: obj.getSintListField()) {
+          dataSize += CodedOutputStream.computeSInt32SizeNoTag(element);
+        }
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getFixedArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFixedArrayField().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(74);
+        int dataSize = obj.getFixedArrayField().length * 8;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getSfixedMapField() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getSfixedMapField().entrySet()) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(82);
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeSFixed32Size(2, entry.getValue());
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  static int computeSizeGoogleCompatible(IntegerEncodingPojo obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getSintField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getSintField() != 0) {
+      size += CodedOutputStream.computeSInt32Size(1, obj.getSintField());
+    }
+    if (obj.getSint64Field() != 0) {
+      size += CodedOutputStream.computeSInt64Size(2, obj.getSint64Field());
+    }
+    if (obj.getSintShortField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getSintShortField() != (short)0) {
+      size += CodedOutputStream.computeSInt32Size(3, obj.getSintShortField());
+    }
+    if (obj.getFixedField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getFixedField() != 0) {
+      size += CodedOutputStream.computeFixed32Size(4, obj.getFixedField());
+    }
+    if (obj.getFixed64Field() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getFixed64Field() != 0L) {
+      size += CodedOutputStream.computeFixed64Size(5, obj.getFixed64Field());
+    }
+    if (obj.getSfixedField() != 0) {
+      size += CodedOutputStream.computeSFixed32Size(6, obj.getSfixedField());
+    }
+    if (obj.getSfixed64Field() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getSfixed64Field() != 0L) {
+      size += CodedOutputStream.computeSFixed64Size(7, obj.getSfixed64Field());
+    }
+    if (obj.getSintListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getSintListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(66);
+        int dataSize = 0;
+        for (Integer element: obj.getSintListField()) {
+          dataSize += CodedOutputStream.computeSInt32SizeNoTag(element);
+        }
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getFixedArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFixedArrayField().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(74);
+        int dataSize = obj.getFixedArrayField().length * 8;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getSfixedMapField() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getSfixedMapField().entrySet()) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(82);
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeSFixed32Size(2, entry.getValue());
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  public static Buffer toBuffer(IntegerEncodingPojo obj) throws IOException {
+    return toBuffer(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Buffer toBuffer(IntegerEncodingPojo obj, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = IntegerEncodingPojoProtoConverter.computeSize(obj, cache, encodingMode);
+      Buffer buffer = Buffer.buffer(size);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      IntegerEncodingPojoProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+      return buffer;
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toBuffer(IntegerEncodingPojo obj, Buffer buffer) throws IOException {
+    toBuffer(obj, buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toBuffer(IntegerEncodingPojo obj, Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = IntegerEncodingPojoProtoConverter.computeSize(obj, cache, encodingMode);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      IntegerEncodingPojoProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static IntegerEncodingPojo fromBuffer(Buffer buffer) throws IOException {
+    return fromBuffer(buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static IntegerEncodingPojo fromBuffer(Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    IntegerEncodingPojo obj = new IntegerEncodingPojo();
+    fromBuffer(buffer, 0, buffer.length(), obj, encodingMode);
+    return obj;
+  }
+
+  public static void fromBuffer(Buffer buffer, int start, int end, IntegerEncodingPojo obj, ProtobufEncodingMode encodingMode) throws IOException {
+    fromProto(CodedBuffers.input(buffer, start, end), obj, encodingMode);
+  }
+
+}
@@ -2,6 +2,7 @@ package io.vertx.test.codegen.converter;
 
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -11,21 +12,42 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Arrays;
 import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;
+import io.vertx.codegen.protobuf.utils.CodedBuffers;
 import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ProtoArrays;
+import io.vertx.codegen.protobuf.utils.ProtoReadStream;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
 import io.vertx.codegen.protobuf.converters.*;
 
 public class PersonProtoConverter {
 
+  private static int cacheCapacity = 16;
+
   public static void fromProto(CodedInputStream input, Person obj) throws IOException {
     fromProto(input, obj, ProtobufEncodingMode.VERTX);
   }
 
   public static void fromProto(CodedInputStream input, Person obj, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
-    if (compatibleMode) {
-      obj.setName("");
+    switch (encodingMode) {
+      case VERTX:
+        fromProtoVertx(input, obj);
+        break;
+      case GOOGLE_COMPATIBLE:
+        fromProtoGoogleCompatible(input, obj);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
     }
+  }
+
+  static void fromProtoVertx(CodedInputStream input, Person obj) throws IOException {
     int tag;
     while ((tag = input.readTag()) != 0) {
       switch (tag) {
@@ -37,6 +59,35 @@ public class PersonProtoConverter {
           obj.setAge(input.readInt32());
           break;
         }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+  }
+
+  static void fromProtoGoogleCompatible(CodedInputStream input, Person obj) throws IOException {
+    obj.setName("");
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 18: {
+          obj.setName(input.readString());
+          break;
+        }
+        case 32: {
+          obj.setAge(input.readInt32());
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
       }
     } // while loop
   }
@@ -46,19 +97,50 @@ public class PersonProtoConverter {
   }
 
   public static void toProto(Person obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    PersonProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      PersonProtoConverter.toProto(obj, output, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toProto(Person obj, CodedOutputStream output, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) throws IOException {
+    PersonProtoConverter.computeSize(obj, cache, encodingMode);
     PersonProtoConverter.toProto(obj, output, cache, 0, encodingMode);
   }
 
   static int toProto(Person obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
+    switch (encodingMode) {
+      case VERTX:
+        return toProtoVertx(obj, output, cache, index);
+      case GOOGLE_COMPATIBLE:
+        return toProtoGoogleCompatible(obj, output, cache, index);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int toProtoVertx(Person obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
     index = index + 1;
     // name
-    if (compatibleMode && obj.getName() == null) {
+    if (obj.getName() != null) {
+      output.writeString(2, obj.getName());
+    }
+    // age
+    if (obj.getAge() != 0) {
+      output.writeInt32(4, obj.getAge());
+    }
+    return index;
+  }
+
+  static int toProtoGoogleCompatible(Person obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // name
+    if (obj.getName() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getName() != null) || (compatibleMode && !obj.getName().isEmpty())) {
+    if (!obj.getName().isEmpty()) {
       output.writeString(2, obj.getName());
     }
     // age
@@ -68,17 +150,79 @@ public class PersonProtoConverter {
     return index;
   }
 
+  public static void toProto(Person obj, BackpatchingOutput output, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        toProtoVertx(obj, output);
+        break;
+      case GOOGLE_COMPATIBLE:
+        toProtoGoogleCompatible(obj, output);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static void toProtoVertx(Person obj, BackpatchingOutput output) throws IOException {
+    // name
+    if (obj.getName() != null) {
+      output.writeString(2, obj.getName());
+    }
+    // age
+    if (obj.getAge() != 0) {
+      output.writeInt32(4, obj.getAge());
+    }
+  }
+
+  public static void toProtoGoogleCompatible(Person obj, BackpatchingOutput output) throws IOException {
+    // name
+    if (obj.getName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getName().isEmpty()) {
+      output.writeString(2, obj.getName());
+    }
+    // age
+    if (obj.getAge() != 0) {
+      output.writeInt32(4, obj.getAge());
+    }
+  }
+
   public static int computeSize(Person obj) {
     return computeSize(obj, ProtobufEncodingMode.VERTX);
   }
 
   public static int computeSize(Person obj, ProtobufEncodingMode encodingMode) {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    PersonProtoConverter.computeSize(obj, cache, 0, encodingMode);
-    return cache.get(0);
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      return PersonProtoConverter.computeSize(obj, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static int computeSize(Person obj, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) {
+    cache.reset();
+    cache.ensureCapacity(cacheCapacity);
+    int cacheSize = PersonProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    if (cacheSize > cacheCapacity) {
+      cacheCapacity = cacheSize;
+    }
+    return cache.getUnchecked(0);
+  }
+
+  static int computeSize(Person obj, ExpandableIntArray cache, int baseIndex, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return computeSizeVertx(obj, cache, baseIndex);
+      case GOOGLE_COMPATIBLE:
+        return computeSizeGoogleCompatible(obj, cache, baseIndex);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
   }
 
-  static int computeSize(Person obj, ExpandableIntArray cache, final int baseIndex, ProtobufEncodingMode encodingMode) {
+  static int computeSizeVertx(Person obj, ExpandableIntArray cache, final int baseIndex) {
     int size = 0;
     int index = baseIndex + 1;
     if (obj.getName() != null) {
@@ -91,4 +235,68 @@ public class PersonProtoConverter {
     return index;
   }
 
+  static int computeSizeGoogleCompatible(Person obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getName().isEmpty()) {
+      size += CodedOutputStream.computeStringSize(2, obj.getName());
+    }
+    if (obj.getAge() != 0) {
+      size += CodedOutputStream.computeInt32Size(4, obj.getAge());
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  public static Buffer toBuffer(Person obj) throws IOException {
+    return toBuffer(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Buffer toBuffer(Person obj, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = PersonProtoConverter.computeSize(obj, cache, encodingMode);
+      Buffer buffer = Buffer.buffer(size);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      PersonProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+      return buffer;
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toBuffer(Person obj, Buffer buffer) throws IOException {
+    toBuffer(obj, buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toBuffer(Person obj, Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = PersonProtoConverter.computeSize(obj, cache, encodingMode);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      PersonProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static Person fromBuffer(Buffer buffer) throws IOException {
+    return fromBuffer(buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Person fromBuffer(Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    Person obj = new Person();
+    fromBuffer(buffer, 0, buffer.length(), obj, encodingMode);
+    return obj;
+  }
+
+  public static void fromBuffer(Buffer buffer, int start, int end, Person obj, ProtobufEncodingMode encodingMode) throws IOException {
+    fromProto(CodedBuffers.input(buffer, start, end), obj, encodingMode);
+  }
+
 }
@@ -0,0 +1,59 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class PersonProtoMessageCodec implements MessageCodec<Person, Person> {
+
+  public static final String NAME = "io.vertx.test.codegen.converter.PersonProtoMessageCodec";
+
+  @Override
+  public void encodeToWire(Buffer buffer, Person obj) {
+    int pos = buffer.length();
+    buffer.appendInt(0);
+    try {
+      PersonProtoConverter.toBuffer(obj, buffer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    buffer.setInt(pos, buffer.length() - pos - 4);
+  }
+
+  @Override
+  public Person decodeFromWire(int pos, Buffer buffer) {
+    int length = buffer.getInt(pos);
+    int start = pos + 4;
+    Person obj = new Person();
+    try {
+      PersonProtoConverter.fromBuffer(buffer, start, start + length, obj, ProtobufEncodingMode.VERTX);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return obj;
+  }
+
+  @Override
+  public Person transform(Person obj) {
+    if (obj == null) {
+      return null;
+    }
+    try {
+      return PersonProtoConverter.fromBuffer(PersonProtoConverter.toBuffer(obj));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
@@ -0,0 +1,306 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Arrays;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;
+import io.vertx.codegen.protobuf.utils.CodedBuffers;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ProtoArrays;
+import io.vertx.codegen.protobuf.utils.ProtoReadStream;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
+import io.vertx.codegen.protobuf.converters.*;
+
+public class PersonRelayProtoConverter {
+
+  private static int cacheCapacity = 16;
+
+  public static void fromProto(CodedInputStream input, PersonRelay obj) throws IOException {
+    fromProto(input, obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void fromProto(CodedInputStream input, PersonRelay obj, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        fromProtoVertx(input, obj);
+        break;
+      case GOOGLE_COMPATIBLE:
+        fromProtoGoogleCompatible(input, obj);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static void fromProtoVertx(CodedInputStream input, PersonRelay obj) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 18: {
+          obj.setName(input.readString());
+          break;
+        }
+        default: {
+          ProtoUnknownFields unknownFields = obj.getUnknownFields();
+          if (unknownFields == null) {
+            unknownFields = new ProtoUnknownFields();
+            obj.setUnknownFields(unknownFields);
+          }
+          if (!unknownFields.readField(tag, input)) {
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+  }
+
+  static void fromProtoGoogleCompatible(CodedInputStream input, PersonRelay obj) throws IOException {
+    obj.setName("");
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 18: {
+          obj.setName(input.readString());
+          break;
+        }
+        default: {
+          ProtoUnknownFields unknownFields = obj.getUnknownFields();
+          if (unknownFields == null) {
+            unknownFields = new ProtoUnknownFields();
+            obj.setUnknownFields(unknownFields);
+          }
+          if (!unknownFields.readField(tag, input)) {
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+  }
+
+  public static void toProto(PersonRelay obj, CodedOutputStream output) throws IOException {
+    toProto(obj, output, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toProto(PersonRelay obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      PersonRelayProtoConverter.toProto(obj, output, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toProto(PersonRelay obj, CodedOutputStream output, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) throws IOException {
+    PersonRelayProtoConverter.computeSize(obj, cache, encodingMode);
+    PersonRelayProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+  }
+
+  static int toProto(PersonRelay obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        return toProtoVertx(obj, output, cache, index);
+      case GOOGLE_COMPATIBLE:
+        return toProtoGoogleCompatible(obj, output, cache, index);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int toProtoVertx(PersonRelay obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // name
+    if (obj.getName() != null) {
+      output.writeString(2, obj.getName());
+    }
+    // unknown fields
+    if (obj.getUnknownFields() != null) {
+      obj.getUnknownFields().writeTo(output);
+    }
+    return index;
+  }
+
+  static int toProtoGoogleCompatible(PersonRelay obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // name
+    if (obj.getName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getName().isEmpty()) {
+      output.writeString(2, obj.getName());
+    }
+    // unknown fields
+    if (obj.getUnknownFields() != null) {
+      obj.getUnknownFields().writeTo(output);
+    }
+    return index;
+  }
+
+  public static void toProto(PersonRelay obj, BackpatchingOutput output, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        toProtoVertx(obj, output);
+        break;
+      case GOOGLE_COMPATIBLE:
+        toProtoGoogleCompatible(obj, output);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static void toProtoVertx(PersonRelay obj, BackpatchingOutput output) throws IOException {
+    // name
+    if (obj.getName() != null) {
+      output.writeString(2, obj.getName());
+    }
+    // unknown fields
+    if (obj.getUnknownFields() != null) {
+      obj.getUnknownFields().writeTo(output);
+    }
+  }
+
+  public static void toProtoGoogleCompatible(PersonRelay obj, BackpatchingOutput output) throws IOException {
+    // name
+    if (obj.getName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getName().isEmpty()) {
+      output.writeString(2, obj.getName());
+    }
+    // unknown fields
+    if (obj.getUnknownFields() != null) {
+      obj.getUnknownFields().writeTo(output);
+    }
+  }
+
+  public static int computeSize(PersonRelay obj) {
+    return computeSize(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static int computeSize(PersonRelay obj, ProtobufEncodingMode encodingMode) {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      return PersonRelayProtoConverter.computeSize(obj, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static int computeSize(PersonRelay obj, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) {
+    cache.reset();
+    cache.ensureCapacity(cacheCapacity);
+    int cacheSize = PersonRelayProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    if (cacheSize > cacheCapacity) {
+      cacheCapacity = cacheSize;
+    }
+    return cache.getUnchecked(0);
+  }
+
+  static int computeSize(PersonRelay obj, ExpandableIntArray cache, int baseIndex, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return computeSizeVertx(obj, cache, baseIndex);
+      case GOOGLE_COMPATIBLE:
+        return computeSizeGoogleCompatible(obj, cache, baseIndex);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int computeSizeVertx(PersonRelay obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getName() != null) {
+      size += CodedOutputStream.computeStringSize(2, obj.getName());
+    }
+    // unknown fields
+    if (obj.getUnknownFields() != null) {
+      size += obj.getUnknownFields().size();
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  static int computeSizeGoogleCompatible(PersonRelay obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getName().isEmpty()) {
+      size += CodedOutputStream.computeStringSize(2, obj.getName());
+    }
+    // unknown fields
+    if (obj.getUnknownFields() != null) {
+      size += obj.getUnknownFields().size();
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  public static Buffer toBuffer(PersonRelay obj) throws IOException {
+    return toBuffer(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Buffer toBuffer(PersonRelay obj, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = PersonRelayProtoConverter.computeSize(obj, cache, encodingMode);
+      Buffer buffer = Buffer.buffer(size);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      PersonRelayProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+      return buffer;
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toBuffer(PersonRelay obj, Buffer buffer) throws IOException {
+    toBuffer(obj, buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toBuffer(PersonRelay obj, Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = PersonRelayProtoConverter.computeSize(obj, cache, encodingMode);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      PersonRelayProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static PersonRelay fromBuffer(Buffer buffer) throws IOException {
+    return fromBuffer(buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static PersonRelay fromBuffer(Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    PersonRelay obj = new PersonRelay();
+    fromBuffer(buffer, 0, buffer.length(), obj, encodingMode);
+    return obj;
+  }
+
+  public static void fromBuffer(Buffer buffer, int start, int end, PersonRelay obj, ProtobufEncodingMode encodingMode) throws IOException {
+    fromProto(CodedBuffers.input(buffer, start, end), obj, encodingMode);
+  }
+
+}
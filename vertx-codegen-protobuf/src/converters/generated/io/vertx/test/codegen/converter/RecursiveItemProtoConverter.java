@@ -2,6 +2,7 @@ package io.vertx.test.codegen.converter;
 
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -11,21 +12,88 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Arrays;
 import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;
+import io.vertx.codegen.protobuf.utils.CodedBuffers;
 import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ProtoArrays;
+import io.vertx.codegen.protobuf.utils.ProtoReadStream;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
 import io.vertx.codegen.protobuf.converters.*;
 
 public class RecursiveItemProtoConverter {
 
+  private static int cacheCapacity = 16;
+
   public static void fromProto(CodedInputStream input, RecursiveItem obj) throws IOException {
     fromProto(input, obj, ProtobufEncodingMode.VERTX);
   }
 
   public static void fromProto(CodedInputStream input, RecursiveItem obj, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
-    if (compatibleMode) {
-      obj.setId("");
+    switch (encodingMode) {
+      case VERTX:
+        fromProtoVertx(input, obj);
+        break;
+      case GOOGLE_COMPATIBLE:
+        fromProtoGoogleCompatible(input, obj);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
     }
+  }
+
+  static void fromProtoVertx(CodedInputStream input, RecursiveItem obj) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setId(input.readString());
+          break;
+        }
+        case 18: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          RecursiveItem nested = new RecursiveItem();
+          RecursiveItemProtoConverter.fromProtoVertx(input, nested);
+          obj.setChildA(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 26: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          RecursiveItem nested = new RecursiveItem();
+          RecursiveItemProtoConverter.fromProtoVertx(input, nested);
+          obj.setChildB(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 34: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          RecursiveItem nested = new RecursiveItem();
+          RecursiveItemProtoConverter.fromProtoVertx(input, nested);
+          obj.setChildC(nested);
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+  }
+
+  static void fromProtoGoogleCompatible(CodedInputStream input, RecursiveItem obj) throws IOException {
+    obj.setId("");
     int tag;
     while ((tag = input.readTag()) != 0) {
       switch (tag) {
@@ -37,7 +105,7 @@ public class RecursiveItemProtoConverter {
           int length = input.readUInt32();
           int limit = input.pushLimit(length);
           RecursiveItem nested = new RecursiveItem();
-          RecursiveItemProtoConverter.fromProto(input, nested);
+          RecursiveItemProtoConverter.fromProtoGoogleCompatible(input, nested);
           obj.setChildA(nested);
           input.popLimit(limit);
           break;
@@ -46,7 +114,7 @@ public class RecursiveItemProtoConverter {
           int length = input.readUInt32();
           int limit = input.pushLimit(length);
           RecursiveItem nested = new RecursiveItem();
-          RecursiveItemProtoConverter.fromProto(input, nested);
+          RecursiveItemProtoConverter.fromProtoGoogleCompatible(input, nested);
           obj.setChildB(nested);
           input.popLimit(limit);
           break;
@@ -55,11 +123,17 @@ public class RecursiveItemProtoConverter {
           int length = input.readUInt32();
           int limit = input.pushLimit(length);
           RecursiveItem nested = new RecursiveItem();
-          RecursiveItemProtoConverter.fromProto(input, nested);
+          RecursiveItemProtoConverter.fromProtoGoogleCompatible(input, nested);
           obj.setChildC(nested);
           input.popLimit(limit);
           break;
         }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
       }
     } // while loop
   }
@@ -69,53 +143,195 @@ public class RecursiveItemProtoConverter {
   }
 
   public static void toProto(RecursiveItem obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    RecursiveItemProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    BackpatchingOutput buffer = BackpatchingOutputPool.acquire();
+    try {
+      RecursiveItemProtoConverter.toProto(obj, buffer, encodingMode);
+      buffer.writeTo(output);
+    } finally {
+      BackpatchingOutputPool.release(buffer);
+    }
+  }
+
+  public static void toProto(RecursiveItem obj, CodedOutputStream output, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) throws IOException {
+    RecursiveItemProtoConverter.computeSize(obj, cache, encodingMode);
     RecursiveItemProtoConverter.toProto(obj, output, cache, 0, encodingMode);
   }
 
   static int toProto(RecursiveItem obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
+    switch (encodingMode) {
+      case VERTX:
+        return toProtoVertx(obj, output, cache, index);
+      case GOOGLE_COMPATIBLE:
+        return toProtoGoogleCompatible(obj, output, cache, index);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int toProtoVertx(RecursiveItem obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // id
+    if (obj.getId() != null) {
+      output.writeString(1, obj.getId());
+    }
+    // childA
+    if (obj.getChildA() != null) {
+      output.writeUInt32NoTag(18);
+      output.writeUInt32NoTag(cache.getUnchecked(index));
+      index = RecursiveItemProtoConverter.toProtoVertx(obj.getChildA(), output, cache, index);
+    }
+    // childB
+    if (obj.getChildB() != null) {
+      output.writeUInt32NoTag(26);
+      output.writeUInt32NoTag(cache.getUnchecked(index));
+      index = RecursiveItemProtoConverter.toProtoVertx(obj.getChildB(), output, cache, index);
+    }
+    // childC
+    if (obj.getChildC() != null) {
+      output.writeUInt32NoTag(34);
+      output.writeUInt32NoTag(cache.getUnchecked(index));
+      index = RecursiveItemProtoConverter.toProtoVertx(obj.getChildC(), output, cache, index);
+    }
+    return index;
+  }
+
+  static int toProtoGoogleCompatible(RecursiveItem obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
     index = index + 1;
     // id
-    if (compatibleMode && obj.getId() == null) {
+    if (obj.getId() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getId() != null) || (compatibleMode && !obj.getId().isEmpty())) {
+    if (!obj.getId().isEmpty()) {
       output.writeString(1, obj.getId());
     }
     // childA
     if (obj.getChildA() != null) {
       output.writeUInt32NoTag(18);
-      output.writeUInt32NoTag(cache.get(index));
-      index = RecursiveItemProtoConverter.toProto(obj.getChildA(), output, cache, index, encodingMode);
+      output.writeUInt32NoTag(cache.getUnchecked(index));
+      index = RecursiveItemProtoConverter.toProtoGoogleCompatible(obj.getChildA(), output, cache, index);
     }
     // childB
     if (obj.getChildB() != null) {
       output.writeUInt32NoTag(26);
-      output.writeUInt32NoTag(cache.get(index));
-      index = RecursiveItemProtoConverter.toProto(obj.getChildB(), output, cache, index, encodingMode);
+      output.writeUInt32NoTag(cache.getUnchecked(index));
+      index = RecursiveItemProtoConverter.toProtoGoogleCompatible(obj.getChildB(), output, cache, index);
     }
     // childC
     if (obj.getChildC() != null) {
       output.writeUInt32NoTag(34);
-      output.writeUInt32NoTag(cache.get(index));
-      index = RecursiveItemProtoConverter.toProto(obj.getChildC(), output, cache, index, encodingMode);
+      output.writeUInt32NoTag(cache.getUnchecked(index));
+      index = RecursiveItemProtoConverter.toProtoGoogleCompatible(obj.getChildC(), output, cache, index);
     }
     return index;
   }
 
+  public static void toProto(RecursiveItem obj, BackpatchingOutput output, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        toProtoVertx(obj, output);
+        break;
+      case GOOGLE_COMPATIBLE:
+        toProtoGoogleCompatible(obj, output);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static void toProtoVertx(RecursiveItem obj, BackpatchingOutput output) throws IOException {
+    // id
+    if (obj.getId() != null) {
+      output.writeString(1, obj.getId());
+    }
+    // childA
+    if (obj.getChildA() != null) {
+      output.writeUInt32NoTag(18);
+      int mark = output.reserveLength();
+      RecursiveItemProtoConverter.toProtoVertx(obj.getChildA(), output);
+      output.backpatchLength(mark);
+    }
+    // childB
+    if (obj.getChildB() != null) {
+      output.writeUInt32NoTag(26);
+      int mark = output.reserveLength();
+      RecursiveItemProtoConverter.toProtoVertx(obj.getChildB(), output);
+      output.backpatchLength(mark);
+    }
+    // childC
+    if (obj.getChildC() != null) {
+      output.writeUInt32NoTag(34);
+      int mark = output.reserveLength();
+      RecursiveItemProtoConverter.toProtoVertx(obj.getChildC(), output);
+      output.backpatchLength(mark);
+    }
+  }
+
+  public static void toProtoGoogleCompatible(RecursiveItem obj, BackpatchingOutput output) throws IOException {
+    // id
+    if (obj.getId() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getId().isEmpty()) {
+      output.writeString(1, obj.getId());
+    }
+    // childA
+    if (obj.getChildA() != null) {
+      output.writeUInt32NoTag(18);
+      int mark = output.reserveLength();
+      RecursiveItemProtoConverter.toProtoGoogleCompatible(obj.getChildA(), output);
+      output.backpatchLength(mark);
+    }
+    // childB
+    if (obj.getChildB() != null) {
+      output.writeUInt32NoTag(26);
+      int mark = output.reserveLength();
+      RecursiveItemProtoConverter.toProtoGoogleCompatible(obj.getChildB(), output);
+      output.backpatchLength(mark);
+    }
+    // childC
+    if (obj.getChildC() != null) {
+      output.writeUInt32NoTag(34);
+      int mark = output.reserveLength();
+      RecursiveItemProtoConverter.toProtoGoogleCompatible(obj.getChildC(), output);
+      output.backpatchLength(mark);
+    }
+  }
+
   public static int computeSize(RecursiveItem obj) {
     return computeSize(obj, ProtobufEncodingMode.VERTX);
   }
 
   public static int computeSize(RecursiveItem obj, ProtobufEncodingMode encodingMode) {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    RecursiveItemProtoConverter.computeSize(obj, cache, 0, encodingMode);
-    return cache.get(0);
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      return RecursiveItemProtoConverter.computeSize(obj, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static int computeSize(RecursiveItem obj, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) {
+    cache.reset();
+    cache.ensureCapacity(cacheCapacity);
+    int cacheSize = RecursiveItemProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    if (cacheSize > cacheCapacity) {
+      cacheCapacity = cacheSize;
+    }
+    return cache.getUnchecked(0);
+  }
+
+  static int computeSize(RecursiveItem obj, ExpandableIntArray cache, int baseIndex, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return computeSizeVertx(obj, cache, baseIndex);
+      case GOOGLE_COMPATIBLE:
+        return computeSizeGoogleCompatible(obj, cache, baseIndex);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
   }
 
-  static int computeSize(RecursiveItem obj, ExpandableIntArray cache, final int baseIndex, ProtobufEncodingMode encodingMode) {
+  static int computeSizeVertx(RecursiveItem obj, ExpandableIntArray cache, final int baseIndex) {
     int size = 0;
     int index = baseIndex + 1;
     if (obj.getId() != null) {
@@ -124,24 +340,24 @@ public class RecursiveItemProtoConverter {
     if (obj.getChildA() != null) {
       size += CodedOutputStream.computeUInt32SizeNoTag(18);
       int savedIndex = index;
-      index = RecursiveItemProtoConverter.computeSize(obj.getChildA(), cache, index, encodingMode);
-      int dataSize = cache.get(savedIndex);
+      index = RecursiveItemProtoConverter.computeSizeVertx(obj.getChildA(), cache, index);
+      int dataSize = cache.getUnchecked(savedIndex);
       size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
       size += dataSize;
     }
     if (obj.getChildB() != null) {
       size += CodedOutputStream.computeUInt32SizeNoTag(26);
       int savedIndex = index;
-      index = RecursiveItemProtoConverter.computeSize(obj.getChildB(), cache, index, encodingMode);
-      int dataSize = cache.get(savedIndex);
+      index = RecursiveItemProtoConverter.computeSizeVertx(obj.getChildB(), cache, index);
+      int dataSize = cache.getUnchecked(savedIndex);
       size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
       size += dataSize;
     }
     if (obj.getChildC() != null) {
       size += CodedOutputStream.computeUInt32SizeNoTag(34);
       int savedIndex = index;
-      index = RecursiveItemProtoConverter.computeSize(obj.getChildC(), cache, index, encodingMode);
-      int dataSize = cache.get(savedIndex);
+      index = RecursiveItemProtoConverter.computeSizeVertx(obj.getChildC(), cache, index);
+      int dataSize = cache.getUnchecked(savedIndex);
       size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
       size += dataSize;
     }
@@ -149,4 +365,89 @@ public class RecursiveItemProtoConverter {
     return index;
   }
 
+  static int computeSizeGoogleCompatible(RecursiveItem obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getId() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getId().isEmpty()) {
+      size += CodedOutputStream.computeStringSize(1, obj.getId());
+    }
+    if (obj.getChildA() != null) {
+      size += CodedOutputStream.computeUInt32SizeNoTag(18);
+      int savedIndex = index;
+      index = RecursiveItemProtoConverter.computeSizeGoogleCompatible(obj.getChildA(), cache, index);
+      int dataSize = cache.getUnchecked(savedIndex);
+      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+      size += dataSize;
+    }
+    if (obj.getChildB() != null) {
+      size += CodedOutputStream.computeUInt32SizeNoTag(26);
+      int savedIndex = index;
+      index = RecursiveItemProtoConverter.computeSizeGoogleCompatible(obj.getChildB(), cache, index);
+      int dataSize = cache.getUnchecked(savedIndex);
+      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+      size += dataSize;
+    }
+    if (obj.getChildC() != null) {
+      size += CodedOutputStream.computeUInt32SizeNoTag(34);
+      int savedIndex = index;
+      index = RecursiveItemProtoConverter.computeSizeGoogleCompatible(obj.getChildC(), cache, index);
+      int dataSize = cache.getUnchecked(savedIndex);
+      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+      size += dataSize;
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  public static Buffer toBuffer(RecursiveItem obj) throws IOException {
+    return toBuffer(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Buffer toBuffer(RecursiveItem obj, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = RecursiveItemProtoConverter.computeSize(obj, cache, encodingMode);
+      Buffer buffer = Buffer.buffer(size);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      RecursiveItemProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+      return buffer;
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toBuffer(RecursiveItem obj, Buffer buffer) throws IOException {
+    toBuffer(obj, buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toBuffer(RecursiveItem obj, Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = RecursiveItemProtoConverter.computeSize(obj, cache, encodingMode);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      RecursiveItemProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static RecursiveItem fromBuffer(Buffer buffer) throws IOException {
+    return fromBuffer(buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static RecursiveItem fromBuffer(Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    RecursiveItem obj = new RecursiveItem();
+    fromBuffer(buffer, 0, buffer.length(), obj, encodingMode);
+    return obj;
+  }
+
+  public static void fromBuffer(Buffer buffer, int start, int end, RecursiveItem obj, ProtobufEncodingMode encodingMode) throws IOException {
+    fromProto(CodedBuffers.input(buffer, start, end), obj, encodingMode);
+  }
+
 }
@@ -2,6 +2,7 @@ package io.vertx.test.codegen.converter;
 
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -11,24 +12,76 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Arrays;
 import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;
+import io.vertx.codegen.protobuf.utils.CodedBuffers;
 import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ProtoArrays;
+import io.vertx.codegen.protobuf.utils.ProtoReadStream;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
 import io.vertx.codegen.protobuf.converters.*;
 
 public class SimplePojoProtoConverter {
 
+  private static int cacheCapacity = 16;
+
   public static void fromProto(CodedInputStream input, SimplePojo obj) throws IOException {
     fromProto(input, obj, ProtobufEncodingMode.VERTX);
   }
 
   public static void fromProto(CodedInputStream input, SimplePojo obj, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
-    if (compatibleMode) {
-      obj.setIntegerField(0);
-      obj.setLongField(0L);
-      obj.setBooleanField(false);
-      obj.setStringField("");
+    switch (encodingMode) {
+      case VERTX:
+        fromProtoVertx(input, obj);
+        break;
+      case GOOGLE_COMPATIBLE:
+        fromProtoGoogleCompatible(input, obj);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
     }
+  }
+
+  static void fromProtoVertx(CodedInputStream input, SimplePojo obj) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 8: {
+          obj.setIntegerField(input.readInt32());
+          break;
+        }
+        case 16: {
+          obj.setLongField(input.readInt64());
+          break;
+        }
+        case 24: {
+          obj.setBooleanField(input.readBool());
+          break;
+        }
+        case 34: {
+          obj.setStringField(input.readString());
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+  }
+
+  static void fromProtoGoogleCompatible(CodedInputStream input, SimplePojo obj) throws IOException {
+    obj.setIntegerField(0);
+    obj.setLongField(0L);
+    obj.setBooleanField(false);
+    obj.setStringField("");
     int tag;
     while ((tag = input.readTag()) != 0) {
       switch (tag) {
@@ -48,6 +101,12 @@ public class SimplePojoProtoConverter {
           obj.setStringField(input.readString());
           break;
         }
+        default: {
+          if (!input.skipField(tag)) {
+            return;
+          }
+          break;
+        }
       }
     } // while loop
   }
@@ -57,56 +116,182 @@ public class SimplePojoProtoConverter {
   }
 
   public static void toProto(SimplePojo obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    SimplePojoProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      SimplePojoProtoConverter.toProto(obj, output, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toProto(SimplePojo obj, CodedOutputStream output, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) throws IOException {
+    SimplePojoProtoConverter.computeSize(obj, cache, encodingMode);
     SimplePojoProtoConverter.toProto(obj, output, cache, 0, encodingMode);
   }
 
   static int toProto(SimplePojo obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
+    switch (encodingMode) {
+      case VERTX:
+        return toProtoVertx(obj, output, cache, index);
+      case GOOGLE_COMPATIBLE:
+        return toProtoGoogleCompatible(obj, output, cache, index);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int toProtoVertx(SimplePojo obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
     index = index + 1;
     // integerField
-    if (compatibleMode && obj.getIntegerField() == null) {
+    if (obj.getIntegerField() != null) {
+      output.writeInt32(1, obj.getIntegerField());
+    }
+    // longField
+    if (obj.getLongField() != null) {
+      output.writeInt64(2, obj.getLongField());
+    }
+    // booleanField
+    if (obj.getBooleanField() != null) {
+      output.writeBool(3, obj.getBooleanField());
+    }
+    // stringField
+    if (obj.getStringField() != null) {
+      output.writeString(4, obj.getStringField());
+    }
+    return index;
+  }
+
+  static int toProtoGoogleCompatible(SimplePojo obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // integerField
+    if (obj.getIntegerField() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getIntegerField() != null) || (compatibleMode && obj.getIntegerField() != 0)) {
+    if (obj.getIntegerField() != 0) {
       output.writeInt32(1, obj.getIntegerField());
     }
     // longField
-    if (compatibleMode && obj.getLongField() == null) {
+    if (obj.getLongField() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getLongField() != null) || (compatibleMode && obj.getLongField() != 0L)) {
+    if (obj.getLongField() != 0L) {
       output.writeInt64(2, obj.getLongField());
     }
     // booleanField
-    if (compatibleMode && obj.getBooleanField() == null) {
+    if (obj.getBooleanField() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getBooleanField() != null) || (compatibleMode && !obj.getBooleanField())) {
+    if (obj.getBooleanField()) {
       output.writeBool(3, obj.getBooleanField());
     }
     // stringField
-    if (compatibleMode && obj.getStringField() == null) {
+    if (obj.getStringField() == null) {
       throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
     }
-    if ((!compatibleMode && obj.getStringField() != null) || (compatibleMode && !obj.getStringField().isEmpty())) {
+    if (!obj.getStringField().isEmpty()) {
       output.writeString(4, obj.getStringField());
     }
     return index;
   }
 
+  public static void toProto(SimplePojo obj, BackpatchingOutput output, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        toProtoVertx(obj, output);
+        break;
+      case GOOGLE_COMPATIBLE:
+        toProtoGoogleCompatible(obj, output);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static void toProtoVertx(SimplePojo obj, BackpatchingOutput output) throws IOException {
+    // integerField
+    if (obj.getIntegerField() != null) {
+      output.writeInt32(1, obj.getIntegerField());
+    }
+    // longField
+    if (obj.getLongField() != null) {
+      output.writeInt64(2, obj.getLongField());
+    }
+    // booleanField
+    if (obj.getBooleanField() != null) {
+      output.writeBool(3, obj.getBooleanField());
+    }
+    // stringField
+    if (obj.getStringField() != null) {
+      output.writeString(4, obj.getStringField());
+    }
+  }
+
+  public static void toProtoGoogleCompatible(SimplePojo obj, BackpatchingOutput output) throws IOException {
+    // integerField
+    if (obj.getIntegerField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getIntegerField() != 0) {
+      output.writeInt32(1, obj.getIntegerField());
+    }
+    // longField
+    if (obj.getLongField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getLongField() != 0L) {
+      output.writeInt64(2, obj.getLongField());
+    }
+    // booleanField
+    if (obj.getBooleanField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getBooleanField()) {
+      output.writeBool(3, obj.getBooleanField());
+    }
+    // stringField
+    if (obj.getStringField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getStringField().isEmpty()) {
+      output.writeString(4, obj.getStringField());
+    }
+  }
+
   public static int computeSize(SimplePojo obj) {
     return computeSize(obj, ProtobufEncodingMode.VERTX);
   }
 
   public static int computeSize(SimplePojo obj, ProtobufEncodingMode encodingMode) {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    SimplePojoProtoConverter.computeSize(obj, cache, 0, encodingMode);
-    return cache.get(0);
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      return SimplePojoProtoConverter.computeSize(obj, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
   }
 
-  static int computeSize(SimplePojo obj, ExpandableIntArray cache, final int baseIndex, ProtobufEncodingMode encodingMode) {
+  public static int computeSize(SimplePojo obj, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) {
+    cache.reset();
+    cache.ensureCapacity(cacheCapacity);
+    int cacheSize = SimplePojoProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    if (cacheSize > cacheCapacity) {
+      cacheCapacity = cacheSize;
+    }
+    return cache.getUnchecked(0);
+  }
+
+  static int computeSize(SimplePojo obj, ExpandableIntArray cache, int baseIndex, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return computeSizeVertx(obj, cache, baseIndex);
+      case GOOGLE_COMPATIBLE:
+        return computeSizeGoogleCompatible(obj, cache, baseIndex);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int computeSizeVertx(SimplePojo obj, ExpandableIntArray cache, final int baseIndex) {
     int size = 0;
     int index = baseIndex + 1;
     if (obj.getIntegerField() != null) {
@@ -125,4 +310,83 @@ public class SimplePojoProtoConverter {
     return index;
   }
 
+  static int computeSizeGoogleCompatible(SimplePojo obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getIntegerField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getIntegerField() != 0) {
+      size += CodedOutputStream.computeInt32Size(1, obj.getIntegerField());
+    }
+    if (obj.getLongField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getLongField() != 0L) {
+      size += CodedOutputStream.computeInt64Size(2, obj.getLongField());
+    }
+    if (obj.getBooleanField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getBooleanField()) {
+      size += CodedOutputStream.computeBoolSize(3, obj.getBooleanField());
+    }
+    if (obj.getStringField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getStringField().isEmpty()) {
+      size += CodedOutputStream.computeStringSize(4, obj.getStringField());
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  public static Buffer toBuffer(SimplePojo obj) throws IOException {
+    return toBuffer(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Buffer toBuffer(SimplePojo obj, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = SimplePojoProtoConverter.computeSize(obj, cache, encodingMode);
+      Buffer buffer = Buffer.buffer(size);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      SimplePojoProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+      return buffer;
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toBuffer(SimplePojo obj, Buffer buffer) throws IOException {
+    toBuffer(obj, buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toBuffer(SimplePojo obj, Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = SimplePojoProtoConverter.computeSize(obj, cache, encodingMode);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      SimplePojoProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static SimplePojo fromBuffer(Buffer buffer) throws IOException {
+    return fromBuffer(buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static SimplePojo fromBuffer(Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    SimplePojo obj = new SimplePojo();
+    fromBuffer(buffer, 0, buffer.length(), obj, encodingMode);
+    return obj;
+  }
+
+  public static void fromBuffer(Buffer buffer, int start, int end, SimplePojo obj, ProtobufEncodingMode encodingMode) throws IOException {
+    fromProto(CodedBuffers.input(buffer, start, end), obj, encodingMode);
+  }
+
 }
@@ -2,6 +2,7 @@ package io.vertx.test.codegen.converter;
 
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -11,27 +12,50 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Arrays;
 import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;
+import io.vertx.codegen.protobuf.utils.CodedBuffers;
 import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ProtoArrays;
+import io.vertx.codegen.protobuf.utils.ProtoReadStream;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
 import io.vertx.codegen.protobuf.converters.*;
 
 public class UserProtoConverter {
 
+  private static int cacheCapacity = 16;
+
   public static void fromProto(CodedInputStream input, User obj) throws IOException {
     fromProto(input, obj, ProtobufEncodingMode.VERTX);
   }
 
   public static void fromProto(CodedInputStream input, User obj, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
-    if (compatibleMode) {
-      obj.setUserName("");
-      obj.setAge(0);
-      obj.setDoubleField(0d);
-      obj.setFloatField(0f);
-      obj.setLongField(0L);
-      obj.setBoolField(false);
-      obj.setShortField((short)0);
+    switch (encodingMode) {
+      case VERTX:
+        fromProtoVertx(input, obj);
+        break;
+      case GOOGLE_COMPATIBLE:
+        fromProtoGoogleCompatible(input, obj);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
     }
+  }
+
+  static void fromProtoVertx(CodedInputStream input, User obj) throws IOException {
+    int[] intArrayFieldArray = null;
+    int intArrayFieldCount = 0;
+    long[] longArrayFieldArray = null;
+    int longArrayFieldCount = 0;
+    double[] doubleArrayFieldArray = null;
+    int doubleArrayFieldCount = 0;
+    float[] floatArrayFieldArray = null;
+    int floatArrayFieldCount = 0;
     int tag;
     while ((tag = input.readTag()) != 0) {
       switch (tag) {
@@ -46,19 +70,28 @@ public class UserProtoConverter {
         case 26: {
           int length = input.readRawVarint32();
           int limit = input.pushLimit(length);
-          List<Integer> list = new ArrayList<>();
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Integer> list = obj.getIntegerListField();
           while (input.getBytesUntilLimit() > 0) {
             list.add(input.readInt32());
           }
-          obj.setIntegerListField(list);
           input.popLimit(limit);
           break;
         }
+        case 24: {
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>());
+          }
+          obj.getIntegerListField().add(input.readInt32());
+          break;
+        }
         case 34: {
           int length = input.readUInt32();
           int limit = input.pushLimit(length);
           Address nested = new Address();
-          AddressProtoConverter.fromProto(input, nested);
+          AddressProtoConverter.fromProtoVertx(input, nested);
           if (obj.getStructListField() == null) {
             obj.setStructListField(new ArrayList<>());
           }
@@ -90,7 +123,7 @@ public class UserProtoConverter {
           int length = input.readUInt32();
           int limit = input.pushLimit(length);
           Address nested = new Address();
-          AddressProtoConverter.fromProto(input, nested);
+          AddressProtoConverter.fromProtoVertx(input, nested);
           obj.setAddress(nested);
           input.popLimit(limit);
           break;
@@ -168,7 +201,7 @@ public class UserProtoConverter {
           int vlength = input.readUInt32();
           int vlimit = input.pushLimit(vlength);
           Address value = new Address();
-          AddressProtoConverter.fromProto(input, value);
+          AddressProtoConverter.fromProtoVertx(input, value);
           map.put(key, value);
           obj.setStructValueMap(map);
           input.popLimit(vlimit);
@@ -285,321 +318,5848 @@ public class UserProtoConverter {
           }
           break;
         }
+        case 266: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Long> list = obj.getLongListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt64());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 264: {
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>());
+          }
+          obj.getLongListField().add(input.readInt64());
+          break;
+        }
+        case 274: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleListField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 8)));
+          }
+          List<Double> list = obj.getDoubleListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readDouble());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 273: {
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>());
+          }
+          obj.getDoubleListField().add(input.readDouble());
+          break;
+        }
+        case 282: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatListField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 4)));
+          }
+          List<Float> list = obj.getFloatListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readFloat());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 285: {
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>());
+          }
+          obj.getFloatListField().add(input.readFloat());
+          break;
+        }
+        case 290: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Boolean> list = obj.getBooleanListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readBool());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 288: {
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>());
+          }
+          obj.getBooleanListField().add(input.readBool());
+          break;
+        }
+        case 298: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (intArrayFieldCount == intArrayFieldArray.length) {
+              intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+            }
+            intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 296: {
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+          intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          break;
+        }
+        case 306: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (longArrayFieldCount == longArrayFieldArray.length) {
+              longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+            }
+            longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 304: {
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+          longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          break;
+        }
+        case 314: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleArrayField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, ProtoArrays.initialCapacity(length, 8));
+          while (input.getBytesUntilLimit() > 0) {
+            if (doubleArrayFieldCount == doubleArrayFieldArray.length) {
+              doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+            }
+            doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 313: {
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+          doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          break;
+        }
+        case 322: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatArrayField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, ProtoArrays.initialCapacity(length, 4));
+          while (input.getBytesUntilLimit() > 0) {
+            if (floatArrayFieldCount == floatArrayFieldArray.length) {
+              floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+            }
+            floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 325: {
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+          floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            if (intArrayFieldArray != null) {
+              obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+            }
+            if (longArrayFieldArray != null) {
+              obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+            }
+            if (doubleArrayFieldArray != null) {
+              obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+            }
+            if (floatArrayFieldArray != null) {
+              obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+            }
+            return;
+          }
+          break;
+        }
       }
     } // while loop
-  }
-
-  public static void toProto(User obj, CodedOutputStream output) throws IOException {
-    toProto(obj, output, ProtobufEncodingMode.VERTX);
-  }
-
-  public static void toProto(User obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    UserProtoConverter.computeSize(obj, cache, 0, encodingMode);
-    UserProtoConverter.toProto(obj, output, cache, 0, encodingMode);
-  }
-
-  static int toProto(User obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {
-    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;
-    index = index + 1;
-    // userName
-    if (compatibleMode && obj.getUserName() == null) {
-      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    if (intArrayFieldArray != null) {
+      obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
     }
-    if ((!compatibleMode && obj.getUserName() != null) || (compatibleMode && !obj.getUserName().isEmpty())) {
-      output.writeString(1, obj.getUserName());
+    if (longArrayFieldArray != null) {
+      obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
     }
-    // age
-    if (compatibleMode && obj.getAge() == null) {
-      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    if (doubleArrayFieldArray != null) {
+      obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
     }
-    if ((!compatibleMode && obj.getAge() != null) || (compatibleMode && obj.getAge() != 0)) {
-      output.writeInt32(2, obj.getAge());
+    if (floatArrayFieldArray != null) {
+      obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
     }
-    // integerListField
-    if (obj.getIntegerListField() != null) {
-      // list | tag | data size | value[0] | value[1] | value[2] |
-      if (obj.getIntegerListField().size() > 0) {
-        output.writeUInt32NoTag(26);
-        int dataSize = 0;
-        for (Integer element: obj.getIntegerListField()) {
-          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+  }
+
+  static void fromProtoGoogleCompatible(CodedInputStream input, User obj) throws IOException {
+    obj.setUserName("");
+    obj.setAge(0);
+    obj.setDoubleField(0d);
+    obj.setFloatField(0f);
+    obj.setLongField(0L);
+    obj.setBoolField(false);
+    obj.setShortField((short)0);
+    int[] intArrayFieldArray = null;
+    int intArrayFieldCount = 0;
+    long[] longArrayFieldArray = null;
+    int longArrayFieldCount = 0;
+    double[] doubleArrayFieldArray = null;
+    int doubleArrayFieldCount = 0;
+    float[] floatArrayFieldArray = null;
+    int floatArrayFieldCount = 0;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setUserName(input.readString());
+          break;
         }
-        output.writeUInt32NoTag(dataSize);
-        for (Integer element: obj.getIntegerListField()) {
-          output.writeInt32NoTag(element);
+        case 16: {
+          obj.setAge(input.readInt32());
+          break;
         }
-      }
-    }
-    // structListField
-    if (obj.getStructListField() != null) {
-      // list[0] | tag | data size | value |
-      // list[1] | tag | data size | value |
-      for (Address element: obj.getStructListField()) {
-        output.writeUInt32NoTag(34);
-        output.writeUInt32NoTag(cache.get(index));
-        index = AddressProtoConverter.toProto(element, output, cache, index, encodingMode);
-      }
-    }
-    // zonedDateTimeListField
-    if (obj.getZonedDateTimeListField() != null) {
-      // list[0] | tag | data size | value |
-      // list[1] | tag | data size | value |
-      for (ZonedDateTime element: obj.getZonedDateTimeListField()) {
-        output.writeUInt32NoTag(42);
-        output.writeUInt32NoTag(ZonedDateTimeProtoConverter.computeSize(element));
-        ZonedDateTimeProtoConverter.toProto(element, output);
-      }
-    }
-    // jsonListField
-    if (obj.getJsonListField() != null) {
-      // list[0] | tag | data size | value |
-      // list[1] | tag | data size | value |
-      for (JsonObject element: obj.getJsonListField()) {
-        output.writeUInt32NoTag(50);
-        output.writeUInt32NoTag(VertxStructProtoConverter.computeSize(element));
-        VertxStructProtoConverter.toProto(element, output);
-      }
-    }
-    // address
-    if (obj.getAddress() != null) {
-      output.writeUInt32NoTag(58);
-      output.writeUInt32NoTag(cache.get(index));
-      index = AddressProtoConverter.toProto(obj.getAddress(), output, cache, index, encodingMode);
-    }
-    // byteField
-    if (obj.getByteField() != null) {
-      output.writeInt32(8, obj.getByteField());
-    }
-    // doubleField
-    if (compatibleMode && obj.getDoubleField() == null) {
-      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
-    }
-    if ((!compatibleMode && obj.getDoubleField() != null) || (compatibleMode && obj.getDoubleField() != 0d)) {
-      output.writeDouble(9, obj.getDoubleField());
-    }
-    // floatField
-    if (compatibleMode && obj.getFloatField() == null) {
-      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
-    }
-    if ((!compatibleMode && obj.getFloatField() != null) || (compatibleMode && obj.getFloatField() != 0f)) {
-      output.writeFloat(10, obj.getFloatField());
-    }
-    // longField
-    if (compatibleMode && obj.getLongField() == null) {
-      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
-    }
-    if ((!compatibleMode && obj.getLongField() != null) || (compatibleMode && obj.getLongField() != 0L)) {
-      output.writeInt64(11, obj.getLongField());
-    }
-    // boolField
-    if (compatibleMode && obj.getBoolField() == null) {
-      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
-    }
-    if ((!compatibleMode && obj.getBoolField() != null) || (compatibleMode && !obj.getBoolField())) {
-      output.writeBool(12, obj.getBoolField());
-    }
-    // shortField
-    if (compatibleMode && obj.getShortField() == null) {
-      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
-    }
-    if ((!compatibleMode && obj.getShortField() != null) || (compatibleMode && obj.getShortField() != (short)0)) {
-      output.writeInt32(13, obj.getShortField());
-    }
-    // charField
-    if (obj.getCharField() != null) {
-      output.writeInt32(14, obj.getCharField());
-    }
-    // stringValueMap
-    if (obj.getStringValueMap() != null) {
-      // map[0] | tag | data size | key | value |
-      // map[1] | tag | data size | key | value |
-      for (Map.Entry<String, String> entry : obj.getStringValueMap().entrySet()) {
-        output.writeUInt32NoTag(122);
-        // calculate data size
-        int dataSize = 0;
-        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
-        dataSize += CodedOutputStream.computeStringSize(2, entry.getValue());
-        // key
-        output.writeUInt32NoTag(dataSize);
-        // value
-        output.writeString(1, entry.getKey());
-        output.writeString(2, entry.getValue());
-      }
-    }
-    // integerValueMap
-    if (obj.getIntegerValueMap() != null) {
-      // map[0] | tag | data size | key | value |
-      // map[1] | tag | data size | key | value |
-      for (Map.Entry<String, Integer> entry : obj.getIntegerValueMap().entrySet()) {
-        output.writeUInt32NoTag(130);
-        // calculate data size
-        int dataSize = 0;
-        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
-        dataSize += CodedOutputStream.computeInt32Size(2, entry.getValue());
-        // key
-        output.writeUInt32NoTag(dataSize);
-        // value
-        output.writeString(1, entry.getKey());
-        output.writeInt32(2, entry.getValue());
-      }
-    }
-    // structValueMap
-    if (obj.getStructValueMap() != null) {
-      // map[0] | tag | data size | key | value |
-      // map[1] | tag | data size | key | value |
-      for (Map.Entry<String, Address> entry : obj.getStructValueMap().entrySet()) {
-        output.writeUInt32NoTag(138);
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Integer> list = obj.getIntegerListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 24: {
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>());
+          }
+          obj.getIntegerListField().add(input.readInt32());
+          break;
+        }
+        case 34: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, nested);
+          if (obj.getStructListField() == null) {
+            obj.setStructListField(new ArrayList<>());
+          }
+          obj.getStructListField().add(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 42: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getZonedDateTimeListField() == null) {
+            obj.setZonedDateTimeListField(new ArrayList<>());
+          }
+          obj.getZonedDateTimeListField().add(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 50: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getJsonListField() == null) {
+            obj.setJsonListField(new ArrayList<>());
+          }
+          obj.getJsonListField().add(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 58: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, nested);
+          obj.setAddress(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 64: {
+          obj.setByteField((byte) input.readInt32());
+          break;
+        }
+        case 73: {
+          obj.setDoubleField(input.readDouble());
+          break;
+        }
+        case 85: {
+          obj.setFloatField(input.readFloat());
+          break;
+        }
+        case 88: {
+          obj.setLongField(input.readInt64());
+          break;
+        }
+        case 96: {
+          obj.setBoolField(input.readBool());
+          break;
+        }
+        case 104: {
+          obj.setShortField((short) input.readInt32());
+          break;
+        }
+        case 112: {
+          obj.setCharField((char) input.readInt32());
+          break;
+        }
+        case 122: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, String> map = obj.getStringValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          String value = input.readString();
+          map.put(key, value);
+          obj.setStringValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 130: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, Integer> map = obj.getIntegerValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          Integer value = input.readInt32();
+          map.put(key, value);
+          obj.setIntegerValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 138: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, Address> map = obj.getStructValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          Address value = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, value);
+          map.put(key, value);
+          obj.setStructValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 146: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, JsonObject> map = obj.getJsonValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, VertxStructProtoConverter.fromProto(input));
+          obj.setJsonValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 154: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, ZonedDateTime> map = obj.getZonedDateTimeValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, ZonedDateTimeProtoConverter.fromProto(input));
+          obj.setZonedDateTimeValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 162: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setZonedDateTimeField(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 170: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setInstantField(InstantProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 178: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonObjectField(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 186: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonArrayField(VertxStructListProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 192: {
+          obj.setPrimitiveBoolean(input.readBool());
+          break;
+        }
+        case 200: {
+          obj.setPrimitiveByte((byte) input.readInt32());
+          break;
+        }
+        case 208: {
+          obj.setPrimitiveShort((short) input.readInt32());
+          break;
+        }
+        case 216: {
+          obj.setPrimitiveInt(input.readInt32());
+          break;
+        }
+        case 224: {
+          obj.setPrimitiveLong(input.readInt64());
+          break;
+        }
+        case 237: {
+          obj.setPrimitiveFloat(input.readFloat());
+          break;
+        }
+        case 241: {
+          obj.setPrimitiveDouble(input.readDouble());
+          break;
+        }
+        case 248: {
+          obj.setPrimitiveChar((char) input.readInt32());
+          break;
+        }
+        case 256: {
+          switch (input.readEnum()) {
+            case 0:
+              obj.setEnumType(EnumType.A);
+              break;
+            case 1:
+              obj.setEnumType(EnumType.B);
+              break;
+            case 2:
+              obj.setEnumType(EnumType.C);
+              break;
+          }
+          break;
+        }
+        case 266: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Long> list = obj.getLongListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt64());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 264: {
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>());
+          }
+          obj.getLongListField().add(input.readInt64());
+          break;
+        }
+        case 274: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleListField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 8)));
+          }
+          List<Double> list = obj.getDoubleListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readDouble());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 273: {
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>());
+          }
+          obj.getDoubleListField().add(input.readDouble());
+          break;
+        }
+        case 282: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatListField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 4)));
+          }
+          List<Float> list = obj.getFloatListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readFloat());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 285: {
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>());
+          }
+          obj.getFloatListField().add(input.readFloat());
+          break;
+        }
+        case 290: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Boolean> list = obj.getBooleanListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readBool());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 288: {
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>());
+          }
+          obj.getBooleanListField().add(input.readBool());
+          break;
+        }
+        case 298: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (intArrayFieldCount == intArrayFieldArray.length) {
+              intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+            }
+            intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 296: {
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+          intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          break;
+        }
+        case 306: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (longArrayFieldCount == longArrayFieldArray.length) {
+              longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+            }
+            longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 304: {
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+          longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          break;
+        }
+        case 314: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleArrayField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, ProtoArrays.initialCapacity(length, 8));
+          while (input.getBytesUntilLimit() > 0) {
+            if (doubleArrayFieldCount == doubleArrayFieldArray.length) {
+              doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+            }
+            doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 313: {
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+          doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          break;
+        }
+        case 322: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatArrayField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, ProtoArrays.initialCapacity(length, 4));
+          while (input.getBytesUntilLimit() > 0) {
+            if (floatArrayFieldCount == floatArrayFieldArray.length) {
+              floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+            }
+            floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 325: {
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+          floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            if (intArrayFieldArray != null) {
+              obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+            }
+            if (longArrayFieldArray != null) {
+              obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+            }
+            if (doubleArrayFieldArray != null) {
+              obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+            }
+            if (floatArrayFieldArray != null) {
+              obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+            }
+            return;
+          }
+          break;
+        }
+      }
+    } // while loop
+    if (intArrayFieldArray != null) {
+      obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+    }
+    if (longArrayFieldArray != null) {
+      obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+    }
+    if (doubleArrayFieldArray != null) {
+      obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+    }
+    if (floatArrayFieldArray != null) {
+      obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+    }
+  }
+
+  public static void streamStructListField(CodedInputStream input, User obj, Handler<Address> handler) throws IOException {
+    streamStructListField(input, obj, ProtobufEncodingMode.VERTX, handler);
+  }
+
+  public static void streamStructListField(CodedInputStream input, User obj, ProtobufEncodingMode encodingMode, Handler<Address> handler) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        streamStructListFieldVertx(input, obj, handler);
+        break;
+      case GOOGLE_COMPATIBLE:
+        streamStructListFieldGoogleCompatible(input, obj, handler);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static ReadStream<Address> streamStructListField(CodedInputStream input, User obj) {
+    return streamStructListField(input, obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static ReadStream<Address> streamStructListField(CodedInputStream input, User obj, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return streamStructListFieldVertx(input, obj);
+      case GOOGLE_COMPATIBLE:
+        return streamStructListFieldGoogleCompatible(input, obj);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static void streamStructListFieldVertx(CodedInputStream input, User obj, Handler<Address> handler) throws IOException {
+    Address element;
+    while ((element = readStructListFieldVertx(input, obj)) != null) {
+      handler.handle(element);
+    }
+  }
+
+  static ReadStream<Address> streamStructListFieldVertx(CodedInputStream input, User obj) {
+    return new ProtoReadStream<>(() -> readStructListFieldVertx(input, obj));
+  }
+
+  static Address readStructListFieldVertx(CodedInputStream input, User obj) throws IOException {
+    int[] intArrayFieldArray = null;
+    int intArrayFieldCount = 0;
+    long[] longArrayFieldArray = null;
+    int longArrayFieldCount = 0;
+    double[] doubleArrayFieldArray = null;
+    int doubleArrayFieldCount = 0;
+    float[] floatArrayFieldArray = null;
+    int floatArrayFieldCount = 0;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setUserName(input.readString());
+          break;
+        }
+        case 16: {
+          obj.setAge(input.readInt32());
+          break;
+        }
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Integer> list = obj.getIntegerListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 24: {
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>());
+          }
+          obj.getIntegerListField().add(input.readInt32());
+          break;
+        }
+        case 34: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address element = new Address();
+          AddressProtoConverter.fromProtoVertx(input, element);
+          input.popLimit(limit);
+          if (intArrayFieldArray != null) {
+            obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+          }
+          if (longArrayFieldArray != null) {
+            obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+          }
+          if (doubleArrayFieldArray != null) {
+            obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+          }
+          if (floatArrayFieldArray != null) {
+            obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+          }
+          return element;
+        }
+        case 42: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getZonedDateTimeListField() == null) {
+            obj.setZonedDateTimeListField(new ArrayList<>());
+          }
+          obj.getZonedDateTimeListField().add(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 50: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getJsonListField() == null) {
+            obj.setJsonListField(new ArrayList<>());
+          }
+          obj.getJsonListField().add(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 58: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoVertx(input, nested);
+          obj.setAddress(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 64: {
+          obj.setByteField((byte) input.readInt32());
+          break;
+        }
+        case 73: {
+          obj.setDoubleField(input.readDouble());
+          break;
+        }
+        case 85: {
+          obj.setFloatField(input.readFloat());
+          break;
+        }
+        case 88: {
+          obj.setLongField(input.readInt64());
+          break;
+        }
+        case 96: {
+          obj.setBoolField(input.readBool());
+          break;
+        }
+        case 104: {
+          obj.setShortField((short) input.readInt32());
+          break;
+        }
+        case 112: {
+          obj.setCharField((char) input.readInt32());
+          break;
+        }
+        case 122: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, String> map = obj.getStringValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          String value = input.readString();
+          map.put(key, value);
+          obj.setStringValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 130: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, Integer> map = obj.getIntegerValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          Integer value = input.readInt32();
+          map.put(key, value);
+          obj.setIntegerValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 138: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, Address> map = obj.getStructValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          Address value = new Address();
+          AddressProtoConverter.fromProtoVertx(input, value);
+          map.put(key, value);
+          obj.setStructValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 146: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, JsonObject> map = obj.getJsonValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, VertxStructProtoConverter.fromProto(input));
+          obj.setJsonValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 154: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, ZonedDateTime> map = obj.getZonedDateTimeValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, ZonedDateTimeProtoConverter.fromProto(input));
+          obj.setZonedDateTimeValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 162: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setZonedDateTimeField(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 170: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setInstantField(InstantProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 178: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonObjectField(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 186: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonArrayField(VertxStructListProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 192: {
+          obj.setPrimitiveBoolean(input.readBool());
+          break;
+        }
+        case 200: {
+          obj.setPrimitiveByte((byte) input.readInt32());
+          break;
+        }
+        case 208: {
+          obj.setPrimitiveShort((short) input.readInt32());
+          break;
+        }
+        case 216: {
+          obj.setPrimitiveInt(input.readInt32());
+          break;
+        }
+        case 224: {
+          obj.setPrimitiveLong(input.readInt64());
+          break;
+        }
+        case 237: {
+          obj.setPrimitiveFloat(input.readFloat());
+          break;
+        }
+        case 241: {
+          obj.setPrimitiveDouble(input.readDouble());
+          break;
+        }
+        case 248: {
+          obj.setPrimitiveChar((char) input.readInt32());
+          break;
+        }
+        case 256: {
+          switch (input.readEnum()) {
+            case 0:
+              obj.setEnumType(EnumType.A);
+              break;
+            case 1:
+              obj.setEnumType(EnumType.B);
+              break;
+            case 2:
+              obj.setEnumType(EnumType.C);
+              break;
+          }
+          break;
+        }
+        case 266: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Long> list = obj.getLongListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt64());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 264: {
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>());
+          }
+          obj.getLongListField().add(input.readInt64());
+          break;
+        }
+        case 274: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleListField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 8)));
+          }
+          List<Double> list = obj.getDoubleListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readDouble());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 273: {
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>());
+          }
+          obj.getDoubleListField().add(input.readDouble());
+          break;
+        }
+        case 282: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatListField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 4)));
+          }
+          List<Float> list = obj.getFloatListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readFloat());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 285: {
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>());
+          }
+          obj.getFloatListField().add(input.readFloat());
+          break;
+        }
+        case 290: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Boolean> list = obj.getBooleanListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readBool());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 288: {
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>());
+          }
+          obj.getBooleanListField().add(input.readBool());
+          break;
+        }
+        case 298: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (intArrayFieldCount == intArrayFieldArray.length) {
+              intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+            }
+            intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 296: {
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+          intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          break;
+        }
+        case 306: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (longArrayFieldCount == longArrayFieldArray.length) {
+              longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+            }
+            longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 304: {
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+          longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          break;
+        }
+        case 314: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleArrayField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, ProtoArrays.initialCapacity(length, 8));
+          while (input.getBytesUntilLimit() > 0) {
+            if (doubleArrayFieldCount == doubleArrayFieldArray.length) {
+              doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+            }
+            doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 313: {
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+          doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          break;
+        }
+        case 322: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatArrayField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, ProtoArrays.initialCapacity(length, 4));
+          while (input.getBytesUntilLimit() > 0) {
+            if (floatArrayFieldCount == floatArrayFieldArray.length) {
+              floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+            }
+            floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 325: {
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+          floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            if (intArrayFieldArray != null) {
+              obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+            }
+            if (longArrayFieldArray != null) {
+              obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+            }
+            if (doubleArrayFieldArray != null) {
+              obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+            }
+            if (floatArrayFieldArray != null) {
+              obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+            }
+            return null;
+          }
+          break;
+        }
+      }
+    } // while loop
+    if (intArrayFieldArray != null) {
+      obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+    }
+    if (longArrayFieldArray != null) {
+      obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+    }
+    if (doubleArrayFieldArray != null) {
+      obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+    }
+    if (floatArrayFieldArray != null) {
+      obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+    }
+    return null;
+  }
+
+  static void streamStructListFieldGoogleCompatible(CodedInputStream input, User obj, Handler<Address> handler) throws IOException {
+    obj.setUserName("");
+    obj.setAge(0);
+    obj.setDoubleField(0d);
+    obj.setFloatField(0f);
+    obj.setLongField(0L);
+    obj.setBoolField(false);
+    obj.setShortField((short)0);
+    Address element;
+    while ((element = readStructListFieldGoogleCompatible(input, obj)) != null) {
+      handler.handle(element);
+    }
+  }
+
+  static ReadStream<Address> streamStructListFieldGoogleCompatible(CodedInputStream input, User obj) {
+    obj.setUserName("");
+    obj.setAge(0);
+    obj.setDoubleField(0d);
+    obj.setFloatField(0f);
+    obj.setLongField(0L);
+    obj.setBoolField(false);
+    obj.setShortField((short)0);
+    return new ProtoReadStream<>(() -> readStructListFieldGoogleCompatible(input, obj));
+  }
+
+  static Address readStructListFieldGoogleCompatible(CodedInputStream input, User obj) throws IOException {
+    int[] intArrayFieldArray = null;
+    int intArrayFieldCount = 0;
+    long[] longArrayFieldArray = null;
+    int longArrayFieldCount = 0;
+    double[] doubleArrayFieldArray = null;
+    int doubleArrayFieldCount = 0;
+    float[] floatArrayFieldArray = null;
+    int floatArrayFieldCount = 0;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setUserName(input.readString());
+          break;
+        }
+        case 16: {
+          obj.setAge(input.readInt32());
+          break;
+        }
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Integer> list = obj.getIntegerListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 24: {
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>());
+          }
+          obj.getIntegerListField().add(input.readInt32());
+          break;
+        }
+        case 34: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address element = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, element);
+          input.popLimit(limit);
+          if (intArrayFieldArray != null) {
+            obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+          }
+          if (longArrayFieldArray != null) {
+            obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+          }
+          if (doubleArrayFieldArray != null) {
+            obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+          }
+          if (floatArrayFieldArray != null) {
+            obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+          }
+          return element;
+        }
+        case 42: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getZonedDateTimeListField() == null) {
+            obj.setZonedDateTimeListField(new ArrayList<>());
+          }
+          obj.getZonedDateTimeListField().add(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 50: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getJsonListField() == null) {
+            obj.setJsonListField(new ArrayList<>());
+          }
+          obj.getJsonListField().add(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 58: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, nested);
+          obj.setAddress(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 64: {
+          obj.setByteField((byte) input.readInt32());
+          break;
+        }
+        case 73: {
+          obj.setDoubleField(input.readDouble());
+          break;
+        }
+        case 85: {
+          obj.setFloatField(input.readFloat());
+          break;
+        }
+        case 88: {
+          obj.setLongField(input.readInt64());
+          break;
+        }
+        case 96: {
+          obj.setBoolField(input.readBool());
+          break;
+        }
+        case 104: {
+          obj.setShortField((short) input.readInt32());
+          break;
+        }
+        case 112: {
+          obj.setCharField((char) input.readInt32());
+          break;
+        }
+        case 122: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, String> map = obj.getStringValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          String value = input.readString();
+          map.put(key, value);
+          obj.setStringValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 130: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, Integer> map = obj.getIntegerValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          Integer value = input.readInt32();
+          map.put(key, value);
+          obj.setIntegerValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 138: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, Address> map = obj.getStructValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          Address value = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, value);
+          map.put(key, value);
+          obj.setStructValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 146: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, JsonObject> map = obj.getJsonValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, VertxStructProtoConverter.fromProto(input));
+          obj.setJsonValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 154: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, ZonedDateTime> map = obj.getZonedDateTimeValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, ZonedDateTimeProtoConverter.fromProto(input));
+          obj.setZonedDateTimeValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 162: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setZonedDateTimeField(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 170: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setInstantField(InstantProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 178: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonObjectField(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 186: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonArrayField(VertxStructListProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 192: {
+          obj.setPrimitiveBoolean(input.readBool());
+          break;
+        }
+        case 200: {
+          obj.setPrimitiveByte((byte) input.readInt32());
+          break;
+        }
+        case 208: {
+          obj.setPrimitiveShort((short) input.readInt32());
+          break;
+        }
+        case 216: {
+          obj.setPrimitiveInt(input.readInt32());
+          break;
+        }
+        case 224: {
+          obj.setPrimitiveLong(input.readInt64());
+          break;
+        }
+        case 237: {
+          obj.setPrimitiveFloat(input.readFloat());
+          break;
+        }
+        case 241: {
+          obj.setPrimitiveDouble(input.readDouble());
+          break;
+        }
+        case 248: {
+          obj.setPrimitiveChar((char) input.readInt32());
+          break;
+        }
+        case 256: {
+          switch (input.readEnum()) {
+            case 0:
+              obj.setEnumType(EnumType.A);
+              break;
+            case 1:
+              obj.setEnumType(EnumType.B);
+              break;
+            case 2:
+              obj.setEnumType(EnumType.C);
+              break;
+          }
+          break;
+        }
+        case 266: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Long> list = obj.getLongListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt64());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 264: {
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>());
+          }
+          obj.getLongListField().add(input.readInt64());
+          break;
+        }
+        case 274: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleListField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 8)));
+          }
+          List<Double> list = obj.getDoubleListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readDouble());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 273: {
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>());
+          }
+          obj.getDoubleListField().add(input.readDouble());
+          break;
+        }
+        case 282: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatListField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 4)));
+          }
+          List<Float> list = obj.getFloatListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readFloat());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 285: {
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>());
+          }
+          obj.getFloatListField().add(input.readFloat());
+          break;
+        }
+        case 290: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Boolean> list = obj.getBooleanListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readBool());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 288: {
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>());
+          }
+          obj.getBooleanListField().add(input.readBool());
+          break;
+        }
+        case 298: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (intArrayFieldCount == intArrayFieldArray.length) {
+              intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+            }
+            intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 296: {
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+          intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          break;
+        }
+        case 306: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (longArrayFieldCount == longArrayFieldArray.length) {
+              longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+            }
+            longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 304: {
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+          longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          break;
+        }
+        case 314: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleArrayField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, ProtoArrays.initialCapacity(length, 8));
+          while (input.getBytesUntilLimit() > 0) {
+            if (doubleArrayFieldCount == doubleArrayFieldArray.length) {
+              doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+            }
+            doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 313: {
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+          doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          break;
+        }
+        case 322: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatArrayField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, ProtoArrays.initialCapacity(length, 4));
+          while (input.getBytesUntilLimit() > 0) {
+            if (floatArrayFieldCount == floatArrayFieldArray.length) {
+              floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+            }
+            floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 325: {
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+          floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            if (intArrayFieldArray != null) {
+              obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+            }
+            if (longArrayFieldArray != null) {
+              obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+            }
+            if (doubleArrayFieldArray != null) {
+              obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+            }
+            if (floatArrayFieldArray != null) {
+              obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+            }
+            return null;
+          }
+          break;
+        }
+      }
+    } // while loop
+    if (intArrayFieldArray != null) {
+      obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+    }
+    if (longArrayFieldArray != null) {
+      obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+    }
+    if (doubleArrayFieldArray != null) {
+      obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+    }
+    if (floatArrayFieldArray != null) {
+      obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+    }
+    return null;
+  }
+
+  public static void streamZonedDateTimeListField(CodedInputStream input, User obj, Handler<ZonedDateTime> handler) throws IOException {
+    streamZonedDateTimeListField(input, obj, ProtobufEncodingMode.VERTX, handler);
+  }
+
+  public static void streamZonedDateTimeListField(CodedInputStream input, User obj, ProtobufEncodingMode encodingMode, Handler<ZonedDateTime> handler) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        streamZonedDateTimeListFieldVertx(input, obj, handler);
+        break;
+      case GOOGLE_COMPATIBLE:
+        streamZonedDateTimeListFieldGoogleCompatible(input, obj, handler);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static ReadStream<ZonedDateTime> streamZonedDateTimeListField(CodedInputStream input, User obj) {
+    return streamZonedDateTimeListField(input, obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static ReadStream<ZonedDateTime> streamZonedDateTimeListField(CodedInputStream input, User obj, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return streamZonedDateTimeListFieldVertx(input, obj);
+      case GOOGLE_COMPATIBLE:
+        return streamZonedDateTimeListFieldGoogleCompatible(input, obj);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static void streamZonedDateTimeListFieldVertx(CodedInputStream input, User obj, Handler<ZonedDateTime> handler) throws IOException {
+    ZonedDateTime element;
+    while ((element = readZonedDateTimeListFieldVertx(input, obj)) != null) {
+      handler.handle(element);
+    }
+  }
+
+  static ReadStream<ZonedDateTime> streamZonedDateTimeListFieldVertx(CodedInputStream input, User obj) {
+    return new ProtoReadStream<>(() -> readZonedDateTimeListFieldVertx(input, obj));
+  }
+
+  static ZonedDateTime readZonedDateTimeListFieldVertx(CodedInputStream input, User obj) throws IOException {
+    int[] intArrayFieldArray = null;
+    int intArrayFieldCount = 0;
+    long[] longArrayFieldArray = null;
+    int longArrayFieldCount = 0;
+    double[] doubleArrayFieldArray = null;
+    int doubleArrayFieldCount = 0;
+    float[] floatArrayFieldArray = null;
+    int floatArrayFieldCount = 0;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setUserName(input.readString());
+          break;
+        }
+        case 16: {
+          obj.setAge(input.readInt32());
+          break;
+        }
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Integer> list = obj.getIntegerListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 24: {
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>());
+          }
+          obj.getIntegerListField().add(input.readInt32());
+          break;
+        }
+        case 34: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoVertx(input, nested);
+          if (obj.getStructListField() == null) {
+            obj.setStructListField(new ArrayList<>());
+          }
+          obj.getStructListField().add(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 42: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          ZonedDateTime element = ZonedDateTimeProtoConverter.fromProto(input);
+          input.popLimit(limit);
+          if (intArrayFieldArray != null) {
+            obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+          }
+          if (longArrayFieldArray != null) {
+            obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+          }
+          if (doubleArrayFieldArray != null) {
+            obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+          }
+          if (floatArrayFieldArray != null) {
+            obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+          }
+          return element;
+        }
+        case 50: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getJsonListField() == null) {
+            obj.setJsonListField(new ArrayList<>());
+          }
+          obj.getJsonListField().add(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 58: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoVertx(input, nested);
+          obj.setAddress(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 64: {
+          obj.setByteField((byte) input.readInt32());
+          break;
+        }
+        case 73: {
+          obj.setDoubleField(input.readDouble());
+          break;
+        }
+        case 85: {
+          obj.setFloatField(input.readFloat());
+          break;
+        }
+        case 88: {
+          obj.setLongField(input.readInt64());
+          break;
+        }
+        case 96: {
+          obj.setBoolField(input.readBool());
+          break;
+        }
+        case 104: {
+          obj.setShortField((short) input.readInt32());
+          break;
+        }
+        case 112: {
+          obj.setCharField((char) input.readInt32());
+          break;
+        }
+        case 122: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, String> map = obj.getStringValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          String value = input.readString();
+          map.put(key, value);
+          obj.setStringValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 130: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, Integer> map = obj.getIntegerValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          Integer value = input.readInt32();
+          map.put(key, value);
+          obj.setIntegerValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 138: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, Address> map = obj.getStructValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          Address value = new Address();
+          AddressProtoConverter.fromProtoVertx(input, value);
+          map.put(key, value);
+          obj.setStructValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 146: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, JsonObject> map = obj.getJsonValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, VertxStructProtoConverter.fromProto(input));
+          obj.setJsonValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 154: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, ZonedDateTime> map = obj.getZonedDateTimeValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, ZonedDateTimeProtoConverter.fromProto(input));
+          obj.setZonedDateTimeValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 162: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setZonedDateTimeField(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 170: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setInstantField(InstantProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 178: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonObjectField(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 186: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonArrayField(VertxStructListProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 192: {
+          obj.setPrimitiveBoolean(input.readBool());
+          break;
+        }
+        case 200: {
+          obj.setPrimitiveByte((byte) input.readInt32());
+          break;
+        }
+        case 208: {
+          obj.setPrimitiveShort((short) input.readInt32());
+          break;
+        }
+        case 216: {
+          obj.setPrimitiveInt(input.readInt32());
+          break;
+        }
+        case 224: {
+          obj.setPrimitiveLong(input.readInt64());
+          break;
+        }
+        case 237: {
+          obj.setPrimitiveFloat(input.readFloat());
+          break;
+        }
+        case 241: {
+          obj.setPrimitiveDouble(input.readDouble());
+          break;
+        }
+        case 248: {
+          obj.setPrimitiveChar((char) input.readInt32());
+          break;
+        }
+        case 256: {
+          switch (input.readEnum()) {
+            case 0:
+              obj.setEnumType(EnumType.A);
+              break;
+            case 1:
+              obj.setEnumType(EnumType.B);
+              break;
+            case 2:
+              obj.setEnumType(EnumType.C);
+              break;
+          }
+          break;
+        }
+        case 266: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Long> list = obj.getLongListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt64());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 264: {
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>());
+          }
+          obj.getLongListField().add(input.readInt64());
+          break;
+        }
+        case 274: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleListField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 8)));
+          }
+          List<Double> list = obj.getDoubleListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readDouble());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 273: {
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>());
+          }
+          obj.getDoubleListField().add(input.readDouble());
+          break;
+        }
+        case 282: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatListField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 4)));
+          }
+          List<Float> list = obj.getFloatListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readFloat());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 285: {
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>());
+          }
+          obj.getFloatListField().add(input.readFloat());
+          break;
+        }
+        case 290: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Boolean> list = obj.getBooleanListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readBool());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 288: {
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>());
+          }
+          obj.getBooleanListField().add(input.readBool());
+          break;
+        }
+        case 298: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (intArrayFieldCount == intArrayFieldArray.length) {
+              intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+            }
+            intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 296: {
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+          intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          break;
+        }
+        case 306: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (longArrayFieldCount == longArrayFieldArray.length) {
+              longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+            }
+            longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 304: {
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+          longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          break;
+        }
+        case 314: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleArrayField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, ProtoArrays.initialCapacity(length, 8));
+          while (input.getBytesUntilLimit() > 0) {
+            if (doubleArrayFieldCount == doubleArrayFieldArray.length) {
+              doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+            }
+            doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 313: {
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+          doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          break;
+        }
+        case 322: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatArrayField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, ProtoArrays.initialCapacity(length, 4));
+          while (input.getBytesUntilLimit() > 0) {
+            if (floatArrayFieldCount == floatArrayFieldArray.length) {
+              floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+            }
+            floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 325: {
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+          floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            if (intArrayFieldArray != null) {
+              obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+            }
+            if (longArrayFieldArray != null) {
+              obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+            }
+            if (doubleArrayFieldArray != null) {
+              obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+            }
+            if (floatArrayFieldArray != null) {
+              obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+            }
+            return null;
+          }
+          break;
+        }
+      }
+    } // while loop
+    if (intArrayFieldArray != null) {
+      obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+    }
+    if (longArrayFieldArray != null) {
+      obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+    }
+    if (doubleArrayFieldArray != null) {
+      obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+    }
+    if (floatArrayFieldArray != null) {
+      obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+    }
+    return null;
+  }
+
+  static void streamZonedDateTimeListFieldGoogleCompatible(CodedInputStream input, User obj, Handler<ZonedDateTime> handler) throws IOException {
+    obj.setUserName("");
+    obj.setAge(0);
+    obj.setDoubleField(0d);
+    obj.setFloatField(0f);
+    obj.setLongField(0L);
+    obj.setBoolField(false);
+    obj.setShortField((short)0);
+    ZonedDateTime element;
+    while ((element = readZonedDateTimeListFieldGoogleCompatible(input, obj)) != null) {
+      handler.handle(element);
+    }
+  }
+
+  static ReadStream<ZonedDateTime> streamZonedDateTimeListFieldGoogleCompatible(CodedInputStream input, User obj) {
+    obj.setUserName("");
+    obj.setAge(0);
+    obj.setDoubleField(0d);
+    obj.setFloatField(0f);
+    obj.setLongField(0L);
+    obj.setBoolField(false);
+    obj.setShortField((short)0);
+    return new ProtoReadStream<>(() -> readZonedDateTimeListFieldGoogleCompatible(input, obj));
+  }
+
+  static ZonedDateTime readZonedDateTimeListFieldGoogleCompatible(CodedInputStream input, User obj) throws IOException {
+    int[] intArrayFieldArray = null;
+    int intArrayFieldCount = 0;
+    long[] longArrayFieldArray = null;
+    int longArrayFieldCount = 0;
+    double[] doubleArrayFieldArray = null;
+    int doubleArrayFieldCount = 0;
+    float[] floatArrayFieldArray = null;
+    int floatArrayFieldCount = 0;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setUserName(input.readString());
+          break;
+        }
+        case 16: {
+          obj.setAge(input.readInt32());
+          break;
+        }
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Integer> list = obj.getIntegerListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 24: {
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>());
+          }
+          obj.getIntegerListField().add(input.readInt32());
+          break;
+        }
+        case 34: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, nested);
+          if (obj.getStructListField() == null) {
+            obj.setStructListField(new ArrayList<>());
+          }
+          obj.getStructListField().add(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 42: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          ZonedDateTime element = ZonedDateTimeProtoConverter.fromProto(input);
+          input.popLimit(limit);
+          if (intArrayFieldArray != null) {
+            obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+          }
+          if (longArrayFieldArray != null) {
+            obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+          }
+          if (doubleArrayFieldArray != null) {
+            obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+          }
+          if (floatArrayFieldArray != null) {
+            obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+          }
+          return element;
+        }
+        case 50: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getJsonListField() == null) {
+            obj.setJsonListField(new ArrayList<>());
+          }
+          obj.getJsonListField().add(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 58: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, nested);
+          obj.setAddress(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 64: {
+          obj.setByteField((byte) input.readInt32());
+          break;
+        }
+        case 73: {
+          obj.setDoubleField(input.readDouble());
+          break;
+        }
+        case 85: {
+          obj.setFloatField(input.readFloat());
+          break;
+        }
+        case 88: {
+          obj.setLongField(input.readInt64());
+          break;
+        }
+        case 96: {
+          obj.setBoolField(input.readBool());
+          break;
+        }
+        case 104: {
+          obj.setShortField((short) input.readInt32());
+          break;
+        }
+        case 112: {
+          obj.setCharField((char) input.readInt32());
+          break;
+        }
+        case 122: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, String> map = obj.getStringValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          String value = input.readString();
+          map.put(key, value);
+          obj.setStringValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 130: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, Integer> map = obj.getIntegerValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          Integer value = input.readInt32();
+          map.put(key, value);
+          obj.setIntegerValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 138: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, Address> map = obj.getStructValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          Address value = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, value);
+          map.put(key, value);
+          obj.setStructValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 146: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, JsonObject> map = obj.getJsonValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, VertxStructProtoConverter.fromProto(input));
+          obj.setJsonValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 154: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, ZonedDateTime> map = obj.getZonedDateTimeValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, ZonedDateTimeProtoConverter.fromProto(input));
+          obj.setZonedDateTimeValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 162: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setZonedDateTimeField(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 170: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setInstantField(InstantProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 178: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonObjectField(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 186: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonArrayField(VertxStructListProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 192: {
+          obj.setPrimitiveBoolean(input.readBool());
+          break;
+        }
+        case 200: {
+          obj.setPrimitiveByte((byte) input.readInt32());
+          break;
+        }
+        case 208: {
+          obj.setPrimitiveShort((short) input.readInt32());
+          break;
+        }
+        case 216: {
+          obj.setPrimitiveInt(input.readInt32());
+          break;
+        }
+        case 224: {
+          obj.setPrimitiveLong(input.readInt64());
+          break;
+        }
+        case 237: {
+          obj.setPrimitiveFloat(input.readFloat());
+          break;
+        }
+        case 241: {
+          obj.setPrimitiveDouble(input.readDouble());
+          break;
+        }
+        case 248: {
+          obj.setPrimitiveChar((char) input.readInt32());
+          break;
+        }
+        case 256: {
+          switch (input.readEnum()) {
+            case 0:
+              obj.setEnumType(EnumType.A);
+              break;
+            case 1:
+              obj.setEnumType(EnumType.B);
+              break;
+            case 2:
+              obj.setEnumType(EnumType.C);
+              break;
+          }
+          break;
+        }
+        case 266: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Long> list = obj.getLongListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt64());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 264: {
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>());
+          }
+          obj.getLongListField().add(input.readInt64());
+          break;
+        }
+        case 274: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleListField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 8)));
+          }
+          List<Double> list = obj.getDoubleListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readDouble());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 273: {
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>());
+          }
+          obj.getDoubleListField().add(input.readDouble());
+          break;
+        }
+        case 282: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatListField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 4)));
+          }
+          List<Float> list = obj.getFloatListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readFloat());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 285: {
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>());
+          }
+          obj.getFloatListField().add(input.readFloat());
+          break;
+        }
+        case 290: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Boolean> list = obj.getBooleanListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readBool());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 288: {
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>());
+          }
+          obj.getBooleanListField().add(input.readBool());
+          break;
+        }
+        case 298: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (intArrayFieldCount == intArrayFieldArray.length) {
+              intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+            }
+            intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 296: {
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+          intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          break;
+        }
+        case 306: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (longArrayFieldCount == longArrayFieldArray.length) {
+              longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+            }
+            longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 304: {
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+          longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          break;
+        }
+        case 314: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleArrayField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, ProtoArrays.initialCapacity(length, 8));
+          while (input.getBytesUntilLimit() > 0) {
+            if (doubleArrayFieldCount == doubleArrayFieldArray.length) {
+              doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+            }
+            doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 313: {
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+          doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          break;
+        }
+        case 322: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatArrayField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, ProtoArrays.initialCapacity(length, 4));
+          while (input.getBytesUntilLimit() > 0) {
+            if (floatArrayFieldCount == floatArrayFieldArray.length) {
+              floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+            }
+            floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 325: {
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+          floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            if (intArrayFieldArray != null) {
+              obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+            }
+            if (longArrayFieldArray != null) {
+              obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+            }
+            if (doubleArrayFieldArray != null) {
+              obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+            }
+            if (floatArrayFieldArray != null) {
+              obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+            }
+            return null;
+          }
+          break;
+        }
+      }
+    } // while loop
+    if (intArrayFieldArray != null) {
+      obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+    }
+    if (longArrayFieldArray != null) {
+      obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+    }
+    if (doubleArrayFieldArray != null) {
+      obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+    }
+    if (floatArrayFieldArray != null) {
+      obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+    }
+    return null;
+  }
+
+  public static void streamJsonListField(CodedInputStream input, User obj, Handler<JsonObject> handler) throws IOException {
+    streamJsonListField(input, obj, ProtobufEncodingMode.VERTX, handler);
+  }
+
+  public static void streamJsonListField(CodedInputStream input, User obj, ProtobufEncodingMode encodingMode, Handler<JsonObject> handler) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        streamJsonListFieldVertx(input, obj, handler);
+        break;
+      case GOOGLE_COMPATIBLE:
+        streamJsonListFieldGoogleCompatible(input, obj, handler);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static ReadStream<JsonObject> streamJsonListField(CodedInputStream input, User obj) {
+    return streamJsonListField(input, obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static ReadStream<JsonObject> streamJsonListField(CodedInputStream input, User obj, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return streamJsonListFieldVertx(input, obj);
+      case GOOGLE_COMPATIBLE:
+        return streamJsonListFieldGoogleCompatible(input, obj);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static void streamJsonListFieldVertx(CodedInputStream input, User obj, Handler<JsonObject> handler) throws IOException {
+    JsonObject element;
+    while ((element = readJsonListFieldVertx(input, obj)) != null) {
+      handler.handle(element);
+    }
+  }
+
+  static ReadStream<JsonObject> streamJsonListFieldVertx(CodedInputStream input, User obj) {
+    return new ProtoReadStream<>(() -> readJsonListFieldVertx(input, obj));
+  }
+
+  static JsonObject readJsonListFieldVertx(CodedInputStream input, User obj) throws IOException {
+    int[] intArrayFieldArray = null;
+    int intArrayFieldCount = 0;
+    long[] longArrayFieldArray = null;
+    int longArrayFieldCount = 0;
+    double[] doubleArrayFieldArray = null;
+    int doubleArrayFieldCount = 0;
+    float[] floatArrayFieldArray = null;
+    int floatArrayFieldCount = 0;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setUserName(input.readString());
+          break;
+        }
+        case 16: {
+          obj.setAge(input.readInt32());
+          break;
+        }
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Integer> list = obj.getIntegerListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 24: {
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>());
+          }
+          obj.getIntegerListField().add(input.readInt32());
+          break;
+        }
+        case 34: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoVertx(input, nested);
+          if (obj.getStructListField() == null) {
+            obj.setStructListField(new ArrayList<>());
+          }
+          obj.getStructListField().add(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 42: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getZonedDateTimeListField() == null) {
+            obj.setZonedDateTimeListField(new ArrayList<>());
+          }
+          obj.getZonedDateTimeListField().add(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 50: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          JsonObject element = VertxStructProtoConverter.fromProto(input);
+          input.popLimit(limit);
+          if (intArrayFieldArray != null) {
+            obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+          }
+          if (longArrayFieldArray != null) {
+            obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+          }
+          if (doubleArrayFieldArray != null) {
+            obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+          }
+          if (floatArrayFieldArray != null) {
+            obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+          }
+          return element;
+        }
+        case 58: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoVertx(input, nested);
+          obj.setAddress(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 64: {
+          obj.setByteField((byte) input.readInt32());
+          break;
+        }
+        case 73: {
+          obj.setDoubleField(input.readDouble());
+          break;
+        }
+        case 85: {
+          obj.setFloatField(input.readFloat());
+          break;
+        }
+        case 88: {
+          obj.setLongField(input.readInt64());
+          break;
+        }
+        case 96: {
+          obj.setBoolField(input.readBool());
+          break;
+        }
+        case 104: {
+          obj.setShortField((short) input.readInt32());
+          break;
+        }
+        case 112: {
+          obj.setCharField((char) input.readInt32());
+          break;
+        }
+        case 122: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, String> map = obj.getStringValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          String value = input.readString();
+          map.put(key, value);
+          obj.setStringValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 130: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, Integer> map = obj.getIntegerValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          Integer value = input.readInt32();
+          map.put(key, value);
+          obj.setIntegerValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 138: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, Address> map = obj.getStructValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          Address value = new Address();
+          AddressProtoConverter.fromProtoVertx(input, value);
+          map.put(key, value);
+          obj.setStructValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 146: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, JsonObject> map = obj.getJsonValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, VertxStructProtoConverter.fromProto(input));
+          obj.setJsonValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 154: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, ZonedDateTime> map = obj.getZonedDateTimeValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, ZonedDateTimeProtoConverter.fromProto(input));
+          obj.setZonedDateTimeValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 162: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setZonedDateTimeField(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 170: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setInstantField(InstantProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 178: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonObjectField(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 186: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonArrayField(VertxStructListProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 192: {
+          obj.setPrimitiveBoolean(input.readBool());
+          break;
+        }
+        case 200: {
+          obj.setPrimitiveByte((byte) input.readInt32());
+          break;
+        }
+        case 208: {
+          obj.setPrimitiveShort((short) input.readInt32());
+          break;
+        }
+        case 216: {
+          obj.setPrimitiveInt(input.readInt32());
+          break;
+        }
+        case 224: {
+          obj.setPrimitiveLong(input.readInt64());
+          break;
+        }
+        case 237: {
+          obj.setPrimitiveFloat(input.readFloat());
+          break;
+        }
+        case 241: {
+          obj.setPrimitiveDouble(input.readDouble());
+          break;
+        }
+        case 248: {
+          obj.setPrimitiveChar((char) input.readInt32());
+          break;
+        }
+        case 256: {
+          switch (input.readEnum()) {
+            case 0:
+              obj.setEnumType(EnumType.A);
+              break;
+            case 1:
+              obj.setEnumType(EnumType.B);
+              break;
+            case 2:
+              obj.setEnumType(EnumType.C);
+              break;
+          }
+          break;
+        }
+        case 266: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Long> list = obj.getLongListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt64());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 264: {
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>());
+          }
+          obj.getLongListField().add(input.readInt64());
+          break;
+        }
+        case 274: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleListField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 8)));
+          }
+          List<Double> list = obj.getDoubleListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readDouble());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 273: {
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>());
+          }
+          obj.getDoubleListField().add(input.readDouble());
+          break;
+        }
+        case 282: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatListField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 4)));
+          }
+          List<Float> list = obj.getFloatListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readFloat());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 285: {
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>());
+          }
+          obj.getFloatListField().add(input.readFloat());
+          break;
+        }
+        case 290: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Boolean> list = obj.getBooleanListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readBool());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 288: {
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>());
+          }
+          obj.getBooleanListField().add(input.readBool());
+          break;
+        }
+        case 298: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (intArrayFieldCount == intArrayFieldArray.length) {
+              intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+            }
+            intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 296: {
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+          intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          break;
+        }
+        case 306: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (longArrayFieldCount == longArrayFieldArray.length) {
+              longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+            }
+            longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 304: {
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+          longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          break;
+        }
+        case 314: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleArrayField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, ProtoArrays.initialCapacity(length, 8));
+          while (input.getBytesUntilLimit() > 0) {
+            if (doubleArrayFieldCount == doubleArrayFieldArray.length) {
+              doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+            }
+            doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 313: {
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+          doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          break;
+        }
+        case 322: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatArrayField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, ProtoArrays.initialCapacity(length, 4));
+          while (input.getBytesUntilLimit() > 0) {
+            if (floatArrayFieldCount == floatArrayFieldArray.length) {
+              floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+            }
+            floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 325: {
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+          floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            if (intArrayFieldArray != null) {
+              obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+            }
+            if (longArrayFieldArray != null) {
+              obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+            }
+            if (doubleArrayFieldArray != null) {
+              obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+            }
+            if (floatArrayFieldArray != null) {
+              obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+            }
+            return null;
+          }
+          break;
+        }
+      }
+    } // while loop
+    if (intArrayFieldArray != null) {
+      obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+    }
+    if (longArrayFieldArray != null) {
+      obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+    }
+    if (doubleArrayFieldArray != null) {
+      obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+    }
+    if (floatArrayFieldArray != null) {
+      obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+    }
+    return null;
+  }
+
+  static void streamJsonListFieldGoogleCompatible(CodedInputStream input, User obj, Handler<JsonObject> handler) throws IOException {
+    obj.setUserName("");
+    obj.setAge(0);
+    obj.setDoubleField(0d);
+    obj.setFloatField(0f);
+    obj.setLongField(0L);
+    obj.setBoolField(false);
+    obj.setShortField((short)0);
+    JsonObject element;
+    while ((element = readJsonListFieldGoogleCompatible(input, obj)) != null) {
+      handler.handle(element);
+    }
+  }
+
+  static ReadStream<JsonObject> streamJsonListFieldGoogleCompatible(CodedInputStream input, User obj) {
+    obj.setUserName("");
+    obj.setAge(0);
+    obj.setDoubleField(0d);
+    obj.setFloatField(0f);
+    obj.setLongField(0L);
+    obj.setBoolField(false);
+    obj.setShortField((short)0);
+    return new ProtoReadStream<>(() -> readJsonListFieldGoogleCompatible(input, obj));
+  }
+
+  static JsonObject readJsonListFieldGoogleCompatible(CodedInputStream input, User obj) throws IOException {
+    int[] intArrayFieldArray = null;
+    int intArrayFieldCount = 0;
+    long[] longArrayFieldArray = null;
+    int longArrayFieldCount = 0;
+    double[] doubleArrayFieldArray = null;
+    int doubleArrayFieldCount = 0;
+    float[] floatArrayFieldArray = null;
+    int floatArrayFieldCount = 0;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setUserName(input.readString());
+          break;
+        }
+        case 16: {
+          obj.setAge(input.readInt32());
+          break;
+        }
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Integer> list = obj.getIntegerListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 24: {
+          if (obj.getIntegerListField() == null) {
+            obj.setIntegerListField(new ArrayList<>());
+          }
+          obj.getIntegerListField().add(input.readInt32());
+          break;
+        }
+        case 34: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, nested);
+          if (obj.getStructListField() == null) {
+            obj.setStructListField(new ArrayList<>());
+          }
+          obj.getStructListField().add(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 42: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getZonedDateTimeListField() == null) {
+            obj.setZonedDateTimeListField(new ArrayList<>());
+          }
+          obj.getZonedDateTimeListField().add(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 50: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          JsonObject element = VertxStructProtoConverter.fromProto(input);
+          input.popLimit(limit);
+          if (intArrayFieldArray != null) {
+            obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+          }
+          if (longArrayFieldArray != null) {
+            obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+          }
+          if (doubleArrayFieldArray != null) {
+            obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+          }
+          if (floatArrayFieldArray != null) {
+            obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+          }
+          return element;
+        }
+        case 58: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, nested);
+          obj.setAddress(nested);
+          input.popLimit(limit);
+          break;
+        }
+        case 64: {
+          obj.setByteField((byte) input.readInt32());
+          break;
+        }
+        case 73: {
+          obj.setDoubleField(input.readDouble());
+          break;
+        }
+        case 85: {
+          obj.setFloatField(input.readFloat());
+          break;
+        }
+        case 88: {
+          obj.setLongField(input.readInt64());
+          break;
+        }
+        case 96: {
+          obj.setBoolField(input.readBool());
+          break;
+        }
+        case 104: {
+          obj.setShortField((short) input.readInt32());
+          break;
+        }
+        case 112: {
+          obj.setCharField((char) input.readInt32());
+          break;
+        }
+        case 122: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, String> map = obj.getStringValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          String value = input.readString();
+          map.put(key, value);
+          obj.setStringValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 130: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, Integer> map = obj.getIntegerValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          Integer value = input.readInt32();
+          map.put(key, value);
+          obj.setIntegerValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        case 138: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, Address> map = obj.getStructValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          Address value = new Address();
+          AddressProtoConverter.fromProtoGoogleCompatible(input, value);
+          map.put(key, value);
+          obj.setStructValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 146: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, JsonObject> map = obj.getJsonValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, VertxStructProtoConverter.fromProto(input));
+          obj.setJsonValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 154: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, ZonedDateTime> map = obj.getZonedDateTimeValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, ZonedDateTimeProtoConverter.fromProto(input));
+          obj.setZonedDateTimeValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        case 162: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setZonedDateTimeField(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 170: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setInstantField(InstantProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 178: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonObjectField(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 186: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonArrayField(VertxStructListProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        case 192: {
+          obj.setPrimitiveBoolean(input.readBool());
+          break;
+        }
+        case 200: {
+          obj.setPrimitiveByte((byte) input.readInt32());
+          break;
+        }
+        case 208: {
+          obj.setPrimitiveShort((short) input.readInt32());
+          break;
+        }
+        case 216: {
+          obj.setPrimitiveInt(input.readInt32());
+          break;
+        }
+        case 224: {
+          obj.setPrimitiveLong(input.readInt64());
+          break;
+        }
+        case 237: {
+          obj.setPrimitiveFloat(input.readFloat());
+          break;
+        }
+        case 241: {
+          obj.setPrimitiveDouble(input.readDouble());
+          break;
+        }
+        case 248: {
+          obj.setPrimitiveChar((char) input.readInt32());
+          break;
+        }
+        case 256: {
+          switch (input.readEnum()) {
+            case 0:
+              obj.setEnumType(EnumType.A);
+              break;
+            case 1:
+              obj.setEnumType(EnumType.B);
+              break;
+            case 2:
+              obj.setEnumType(EnumType.C);
+              break;
+          }
+          break;
+        }
+        case 266: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Long> list = obj.getLongListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt64());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 264: {
+          if (obj.getLongListField() == null) {
+            obj.setLongListField(new ArrayList<>());
+          }
+          obj.getLongListField().add(input.readInt64());
+          break;
+        }
+        case 274: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleListField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 8)));
+          }
+          List<Double> list = obj.getDoubleListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readDouble());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 273: {
+          if (obj.getDoubleListField() == null) {
+            obj.setDoubleListField(new ArrayList<>());
+          }
+          obj.getDoubleListField().add(input.readDouble());
+          break;
+        }
+        case 282: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatListField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 4)));
+          }
+          List<Float> list = obj.getFloatListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readFloat());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 285: {
+          if (obj.getFloatListField() == null) {
+            obj.setFloatListField(new ArrayList<>());
+          }
+          obj.getFloatListField().add(input.readFloat());
+          break;
+        }
+        case 290: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>(ProtoArrays.initialCapacity(length, 1)));
+          }
+          List<Boolean> list = obj.getBooleanListField();
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readBool());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 288: {
+          if (obj.getBooleanListField() == null) {
+            obj.setBooleanListField(new ArrayList<>());
+          }
+          obj.getBooleanListField().add(input.readBool());
+          break;
+        }
+        case 298: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (intArrayFieldCount == intArrayFieldArray.length) {
+              intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+            }
+            intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 296: {
+          if (intArrayFieldArray == null) {
+            intArrayFieldArray = obj.getIntArrayField();
+            intArrayFieldCount = intArrayFieldArray == null ? 0 : intArrayFieldArray.length;
+          }
+          intArrayFieldArray = ProtoArrays.ensureCapacity(intArrayFieldArray, intArrayFieldCount, 1);
+          intArrayFieldArray[intArrayFieldCount++] = input.readInt32();
+          break;
+        }
+        case 306: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, ProtoArrays.initialCapacity(length, 1));
+          while (input.getBytesUntilLimit() > 0) {
+            if (longArrayFieldCount == longArrayFieldArray.length) {
+              longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+            }
+            longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 304: {
+          if (longArrayFieldArray == null) {
+            longArrayFieldArray = obj.getLongArrayField();
+            longArrayFieldCount = longArrayFieldArray == null ? 0 : longArrayFieldArray.length;
+          }
+          longArrayFieldArray = ProtoArrays.ensureCapacity(longArrayFieldArray, longArrayFieldCount, 1);
+          longArrayFieldArray[longArrayFieldCount++] = input.readInt64();
+          break;
+        }
+        case 314: {
+          int length = input.readRawVarint32();
+          if (length % 8 != 0) {
+            throw new InvalidProtocolBufferException("Packed field doubleArrayField has a length of " + length + " bytes, not a multiple of 8");
+          }
+          int limit = input.pushLimit(length);
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, ProtoArrays.initialCapacity(length, 8));
+          while (input.getBytesUntilLimit() > 0) {
+            if (doubleArrayFieldCount == doubleArrayFieldArray.length) {
+              doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+            }
+            doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 313: {
+          if (doubleArrayFieldArray == null) {
+            doubleArrayFieldArray = obj.getDoubleArrayField();
+            doubleArrayFieldCount = doubleArrayFieldArray == null ? 0 : doubleArrayFieldArray.length;
+          }
+          doubleArrayFieldArray = ProtoArrays.ensureCapacity(doubleArrayFieldArray, doubleArrayFieldCount, 1);
+          doubleArrayFieldArray[doubleArrayFieldCount++] = input.readDouble();
+          break;
+        }
+        case 322: {
+          int length = input.readRawVarint32();
+          if (length % 4 != 0) {
+            throw new InvalidProtocolBufferException("Packed field floatArrayField has a length of " + length + " bytes, not a multiple of 4");
+          }
+          int limit = input.pushLimit(length);
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, ProtoArrays.initialCapacity(length, 4));
+          while (input.getBytesUntilLimit() > 0) {
+            if (floatArrayFieldCount == floatArrayFieldArray.length) {
+              floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+            }
+            floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 325: {
+          if (floatArrayFieldArray == null) {
+            floatArrayFieldArray = obj.getFloatArrayField();
+            floatArrayFieldCount = floatArrayFieldArray == null ? 0 : floatArrayFieldArray.length;
+          }
+          floatArrayFieldArray = ProtoArrays.ensureCapacity(floatArrayFieldArray, floatArrayFieldCount, 1);
+          floatArrayFieldArray[floatArrayFieldCount++] = input.readFloat();
+          break;
+        }
+        default: {
+          if (!input.skipField(tag)) {
+            if (intArrayFieldArray != null) {
+              obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+            }
+            if (longArrayFieldArray != null) {
+              obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+            }
+            if (doubleArrayFieldArray != null) {
+              obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+            }
+            if (floatArrayFieldArray != null) {
+              obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+            }
+            return null;
+          }
+          break;
+        }
+      }
+    } // while loop
+    if (intArrayFieldArray != null) {
+      obj.setIntArrayField(intArrayFieldCount == intArrayFieldArray.length ? intArrayFieldArray : Arrays.copyOf(intArrayFieldArray, intArrayFieldCount));
+    }
+    if (longArrayFieldArray != null) {
+      obj.setLongArrayField(longArrayFieldCount == longArrayFieldArray.length ? longArrayFieldArray : Arrays.copyOf(longArrayFieldArray, longArrayFieldCount));
+    }
+    if (doubleArrayFieldArray != null) {
+      obj.setDoubleArrayField(doubleArrayFieldCount == doubleArrayFieldArray.length ? doubleArrayFieldArray : Arrays.copyOf(doubleArrayFieldArray, doubleArrayFieldCount));
+    }
+    if (floatArrayFieldArray != null) {
+      obj.setFloatArrayField(floatArrayFieldCount == floatArrayFieldArray.length ? floatArrayFieldArray : Arrays.copyOf(floatArrayFieldArray, floatArrayFieldCount));
+    }
+    return null;
+  }
+
+  public static void toProto(User obj, CodedOutputStream output) throws IOException {
+    toProto(obj, output, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toProto(User obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      UserProtoConverter.toProto(obj, output, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toProto(User obj, CodedOutputStream output, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) throws IOException {
+    UserProtoConverter.computeSize(obj, cache, encodingMode);
+    UserProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+  }
+
+  static int toProto(User obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        return toProtoVertx(obj, output, cache, index);
+      case GOOGLE_COMPATIBLE:
+        return toProtoGoogleCompatible(obj, output, cache, index);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int toProtoVertx(User obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // userName
+    if (obj.getUserName() != null) {
+      output.writeString(1, obj.getUserName());
+    }
+    // age
+    if (obj.getAge() != null) {
+      output.writeInt32(2, obj.getAge());
+    }
+    // integerListField
+    if (obj.getIntegerListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntegerListField().size() > 0) {
+        output.writeUInt32NoTag(26);
+        int dataSize = 0;
+        for (Integer element: obj.getIntegerListField()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        output.writeUInt32NoTag(dataSize);
+        for (Integer element: obj.getIntegerListField()) {
+          output.writeInt32NoTag(element);
+        }
+      }
+    }
+    // structListField
+    if (obj.getStructListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (Address element: obj.getStructListField()) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(cache.getUnchecked(index));
+        index = AddressProtoConverter.toProtoVertx(element, output, cache, index);
+      }
+    }
+    // zonedDateTimeListField
+    if (obj.getZonedDateTimeListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (ZonedDateTime element: obj.getZonedDateTimeListField()) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(ZonedDateTimeProtoConverter.computeSize(element));
+        ZonedDateTimeProtoConverter.toProto(element, output);
+      }
+    }
+    // jsonListField
+    if (obj.getJsonListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (JsonObject element: obj.getJsonListField()) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(cache.getUnchecked(index));
+        index = VertxStructProtoConverter.toProto(element, output, cache, index);
+      }
+    }
+    // address
+    if (obj.getAddress() != null) {
+      output.writeUInt32NoTag(58);
+      output.writeUInt32NoTag(cache.getUnchecked(index));
+      index = AddressProtoConverter.toProtoVertx(obj.getAddress(), output, cache, index);
+    }
+    // byteField
+    if (obj.getByteField() != null) {
+      output.writeInt32(8, obj.getByteField());
+    }
+    // doubleField
+    if (obj.getDoubleField() != null) {
+      output.writeDouble(9, obj.getDoubleField());
+    }
+    // floatField
+    if (obj.getFloatField() != null) {
+      output.writeFloat(10, obj.getFloatField());
+    }
+    // longField
+    if (obj.getLongField() != null) {
+      output.writeInt64(11, obj.getLongField());
+    }
+    // boolField
+    if (obj.getBoolField() != null) {
+      output.writeBool(12, obj.getBoolField());
+    }
+    // shortField
+    if (obj.getShortField() != null) {
+      output.writeInt32(13, obj.getShortField());
+    }
+    // charField
+    if (obj.getCharField() != null) {
+      output.writeInt32(14, obj.getCharField());
+    }
+    // stringValueMap
+    if (obj.getStringValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, String> entry : obj.getStringValueMap().entrySet()) {
+        output.writeUInt32NoTag(122);
+        // calculate data size
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeStringSize(2, entry.getValue());
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeString(2, entry.getValue());
+      }
+    }
+    // integerValueMap
+    if (obj.getIntegerValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getIntegerValueMap().entrySet()) {
+        output.writeUInt32NoTag(130);
+        // calculate data size
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeInt32Size(2, entry.getValue());
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeInt32(2, entry.getValue());
+      }
+    }
+    // structValueMap
+    if (obj.getStructValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Address> entry : obj.getStructValueMap().entrySet()) {
+        output.writeUInt32NoTag(138);
+        // calculate data size
+        int elementSize = cache.getUnchecked(index);
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
+        dataSize += elementSize;
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(elementSize);
+        index = AddressProtoConverter.toProtoVertx(entry.getValue(), output, cache, index);
+      }
+    }
+    // jsonValueMap
+    if (obj.getJsonValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, JsonObject> entry : obj.getJsonValueMap().entrySet()) {
+        output.writeUInt32NoTag(146);
+        // calculate data size
+        int elementSize = cache.getUnchecked(index);
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
+        dataSize += elementSize;
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(elementSize);
+        index = VertxStructProtoConverter.toProto(entry.getValue(), output, cache, index);
+      }
+    }
+    // zonedDateTimeValueMap
+    if (obj.getZonedDateTimeValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, ZonedDateTime> entry : obj.getZonedDateTimeValueMap().entrySet()) {
+        output.writeUInt32NoTag(154);
+        // calculate data size
+        int elementSize = ZonedDateTimeProtoConverter.computeSize(entry.getValue());
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
+        dataSize += elementSize;
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(elementSize);
+        ZonedDateTimeProtoConverter.toProto(entry.getValue(), output);
+      }
+    }
+    // zonedDateTimeField
+    if (obj.getZonedDateTimeField() != null) {
+      output.writeUInt32NoTag(162);
+      output.writeUInt32NoTag(ZonedDateTimeProtoConverter.computeSize(obj.getZonedDateTimeField()));
+      ZonedDateTimeProtoConverter.toProto(obj.getZonedDateTimeField(), output);
+    }
+    // instantField
+    if (obj.getInstantField() != null) {
+      output.writeUInt32NoTag(170);
+      output.writeUInt32NoTag(InstantProtoConverter.computeSize(obj.getInstantField()));
+      InstantProtoConverter.toProto(obj.getInstantField(), output);
+    }
+    // jsonObjectField
+    if (obj.getJsonObjectField() != null) {
+      output.writeUInt32NoTag(178);
+      output.writeUInt32NoTag(cache.getUnchecked(index));
+      index = VertxStructProtoConverter.toProto(obj.getJsonObjectField(), output, cache, index);
+    }
+    // jsonArrayField
+    if (obj.getJsonArrayField() != null) {
+      output.writeUInt32NoTag(186);
+      output.writeUInt32NoTag(VertxStructListProtoConverter.computeSize(obj.getJsonArrayField()));
+      VertxStructListProtoConverter.toProto(obj.getJsonArrayField(), output);
+    }
+    // primitiveBoolean
+    if (obj.isPrimitiveBoolean()) {
+      output.writeBool(24, obj.isPrimitiveBoolean());
+    }
+    // primitiveByte
+    if (obj.getPrimitiveByte() != 0) {
+      output.writeInt32(25, obj.getPrimitiveByte());
+    }
+    // primitiveShort
+    if (obj.getPrimitiveShort() != 0) {
+      output.writeInt32(26, obj.getPrimitiveShort());
+    }
+    // primitiveInt
+    if (obj.getPrimitiveInt() != 0) {
+      output.writeInt32(27, obj.getPrimitiveInt());
+    }
+    // primitiveLong
+    if (obj.getPrimitiveLong() != 0) {
+      output.writeInt64(28, obj.getPrimitiveLong());
+    }
+    // primitiveFloat
+    if (obj.getPrimitiveFloat() != 0) {
+      output.writeFloat(29, obj.getPrimitiveFloat());
+    }
+    // primitiveDouble
+    if (obj.getPrimitiveDouble() != 0) {
+      output.writeDouble(30, obj.getPrimitiveDouble());
+    }
+    // primitiveChar
+    if (obj.getPrimitiveChar() != 0) {
+      output.writeInt32(31, obj.getPrimitiveChar());
+    }
+    // enumType
+    if (obj.getEnumType() != null) {
+      switch (obj.getEnumType()) {
+        case A:
+          output.writeEnum(32, 0);
+          break;
+        case B:
+          output.writeEnum(32, 1);
+          break;
+        case C:
+          output.writeEnum(32, 2);
+          break;
+      }
+    }
+    // longListField
+    if (obj.getLongListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongListField().size() > 0) {
+        output.writeUInt32NoTag(266);
+        int dataSize = 0;
+        for (Long element: obj.getLongListField()) {
+          dataSize += CodedOutputStream.computeInt64SizeNoTag(element);
+        }
+        output.writeUInt32NoTag(dataSize);
+        for (Long element: obj.getLongListField()) {
+          output.writeInt64NoTag(element);
+        }
+      }
+    }
+    // doubleListField
+    if (obj.getDoubleListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleListField().size() > 0) {
+        output.writeUInt32NoTag(274);
+        int dataSize = obj.getDoubleListField().size() * 8;
+        output.writeUInt32NoTag(dataSize);
+        for (Double element: obj.getDoubleListField()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    // floatListField
+    if (obj.getFloatListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatListField().size() > 0) {
+        output.writeUInt32NoTag(282);
+        int dataSize = obj.getFloatListField().size() * 4;
+        output.writeUInt32NoTag(dataSize);
+        for (Float element: obj.getFloatListField()) {
+          output.writeFloatNoTag(element);
+        }
+      }
+    }
+    // booleanListField
+    if (obj.getBooleanListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getBooleanListField().size() > 0) {
+        output.writeUInt32NoTag(290);
+        int dataSize = obj.getBooleanListField().size() * 1;
+        output.writeUInt32NoTag(dataSize);
+        for (Boolean element: obj.getBooleanListField()) {
+          output.writeBoolNoTag(element);
+        }
+      }
+    }
+    // intArrayField
+    if (obj.getIntArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntArrayField().length > 0) {
+        output.writeUInt32NoTag(298);
+        int dataSize = 0;
+        for (int element: obj.getIntArrayField()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        output.writeUInt32NoTag(dataSize);
+        for (int element: obj.getIntArrayField()) {
+          output.writeInt32NoTag(element);
+        }
+      }
+    }
+    // longArrayField
+    if (obj.getLongArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongArrayField().length > 0) {
+        output.writeUInt32NoTag(306);
+        int dataSize = 0;
+        for (long element: obj.getLongArrayField()) {
+          dataSize += CodedOutputStream.computeInt64SizeNoTag(element);
+        }
+        output.writeUInt32NoTag(dataSize);
+        for (long element: obj.getLongArrayField()) {
+          output.writeInt64NoTag(element);
+        }
+      }
+    }
+    // doubleArrayField
+    if (obj.getDoubleArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleArrayField().length > 0) {
+        output.writeUInt32NoTag(314);
+        int dataSize = obj.getDoubleArrayField().length * 8;
+        output.writeUInt32NoTag(dataSize);
+        for (double element: obj.getDoubleArrayField()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    // floatArrayField
+    if (obj.getFloatArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatArrayField().length > 0) {
+        output.writeUInt32NoTag(322);
+        int dataSize = obj.getFloatArrayField().length * 4;
+        output.writeUInt32NoTag(dataSize);
+        for (float element: obj.getFloatArrayField()) {
+          output.writeFloatNoTag(element);
+        }
+      }
+    }
+    return index;
+  }
+
+  static int toProtoGoogleCompatible(User obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    // userName
+    if (obj.getUserName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getUserName().isEmpty()) {
+      output.writeString(1, obj.getUserName());
+    }
+    // age
+    if (obj.getAge() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getAge() != 0) {
+      output.writeInt32(2, obj.getAge());
+    }
+    // integerListField
+    if (obj.getIntegerListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntegerListField().size() > 0) {
+        output.writeUInt32NoTag(26);
+        int dataSize = 0;
+        for (Integer element: obj.getIntegerListField()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        output.writeUInt32NoTag(dataSize);
+        for (Integer element: obj.getIntegerListField()) {
+          output.writeInt32NoTag(element);
+        }
+      }
+    }
+    // structListField
+    if (obj.getStructListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (Address element: obj.getStructListField()) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(cache.getUnchecked(index));
+        index = AddressProtoConverter.toProtoGoogleCompatible(element, output, cache, index);
+      }
+    }
+    // zonedDateTimeListField
+    if (obj.getZonedDateTimeListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (ZonedDateTime element: obj.getZonedDateTimeListField()) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(ZonedDateTimeProtoConverter.computeSize(element));
+        ZonedDateTimeProtoConverter.toProto(element, output);
+      }
+    }
+    // jsonListField
+    if (obj.getJsonListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (JsonObject element: obj.getJsonListField()) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(cache.getUnchecked(index));
+        index = VertxStructProtoConverter.toProto(element, output, cache, index);
+      }
+    }
+    // address
+    if (obj.getAddress() != null) {
+      output.writeUInt32NoTag(58);
+      output.writeUInt32NoTag(cache.getUnchecked(index));
+      index = AddressProtoConverter.toProtoGoogleCompatible(obj.getAddress(), output, cache, index);
+    }
+    // byteField
+    if (obj.getByteField() != null) {
+      output.writeInt32(8, obj.getByteField());
+    }
+    // doubleField
+    if (obj.getDoubleField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getDoubleField() != 0d) {
+      output.writeDouble(9, obj.getDoubleField());
+    }
+    // floatField
+    if (obj.getFloatField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getFloatField() != 0f) {
+      output.writeFloat(10, obj.getFloatField());
+    }
+    // longField
+    if (obj.getLongField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getLongField() != 0L) {
+      output.writeInt64(11, obj.getLongField());
+    }
+    // boolField
+    if (obj.getBoolField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getBoolField()) {
+      output.writeBool(12, obj.getBoolField());
+    }
+    // shortField
+    if (obj.getShortField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getShortField() != (short)0) {
+      output.writeInt32(13, obj.getShortField());
+    }
+    // charField
+    if (obj.getCharField() != null) {
+      output.writeInt32(14, obj.getCharField());
+    }
+    // stringValueMap
+    if (obj.getStringValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, String> entry : obj.getStringValueMap().entrySet()) {
+        output.writeUInt32NoTag(122);
+        // calculate data size
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeStringSize(2, entry.getValue());
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeString(2, entry.getValue());
+      }
+    }
+    // integerValueMap
+    if (obj.getIntegerValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getIntegerValueMap().entrySet()) {
+        output.writeUInt32NoTag(130);
+        // calculate data size
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeInt32Size(2, entry.getValue());
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeInt32(2, entry.getValue());
+      }
+    }
+    // structValueMap
+    if (obj.getStructValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Address> entry : obj.getStructValueMap().entrySet()) {
+        output.writeUInt32NoTag(138);
+        // calculate data size
+        int elementSize = cache.getUnchecked(index);
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
+        dataSize += elementSize;
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(elementSize);
+        index = AddressProtoConverter.toProtoGoogleCompatible(entry.getValue(), output, cache, index);
+      }
+    }
+    // jsonValueMap
+    if (obj.getJsonValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, JsonObject> entry : obj.getJsonValueMap().entrySet()) {
+        output.writeUInt32NoTag(146);
+        // calculate data size
+        int elementSize = cache.getUnchecked(index);
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
+        dataSize += elementSize;
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(elementSize);
+        index = VertxStructProtoConverter.toProto(entry.getValue(), output, cache, index);
+      }
+    }
+    // zonedDateTimeValueMap
+    if (obj.getZonedDateTimeValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, ZonedDateTime> entry : obj.getZonedDateTimeValueMap().entrySet()) {
+        output.writeUInt32NoTag(154);
+        // calculate data size
+        int elementSize = ZonedDateTimeProtoConverter.computeSize(entry.getValue());
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
+        dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
+        dataSize += elementSize;
+        // key
+        output.writeUInt32NoTag(dataSize);
+        // value
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(elementSize);
+        ZonedDateTimeProtoConverter.toProto(entry.getValue(), output);
+      }
+    }
+    // zonedDateTimeField
+    if (obj.getZonedDateTimeField() != null) {
+      output.writeUInt32NoTag(162);
+      output.writeUInt32NoTag(ZonedDateTimeProtoConverter.computeSize(obj.getZonedDateTimeField()));
+      ZonedDateTimeProtoConverter.toProto(obj.getZonedDateTimeField(), output);
+    }
+    // instantField
+    if (obj.getInstantField() != null) {
+      output.writeUInt32NoTag(170);
+      output.writeUInt32NoTag(InstantProtoConverter.computeSize(obj.getInstantField()));
+      InstantProtoConverter.toProto(obj.getInstantField(), output);
+    }
+    // jsonObjectField
+    if (obj.getJsonObjectField() != null) {
+      output.writeUInt32NoTag(178);
+      output.writeUInt32NoTag(cache.getUnchecked(index));
+      index = VertxStructProtoConverter.toProto(obj.getJsonObjectField(), output, cache, index);
+    }
+    // jsonArrayField
+    if (obj.getJsonArrayField() != null) {
+      output.writeUInt32NoTag(186);
+      output.writeUInt32NoTag(VertxStructListProtoConverter.computeSize(obj.getJsonArrayField()));
+      VertxStructListProtoConverter.toProto(obj.getJsonArrayField(), output);
+    }
+    // primitiveBoolean
+    if (obj.isPrimitiveBoolean()) {
+      output.writeBool(24, obj.isPrimitiveBoolean());
+    }
+    // primitiveByte
+    if (obj.getPrimitiveByte() != 0) {
+      output.writeInt32(25, obj.getPrimitiveByte());
+    }
+    // primitiveShort
+    if (obj.getPrimitiveShort() != 0) {
+      output.writeInt32(26, obj.getPrimitiveShort());
+    }
+    // primitiveInt
+    if (obj.getPrimitiveInt() != 0) {
+      output.writeInt32(27, obj.getPrimitiveInt());
+    }
+    // primitiveLong
+    if (obj.getPrimitiveLong() != 0) {
+      output.writeInt64(28, obj.getPrimitiveLong());
+    }
+    // primitiveFloat
+    if (obj.getPrimitiveFloat() != 0) {
+      output.writeFloat(29, obj.getPrimitiveFloat());
+    }
+    // primitiveDouble
+    if (obj.getPrimitiveDouble() != 0) {
+      output.writeDouble(30, obj.getPrimitiveDouble());
+    }
+    // primitiveChar
+    if (obj.getPrimitiveChar() != 0) {
+      output.writeInt32(31, obj.getPrimitiveChar());
+    }
+    // enumType
+    if (obj.getEnumType() != null) {
+      switch (obj.getEnumType()) {
+        case A:
+          output.writeEnum(32, 0);
+          break;
+        case B:
+          output.writeEnum(32, 1);
+          break;
+        case C:
+          output.writeEnum(32, 2);
+          break;
+      }
+    }
+    // longListField
+    if (obj.getLongListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongListField().size() > 0) {
+        output.writeUInt32NoTag(266);
+        int dataSize = 0;
+        for (Long element: obj.getLongListField()) {
+          dataSize += CodedOutputStream.computeInt64SizeNoTag(element);
+        }
+        output.writeUInt32NoTag(dataSize);
+        for (Long element: obj.getLongListField()) {
+          output.writeInt64NoTag(element);
+        }
+      }
+    }
+    // doubleListField
+    if (obj.getDoubleListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleListField().size() > 0) {
+        output.writeUInt32NoTag(274);
+        int dataSize = obj.getDoubleListField().size() * 8;
+        output.writeUInt32NoTag(dataSize);
+        for (Double element: obj.getDoubleListField()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    // floatListField
+    if (obj.getFloatListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatListField().size() > 0) {
+        output.writeUInt32NoTag(282);
+        int dataSize = obj.getFloatListField().size() * 4;
+        output.writeUInt32NoTag(dataSize);
+        for (Float element: obj.getFloatListField()) {
+          output.writeFloatNoTag(element);
+        }
+      }
+    }
+    // booleanListField
+    if (obj.getBooleanListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getBooleanListField().size() > 0) {
+        output.writeUInt32NoTag(290);
+        int dataSize = obj.getBooleanListField().size() * 1;
+        output.writeUInt32NoTag(dataSize);
+        for (Boolean element: obj.getBooleanListField()) {
+          output.writeBoolNoTag(element);
+        }
+      }
+    }
+    // intArrayField
+    if (obj.getIntArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntArrayField().length > 0) {
+        output.writeUInt32NoTag(298);
+        int dataSize = 0;
+        for (int element: obj.getIntArrayField()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        output.writeUInt32NoTag(dataSize);
+        for (int element: obj.getIntArrayField()) {
+          output.writeInt32NoTag(element);
+        }
+      }
+    }
+    // longArrayField
+    if (obj.getLongArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongArrayField().length > 0) {
+        output.writeUInt32NoTag(306);
+        int dataSize = 0;
+        for (long element: obj.getLongArrayField()) {
+          dataSize += CodedOutputStream.computeInt64SizeNoTag(element);
+        }
+        output.writeUInt32NoTag(dataSize);
+        for (long element: obj.getLongArrayField()) {
+          output.writeInt64NoTag(element);
+        }
+      }
+    }
+    // doubleArrayField
+    if (obj.getDoubleArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleArrayField().length > 0) {
+        output.writeUInt32NoTag(314);
+        int dataSize = obj.getDoubleArrayField().length * 8;
+        output.writeUInt32NoTag(dataSize);
+        for (double element: obj.getDoubleArrayField()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    // floatArrayField
+    if (obj.getFloatArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatArrayField().length > 0) {
+        output.writeUInt32NoTag(322);
+        int dataSize = obj.getFloatArrayField().length * 4;
+        output.writeUInt32NoTag(dataSize);
+        for (float element: obj.getFloatArrayField()) {
+          output.writeFloatNoTag(element);
+        }
+      }
+    }
+    return index;
+  }
+
+  public static void toProto(User obj, BackpatchingOutput output, ProtobufEncodingMode encodingMode) throws IOException {
+    switch (encodingMode) {
+      case VERTX:
+        toProtoVertx(obj, output);
+        break;
+      case GOOGLE_COMPATIBLE:
+        toProtoGoogleCompatible(obj, output);
+        break;
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  public static void toProtoVertx(User obj, BackpatchingOutput output) throws IOException {
+    // userName
+    if (obj.getUserName() != null) {
+      output.writeString(1, obj.getUserName());
+    }
+    // age
+    if (obj.getAge() != null) {
+      output.writeInt32(2, obj.getAge());
+    }
+    // integerListField
+    if (obj.getIntegerListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntegerListField().size() > 0) {
+        output.writeUInt32NoTag(26);
+        int mark = output.reserveLength();
+        for (Integer element: obj.getIntegerListField()) {
+          output.writeInt32NoTag(element);
+        }
+        output.backpatchLength(mark);
+      }
+    }
+    // structListField
+    if (obj.getStructListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (Address element: obj.getStructListField()) {
+        output.writeUInt32NoTag(34);
+        int mark = output.reserveLength();
+        AddressProtoConverter.toProtoVertx(element, output);
+        output.backpatchLength(mark);
+      }
+    }
+    // zonedDateTimeListField
+    if (obj.getZonedDateTimeListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (ZonedDateTime element: obj.getZonedDateTimeListField()) {
+        output.writeUInt32NoTag(42);
+        int elementSize = ZonedDateTimeProtoConverter.computeSize(element);
+        output.writeUInt32NoTag(elementSize);
+        ZonedDateTimeProtoConverter.toProto(element, output.slice(elementSize));
+      }
+    }
+    // jsonListField
+    if (obj.getJsonListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (JsonObject element: obj.getJsonListField()) {
+        output.writeUInt32NoTag(50);
+        int elementSize = VertxStructProtoConverter.computeSize(element);
+        output.writeUInt32NoTag(elementSize);
+        VertxStructProtoConverter.toProto(element, output.slice(elementSize));
+      }
+    }
+    // address
+    if (obj.getAddress() != null) {
+      output.writeUInt32NoTag(58);
+      int mark = output.reserveLength();
+      AddressProtoConverter.toProtoVertx(obj.getAddress(), output);
+      output.backpatchLength(mark);
+    }
+    // byteField
+    if (obj.getByteField() != null) {
+      output.writeInt32(8, obj.getByteField());
+    }
+    // doubleField
+    if (obj.getDoubleField() != null) {
+      output.writeDouble(9, obj.getDoubleField());
+    }
+    // floatField
+    if (obj.getFloatField() != null) {
+      output.writeFloat(10, obj.getFloatField());
+    }
+    // longField
+    if (obj.getLongField() != null) {
+      output.writeInt64(11, obj.getLongField());
+    }
+    // boolField
+    if (obj.getBoolField() != null) {
+      output.writeBool(12, obj.getBoolField());
+    }
+    // shortField
+    if (obj.getShortField() != null) {
+      output.writeInt32(13, obj.getShortField());
+    }
+    // charField
+    if (obj.getCharField() != null) {
+      output.writeInt32(14, obj.getCharField());
+    }
+    // stringValueMap
+    if (obj.getStringValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, String> entry : obj.getStringValueMap().entrySet()) {
+        output.writeUInt32NoTag(122);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeString(2, entry.getValue());
+        output.backpatchLength(mark);
+      }
+    }
+    // integerValueMap
+    if (obj.getIntegerValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getIntegerValueMap().entrySet()) {
+        output.writeUInt32NoTag(130);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeInt32(2, entry.getValue());
+        output.backpatchLength(mark);
+      }
+    }
+    // structValueMap
+    if (obj.getStructValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Address> entry : obj.getStructValueMap().entrySet()) {
+        output.writeUInt32NoTag(138);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        int valueMark = output.reserveLength();
+        AddressProtoConverter.toProtoVertx(entry.getValue(), output);
+        output.backpatchLength(valueMark);
+        output.backpatchLength(mark);
+      }
+    }
+    // jsonValueMap
+    if (obj.getJsonValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, JsonObject> entry : obj.getJsonValueMap().entrySet()) {
+        output.writeUInt32NoTag(146);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        int elementSize = VertxStructProtoConverter.computeSize(entry.getValue());
+        output.writeUInt32NoTag(elementSize);
+        VertxStructProtoConverter.toProto(entry.getValue(), output.slice(elementSize));
+        output.backpatchLength(mark);
+      }
+    }
+    // zonedDateTimeValueMap
+    if (obj.getZonedDateTimeValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, ZonedDateTime> entry : obj.getZonedDateTimeValueMap().entrySet()) {
+        output.writeUInt32NoTag(154);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        int elementSize = ZonedDateTimeProtoConverter.computeSize(entry.getValue());
+        output.writeUInt32NoTag(elementSize);
+        ZonedDateTimeProtoConverter.toProto(entry.getValue(), output.slice(elementSize));
+        output.backpatchLength(mark);
+      }
+    }
+    // zonedDateTimeField
+    if (obj.getZonedDateTimeField() != null) {
+      output.writeUInt32NoTag(162);
+      int dataSize = ZonedDateTimeProtoConverter.computeSize(obj.getZonedDateTimeField());
+      output.writeUInt32NoTag(dataSize);
+      ZonedDateTimeProtoConverter.toProto(obj.getZonedDateTimeField(), output.slice(dataSize));
+    }
+    // instantField
+    if (obj.getInstantField() != null) {
+      output.writeUInt32NoTag(170);
+      int dataSize = InstantProtoConverter.computeSize(obj.getInstantField());
+      output.writeUInt32NoTag(dataSize);
+      InstantProtoConverter.toProto(obj.getInstantField(), output.slice(dataSize));
+    }
+    // jsonObjectField
+    if (obj.getJsonObjectField() != null) {
+      output.writeUInt32NoTag(178);
+      int dataSize = VertxStructProtoConverter.computeSize(obj.getJsonObjectField());
+      output.writeUInt32NoTag(dataSize);
+      VertxStructProtoConverter.toProto(obj.getJsonObjectField(), output.slice(dataSize));
+    }
+    // jsonArrayField
+    if (obj.getJsonArrayField() != null) {
+      output.writeUInt32NoTag(186);
+      int dataSize = VertxStructListProtoConverter.computeSize(obj.getJsonArrayField());
+      output.writeUInt32NoTag(dataSize);
+      VertxStructListProtoConverter.toProto(obj.getJsonArrayField(), output.slice(dataSize));
+    }
+    // primitiveBoolean
+    if (obj.isPrimitiveBoolean()) {
+      output.writeBool(24, obj.isPrimitiveBoolean());
+    }
+    // primitiveByte
+    if (obj.getPrimitiveByte() != 0) {
+      output.writeInt32(25, obj.getPrimitiveByte());
+    }
+    // primitiveShort
+    if (obj.getPrimitiveShort() != 0) {
+      output.writeInt32(26, obj.getPrimitiveShort());
+    }
+    // primitiveInt
+    if (obj.getPrimitiveInt() != 0) {
+      output.writeInt32(27, obj.getPrimitiveInt());
+    }
+    // primitiveLong
+    if (obj.getPrimitiveLong() != 0) {
+      output.writeInt64(28, obj.getPrimitiveLong());
+    }
+    // primitiveFloat
+    if (obj.getPrimitiveFloat() != 0) {
+      output.writeFloat(29, obj.getPrimitiveFloat());
+    }
+    // primitiveDouble
+    if (obj.getPrimitiveDouble() != 0) {
+      output.writeDouble(30, obj.getPrimitiveDouble());
+    }
+    // primitiveChar
+    if (obj.getPrimitiveChar() != 0) {
+      output.writeInt32(31, obj.getPrimitiveChar());
+    }
+    // enumType
+    if (obj.getEnumType() != null) {
+      switch (obj.getEnumType()) {
+        case A:
+          output.writeEnum(32, 0);
+          break;
+        case B:
+          output.writeEnum(32, 1);
+          break;
+        case C:
+          output.writeEnum(32, 2);
+          break;
+      }
+    }
+    // longListField
+    if (obj.getLongListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongListField().size() > 0) {
+        output.writeUInt32NoTag(266);
+        int mark = output.reserveLength();
+        for (Long element: obj.getLongListField()) {
+          output.writeInt64NoTag(element);
+        }
+        output.backpatchLength(mark);
+      }
+    }
+    // doubleListField
+    if (obj.getDoubleListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleListField().size() > 0) {
+        output.writeUInt32NoTag(274);
+        output.writeUInt32NoTag(obj.getDoubleListField().size() * 8);
+        for (Double element: obj.getDoubleListField()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    // floatListField
+    if (obj.getFloatListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatListField().size() > 0) {
+        output.writeUInt32NoTag(282);
+        output.writeUInt32NoTag(obj.getFloatListField().size() * 4);
+        for (Float element: obj.getFloatListField()) {
+          output.writeFloatNoTag(element);
+        }
+      }
+    }
+    // booleanListField
+    if (obj.getBooleanListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getBooleanListField().size() > 0) {
+        output.writeUInt32NoTag(290);
+        output.writeUInt32NoTag(obj.getBooleanListField().size() * 1);
+        for (Boolean element: obj.getBooleanListField()) {
+          output.writeBoolNoTag(element);
+        }
+      }
+    }
+    // intArrayField
+    if (obj.getIntArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntArrayField().length > 0) {
+        output.writeUInt32NoTag(298);
+        int mark = output.reserveLength();
+        for (int element: obj.getIntArrayField()) {
+          output.writeInt32NoTag(element);
+        }
+        output.backpatchLength(mark);
+      }
+    }
+    // longArrayField
+    if (obj.getLongArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongArrayField().length > 0) {
+        output.writeUInt32NoTag(306);
+        int mark = output.reserveLength();
+        for (long element: obj.getLongArrayField()) {
+          output.writeInt64NoTag(element);
+        }
+        output.backpatchLength(mark);
+      }
+    }
+    // doubleArrayField
+    if (obj.getDoubleArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleArrayField().length > 0) {
+        output.writeUInt32NoTag(314);
+        output.writeUInt32NoTag(obj.getDoubleArrayField().length * 8);
+        for (double element: obj.getDoubleArrayField()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    // floatArrayField
+    if (obj.getFloatArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatArrayField().length > 0) {
+        output.writeUInt32NoTag(322);
+        output.writeUInt32NoTag(obj.getFloatArrayField().length * 4);
+        for (float element: obj.getFloatArrayField()) {
+          output.writeFloatNoTag(element);
+        }
+      }
+    }
+  }
+
+  public static void toProtoGoogleCompatible(User obj, BackpatchingOutput output) throws IOException {
+    // userName
+    if (obj.getUserName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getUserName().isEmpty()) {
+      output.writeString(1, obj.getUserName());
+    }
+    // age
+    if (obj.getAge() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getAge() != 0) {
+      output.writeInt32(2, obj.getAge());
+    }
+    // integerListField
+    if (obj.getIntegerListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntegerListField().size() > 0) {
+        output.writeUInt32NoTag(26);
+        int mark = output.reserveLength();
+        for (Integer element: obj.getIntegerListField()) {
+          output.writeInt32NoTag(element);
+        }
+        output.backpatchLength(mark);
+      }
+    }
+    // structListField
+    if (obj.getStructListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (Address element: obj.getStructListField()) {
+        output.writeUInt32NoTag(34);
+        int mark = output.reserveLength();
+        AddressProtoConverter.toProtoGoogleCompatible(element, output);
+        output.backpatchLength(mark);
+      }
+    }
+    // zonedDateTimeListField
+    if (obj.getZonedDateTimeListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (ZonedDateTime element: obj.getZonedDateTimeListField()) {
+        output.writeUInt32NoTag(42);
+        int elementSize = ZonedDateTimeProtoConverter.computeSize(element);
+        output.writeUInt32NoTag(elementSize);
+        ZonedDateTimeProtoConverter.toProto(element, output.slice(elementSize));
+      }
+    }
+    // jsonListField
+    if (obj.getJsonListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (JsonObject element: obj.getJsonListField()) {
+        output.writeUInt32NoTag(50);
+        int elementSize = VertxStructProtoConverter.computeSize(element);
+        output.writeUInt32NoTag(elementSize);
+        VertxStructProtoConverter.toProto(element, output.slice(elementSize));
+      }
+    }
+    // address
+    if (obj.getAddress() != null) {
+      output.writeUInt32NoTag(58);
+      int mark = output.reserveLength();
+      AddressProtoConverter.toProtoGoogleCompatible(obj.getAddress(), output);
+      output.backpatchLength(mark);
+    }
+    // byteField
+    if (obj.getByteField() != null) {
+      output.writeInt32(8, obj.getByteField());
+    }
+    // doubleField
+    if (obj.getDoubleField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getDoubleField() != 0d) {
+      output.writeDouble(9, obj.getDoubleField());
+    }
+    // floatField
+    if (obj.getFloatField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getFloatField() != 0f) {
+      output.writeFloat(10, obj.getFloatField());
+    }
+    // longField
+    if (obj.getLongField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getLongField() != 0L) {
+      output.writeInt64(11, obj.getLongField());
+    }
+    // boolField
+    if (obj.getBoolField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getBoolField()) {
+      output.writeBool(12, obj.getBoolField());
+    }
+    // shortField
+    if (obj.getShortField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getShortField() != (short)0) {
+      output.writeInt32(13, obj.getShortField());
+    }
+    // charField
+    if (obj.getCharField() != null) {
+      output.writeInt32(14, obj.getCharField());
+    }
+    // stringValueMap
+    if (obj.getStringValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, String> entry : obj.getStringValueMap().entrySet()) {
+        output.writeUInt32NoTag(122);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeString(2, entry.getValue());
+        output.backpatchLength(mark);
+      }
+    }
+    // integerValueMap
+    if (obj.getIntegerValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getIntegerValueMap().entrySet()) {
+        output.writeUInt32NoTag(130);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeInt32(2, entry.getValue());
+        output.backpatchLength(mark);
+      }
+    }
+    // structValueMap
+    if (obj.getStructValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Address> entry : obj.getStructValueMap().entrySet()) {
+        output.writeUInt32NoTag(138);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        int valueMark = output.reserveLength();
+        AddressProtoConverter.toProtoGoogleCompatible(entry.getValue(), output);
+        output.backpatchLength(valueMark);
+        output.backpatchLength(mark);
+      }
+    }
+    // jsonValueMap
+    if (obj.getJsonValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, JsonObject> entry : obj.getJsonValueMap().entrySet()) {
+        output.writeUInt32NoTag(146);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        int elementSize = VertxStructProtoConverter.computeSize(entry.getValue());
+        output.writeUInt32NoTag(elementSize);
+        VertxStructProtoConverter.toProto(entry.getValue(), output.slice(elementSize));
+        output.backpatchLength(mark);
+      }
+    }
+    // zonedDateTimeValueMap
+    if (obj.getZonedDateTimeValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, ZonedDateTime> entry : obj.getZonedDateTimeValueMap().entrySet()) {
+        output.writeUInt32NoTag(154);
+        int mark = output.reserveLength();
+        output.writeString(1, entry.getKey());
+        output.writeUInt32NoTag(18);
+        int elementSize = ZonedDateTimeProtoConverter.computeSize(entry.getValue());
+        output.writeUInt32NoTag(elementSize);
+        ZonedDateTimeProtoConverter.toProto(entry.getValue(), output.slice(elementSize));
+        output.backpatchLength(mark);
+      }
+    }
+    // zonedDateTimeField
+    if (obj.getZonedDateTimeField() != null) {
+      output.writeUInt32NoTag(162);
+      int dataSize = ZonedDateTimeProtoConverter.computeSize(obj.getZonedDateTimeField());
+      output.writeUInt32NoTag(dataSize);
+      ZonedDateTimeProtoConverter.toProto(obj.getZonedDateTimeField(), output.slice(dataSize));
+    }
+    // instantField
+    if (obj.getInstantField() != null) {
+      output.writeUInt32NoTag(170);
+      int dataSize = InstantProtoConverter.computeSize(obj.getInstantField());
+      output.writeUInt32NoTag(dataSize);
+      InstantProtoConverter.toProto(obj.getInstantField(), output.slice(dataSize));
+    }
+    // jsonObjectField
+    if (obj.getJsonObjectField() != null) {
+      output.writeUInt32NoTag(178);
+      int dataSize = VertxStructProtoConverter.computeSize(obj.getJsonObjectField());
+      output.writeUInt32NoTag(dataSize);
+      VertxStructProtoConverter.toProto(obj.getJsonObjectField(), output.slice(dataSize));
+    }
+    // jsonArrayField
+    if (obj.getJsonArrayField() != null) {
+      output.writeUInt32NoTag(186);
+      int dataSize = VertxStructListProtoConverter.computeSize(obj.getJsonArrayField());
+      output.writeUInt32NoTag(dataSize);
+      VertxStructListProtoConverter.toProto(obj.getJsonArrayField(), output.slice(dataSize));
+    }
+    // primitiveBoolean
+    if (obj.isPrimitiveBoolean()) {
+      output.writeBool(24, obj.isPrimitiveBoolean());
+    }
+    // primitiveByte
+    if (obj.getPrimitiveByte() != 0) {
+      output.writeInt32(25, obj.getPrimitiveByte());
+    }
+    // primitiveShort
+    if (obj.getPrimitiveShort() != 0) {
+      output.writeInt32(26, obj.getPrimitiveShort());
+    }
+    // primitiveInt
+    if (obj.getPrimitiveInt() != 0) {
+      output.writeInt32(27, obj.getPrimitiveInt());
+    }
+    // primitiveLong
+    if (obj.getPrimitiveLong() != 0) {
+      output.writeInt64(28, obj.getPrimitiveLong());
+    }
+    // primitiveFloat
+    if (obj.getPrimitiveFloat() != 0) {
+      output.writeFloat(29, obj.getPrimitiveFloat());
+    }
+    // primitiveDouble
+    if (obj.getPrimitiveDouble() != 0) {
+      output.writeDouble(30, obj.getPrimitiveDouble());
+    }
+    // primitiveChar
+    if (obj.getPrimitiveChar() != 0) {
+      output.writeInt32(31, obj.getPrimitiveChar());
+    }
+    // enumType
+    if (obj.getEnumType() != null) {
+      switch (obj.getEnumType()) {
+        case A:
+          output.writeEnum(32, 0);
+          break;
+        case B:
+          output.writeEnum(32, 1);
+          break;
+        case C:
+          output.writeEnum(32, 2);
+          break;
+      }
+    }
+    // longListField
+    if (obj.getLongListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongListField().size() > 0) {
+        output.writeUInt32NoTag(266);
+        int mark = output.reserveLength();
+        for (Long element: obj.getLongListField()) {
+          output.writeInt64NoTag(element);
+        }
+        output.backpatchLength(mark);
+      }
+    }
+    // doubleListField
+    if (obj.getDoubleListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleListField().size() > 0) {
+        output.writeUInt32NoTag(274);
+        output.writeUInt32NoTag(obj.getDoubleListField().size() * 8);
+        for (Double element: obj.getDoubleListField()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    // floatListField
+    if (obj.getFloatListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatListField().size() > 0) {
+        output.writeUInt32NoTag(282);
+        output.writeUInt32NoTag(obj.getFloatListField().size() * 4);
+        for (Float element: obj.getFloatListField()) {
+          output.writeFloatNoTag(element);
+        }
+      }
+    }
+    // booleanListField
+    if (obj.getBooleanListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getBooleanListField().size() > 0) {
+        output.writeUInt32NoTag(290);
+        output.writeUInt32NoTag(obj.getBooleanListField().size() * 1);
+        for (Boolean element: obj.getBooleanListField()) {
+          output.writeBoolNoTag(element);
+        }
+      }
+    }
+    // intArrayField
+    if (obj.getIntArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntArrayField().length > 0) {
+        output.writeUInt32NoTag(298);
+        int mark = output.reserveLength();
+        for (int element: obj.getIntArrayField()) {
+          output.writeInt32NoTag(element);
+        }
+        output.backpatchLength(mark);
+      }
+    }
+    // longArrayField
+    if (obj.getLongArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongArrayField().length > 0) {
+        output.writeUInt32NoTag(306);
+        int mark = output.reserveLength();
+        for (long element: obj.getLongArrayField()) {
+          output.writeInt64NoTag(element);
+        }
+        output.backpatchLength(mark);
+      }
+    }
+    // doubleArrayField
+    if (obj.getDoubleArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleArrayField().length > 0) {
+        output.writeUInt32NoTag(314);
+        output.writeUInt32NoTag(obj.getDoubleArrayField().length * 8);
+        for (double element: obj.getDoubleArrayField()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    // floatArrayField
+    if (obj.getFloatArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatArrayField().length > 0) {
+        output.writeUInt32NoTag(322);
+        output.writeUInt32NoTag(obj.getFloatArrayField().length * 4);
+        for (float element: obj.getFloatArrayField()) {
+          output.writeFloatNoTag(element);
+        }
+      }
+    }
+  }
+
+  public static int computeSize(User obj) {
+    return computeSize(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static int computeSize(User obj, ProtobufEncodingMode encodingMode) {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      return UserProtoConverter.computeSize(obj, cache, encodingMode);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static int computeSize(User obj, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) {
+    cache.reset();
+    cache.ensureCapacity(cacheCapacity);
+    int cacheSize = UserProtoConverter.computeSize(obj, cache, 0, encodingMode);
+    if (cacheSize > cacheCapacity) {
+      cacheCapacity = cacheSize;
+    }
+    return cache.getUnchecked(0);
+  }
+
+  static int computeSize(User obj, ExpandableIntArray cache, int baseIndex, ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return computeSizeVertx(obj, cache, baseIndex);
+      case GOOGLE_COMPATIBLE:
+        return computeSizeGoogleCompatible(obj, cache, baseIndex);
+      default:
+        throw new IllegalArgumentException("Encoding mode " + encodingMode + " is not generated");
+    }
+  }
+
+  static int computeSizeVertx(User obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getUserName() != null) {
+      size += CodedOutputStream.computeStringSize(1, obj.getUserName());
+    }
+    if (obj.getAge() != null) {
+      size += CodedOutputStream.computeInt32Size(2, obj.getAge());
+    }
+    if (obj.getIntegerListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntegerListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(26);
+        int dataSize = 0;
+        for (Integer element: obj.getIntegerListField()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getStructListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      if (obj.getStructListField().size() > 0) {
+        for (Address element: obj.getStructListField()) {
+          size += CodedOutputStream.computeUInt32SizeNoTag(34);
+          int savedIndex = index;
+          index = AddressProtoConverter.computeSizeVertx(element, cache, index);
+          int dataSize = cache.getUnchecked(savedIndex);
+          size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+          size += dataSize;
+        }
+      }
+    }
+    if (obj.getZonedDateTimeListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      if (obj.getZonedDateTimeListField().size() > 0) {
+        for (ZonedDateTime element: obj.getZonedDateTimeListField()) {
+          size += CodedOutputStream.computeUInt32SizeNoTag(42);
+          int dataSize = ZonedDateTimeProtoConverter.computeSize(element);
+          size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+          size += dataSize;
+        }
+      }
+    }
+    if (obj.getJsonListField() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (JsonObject element: obj.getJsonListField()) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(50);
+        int savedIndex = index;
+        index = VertxStructProtoConverter.computeSize(element, cache, index);
+        int dataSize = cache.getUnchecked(savedIndex);
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getAddress() != null) {
+      size += CodedOutputStream.computeUInt32SizeNoTag(58);
+      int savedIndex = index;
+      index = AddressProtoConverter.computeSizeVertx(obj.getAddress(), cache, index);
+      int dataSize = cache.getUnchecked(savedIndex);
+      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+      size += dataSize;
+    }
+    if (obj.getByteField() != null) {
+      size += CodedOutputStream.computeInt32Size(8, obj.getByteField());
+    }
+    if (obj.getDoubleField() != null) {
+      size += CodedOutputStream.computeDoubleSize(9, obj.getDoubleField());
+    }
+    if (obj.getFloatField() != null) {
+      size += CodedOutputStream.computeFloatSize(10, obj.getFloatField());
+    }
+    if (obj.getLongField() != null) {
+      size += CodedOutputStream.computeInt64Size(11, obj.getLongField());
+    }
+    if (obj.getBoolField() != null) {
+      size += CodedOutputStream.computeBoolSize(12, obj.getBoolField());
+    }
+    if (obj.getShortField() != null) {
+      size += CodedOutputStream.computeInt32Size(13, obj.getShortField());
+    }
+    if (obj.getCharField() != null) {
+      size += CodedOutputStream.computeInt32Size(14, obj.getCharField());
+    }
+    if (obj.getStringValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, String> entry : obj.getStringValueMap().entrySet()) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(122);
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeStringSize(2, entry.getValue());
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getIntegerValueMap() != null) {
+      // map[0] | tag | data size | key | value |
+      // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Integer> entry : obj.getIntegerValueMap().entrySet()) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(130);
+        int dataSize = 0;
+        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        dataSize += CodedOutputStream.computeInt32Size(2, entry.getValue());
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getStructValueMap() != null) {
+        // map[0] | tag | data size | key | value |
+        // map[1] | tag | data size | key | value |
+      for (Map.Entry<String, Address> entry : obj.getStructValueMap().entrySet()) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(138);
         // calculate data size
-        int elementSize = cache.get(index);
         int dataSize = 0;
+        // key
         dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        // value
+        int savedIndex = index;
+        index = AddressProtoConverter.computeSizeVertx(entry.getValue(), cache, index);
+        int elementSize = cache.getUnchecked(savedIndex);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
         dataSize += elementSize;
-        // key
-        output.writeUInt32NoTag(dataSize);
-        // value
-        output.writeString(1, entry.getKey());
-        output.writeUInt32NoTag(18);
-        output.writeUInt32NoTag(elementSize);
-        index = AddressProtoConverter.toProto(entry.getValue(), output, cache, index, encodingMode);
+        // data size
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
       }
     }
-    // jsonValueMap
     if (obj.getJsonValueMap() != null) {
-      // map[0] | tag | data size | key | value |
-      // map[1] | tag | data size | key | value |
+        // map[0] | tag | data size | key | value |
+        // map[1] | tag | data size | key | value |
       for (Map.Entry<String, JsonObject> entry : obj.getJsonValueMap().entrySet()) {
-        output.writeUInt32NoTag(146);
+        size += CodedOutputStream.computeUInt32SizeNoTag(146);
         // calculate data size
-        int elementSize = VertxStructProtoConverter.computeSize(entry.getValue());
         int dataSize = 0;
+        // key
         dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        // value
+        int savedIndex = index;
+        index = VertxStructProtoConverter.computeSize(entry.getValue(), cache, index);
+        int elementSize = cache.getUnchecked(savedIndex);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
         dataSize += elementSize;
-        // key
-        output.writeUInt32NoTag(dataSize);
-        // value
-        output.writeString(1, entry.getKey());
-        output.writeUInt32NoTag(18);
-        output.writeUInt32NoTag(elementSize);
-        VertxStructProtoConverter.toProto(entry.getValue(), output);
+        // data size
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
       }
     }
-    // zonedDateTimeValueMap
     if (obj.getZonedDateTimeValueMap() != null) {
-      // map[0] | tag | data size | key | value |
-      // map[1] | tag | data size | key | value |
+        // map[0] | tag | data size | key | value |
+        // map[1] | tag | data size | key | value |
       for (Map.Entry<String, ZonedDateTime> entry : obj.getZonedDateTimeValueMap().entrySet()) {
-        output.writeUInt32NoTag(154);
+        size += CodedOutputStream.computeUInt32SizeNoTag(154);
         // calculate data size
-        int elementSize = ZonedDateTimeProtoConverter.computeSize(entry.getValue());
         int dataSize = 0;
+        // key
         dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
+        // value
+        int elementSize = ZonedDateTimeProtoConverter.computeSize(entry.getValue());
         dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
         dataSize += elementSize;
-        // key
-        output.writeUInt32NoTag(dataSize);
-        // value
-        output.writeString(1, entry.getKey());
-        output.writeUInt32NoTag(18);
-        output.writeUInt32NoTag(elementSize);
-        ZonedDateTimeProtoConverter.toProto(entry.getValue(), output);
+        // data size
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
       }
     }
-    // zonedDateTimeField
     if (obj.getZonedDateTimeField() != null) {
-      output.writeUInt32NoTag(162);
-      output.writeUInt32NoTag(ZonedDateTimeProtoConverter.computeSize(obj.getZonedDateTimeField()));
-      ZonedDateTimeProtoConverter.toProto(obj.getZonedDateTimeField(), output);
+      size += CodedOutputStream.computeUInt32SizeNoTag(162);
+      int dataSize = ZonedDateTimeProtoConverter.computeSize(obj.getZonedDateTimeField());
+      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+      size += dataSize;
     }
-    // instantField
     if (obj.getInstantField() != null) {
-      output.writeUInt32NoTag(170);
-      output.writeUInt32NoTag(InstantProtoConverter.computeSize(obj.getInstantField()));
-      InstantProtoConverter.toProto(obj.getInstantField(), output);
+      size += CodedOutputStream.computeUInt32SizeNoTag(170);
+      int dataSize = InstantProtoConverter.computeSize(obj.getInstantField());
+      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+      size += dataSize;
     }
-    // jsonObjectField
     if (obj.getJsonObjectField() != null) {
-      output.writeUInt32NoTag(178);
-      output.writeUInt32NoTag(VertxStructProtoConverter.computeSize(obj.getJsonObjectField()));
-      VertxStructProtoConverter.toProto(obj.getJsonObjectField(), output);
+      size += CodedOutputStream.computeUInt32SizeNoTag(178);
+      int savedIndex = index;
+      index = VertxStructProtoConverter.computeSize(obj.getJsonObjectField(), cache, index);
+      int dataSize = cache.getUnchecked(savedIndex);
+      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+      size += dataSize;
     }
-    // jsonArrayField
     if (obj.getJsonArrayField() != null) {
-      output.writeUInt32NoTag(186);
-      output.writeUInt32NoTag(VertxStructListProtoConverter.computeSize(obj.getJsonArrayField()));
-      VertxStructListProtoConverter.toProto(obj.getJsonArrayField(), output);
+      size += CodedOutputStream.computeUInt32SizeNoTag(186);
+      int dataSize = VertxStructListProtoConverter.computeSize(obj.getJsonArrayField());
+      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+      size += dataSize;
     }
-    // primitiveBoolean
     if (obj.isPrimitiveBoolean()) {
-      output.writeBool(24, obj.isPrimitiveBoolean());
+      size += CodedOutputStream.computeBoolSize(24, obj.isPrimitiveBoolean());
     }
-    // primitiveByte
     if (obj.getPrimitiveByte() != 0) {
-      output.writeInt32(25, obj.getPrimitiveByte());
+      size += CodedOutputStream.computeInt32Size(25, obj.getPrimitiveByte());
     }
-    // primitiveShort
     if (obj.getPrimitiveShort() != 0) {
-      output.writeInt32(26, obj.getPrimitiveShort());
+      size += CodedOutputStream.computeInt32Size(26, obj.getPrimitiveShort());
     }
-    // primitiveInt
     if (obj.getPrimitiveInt() != 0) {
-      output.writeInt32(27, obj.getPrimitiveInt());
+      size += CodedOutputStream.computeInt32Size(27, obj.getPrimitiveInt());
     }
-    // primitiveLong
     if (obj.getPrimitiveLong() != 0) {
-      output.writeInt64(28, obj.getPrimitiveLong());
+      size += CodedOutputStream.computeInt64Size(28, obj.getPrimitiveLong());
     }
-    // primitiveFloat
     if (obj.getPrimitiveFloat() != 0) {
-      output.writeFloat(29, obj.getPrimitiveFloat());
+      size += CodedOutputStream.computeFloatSize(29, obj.getPrimitiveFloat());
     }
-    // primitiveDouble
     if (obj.getPrimitiveDouble() != 0) {
-      output.writeDouble(30, obj.getPrimitiveDouble());
+      size += CodedOutputStream.computeDoubleSize(30, obj.getPrimitiveDouble());
     }
-    // primitiveChar
     if (obj.getPrimitiveChar() != 0) {
-      output.writeInt32(31, obj.getPrimitiveChar());
+      size += CodedOutputStream.computeInt32Size(31, obj.getPrimitiveChar());
     }
-    // enumType
     if (obj.getEnumType() != null) {
       switch (obj.getEnumType()) {
         case A:
-          output.writeEnum(32, 0);
+          size += CodedOutputStream.computeEnumSize(32, 0);
           break;
         case B:
-          output.writeEnum(32, 1);
+          size += CodedOutputStream.computeEnumSize(32, 1);
           break;
         case C:
-          output.writeEnum(32, 2);
+          size += CodedOutputStream.computeEnumSize(32, 2);
           break;
       }
     }
+    if (obj.getLongListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(266);
+        int dataSize = 0;
+        for (Long element: obj.getLongListField()) {
+          dataSize += CodedOutputStream.computeInt64SizeNoTag(element);
+        }
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getDoubleListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(274);
+        int dataSize = obj.getDoubleListField().size() * 8;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getFloatListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(282);
+        int dataSize = obj.getFloatListField().size() * 4;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getBooleanListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getBooleanListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(290);
+        int dataSize = obj.getBooleanListField().size() * 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getIntArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntArrayField().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(298);
+        int dataSize = 0;
+        for (int element: obj.getIntArrayField()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getLongArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongArrayField().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(306);
+        int dataSize = 0;
+        for (long element: obj.getLongArrayField()) {
+          dataSize += CodedOutputStream.computeInt64SizeNoTag(element);
+        }
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getDoubleArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleArrayField().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(314);
+        int dataSize = obj.getDoubleArrayField().length * 8;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getFloatArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatArrayField().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(322);
+        int dataSize = obj.getFloatArrayField().length * 4;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    cache.set(baseIndex, size);
     return index;
   }
 
-  public static int computeSize(User obj) {
-    return computeSize(obj, ProtobufEncodingMode.VERTX);
-  }
-
-  public static int computeSize(User obj, ProtobufEncodingMode encodingMode) {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
-    UserProtoConverter.computeSize(obj, cache, 0, encodingMode);
-    return cache.get(0);
-  }
-
-  static int computeSize(User obj, ExpandableIntArray cache, final int baseIndex, ProtobufEncodingMode encodingMode) {
+  static int computeSizeGoogleCompatible(User obj, ExpandableIntArray cache, final int baseIndex) {
     int size = 0;
     int index = baseIndex + 1;
-    if (obj.getUserName() != null) {
+    if (obj.getUserName() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (!obj.getUserName().isEmpty()) {
       size += CodedOutputStream.computeStringSize(1, obj.getUserName());
     }
-    if (obj.getAge() != null) {
+    if (obj.getAge() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getAge() != 0) {
       size += CodedOutputStream.computeInt32Size(2, obj.getAge());
     }
     if (obj.getIntegerListField() != null) {
@@ -621,8 +6181,8 @@ public class UserProtoConverter {
         for (Address element: obj.getStructListField()) {
           size += CodedOutputStream.computeUInt32SizeNoTag(34);
           int savedIndex = index;
-          index = AddressProtoConverter.computeSize(element, cache, index, encodingMode);
-          int dataSize = cache.get(savedIndex);
+          index = AddressProtoConverter.computeSizeGoogleCompatible(element, cache, index);
+          int dataSize = cache.getUnchecked(savedIndex);
           size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
           size += dataSize;
         }
@@ -643,39 +6203,54 @@ public class UserProtoConverter {
     if (obj.getJsonListField() != null) {
       // list[0] | tag | data size | value |
       // list[1] | tag | data size | value |
-      if (obj.getJsonListField().size() > 0) {
-        for (JsonObject element: obj.getJsonListField()) {
-          size += CodedOutputStream.computeUInt32SizeNoTag(50);
-          int dataSize = VertxStructProtoConverter.computeSize(element);
-          size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
-          size += dataSize;
-        }
+      for (JsonObject element: obj.getJsonListField()) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(50);
+        int savedIndex = index;
+        index = VertxStructProtoConverter.computeSize(element, cache, index);
+        int dataSize = cache.getUnchecked(savedIndex);
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
       }
     }
     if (obj.getAddress() != null) {
       size += CodedOutputStream.computeUInt32SizeNoTag(58);
       int savedIndex = index;
-      index = AddressProtoConverter.computeSize(obj.getAddress(), cache, index, encodingMode);
-      int dataSize = cache.get(savedIndex);
+      index = AddressProtoConverter.computeSizeGoogleCompatible(obj.getAddress(), cache, index);
+      int dataSize = cache.getUnchecked(savedIndex);
       size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
       size += dataSize;
     }
     if (obj.getByteField() != null) {
       size += CodedOutputStream.computeInt32Size(8, obj.getByteField());
     }
-    if (obj.getDoubleField() != null) {
+    if (obj.getDoubleField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getDoubleField() != 0d) {
       size += CodedOutputStream.computeDoubleSize(9, obj.getDoubleField());
     }
-    if (obj.getFloatField() != null) {
+    if (obj.getFloatField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getFloatField() != 0f) {
       size += CodedOutputStream.computeFloatSize(10, obj.getFloatField());
     }
-    if (obj.getLongField() != null) {
+    if (obj.getLongField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getLongField() != 0L) {
       size += CodedOutputStream.computeInt64Size(11, obj.getLongField());
     }
-    if (obj.getBoolField() != null) {
+    if (obj.getBoolField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getBoolField()) {
       size += CodedOutputStream.computeBoolSize(12, obj.getBoolField());
     }
-    if (obj.getShortField() != null) {
+    if (obj.getShortField() == null) {
+      throw new IllegalArgumentException("Null values are not allowed for boxed types in compatibility mode");
+    }
+    if (obj.getShortField() != (short)0) {
       size += CodedOutputStream.computeInt32Size(13, obj.getShortField());
     }
     if (obj.getCharField() != null) {
@@ -716,8 +6291,8 @@ public class UserProtoConverter {
         dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
         // value
         int savedIndex = index;
-        index = AddressProtoConverter.computeSize(entry.getValue(), cache, index, encodingMode);
-        int elementSize = cache.get(savedIndex);
+        index = AddressProtoConverter.computeSizeGoogleCompatible(entry.getValue(), cache, index);
+        int elementSize = cache.getUnchecked(savedIndex);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
         dataSize += elementSize;
@@ -736,7 +6311,9 @@ public class UserProtoConverter {
         // key
         dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
         // value
-        int elementSize = VertxStructProtoConverter.computeSize(entry.getValue());
+        int savedIndex = index;
+        index = VertxStructProtoConverter.computeSize(entry.getValue(), cache, index);
+        int elementSize = cache.getUnchecked(savedIndex);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
         dataSize += elementSize;
@@ -778,7 +6355,9 @@ public class UserProtoConverter {
     }
     if (obj.getJsonObjectField() != null) {
       size += CodedOutputStream.computeUInt32SizeNoTag(178);
-      int dataSize = VertxStructProtoConverter.computeSize(obj.getJsonObjectField());
+      int savedIndex = index;
+      index = VertxStructProtoConverter.computeSize(obj.getJsonObjectField(), cache, index);
+      int dataSize = cache.getUnchecked(savedIndex);
       size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
       size += dataSize;
     }
@@ -825,8 +6404,137 @@ public class UserProtoConverter {
           break;
       }
     }
+    if (obj.getLongListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(266);
+        int dataSize = 0;
+        for (Long element: obj.getLongListField()) {
+          dataSize += CodedOutputStream.computeInt64SizeNoTag(element);
+        }
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getDoubleListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(274);
+        int dataSize = obj.getDoubleListField().size() * 8;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getFloatListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(282);
+        int dataSize = obj.getFloatListField().size() * 4;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getBooleanListField() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getBooleanListField().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(290);
+        int dataSize = obj.getBooleanListField().size() * 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getIntArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntArrayField().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(298);
+        int dataSize = 0;
+        for (int element: obj.getIntArrayField()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getLongArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongArrayField().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(306);
+        int dataSize = 0;
+        for (long element: obj.getLongArrayField()) {
+          dataSize += CodedOutputStream.computeInt64SizeNoTag(element);
+        }
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getDoubleArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleArrayField().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(314);
+        int dataSize = obj.getDoubleArrayField().length * 8;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getFloatArrayField() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatArrayField().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(322);
+        int dataSize = obj.getFloatArrayField().length * 4;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
     cache.set(baseIndex, size);
     return index;
   }
 
+  public static Buffer toBuffer(User obj) throws IOException {
+    return toBuffer(obj, ProtobufEncodingMode.VERTX);
+  }
+
+  public static Buffer toBuffer(User obj, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = UserProtoConverter.computeSize(obj, cache, encodingMode);
+      Buffer buffer = Buffer.buffer(size);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      UserProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+      return buffer;
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static void toBuffer(User obj, Buffer buffer) throws IOException {
+    toBuffer(obj, buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static void toBuffer(User obj, Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);
+    try {
+      int size = UserProtoConverter.computeSize(obj, cache, encodingMode);
+      CodedOutputStream output = CodedBuffers.append(buffer, size);
+      UserProtoConverter.toProto(obj, output, cache, 0, encodingMode);
+      output.flush();
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  public static User fromBuffer(Buffer buffer) throws IOException {
+    return fromBuffer(buffer, ProtobufEncodingMode.VERTX);
+  }
+
+  public static User fromBuffer(Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {
+    User obj = new User();
+    fromBuffer(buffer, 0, buffer.length(), obj, encodingMode);
+    return obj;
+  }
+
+  public static void fromBuffer(Buffer buffer, int start, int end, User obj, ProtobufEncodingMode encodingMode) throws IOException {
+    fromProto(CodedBuffers.input(buffer, start, end), obj, encodingMode);
+  }
+
 }
@@ -0,0 +1,940 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.codegen.protobuf.utils.ProtoFieldIndex;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class UserProtoLazyView extends User {
+
+  private final ProtoFieldIndex index;
+  private final boolean[] decoded = new boolean[40];
+  private boolean touched;
+  private boolean masked;
+
+  public UserProtoLazyView(byte[] bytes) throws IOException {
+    this(bytes, 0, bytes.length);
+  }
+
+  public UserProtoLazyView(byte[] bytes, int offset, int length) throws IOException {
+    index = ProtoFieldIndex.scan(bytes, offset, length);
+  }
+
+  @Override
+  public java.lang.String getUserName() {
+    if (index != null && !decoded[0]) {
+      if (masked) {
+        return null;
+      }
+      decoded[0] = true;
+      decode(1);
+    }
+    return super.getUserName();
+  }
+
+  @Override
+  public void setUserName(java.lang.String value) {
+    if (index != null) {
+      decoded[0] = true;
+      touched = true;
+      index.consume(1);
+    }
+    super.setUserName(value);
+  }
+
+  @Override
+  public java.lang.Integer getAge() {
+    if (index != null && !decoded[1]) {
+      if (masked) {
+        return null;
+      }
+      decoded[1] = true;
+      decode(2);
+    }
+    return super.getAge();
+  }
+
+  @Override
+  public void setAge(java.lang.Integer value) {
+    if (index != null) {
+      decoded[1] = true;
+      touched = true;
+      index.consume(2);
+    }
+    super.setAge(value);
+  }
+
+  @Override
+  public java.util.List<java.lang.Integer> getIntegerListField() {
+    if (index != null && !decoded[2]) {
+      if (masked) {
+        return null;
+      }
+      decoded[2] = true;
+      decode(3);
+    }
+    return super.getIntegerListField();
+  }
+
+  @Override
+  public void setIntegerListField(java.util.List<java.lang.Integer> value) {
+    if (index != null) {
+      decoded[2] = true;
+      touched = true;
+      index.consume(3);
+    }
+    super.setIntegerListField(value);
+  }
+
+  @Override
+  public java.util.List<io.vertx.test.codegen.converter.Address> getStructListField() {
+    if (index != null && !decoded[3]) {
+      if (masked) {
+        return null;
+      }
+      decoded[3] = true;
+      decode(4);
+    }
+    return super.getStructListField();
+  }
+
+  @Override
+  public void setStructListField(java.util.List<io.vertx.test.codegen.converter.Address> value) {
+    if (index != null) {
+      decoded[3] = true;
+      touched = true;
+      index.consume(4);
+    }
+    super.setStructListField(value);
+  }
+
+  @Override
+  public java.util.List<java.time.ZonedDateTime> getZonedDateTimeListField() {
+    if (index != null && !decoded[4]) {
+      if (masked) {
+        return null;
+      }
+      decoded[4] = true;
+      decode(5);
+    }
+    return super.getZonedDateTimeListField();
+  }
+
+  @Override
+  public void setZonedDateTimeListField(java.util.List<java.time.ZonedDateTime> value) {
+    if (index != null) {
+      decoded[4] = true;
+      touched = true;
+      index.consume(5);
+    }
+    super.setZonedDateTimeListField(value);
+  }
+
+  @Override
+  public java.util.List<io.vertx.core.json.JsonObject> getJsonListField() {
+    if (index != null && !decoded[5]) {
+      if (masked) {
+        return null;
+      }
+      decoded[5] = true;
+      decode(6);
+    }
+    return super.getJsonListField();
+  }
+
+  @Override
+  public void setJsonListField(java.util.List<io.vertx.core.json.JsonObject> value) {
+    if (index != null) {
+      decoded[5] = true;
+      touched = true;
+      index.consume(6);
+    }
+    super.setJsonListField(value);
+  }
+
+  @Override
+  public io.vertx.test.codegen.converter.Address getAddress() {
+    if (index != null && !decoded[6]) {
+      if (masked) {
+        return null;
+      }
+      decoded[6] = true;
+      decode(7);
+    }
+    return super.getAddress();
+  }
+
+  @Override
+  public void setAddress(io.vertx.test.codegen.converter.Address value) {
+    if (index != null) {
+      decoded[6] = true;
+      touched = true;
+      index.consume(7);
+    }
+    super.setAddress(value);
+  }
+
+  @Override
+  public java.lang.Byte getByteField() {
+    if (index != null && !decoded[7]) {
+      if (masked) {
+        return null;
+      }
+      decoded[7] = true;
+      decode(8);
+    }
+    return super.getByteField();
+  }
+
+  @Override
+  public void setByteField(java.lang.Byte value) {
+    if (index != null) {
+      decoded[7] = true;
+      touched = true;
+      index.consume(8);
+    }
+    super.setByteField(value);
+  }
+
+  @Override
+  public java.lang.Double getDoubleField() {
+    if (index != null && !decoded[8]) {
+      if (masked) {
+        return null;
+      }
+      decoded[8] = true;
+      decode(9);
+    }
+    return super.getDoubleField();
+  }
+
+  @Override
+  public void setDoubleField(java.lang.Double value) {
+    if (index != null) {
+      decoded[8] = true;
+      touched = true;
+      index.consume(9);
+    }
+    super.setDoubleField(value);
+  }
+
+  @Override
+  public java.lang.Float getFloatField() {
+    if (index != null && !decoded[9]) {
+      if (masked) {
+        return null;
+      }
+      decoded[9] = true;
+      decode(10);
+    }
+    return super.getFloatField();
+  }
+
+  @Override
+  public void setFloatField(java.lang.Float value) {
+    if (index != null) {
+      decoded[9] = true;
+      touched = true;
+      index.consume(10);
+    }
+    super.setFloatField(value);
+  }
+
+  @Override
+  public java.lang.Long getLongField() {
+    if (index != null && !decoded[10]) {
+      if (masked) {
+        return null;
+      }
+      decoded[10] = true;
+      decode(11);
+    }
+    return super.getLongField();
+  }
+
+  @Override
+  public void setLongField(java.lang.Long value) {
+    if (index != null) {
+      decoded[10] = true;
+      touched = true;
+      index.consume(11);
+    }
+    super.setLongField(value);
+  }
+
+  @Override
+  public java.lang.Boolean getBoolField() {
+    if (index != null && !decoded[11]) {
+      if (masked) {
+        return null;
+      }
+      decoded[11] = true;
+      decode(12);
+    }
+    return super.getBoolField();
+  }
+
+  @Override
+  public void setBoolField(java.lang.Boolean value) {
+    if (index != null) {
+      decoded[11] = true;
+      touched = true;
+      index.consume(12);
+    }
+    super.setBoolField(value);
+  }
+
+  @Override
+  public java.lang.Short getShortField() {
+    if (index != null && !decoded[12]) {
+      if (masked) {
+        return null;
+      }
+      decoded[12] = true;
+      decode(13);
+    }
+    return super.getShortField();
+  }
+
+  @Override
+  public void setShortField(java.lang.Short value) {
+    if (index != null) {
+      decoded[12] = true;
+      touched = true;
+      index.consume(13);
+    }
+    super.setShortField(value);
+  }
+
+  @Override
+  public java.lang.Character getCharField() {
+    if (index != null && !decoded[13]) {
+      if (masked) {
+        return null;
+      }
+      decoded[13] = true;
+      decode(14);
+    }
+    return super.getCharField();
+  }
+
+  @Override
+  public void setCharField(java.lang.Character value) {
+    if (index != null) {
+      decoded[13] = true;
+      touched = true;
+      index.consume(14);
+    }
+    super.setCharField(value);
+  }
+
+  @Override
+  public java.util.Map<java.lang.String,java.lang.String> getStringValueMap() {
+    if (index != null && !decoded[14]) {
+      if (masked) {
+        return null;
+      }
+      decoded[14] = true;
+      decode(15);
+    }
+    return super.getStringValueMap();
+  }
+
+  @Override
+  public void setStringValueMap(java.util.Map<java.lang.String,java.lang.String> value) {
+    if (index != null) {
+      decoded[14] = true;
+      touched = true;
+      index.consume(15);
+    }
+    super.setStringValueMap(value);
+  }
+
+  @Override
+  public java.util.Map<java.lang.String,java.lang.Integer> getIntegerValueMap() {
+    if (index != null && !decoded[15]) {
+      if (masked) {
+        return null;
+      }
+      decoded[15] = true;
+      decode(16);
+    }
+    return super.getIntegerValueMap();
+  }
+
+  @Override
+  public void setIntegerValueMap(java.util.Map<java.lang.String,java.lang.Integer> value) {
+    if (index != null) {
+      decoded[15] = true;
+      touched = true;
+      index.consume(16);
+    }
+    super.setIntegerValueMap(value);
+  }
+
+  @Override
+  public java.util.Map<java.lang.String,io.vertx.test.codegen.converter.Address> getStructValueMap() {
+    if (index != null && !decoded[16]) {
+      if (masked) {
+        return null;
+      }
+      decoded[16] = true;
+      decode(17);
+    }
+    return super.getStructValueMap();
+  }
+
+  @Override
+  public void setStructValueMap(java.util.Map<java.lang.String,io.vertx.test.codegen.converter.Address> value) {
+    if (index != null) {
+      decoded[16] = true;
+      touched = true;
+      index.consume(17);
+    }
+    super.setStructValueMap(value);
+  }
+
+  @Override
+  public java.util.Map<java.lang.String,io.vertx.core.json.JsonObject> getJsonValueMap() {
+    if (index != null && !decoded[17]) {
+      if (masked) {
+        return null;
+      }
+      decoded[17] = true;
+      decode(18);
+    }
+    return super.getJsonValueMap();
+  }
+
+  @Override
+  public void setJsonValueMap(java.util.Map<java.lang.String,io.vertx.core.json.JsonObject> value) {
+    if (index != null) {
+      decoded[17] = true;
+      touched = true;
+      index.consume(18);
+    }
+    super.setJsonValueMap(value);
+  }
+
+  @Override
+  public java.util.Map<java.lang.String,java.time.ZonedDateTime> getZonedDateTimeValueMap() {
+    if (index != null && !decoded[18]) {
+      if (masked) {
+        return null;
+      }
+      decoded[18] = true;
+      decode(19);
+    }
+    return super.getZonedDateTimeValueMap();
+  }
+
+  @Override
+  public void setZonedDateTimeValueMap(java.util.Map<java.lang.String,java.time.ZonedDateTime> value) {
+    if (index != null) {
+      decoded[18] = true;
+      touched = true;
+      index.consume(19);
+    }
+    super.setZonedDateTimeValueMap(value);
+  }
+
+  @Override
+  public java.time.ZonedDateTime getZonedDateTimeField() {
+    if (index != null && !decoded[19]) {
+      if (masked) {
+        return null;
+      }
+      decoded[19] = true;
+      decode(20);
+    }
+    return super.getZonedDateTimeField();
+  }
+
+  @Override
+  public void setZonedDateTimeField(java.time.ZonedDateTime value) {
+    if (index != null) {
+      decoded[19] = true;
+      touched = true;
+      index.consume(20);
+    }
+    super.setZonedDateTimeField(value);
+  }
+
+  @Override
+  public java.time.Instant getInstantField() {
+    if (index != null && !decoded[20]) {
+      if (masked) {
+        return null;
+      }
+      decoded[20] = true;
+      decode(21);
+    }
+    return super.getInstantField();
+  }
+
+  @Override
+  public void setInstantField(java.time.Instant value) {
+    if (index != null) {
+      decoded[20] = true;
+      touched = true;
+      index.consume(21);
+    }
+    super.setInstantField(value);
+  }
+
+  @Override
+  public io.vertx.core.json.JsonObject getJsonObjectField() {
+    if (index != null && !decoded[21]) {
+      if (masked) {
+        return null;
+      }
+      decoded[21] = true;
+      decode(22);
+    }
+    return super.getJsonObjectField();
+  }
+
+  @Override
+  public void setJsonObjectField(io.vertx.core.json.JsonObject value) {
+    if (index != null) {
+      decoded[21] = true;
+      touched = true;
+      index.consume(22);
+    }
+    super.setJsonObjectField(value);
+  }
+
+  @Override
+  public io.vertx.core.json.JsonArray getJsonArrayField() {
+    if (index != null && !decoded[22]) {
+      if (masked) {
+        return null;
+      }
+      decoded[22] = true;
+      decode(23);
+    }
+    return super.getJsonArrayField();
+  }
+
+  @Override
+  public void setJsonArrayField(io.vertx.core.json.JsonArray value) {
+    if (index != null) {
+      decoded[22] = true;
+      touched = true;
+      index.consume(23);
+    }
+    super.setJsonArrayField(value);
+  }
+
+  @Override
+  public boolean isPrimitiveBoolean() {
+    if (index != null && !decoded[23]) {
+      if (masked) {
+        return false;
+      }
+      decoded[23] = true;
+      decode(24);
+    }
+    return super.isPrimitiveBoolean();
+  }
+
+  @Override
+  public void setPrimitiveBoolean(boolean value) {
+    if (index != null) {
+      decoded[23] = true;
+      touched = true;
+      index.consume(24);
+    }
+    super.setPrimitiveBoolean(value);
+  }
+
+  @Override
+  public byte getPrimitiveByte() {
+    if (index != null && !decoded[24]) {
+      if (masked) {
+        return 0;
+      }
+      decoded[24] = true;
+      decode(25);
+    }
+    return super.getPrimitiveByte();
+  }
+
+  @Override
+  public void setPrimitiveByte(byte value) {
+    if (index != null) {
+      decoded[24] = true;
+      touched = true;
+      index.consume(25);
+    }
+    super.setPrimitiveByte(value);
+  }
+
+  @Override
+  public short getPrimitiveShort() {
+    if (index != null && !decoded[25]) {
+      if (masked) {
+        return 0;
+      }
+      decoded[25] = true;
+      decode(26);
+    }
+    return super.getPrimitiveShort();
+  }
+
+  @Override
+  public void setPrimitiveShort(short value) {
+    if (index != null) {
+      decoded[25] = true;
+      touched = true;
+      index.consume(26);
+    }
+    super.setPrimitiveShort(value);
+  }
+
+  @Override
+  public int getPrimitiveInt() {
+    if (index != null && !decoded[26]) {
+      if (masked) {
+        return 0;
+      }
+      decoded[26] = true;
+      decode(27);
+    }
+    return super.getPrimitiveInt();
+  }
+
+  @Override
+  public void setPrimitiveInt(int value) {
+    if (index != null) {
+      decoded[26] = true;
+      touched = true;
+      index.consume(27);
+    }
+    super.setPrimitiveInt(value);
+  }
+
+  @Override
+  public long getPrimitiveLong() {
+    if (index != null && !decoded[27]) {
+      if (masked) {
+        return 0;
+      }
+      decoded[27] = true;
+      decode(28);
+    }
+    return super.getPrimitiveLong();
+  }
+
+  @Override
+  public void setPrimitiveLong(long value) {
+    if (index != null) {
+      decoded[27] = true;
+      touched = true;
+      index.consume(28);
+    }
+    super.setPrimitiveLong(value);
+  }
+
+  @Override
+  public float getPrimitiveFloat() {
+    if (index != null && !decoded[28]) {
+      if (masked) {
+        return 0;
+      }
+      decoded[28] = true;
+      decode(29);
+    }
+    return super.getPrimitiveFloat();
+  }
+
+  @Override
+  public void setPrimitiveFloat(float value) {
+    if (index != null) {
+      decoded[28] = true;
+      touched = true;
+      index.consume(29);
+    }
+    super.setPrimitiveFloat(value);
+  }
+
+  @Override
+  public double getPrimitiveDouble() {
+    if (index != null && !decoded[29]) {
+      if (masked) {
+        return 0;
+      }
+      decoded[29] = true;
+      decode(30);
+    }
+    return super.getPrimitiveDouble();
+  }
+
+  @Override
+  public void setPrimitiveDouble(double value) {
+    if (index != null) {
+      decoded[29] = true;
+      touched = true;
+      index.consume(30);
+    }
+    super.setPrimitiveDouble(value);
+  }
+
+  @Override
+  public char getPrimitiveChar() {
+    if (index != null && !decoded[30]) {
+      if (masked) {
+        return 0;
+      }
+      decoded[30] = true;
+      decode(31);
+    }
+    return super.getPrimitiveChar();
+  }
+
+  @Override
+  public void setPrimitiveChar(char value) {
+    if (index != null) {
+      decoded[30] = true;
+      touched = true;
+      index.consume(31);
+    }
+    super.setPrimitiveChar(value);
+  }
+
+  @Override
+  public io.vertx.test.codegen.converter.EnumType getEnumType() {
+    if (index != null && !decoded[31]) {
+      if (masked) {
+        return null;
+      }
+      decoded[31] = true;
+      decode(32);
+    }
+    return super.getEnumType();
+  }
+
+  @Override
+  public void setEnumType(io.vertx.test.codegen.converter.EnumType value) {
+    if (index != null) {
+      decoded[31] = true;
+      touched = true;
+      index.consume(32);
+    }
+    super.setEnumType(value);
+  }
+
+  @Override
+  public java.util.List<java.lang.Long> getLongListField() {
+    if (index != null && !decoded[32]) {
+      if (masked) {
+        return null;
+      }
+      decoded[32] = true;
+      decode(33);
+    }
+    return super.getLongListField();
+  }
+
+  @Override
+  public void setLongListField(java.util.List<java.lang.Long> value) {
+    if (index != null) {
+      decoded[32] = true;
+      touched = true;
+      index.consume(33);
+    }
+    super.setLongListField(value);
+  }
+
+  @Override
+  public java.util.List<java.lang.Double> getDoubleListField() {
+    if (index != null && !decoded[33]) {
+      if (masked) {
+        return null;
+      }
+      decoded[33] = true;
+      decode(34);
+    }
+    return super.getDoubleListField();
+  }
+
+  @Override
+  public void setDoubleListField(java.util.List<java.lang.Double> value) {
+    if (index != null) {
+      decoded[33] = true;
+      touched = true;
+      index.consume(34);
+    }
+    super.setDoubleListField(value);
+  }
+
+  @Override
+  public java.util.List<java.lang.Float> getFloatListField() {
+    if (index != null && !decoded[34]) {
+      if (masked) {
+        return null;
+      }
+      decoded[34] = true;
+      decode(35);
+    }
+    return super.getFloatListField();
+  }
+
+  @Override
+  public void setFloatListField(java.util.List<java.lang.Float> value) {
+    if (index != null) {
+      decoded[34] = true;
+      touched = true;
+      index.consume(35);
+    }
+    super.setFloatListField(value);
+  }
+
+  @Override
+  public java.util.List<java.lang.Boolean> getBooleanListField() {
+    if (index != null && !decoded[35]) {
+      if (masked) {
+        return null;
+      }
+      decoded[35] = true;
+      decode(36);
+    }
+    return super.getBooleanListField();
+  }
+
+  @Override
+  public void setBooleanListField(java.util.List<java.lang.Boolean> value) {
+    if (index != null) {
+      decoded[35] = true;
+      touched = true;
+      index.consume(36);
+    }
+    super.setBooleanListField(value);
+  }
+
+  @Override
+  public int[] getIntArrayField() {
+    if (index != null && !decoded[36]) {
+      if (masked) {
+        return null;
+      }
+      decoded[36] = true;
+      decode(37);
+    }
+    return super.getIntArrayField();
+  }
+
+  @Override
+  public void setIntArrayField(int[] value) {
+    if (index != null) {
+      decoded[36] = true;
+      touched = true;
+      index.consume(37);
+    }
+    super.setIntArrayField(value);
+  }
+
+  @Override
+  public long[] getLongArrayField() {
+    if (index != null && !decoded[37]) {
+      if (masked) {
+        return null;
+      }
+      decoded[37] = true;
+      decode(38);
+    }
+    return super.getLongArrayField();
+  }
+
+  @Override
+  public void setLongArrayField(long[] value) {
+    if (index != null) {
+      decoded[37] = true;
+      touched = true;
+      index.consume(38);
+    }
+    super.setLongArrayField(value);
+  }
+
+  @Override
+  public double[] getDoubleArrayField() {
+    if (index != null && !decoded[38]) {
+      if (masked) {
+        return null;
+      }
+      decoded[38] = true;
+      decode(39);
+    }
+    return super.getDoubleArrayField();
+  }
+
+  @Override
+  public void setDoubleArrayField(double[] value) {
+    if (index != null) {
+      decoded[38] = true;
+      touched = true;
+      index.consume(39);
+    }
+    super.setDoubleArrayField(value);
+  }
+
+  @Override
+  public float[] getFloatArrayField() {
+    if (index != null && !decoded[39]) {
+      if (masked) {
+        return null;
+      }
+      decoded[39] = true;
+      decode(40);
+    }
+    return super.getFloatArrayField();
+  }
+
+  @Override
+  public void setFloatArrayField(float[] value) {
+    if (index != null) {
+      decoded[39] = true;
+      touched = true;
+      index.consume(40);
+    }
+    super.setFloatArrayField(value);
+  }
+
+  private void decode(int fieldNumber) {
+    touched = true;
+    try {
+      for (int entry = index.next(fieldNumber, -1); entry != -1; entry = index.next(fieldNumber, entry)) {
+        UserProtoConverter.fromProtoVertx(index.input(entry), this);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    index.consume(fieldNumber);
+  }
+
+  public void toProto(CodedOutputStream output) throws IOException {
+    if (touched) {
+      masked = true;
+      try {
+        UserProtoConverter.toProto(this, output, ProtobufEncodingMode.VERTX);
+      } finally {
+        masked = false;
+      }
+    }
+    index.writeTo(output);
+  }
+
+  public int computeSize() {
+    int size = index.computeSize();
+    if (touched) {
+      masked = true;
+      try {
+        size += UserProtoConverter.computeSize(this, ProtobufEncodingMode.VERTX);
+      } finally {
+        masked = false;
+      }
+    }
+    return size;
+  }
+}
@@ -0,0 +1,30 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.core.eventbus.EventBus;
+
+public class VertxProtoMessageCodecs {
+
+  public static void registerCodecs(EventBus eventBus) {
+    eventBus.registerDefaultCodec(io.vertx.test.codegen.converter.Address.class, new io.vertx.test.codegen.converter.AddressProtoMessageCodec());
+    eventBus.registerDefaultCodec(io.vertx.test.codegen.converter.Book.class, new io.vertx.test.codegen.converter.BookProtoMessageCodec());
+    eventBus.registerDefaultCodec(io.vertx.test.codegen.converter.CompatiblePojo.class, new io.vertx.test.codegen.converter.CompatiblePojoProtoMessageCodec());
+    eventBus.registerDefaultCodec(io.vertx.test.codegen.converter.IntegerEncodingPojo.class, new io.vertx.test.codegen.converter.IntegerEncodingPojoProtoMessageCodec());
+    eventBus.registerDefaultCodec(io.vertx.test.codegen.converter.Person.class, new io.vertx.test.codegen.converter.PersonProtoMessageCodec());
+    eventBus.registerDefaultCodec(io.vertx.test.codegen.converter.PersonRelay.class, new io.vertx.test.codegen.converter.PersonRelayProtoMessageCodec());
+    eventBus.registerDefaultCodec(io.vertx.test.codegen.converter.RecursiveItem.class, new io.vertx.test.codegen.converter.RecursiveItemProtoMessageCodec());
+    eventBus.registerDefaultCodec(io.vertx.test.codegen.converter.SimplePojo.class, new io.vertx.test.codegen.converter.SimplePojoProtoMessageCodec());
+    eventBus.registerDefaultCodec(io.vertx.test.codegen.converter.User.class, new io.vertx.test.codegen.converter.UserProtoMessageCodec());
+  }
+
+  public static void unregisterCodecs(EventBus eventBus) {
+    eventBus.unregisterDefaultCodec(io.vertx.test.codegen.converter.Address.class);
+    eventBus.unregisterDefaultCodec(io.vertx.test.codegen.converter.Book.class);
+    eventBus.unregisterDefaultCodec(io.vertx.test.codegen.converter.CompatiblePojo.class);
+    eventBus.unregisterDefaultCodec(io.vertx.test.codegen.converter.IntegerEncodingPojo.class);
+    eventBus.unregisterDefaultCodec(io.vertx.test.codegen.converter.Person.class);
+    eventBus.unregisterDefaultCodec(io.vertx.test.codegen.converter.PersonRelay.class);
+    eventBus.unregisterDefaultCodec(io.vertx.test.codegen.converter.RecursiveItem.class);
+    eventBus.unregisterDefaultCodec(io.vertx.test.codegen.converter.SimplePojo.class);
+    eventBus.unregisterDefaultCodec(io.vertx.test.codegen.converter.User.class);
+  }
+}
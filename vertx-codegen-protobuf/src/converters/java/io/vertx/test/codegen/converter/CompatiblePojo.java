@@ -0,0 +1,32 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+
+/**
+ * A data object whose converter only generates the {@link ProtobufEncodingMode#GOOGLE_COMPATIBLE} encoding mode.
+ */
+@DataObject
+@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT, encodingModes = ProtobufEncodingMode.GOOGLE_COMPATIBLE)
+public class CompatiblePojo {
+  private Integer integerField;
+  private String stringField;
+
+  public Integer getIntegerField() {
+    return integerField;
+  }
+
+  public void setIntegerField(Integer integerField) {
+    this.integerField = integerField;
+  }
+
+  public String getStringField() {
+    return stringField;
+  }
+
+  public void setStringField(String stringField) {
+    this.stringField = stringField;
+  }
+}
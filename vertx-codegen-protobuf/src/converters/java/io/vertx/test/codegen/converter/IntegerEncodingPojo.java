@@ -0,0 +1,118 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
+import io.vertx.codegen.protobuf.annotations.IntegerEncoding;
+import io.vertx.codegen.protobuf.annotations.ProtobufField;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A data object whose integer properties use the {@code sint}, {@code fixed} and {@code sfixed} protobuf types.
+ */
+@DataObject
+@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.MANUAL)
+public class IntegerEncodingPojo {
+  @ProtobufField(value = 1, encoding = IntegerEncoding.SINT)
+  private Integer sintField;
+  @ProtobufField(value = 2, encoding = IntegerEncoding.SINT)
+  private long sint64Field;
+  @ProtobufField(value = 3, encoding = IntegerEncoding.SINT)
+  private Short sintShortField;
+  @ProtobufField(value = 4, encoding = IntegerEncoding.FIXED)
+  private Integer fixedField;
+  @ProtobufField(value = 5, encoding = IntegerEncoding.FIXED)
+  private Long fixed64Field;
+  @ProtobufField(value = 6, encoding = IntegerEncoding.SFIXED)
+  private int sfixedField;
+  @ProtobufField(value = 7, encoding = IntegerEncoding.SFIXED)
+  private Long sfixed64Field;
+  @ProtobufField(value = 8, encoding = IntegerEncoding.SINT)
+  private List<Integer> sintListField;
+  @ProtobufField(value = 9, encoding = IntegerEncoding.FIXED)
+  private long[] fixedArrayField;
+  @ProtobufField(value = 10, encoding = IntegerEncoding.SFIXED)
+  private Map<String, Integer> sfixedMapField;
+
+  public Integer getSintField() {
+    return sintField;
+  }
+
+  public void setSintField(Integer sintField) {
+    this.sintField = sintField;
+  }
+
+  public long getSint64Field() {
+    return sint64Field;
+  }
+
+  public void setSint64Field(long sint64Field) {
+    this.sint64Field = sint64Field;
+  }
+
+  public Short getSintShortField() {
+    return sintShortField;
+  }
+
+  public void setSintShortField(Short sintShortField) {
+    this.sintShortField = sintShortField;
+  }
+
+  public Integer getFixedField() {
+    return fixedField;
+  }
+
+  public void setFixedField(Integer fixedField) {
+    this.fixedField = fixedField;
+  }
+
+  public Long getFixed64Field() {
+    return fixed64Field;
+  }
+
+  public void setFixed64Field(Long fixed64Field) {
+    this.fixed64Field = fixed64Field;
+  }
+
+  public int getSfixedField() {
+    return sfixedField;
+  }
+
+  public void setSfixedField(int sfixedField) {
+    this.sfixedField = sfixedField;
+  }
+
+  public Long getSfixed64Field() {
+    return sfixed64Field;
+  }
+
+  public void setSfixed64Field(Long sfixed64Field) {
+    this.sfixed64Field = sfixed64Field;
+  }
+
+  public List<Integer> getSintListField() {
+    return sintListField;
+  }
+
+  public void setSintListField(List<Integer> sintListField) {
+    this.sintListField = sintListField;
+  }
+
+  public long[] getFixedArrayField() {
+    return fixedArrayField;
+  }
+
+  public void setFixedArrayField(long[] fixedArrayField) {
+    this.fixedArrayField = fixedArrayField;
+  }
+
+  public Map<String, Integer> getSfixedMapField() {
+    return sfixedMapField;
+  }
+
+  public void setSfixedMapField(Map<String, Integer> sfixedMapField) {
+    this.sfixedMapField = sfixedMapField;
+  }
+}
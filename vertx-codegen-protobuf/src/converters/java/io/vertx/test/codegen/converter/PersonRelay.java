@@ -0,0 +1,37 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
+import io.vertx.codegen.protobuf.annotations.ProtobufField;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+
+/**
+ * An older version of {@link Person} that only knows the name, the other fields are relayed as is.
+ */
+@DataObject
+@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.MANUAL, retainUnknownFields = true)
+public class PersonRelay {
+  @ProtobufField(2)
+  private String name;
+  private ProtoUnknownFields unknownFields;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @GenIgnore
+  public ProtoUnknownFields getUnknownFields() {
+    return unknownFields;
+  }
+
+  @GenIgnore
+  public void setUnknownFields(ProtoUnknownFields unknownFields) {
+    this.unknownFields = unknownFields;
+  }
+}
@@ -7,7 +7,7 @@ import io.vertx.codegen.protobuf.annotations.ProtobufGen;
 import java.util.Objects;
 
 @DataObject
-@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT)
+@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT, singlePassEncoding = true)
 public class RecursiveItem {
 
   private String id;
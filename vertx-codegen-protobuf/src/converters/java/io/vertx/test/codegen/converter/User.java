@@ -8,12 +8,13 @@ import io.vertx.core.json.JsonObject;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 @DataObject
-@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT)
+@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT, lazyView = true)
 public class User {
   private String userName;
   private Integer age;
@@ -47,6 +48,14 @@ public class User {
   private double primitiveDouble;
   private char primitiveChar;
   private EnumType enumType;
+  private List<Long> longListField;
+  private List<Double> doubleListField;
+  private List<Float> floatListField;
+  private List<Boolean> booleanListField;
+  private int[] intArrayField;
+  private long[] longArrayField;
+  private double[] doubleArrayField;
+  private float[] floatArrayField;
 
   public String getUserName() {
     return userName;
@@ -304,16 +313,85 @@ public class User {
     this.enumType = enumType;
   }
 
+  public List<Long> getLongListField() {
+    return longListField;
+  }
+
+  public void setLongListField(List<Long> longListField) {
+    this.longListField = longListField;
+  }
+
+  public List<Double> getDoubleListField() {
+    return doubleListField;
+  }
+
+  public void setDoubleListField(List<Double> doubleListField) {
+    this.doubleListField = doubleListField;
+  }
+
+  public List<Float> getFloatListField() {
+    return floatListField;
+  }
+
+  public void setFloatListField(List<Float> floatListField) {
+    this.floatListField = floatListField;
+  }
+
+  public List<Boolean> getBooleanListField() {
+    return booleanListField;
+  }
+
+  public void setBooleanListField(List<Boolean> booleanListField) {
+    this.booleanListField = booleanListField;
+  }
+
+  public int[] getIntArrayField() {
+    return intArrayField;
+  }
+
+  public void setIntArrayField(int[] intArrayField) {
+    this.intArrayField = intArrayField;
+  }
+
+  public long[] getLongArrayField() {
+    return longArrayField;
+  }
+
+  public void setLongArrayField(long[] longArrayField) {
+    this.longArrayField = longArrayField;
+  }
+
+  public double[] getDoubleArrayField() {
+    return doubleArrayField;
+  }
+
+  public void setDoubleArrayField(double[] doubleArrayField) {
+    this.doubleArrayField = doubleArrayField;
+  }
+
+  public float[] getFloatArrayField() {
+    return floatArrayField;
+  }
+
+  public void setFloatArrayField(float[] floatArrayField) {
+    this.floatArrayField = floatArrayField;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     User user = (User) o;
-    return primitiveBoolean == user.primitiveBoolean && primitiveByte == user.primitiveByte && primitiveShort == user.primitiveShort && primitiveInt == user.primitiveInt && primitiveLong == user.primitiveLong && Float.compare(primitiveFloat, user.primitiveFloat) == 0 && Double.compare(primitiveDouble, user.primitiveDouble) == 0 && primitiveChar == user.primitiveChar && Objects.equals(userName, user.userName) && Objects.equals(age, user.age) && Objects.equals(integerListField, user.integerListField) && Objects.equals(structListField, user.structListField) && Objects.equals(zonedDateTimeListField, user.zonedDateTimeListField) && Objects.equals(jsonListField, user.jsonListField) && Objects.equals(address, user.address) && Objects.equals(byteField, user.byteField) && Objects.equals(doubleField, user.doubleField) && Objects.equals(floatField, user.floatField) && Objects.equals(longField, user.longField) && Objects.equals(boolField, user.boolField) && Objects.equals(shortField, user.shortField) && Objects.equals(charField, user.charField) && Objects.equals(stringValueMap, user.stringValueMap) && Objects.equals(integerValueMap, user.integerValueMap) && Objects.equals(structValueMap, user.structValueMap) && Objects.equals(jsonValueMap, user.jsonValueMap) && Objects.equals(zonedDateTimeValueMap, user.zonedDateTimeValueMap) && Objects.equals(zonedDateTimeField, user.zonedDateTimeField) && Objects.equals(instantField, user.instantField) && Objects.equals(jsonObjectField, user.jsonObjectField) && Objects.equals(jsonArrayField, user.jsonArrayField) && enumType == user.enumType;
+    return primitiveBoolean == user.primitiveBoolean && primitiveByte == user.primitiveByte && primitiveShort == user.primitiveShort && primitiveInt == user.primitiveInt && primitiveLong == user.primitiveLong && Float.compare(primitiveFloat, user.primitiveFloat) == 0 && Double.compare(primitiveDouble, user.primitiveDouble) == 0 && primitiveChar == user.primitiveChar && Objects.equals(userName, user.userName) && Objects.equals(age, user.age) && Objects.equals(integerListField, user.integerListField) && Objects.equals(structListField, user.structListField) && Objects.equals(zonedDateTimeListField, user.zonedDateTimeListField) && Objects.equals(jsonListField, user.jsonListField) && Objects.equals(address, user.address) && Objects.equals(byteField, user.byteField) && Objects.equals(doubleField, user.doubleField) && Objects.equals(floatField, user.floatField) && Objects.equals(longField, user.longField) && Objects.equals(boolField, user.boolField) && Objects.equals(shortField, user.shortField) && Objects.equals(charField, user.charField) && Objects.equals(stringValueMap, user.stringValueMap) && Objects.equals(integerValueMap, user.integerValueMap) && Objects.equals(structValueMap, user.structValueMap) && Objects.equals(jsonValueMap, user.jsonValueMap) && Objects.equals(zonedDateTimeValueMap, user.zonedDateTimeValueMap) && Objects.equals(zonedDateTimeField, user.zonedDateTimeField) && Objects.equals(instantField, user.instantField) && Objects.equals(jsonObjectField, user.jsonObjectField) && Objects.equals(jsonArrayField, user.jsonArrayField) && enumType == user.enumType && Objects.equals(longListField, user.longListField) && Objects.equals(doubleListField, user.doubleListField) && Objects.equals(floatListField, user.floatListField) && Objects.equals(booleanListField, user.booleanListField) && Arrays.equals(intArrayField, user.intArrayField) && Arrays.equals(longArrayField, user.longArrayField) && Arrays.equals(doubleArrayField, user.doubleArrayField) && Arrays.equals(floatArrayField, user.floatArrayField);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(userName, age, integerListField, structListField, zonedDateTimeListField, jsonListField, address, byteField, doubleField, floatField, longField, boolField, shortField, charField, stringValueMap, integerValueMap, structValueMap, jsonValueMap, zonedDateTimeValueMap, zonedDateTimeField, instantField, jsonObjectField, jsonArrayField, primitiveBoolean, primitiveByte, primitiveShort, primitiveInt, primitiveLong, primitiveFloat, primitiveDouble, primitiveChar, enumType);
+    int result = Objects.hash(userName, age, integerListField, structListField, zonedDateTimeListField, jsonListField, address, byteField, doubleField, floatField, longField, boolField, shortField, charField, stringValueMap, integerValueMap, structValueMap, jsonValueMap, zonedDateTimeValueMap, zonedDateTimeField, instantField, jsonObjectField, jsonArrayField, primitiveBoolean, primitiveByte, primitiveShort, primitiveInt, primitiveLong, primitiveFloat, primitiveDouble, primitiveChar, enumType, longListField, doubleListField, floatListField, booleanListField);
+    result = 31 * result + Arrays.hashCode(intArrayField);
+    result = 31 * result + Arrays.hashCode(longArrayField);
+    result = 31 * result + Arrays.hashCode(doubleArrayField);
+    result = 31 * result + Arrays.hashCode(floatArrayField);
+    return result;
   }
 }
@@ -0,0 +1,30 @@
+package io.vertx.codegen.protobuf.annotations;
+
+/**
+ * The protobuf scalar type of an integer property, see {@link ProtobufField#encoding()}.
+ * <p>
+ * The hint applies to {@code int}, {@code long}, {@code short}, {@code byte} and {@code char} properties,
+ * their boxed types, and the arrays, lists and map values of them. Changing the encoding of an existing
+ * field breaks the wire compatibility with the peers that use the previous encoding.
+ */
+public enum IntegerEncoding {
+  /**
+   * {@code int32} or {@code int64}, a varint. A negative value is always encoded on 10 bytes.
+   */
+  DEFAULT,
+  /**
+   * {@code sint32} or {@code sint64}, a ZigZag encoded varint. Small negative values are encoded
+   * on as few bytes as small positive values.
+   */
+  SINT,
+  /**
+   * {@code fixed32} or {@code fixed64}, always 4 or 8 bytes. Cheaper to encode and decode than a varint,
+   * and smaller for large values, e.g. hashes or identifiers. The value is read back with the same bits,
+   * protobuf peers see it as unsigned.
+   */
+  FIXED,
+  /**
+   * {@code sfixed32} or {@code sfixed64}, always 4 or 8 bytes, signed.
+   */
+  SFIXED,
+}
@@ -13,4 +13,10 @@ package io.vertx.codegen.protobuf.annotations;
  */
 public @interface ProtobufField {
   int value();
+
+  /**
+   * The protobuf type of an integer property, {@code int32} or {@code int64} by default.
+   * It is an error to use another encoding on a property that is not an integer.
+   */
+  IntegerEncoding encoding() default IntegerEncoding.DEFAULT;
 }
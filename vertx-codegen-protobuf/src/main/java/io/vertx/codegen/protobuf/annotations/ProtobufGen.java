@@ -1,5 +1,7 @@
 package io.vertx.codegen.protobuf.annotations;
 
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+
 /**
  * The ProtobufGen annotation is used to mark data classes that should be processed to generate protobuf converters.
  * <p>
@@ -65,4 +67,48 @@ public @interface ProtobufGen {
    * present in the reserved set.
    */
   String[] reservedFieldNames() default {};
+
+  /**
+   * Whether the generated {@code toProto} methods encode the data object in a single pass.
+   * <p>
+   * By default, the converter first walks the data object to compute the size of every nested message and
+   * then walks it a second time to write it. With single pass encoding, nested messages are written into
+   * a growable buffer and their length is back-patched once written, so each property is visited only once.
+   * Both strategies produce identical bytes.
+   */
+  boolean singlePassEncoding() default false;
+
+  /**
+   * Whether a lazy view of the data object is generated, e.g. {@code UserProtoLazyView} for {@code User}.
+   * <p>
+   * The view is a subclass of the data object created from the encoded bytes: the field offsets are indexed
+   * with a single scan of the bytes and each property is decoded the first time its getter is called. When
+   * the view is encoded again, the properties that were neither read nor modified are copied byte for byte.
+   * The data object must be a non-final class with a no-arg constructor and generate the
+   * {@link ProtobufEncodingMode#VERTX} encoding mode.
+   */
+  boolean lazyView() default false;
+
+  /**
+   * Whether the fields of a decoded message that are unknown to the converter are retained by the data object.
+   * <p>
+   * By default, the generated {@code fromProto} methods skip the unknown fields. When they are retained, each unknown
+   * field is appended as raw bytes to a {@link io.vertx.codegen.protobuf.utils.ProtoUnknownFields} of the data object,
+   * the {@code toProto} and {@code computeSize} methods write them back byte for byte, so a message of a newer
+   * producer can be relayed without losing its new fields. The data object must declare the
+   * {@code ProtoUnknownFields getUnknownFields()} and {@code setUnknownFields(ProtoUnknownFields)} methods, annotated
+   * with {@link io.vertx.codegen.annotations.GenIgnore @GenIgnore}.
+   */
+  boolean retainUnknownFields() default false;
+
+  /**
+   * The encoding modes the generated converter supports.
+   * <p>
+   * Each mode gets its own {@code fromProto}, {@code toProto} and {@code computeSize} methods, specialised at compile
+   * time, and the methods taking a {@link ProtobufEncodingMode} dispatch to them once at the top-level call. Declaring
+   * only the modes a service uses generates less code. The overloads without an encoding mode use
+   * {@link ProtobufEncodingMode#VERTX}, or the declared mode when {@code VERTX} is not declared. A nested data object
+   * must generate the encoding modes of the data objects it is nested in.
+   */
+  ProtobufEncodingMode[] encodingModes() default { ProtobufEncodingMode.VERTX, ProtobufEncodingMode.GOOGLE_COMPATIBLE };
 }
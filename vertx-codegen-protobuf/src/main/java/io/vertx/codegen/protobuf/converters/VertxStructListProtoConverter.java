@@ -2,6 +2,7 @@ package io.vertx.codegen.protobuf.converters;
 
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.utils.ProtoStringInterner;
 import io.vertx.core.json.JsonArray;
 
 import java.io.IOException;
@@ -18,6 +19,13 @@ import static io.vertx.codegen.protobuf.converters.VertxStructProtoConverter.TOP
 
 public class VertxStructListProtoConverter {
   public static JsonArray fromProto(CodedInputStream input) throws IOException {
+    return fromProto(input, null);
+  }
+
+  /**
+   * Decode a JSON array, the short string elements are read with the {@code interner} when it is not {@code null}.
+   */
+  public static JsonArray fromProto(CodedInputStream input, ProtoStringInterner interner) throws IOException {
     JsonArray array = new JsonArray();
     int tag;
     while ((tag = input.readTag()) != 0) {
@@ -31,7 +39,7 @@ public class VertxStructListProtoConverter {
       int fieldType = input.readTag();
       switch (fieldType) {
         case STRING_TAG:
-          array.add(input.readString());
+          array.add(interner != null ? interner.readValue(input) : input.readString());
           break;
         case INTEGER_TAG:
           array.add(input.readInt32());
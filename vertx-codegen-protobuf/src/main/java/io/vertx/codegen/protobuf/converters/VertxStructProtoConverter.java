@@ -1,8 +1,12 @@
 package io.vertx.codegen.protobuf.converters;
 
-import com.google.protobuf.ByteString;
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.utils.CodedBuffers;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ProtoStringInterner;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -46,6 +50,27 @@ public class VertxStructProtoConverter {
   public static final int BYTES_TAG = 0x5a;         // 1011|010
 
   public static JsonObject fromProto(CodedInputStream input) throws IOException {
+    return fromProto(input, false);
+  }
+
+  /**
+   * Decode a JSON object.
+   * <p>
+   * When {@code aliasBytes} is {@code true} binary values are decoded as {@link Buffer} slices of the input
+   * instead of fresh byte arrays. Slices are only returned when aliasing is enabled on the {@code input}, see
+   * {@link CodedInputStream#enableAliasing(boolean)}, otherwise the buffers hold a copy of the bytes.
+   */
+  public static JsonObject fromProto(CodedInputStream input, boolean aliasBytes) throws IOException {
+    return fromProto(input, aliasBytes, null);
+  }
+
+  /**
+   * Decode a JSON object, the keys and the short string values are read with the {@code interner} when it is
+   * not {@code null}, so the keys repeated by the nested objects share the same {@code String} instances.
+   *
+   * @see #fromProto(CodedInputStream, boolean)
+   */
+  public static JsonObject fromProto(CodedInputStream input, boolean aliasBytes, ProtoStringInterner interner) throws IOException {
     JsonObject obj = new JsonObject();
     int tag;
     while ((tag = input.readTag()) != 0) {
@@ -57,7 +82,7 @@ public class VertxStructProtoConverter {
       int limit = input.pushLimit(length);
 
       input.readTag();
-      String key = input.readString();
+      String key = interner != null ? interner.readKey(input) : input.readString();
       input.readTag();
       int vlength = input.readUInt32();
       int vlimit = input.pushLimit(vlength);
@@ -65,7 +90,7 @@ public class VertxStructProtoConverter {
       int fieldType = input.readTag();
       switch (fieldType) {
         case STRING_TAG:
-          obj.put(key, input.readString());
+          obj.put(key, interner != null ? interner.readValue(input) : input.readString());
           break;
         case INTEGER_TAG:
           obj.put(key, input.readInt32());
@@ -85,7 +110,7 @@ public class VertxStructProtoConverter {
         case JSON_OBJECT_TAG: {
           int structLength = input.readUInt32();
           int structLimit = input.pushLimit(structLength);
-          JsonObject subObj = VertxStructProtoConverter.fromProto(input);
+          JsonObject subObj = VertxStructProtoConverter.fromProto(input, aliasBytes, interner);
           obj.put(key, subObj);
           input.popLimit(structLimit);
           break;
@@ -93,7 +118,7 @@ public class VertxStructProtoConverter {
         case JSON_ARRAY_TAG: {
           int structLength = input.readUInt32();
           int structLimit = input.pushLimit(structLength);
-          JsonArray array = VertxStructListProtoConverter.fromProto(input);
+          JsonArray array = VertxStructListProtoConverter.fromProto(input, interner);
           obj.put(key, array);
           input.popLimit(structLimit);
           break;
@@ -107,7 +132,11 @@ public class VertxStructProtoConverter {
           break;
         }
         case BYTES_TAG: {
-          obj.put(key, input.readByteArray());
+          if (aliasBytes) {
+            obj.put(key, CodedBuffers.readBytes(input));
+          } else {
+            obj.put(key, input.readByteArray());
+          }
           break;
         }
         case NULL_TAG:
@@ -125,6 +154,23 @@ public class VertxStructProtoConverter {
   }
 
   public static void toProto(JsonObject obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = SizeCachePool.acquire(SizeCachePool.INITIAL_CAPACITY);
+    try {
+      computeSize(obj, cache, 0);
+      toProto(obj, output, cache, 0);
+    } finally {
+      SizeCachePool.release(cache);
+    }
+  }
+
+  /**
+   * Write a JSON object whose size and the sizes of its nested structs were computed in {@code cache} by
+   * {@link #computeSize(JsonObject, ExpandableIntArray, int)} at {@code index}.
+   *
+   * @return the index of the cache after the sizes of this JSON object
+   */
+  public static int toProto(JsonObject obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
     Map<String, Object> fields = obj.getMap();
     for (Map.Entry<String, Object> entry : fields.entrySet()) {
       String key = entry.getKey();
@@ -149,12 +195,12 @@ public class VertxStructProtoConverter {
       } else if (value instanceof Float) {
         valueLength = CodedOutputStream.computeFloatSize(FLOAT_FIELD_NUMBER, (Float) value);
       } else if (value instanceof JsonObject) {
-        structSize = VertxStructProtoConverter.computeSize((JsonObject) value);
+        structSize = cache.getUnchecked(index);
         valueLength += CodedOutputStream.computeTagSize(JSON_OBJECT_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
       } else if (value instanceof JsonArray) {
-        structSize = VertxStructListProtoConverter.computeSize((JsonArray) value);
+        structSize = cache.getUnchecked(index);
         valueLength += CodedOutputStream.computeTagSize(JSON_ARRAY_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
@@ -164,7 +210,9 @@ public class VertxStructProtoConverter {
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
       } else if (value instanceof byte[]) {
-        valueLength = CodedOutputStream.computeBytesSize(BYTES_FIELD_NUMBER, ByteString.copyFrom((byte[]) value));
+        valueLength = CodedOutputStream.computeByteArraySize(BYTES_FIELD_NUMBER, (byte[]) value);
+      } else if (value instanceof Buffer) {
+        valueLength = CodedBuffers.computeBytesSize(BYTES_FIELD_NUMBER, (Buffer) value);
       } else {
         throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
       }
@@ -207,12 +255,13 @@ public class VertxStructProtoConverter {
         output.writeUInt32NoTag(valueLength);                                         // value length
         output.writeTag(JSON_OBJECT_FIELD_NUMBER, WIRETYPE_LENGTH_DELIMITED);         // value
         output.writeUInt32NoTag(structSize);                                          //
-        VertxStructProtoConverter.toProto((JsonObject) value, output);                      //
+        index = VertxStructProtoConverter.toProto((JsonObject) value, output, cache, index);
       } else if (value instanceof JsonArray) {
         output.writeUInt32NoTag(valueLength);                                         // value length
         output.writeTag(JSON_ARRAY_FIELD_NUMBER, WIRETYPE_LENGTH_DELIMITED);          // value
         output.writeUInt32NoTag(structSize);                                          //
         VertxStructListProtoConverter.toProto((JsonArray) value, output);
+        index++;
       } else if (value instanceof Instant) {
         output.writeUInt32NoTag(valueLength);                                         // value length
         output.writeTag(INSTANT_FIELD_NUMBER, WIRETYPE_LENGTH_DELIMITED);             // value
@@ -220,11 +269,15 @@ public class VertxStructProtoConverter {
         InstantProtoConverter.toProto((Instant) value, output);                       //
       } else if (value instanceof byte[]) {
         output.writeUInt32NoTag(valueLength);                                         // value length
-        output.writeBytes(BYTES_FIELD_NUMBER, ByteString.copyFrom((byte[]) value));   // value
+        output.writeByteArray(BYTES_FIELD_NUMBER, (byte[]) value);                    // value
+      } else if (value instanceof Buffer) {
+        output.writeUInt32NoTag(valueLength);                                         // value length
+        CodedBuffers.writeBytes(output, BYTES_FIELD_NUMBER, (Buffer) value);          // value
       } else {
         throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
       }
     }
+    return index;
   }
 
   public static int computeSize(JsonObject obj) {
@@ -266,7 +319,9 @@ public class VertxStructProtoConverter {
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
       } else if (value instanceof byte[]) {
-        valueLength = CodedOutputStream.computeBytesSize(BYTES_FIELD_NUMBER, ByteString.copyFrom((byte[]) value));
+        valueLength = CodedOutputStream.computeByteArraySize(BYTES_FIELD_NUMBER, (byte[]) value);
+      } else if (value instanceof Buffer) {
+        valueLength = CodedBuffers.computeBytesSize(BYTES_FIELD_NUMBER, (Buffer) value);
       } else {
         throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
       }
@@ -282,4 +337,73 @@ public class VertxStructProtoConverter {
     return totalSize;
   }
 
+  /**
+   * Compute the size of a JSON object in {@code cache} at {@code baseIndex}, followed by the sizes of its nested
+   * structs in depth-first order, so {@link #toProto(JsonObject, CodedOutputStream, ExpandableIntArray, int)} writes
+   * them without sizing each nested struct again.
+   *
+   * @return the index of the cache after the sizes of this JSON object
+   */
+  public static int computeSize(JsonObject obj, ExpandableIntArray cache, final int baseIndex) {
+    int totalSize = 0;
+    int index = baseIndex + 1;
+    Map<String, Object> fields = obj.getMap();
+    for (Map.Entry<String, Object> entry : fields.entrySet()) {
+      String key = entry.getKey();
+      Object value = entry.getValue();
+
+      int dataSize = 0;
+      int valueLength = 0;
+      if (value == null) {
+        valueLength = CodedOutputStream.computeEnumSize(NULL_FIELD_NUMBER, 0);
+      } else if (value instanceof String) {
+        valueLength = CodedOutputStream.computeStringSize(STRING_FIELD_NUMBER, (String) value);
+      } else if (value instanceof Integer) {
+        valueLength = CodedOutputStream.computeInt32Size(INTEGER_FIELD_NUMBER, (Integer) value);
+      } else if (value instanceof Long) {
+        valueLength = CodedOutputStream.computeInt64Size(LONG_FIELD_NUMBER, (Long) value);
+      } else if (value instanceof Boolean) {
+        valueLength = CodedOutputStream.computeBoolSize(BOOLEAN_FIELD_NUMBER, (Boolean) value);
+      } else if (value instanceof Double) {
+        valueLength = CodedOutputStream.computeDoubleSize(DOUBLE_FIELD_NUMBER, (Double) value);
+      } else if (value instanceof Float) {
+        valueLength = CodedOutputStream.computeFloatSize(FLOAT_FIELD_NUMBER, (Float) value);
+      } else if (value instanceof JsonObject) {
+        int savedIndex = index;
+        index = VertxStructProtoConverter.computeSize((JsonObject) value, cache, index);
+        int structSize = cache.getUnchecked(savedIndex);
+        valueLength += CodedOutputStream.computeTagSize(JSON_OBJECT_FIELD_NUMBER);
+        valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
+        valueLength += structSize;
+      } else if (value instanceof JsonArray) {
+        int structSize = VertxStructListProtoConverter.computeSize((JsonArray) value);
+        cache.set(index++, structSize);
+        valueLength += CodedOutputStream.computeTagSize(JSON_ARRAY_FIELD_NUMBER);
+        valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
+        valueLength += structSize;
+      } else if (value instanceof Instant) {
+        int structSize = InstantProtoConverter.computeSize((Instant) value);
+        valueLength += CodedOutputStream.computeTagSize(INSTANT_FIELD_NUMBER);
+        valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
+        valueLength += structSize;
+      } else if (value instanceof byte[]) {
+        valueLength = CodedOutputStream.computeByteArraySize(BYTES_FIELD_NUMBER, (byte[]) value);
+      } else if (value instanceof Buffer) {
+        valueLength = CodedBuffers.computeBytesSize(BYTES_FIELD_NUMBER, (Buffer) value);
+      } else {
+        throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
+      }
+      dataSize += CodedOutputStream.computeStringSize(MAP_KEY_FIELD_NUMBER, key);
+      dataSize += CodedOutputStream.computeTagSize(MAP_VALUE_FIELD_NUMBER);         // value tag
+      dataSize += CodedOutputStream.computeUInt32SizeNoTag(valueLength);            // value length
+      dataSize += valueLength;                                                      // value
+
+      totalSize += CodedOutputStream.computeTagSize(TOP_LEVEL_FIELD_NUMBER);        // top-level tag
+      totalSize += CodedOutputStream.computeUInt32SizeNoTag(dataSize);              // top-level length
+      totalSize += dataSize;                                                        // key and value
+    }
+    cache.set(baseIndex, totalSize);
+    return index;
+  }
+
 }
@@ -0,0 +1,115 @@
+package io.vertx.codegen.protobuf.generator;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Generates an event bus {@code MessageCodec} encoding a data object with its generated protobuf converter.
+ */
+public class DataObjectProtoCodecGen extends Generator<DataObjectModel> {
+
+  public DataObjectProtoCodecGen() {
+    kinds = Collections.singleton("dataObject");
+    name = "data_object_proto_codecs";
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(ProtobufGen.class);
+  }
+
+  static boolean hasCodec(DataObjectModel model) {
+    return model.isClass()
+      && model.hasEmptyConstructor()
+      && model.getAnnotations().stream().anyMatch(ann -> ann.getName().equals(ProtobufGen.class.getName()));
+  }
+
+  @Override
+  public String filename(DataObjectModel model) {
+    if (hasCodec(model)) {
+      return model.getFqn() + "ProtoMessageCodec.java";
+    }
+    return null;
+  }
+
+  @Override
+  public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
+    StringWriter buffer = new StringWriter();
+    PrintWriter writer = new PrintWriter(buffer);
+    String simpleName = model.getType().getSimpleName();
+    String converter = simpleName + "ProtoConverter";
+
+    writer.print("package " + model.getType().getPackageName() + ";\n");
+    writer.print("\n");
+    writer.print("import io.vertx.codegen.protobuf.ProtobufEncodingMode;\n");
+    writer.print("import io.vertx.core.buffer.Buffer;\n");
+    writer.print("import io.vertx.core.eventbus.MessageCodec;\n");
+    writer.print("import java.io.IOException;\n");
+    writer.print("import java.io.UncheckedIOException;\n");
+    writer.print("\n");
+    writer.print("public class " + simpleName + "ProtoMessageCodec implements MessageCodec<" + simpleName + ", " + simpleName + "> {\n");
+    writer.print("\n");
+    writer.print("  public static final String NAME = \"" + model.getFqn() + "ProtoMessageCodec\";\n");
+    writer.print("\n");
+
+    // | length (int) | message |
+    writer.print("  @Override\n");
+    writer.print("  public void encodeToWire(Buffer buffer, " + simpleName + " obj) {\n");
+    writer.print("    int pos = buffer.length();\n");
+    writer.print("    buffer.appendInt(0);\n");
+    writer.print("    try {\n");
+    writer.print("      " + converter + ".toBuffer(obj, buffer);\n");
+    writer.print("    } catch (IOException e) {\n");
+    writer.print("      throw new UncheckedIOException(e);\n");
+    writer.print("    }\n");
+    writer.print("    buffer.setInt(pos, buffer.length() - pos - 4);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @Override\n");
+    writer.print("  public " + simpleName + " decodeFromWire(int pos, Buffer buffer) {\n");
+    writer.print("    int length = buffer.getInt(pos);\n");
+    writer.print("    int start = pos + 4;\n");
+    writer.print("    " + simpleName + " obj = new " + simpleName + "();\n");
+    writer.print("    try {\n");
+    writer.print("      " + converter + ".fromBuffer(buffer, start, start + length, obj, ProtobufEncodingMode." + ProtobufGenAnnotation.defaultEncodingMode(model) + ");\n");
+    writer.print("    } catch (IOException e) {\n");
+    writer.print("      throw new UncheckedIOException(e);\n");
+    writer.print("    }\n");
+    writer.print("    return obj;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+
+    // Local delivery, copy through an exactly sized heap buffer
+    writer.print("  @Override\n");
+    writer.print("  public " + simpleName + " transform(" + simpleName + " obj) {\n");
+    writer.print("    if (obj == null) {\n");
+    writer.print("      return null;\n");
+    writer.print("    }\n");
+    writer.print("    try {\n");
+    writer.print("      return " + converter + ".fromBuffer(" + converter + ".toBuffer(obj));\n");
+    writer.print("    } catch (IOException e) {\n");
+    writer.print("      throw new UncheckedIOException(e);\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @Override\n");
+    writer.print("  public String name() {\n");
+    writer.print("    return NAME;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @Override\n");
+    writer.print("  public byte systemCodecID() {\n");
+    writer.print("    return -1;\n");
+    writer.print("  }\n");
+    writer.print("}\n");
+    return buffer.toString();
+  }
+}
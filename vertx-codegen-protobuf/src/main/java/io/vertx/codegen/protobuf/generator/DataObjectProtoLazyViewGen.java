@@ -0,0 +1,197 @@
+package io.vertx.codegen.protobuf.generator;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.GenException;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a lazy view of a data object, decoding each property from the encoded message on first access.
+ */
+public class DataObjectProtoLazyViewGen extends Generator<DataObjectModel> {
+
+  public DataObjectProtoLazyViewGen() {
+    kinds = Collections.singleton("dataObject");
+    name = "data_object_proto_lazy_views";
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(ProtobufGen.class);
+  }
+
+  @Override
+  public String filename(DataObjectModel model) {
+    if (model.isClass() && ProtobufGenAnnotation.lazyView(model)) {
+      return model.getFqn() + "ProtoLazyView.java";
+    }
+    return null;
+  }
+
+  @Override
+  public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
+    TypeElement typeElt = (TypeElement) model.getElement();
+    if (!model.hasEmptyConstructor() || typeElt.getModifiers().contains(Modifier.FINAL) || typeElt.getModifiers().contains(Modifier.ABSTRACT)) {
+      throw new GenException(typeElt, "A lazy view requires a non final concrete class with a no-arg constructor");
+    }
+    // The GOOGLE_COMPATIBLE decoding sets the proto3 defaults of all the properties, which would mark them as
+    // modified, and its encoding rejects the null values the masked getters return
+    if (!ProtobufGenAnnotation.encodingModes(model).contains(ProtobufEncodingMode.VERTX)) {
+      throw new GenException(typeElt, "A lazy view requires the VERTX encoding mode");
+    }
+    StringWriter buffer = new StringWriter();
+    PrintWriter writer = new PrintWriter(buffer);
+    String simpleName = model.getType().getSimpleName();
+    String viewName = simpleName + "ProtoLazyView";
+    String converter = simpleName + "ProtoConverter";
+
+    FieldNumberStrategy fieldNumberStrategy = ProtobufGenAnnotation.fieldNumberStrategy(model);
+    Set<Integer> reservedFieldNumbers = ProtobufGenAnnotation.reservedFieldNumbers(model);
+    Collection<PropertyInfo> properties = model.getPropertyMap().values();
+    Map<String, Integer> fieldNumbers = ProtobufFields.fieldNumbers(properties, fieldNumberStrategy, reservedFieldNumbers);
+    List<PropertyInfo> orderedProperties = ProtobufFields.inFieldNumberOrder(properties, fieldNumbers);
+
+    writer.print("package " + model.getType().getPackageName() + ";\n");
+    writer.print("\n");
+    writer.print("import com.google.protobuf.CodedOutputStream;\n");
+    writer.print("import io.vertx.codegen.protobuf.ProtobufEncodingMode;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.ProtoFieldIndex;\n");
+    writer.print("import java.io.IOException;\n");
+    writer.print("import java.io.UncheckedIOException;\n");
+    writer.print("\n");
+    writer.print("public class " + viewName + " extends " + simpleName + " {\n");
+    writer.print("\n");
+    writer.print("  private final ProtoFieldIndex index;\n");
+    writer.print("  private final boolean[] decoded = new boolean[" + orderedProperties.size() + "];\n");
+    writer.print("  private boolean touched;\n");
+    writer.print("  private boolean masked;\n");
+    writer.print("\n");
+    writer.print("  public " + viewName + "(byte[] bytes) throws IOException {\n");
+    writer.print("    this(bytes, 0, bytes.length);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  public " + viewName + "(byte[] bytes, int offset, int length) throws IOException {\n");
+    writer.print("    index = ProtoFieldIndex.scan(bytes, offset, length);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+
+    // The data object constructor may call overridden methods before the view is initialized
+    int propertyIndex = 0;
+    for (PropertyInfo prop : orderedProperties) {
+      int fieldNumber = fieldNumbers.get(prop.getName());
+      ExecutableElement getter = findMethod(typeElt, prop.getGetterMethod(), 0);
+      ExecutableElement setter = findMethod(typeElt, prop.getSetterMethod(), 1);
+      if (getter == null || setter == null) {
+        throw new GenException(typeElt, "A lazy view requires a getter and a setter for property " + prop.getName());
+      }
+      TypeMirror returnType = getter.getReturnType();
+      String defaultValue = returnType.getKind() == TypeKind.BOOLEAN ? "false" : returnType.getKind().isPrimitive() ? "0" : "null";
+      writer.print("  @Override\n");
+      writer.print("  public " + returnType + " " + prop.getGetterMethod() + "() {\n");
+      writer.print("    if (index != null && !decoded[" + propertyIndex + "]) {\n");
+      writer.print("      if (masked) {\n");
+      writer.print("        return " + defaultValue + ";\n");
+      writer.print("      }\n");
+      writer.print("      decoded[" + propertyIndex + "] = true;\n");
+      writer.print("      decode(" + fieldNumber + ");\n");
+      writer.print("    }\n");
+      writer.print("    return super." + prop.getGetterMethod() + "();\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      String setterReturnType = setter.getReturnType().toString();
+      writer.print("  @Override\n");
+      writer.print("  public " + setterReturnType + " " + prop.getSetterMethod() + "(" + setter.getParameters().get(0).asType() + " value) {\n");
+      writer.print("    if (index != null) {\n");
+      writer.print("      decoded[" + propertyIndex + "] = true;\n");
+      writer.print("      touched = true;\n");
+      writer.print("      index.consume(" + fieldNumber + ");\n");
+      writer.print("    }\n");
+      if (setter.getReturnType().getKind() == TypeKind.VOID) {
+        writer.print("    super." + prop.getSetterMethod() + "(value);\n");
+      } else {
+        writer.print("    return super." + prop.getSetterMethod() + "(value);\n");
+      }
+      writer.print("  }\n");
+      writer.print("\n");
+      propertyIndex++;
+    }
+
+    writer.print("  private void decode(int fieldNumber) {\n");
+    writer.print("    touched = true;\n");
+    writer.print("    try {\n");
+    writer.print("      for (int entry = index.next(fieldNumber, -1); entry != -1; entry = index.next(fieldNumber, entry)) {\n");
+    writer.print("        " + converter + ".fromProtoVertx(index.input(entry), this);\n");
+    writer.print("      }\n");
+    writer.print("    } catch (IOException e) {\n");
+    writer.print("      throw new UncheckedIOException(e);\n");
+    writer.print("    }\n");
+    writer.print("    index.consume(fieldNumber);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+
+    // Decoded properties are encoded by the converter, the getters of the other properties return the default
+    // value so the converter skips them, and their original bytes are copied
+    writer.print("  public void toProto(CodedOutputStream output) throws IOException {\n");
+    writer.print("    if (touched) {\n");
+    writer.print("      masked = true;\n");
+    writer.print("      try {\n");
+    writer.print("        " + converter + ".toProto(this, output, ProtobufEncodingMode.VERTX);\n");
+    writer.print("      } finally {\n");
+    writer.print("        masked = false;\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("    index.writeTo(output);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  public int computeSize() {\n");
+    writer.print("    int size = index.computeSize();\n");
+    writer.print("    if (touched) {\n");
+    writer.print("      masked = true;\n");
+    writer.print("      try {\n");
+    writer.print("        size += " + converter + ".computeSize(this, ProtobufEncodingMode.VERTX);\n");
+    writer.print("      } finally {\n");
+    writer.print("        masked = false;\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("    return size;\n");
+    writer.print("  }\n");
+    writer.print("}\n");
+    return buffer.toString();
+  }
+
+  private static ExecutableElement findMethod(TypeElement typeElt, String name, int arity) {
+    while (typeElt != null) {
+      for (Element elt : typeElt.getEnclosedElements()) {
+        if (elt.getKind() == ElementKind.METHOD && elt.getSimpleName().contentEquals(name)) {
+          ExecutableElement methodElt = (ExecutableElement) elt;
+          if (methodElt.getParameters().size() == arity) {
+            return methodElt;
+          }
+        }
+      }
+      TypeMirror superType = typeElt.getSuperclass();
+      typeElt = superType.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superType).asElement() : null;
+    }
+    return null;
+  }
+}
@@ -1,16 +1,24 @@
 package io.vertx.codegen.protobuf.generator;
 
 import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.GenException;
 import io.vertx.codegen.Generator;
 import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
 import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
 import io.vertx.codegen.protobuf.annotations.JsonProtoEncoding;
 import io.vertx.codegen.protobuf.annotations.ProtobufGen;
 import io.vertx.codegen.type.AnnotationValueInfo;
+import io.vertx.codegen.type.ArrayTypeInfo;
 import io.vertx.codegen.type.ClassKind;
 import io.vertx.codegen.type.EnumTypeInfo;
 import io.vertx.codegen.writer.CodeWriter;
 
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.annotation.Annotation;
@@ -23,6 +31,8 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
 
   public static int CACHE_INITIAL_CAPACITY = 16;
 
+  private static final String UNKNOWN_FIELDS_CLASS = "io.vertx.codegen.protobuf.utils.ProtoUnknownFields";
+
   public DataObjectProtobufGen() {
     kinds = Collections.singleton("dataObject");
     name = "data_object_converters";
@@ -57,11 +67,19 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
     FieldNumberStrategy fieldNumberStrategy = ProtobufGenAnnotation.fieldNumberStrategy(model);
     Set<Integer> reservedFieldNumbers = ProtobufGenAnnotation.reservedFieldNumbers(model);
     Set<String> reservedFieldNames = ProtobufGenAnnotation.reservedFieldNames(model);
+    boolean singlePassEncoding = ProtobufGenAnnotation.singlePassEncoding(model);
+    boolean retainUnknownFields = ProtobufGenAnnotation.retainUnknownFields(model);
+    List<ProtobufEncodingMode> encodingModes = ProtobufGenAnnotation.encodingModes(model);
+    ProtobufEncodingMode defaultEncodingMode = ProtobufGenAnnotation.defaultEncodingMode(model);
+    if (retainUnknownFields) {
+      verifyUnknownFieldsAccessors(model);
+    }
 
     writer.print("package " + model.getType().getPackageName() + ";\n");
     writer.print("\n");
     writer.print("import com.google.protobuf.CodedOutputStream;\n");
     writer.print("import com.google.protobuf.CodedInputStream;\n");
+    writer.print("import com.google.protobuf.InvalidProtocolBufferException;\n");
     writer.print("import java.io.IOException;\n");
     writer.print("import java.time.Instant;\n");
     writer.print("import java.time.ZonedDateTime;\n");
@@ -71,13 +89,26 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
     writer.print("import java.util.Map;\n");
     writer.print("import java.util.Arrays;\n");
     writer.print("import io.vertx.codegen.protobuf.ProtobufEncodingMode;\n");
+    writer.print("import io.vertx.core.Handler;\n");
+    writer.print("import io.vertx.core.buffer.Buffer;\n");
     writer.print("import io.vertx.core.json.JsonObject;\n");
+    writer.print("import io.vertx.core.streams.ReadStream;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.BackpatchingOutput;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.CodedBuffers;\n");
     writer.print("import io.vertx.codegen.protobuf.utils.ExpandableIntArray;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.ProtoArrays;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.ProtoReadStream;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.SizeCachePool;\n");
     writer.print("import io.vertx.codegen.protobuf.converters.*;\n");
     writer.print("\n");
     code
       .codeln("public class " + model.getType().getSimpleName() + "ProtoConverter {"
       ).newLine();
+    // Size cache high-water mark of this message type, racy updates are benign
+    writer.print("  private static int cacheCapacity = " + CACHE_INITIAL_CAPACITY + ";\n");
+    writer.print("\n");
 
     String simpleName = model.getType().getSimpleName();
 
@@ -85,232 +116,132 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
     ProtobufFields.verifyFieldNames(properties, reservedFieldNames);
     Map<String, Integer> fieldNumbers = ProtobufFields.fieldNumbers(properties, fieldNumberStrategy, reservedFieldNumbers);
     List<PropertyInfo> orderedProperties = ProtobufFields.inFieldNumberOrder(properties, fieldNumbers);
+    verifyNestedEncodingModes(model, orderedProperties, encodingModes);
 
     // fromProto()
     {
       writer.print("  " + visibility + " static void fromProto(CodedInputStream input, " + simpleName + " obj) throws IOException {\n");
-      writer.print("    fromProto(input, obj, ProtobufEncodingMode.VERTX);\n");
+      writer.print("    fromProto(input, obj, ProtobufEncodingMode." + defaultEncodingMode + ");\n");
       writer.print("  }\n");
       writer.print("\n");
       writer.print("  " + visibility + " static void fromProto(CodedInputStream input, " + simpleName + " obj, ProtobufEncodingMode encodingMode) throws IOException {\n");
-      writer.print("    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;\n");
-      // Compatible Mode
-      {
-        int fieldNumber = 1;
-        writer.print("    if (compatibleMode) {\n");
-        for (PropertyInfo prop : model.getPropertyMap().values()) {
-          ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
-          ClassKind propKind = prop.getType().getKind();
-          // Only applicable to Boxed type
-          if (!prop.getKind().isList() && !prop.getKind().isMap() && propKind.basic) {
-            String defaultValue = protoProperty.getDefaultValue();
-            if (protoProperty.isBoxedType() && defaultValue != null) {
-              writer.print("      obj." + prop.getSetterMethod() + "(" + defaultValue + ");\n");
-            }
-          }
-          fieldNumber++;
-        }
-        writer.print("    }\n");
-      }
+      renderEncodingModeDispatch(writer, encodingModes, "", "fromProto", "input, obj");
+      writer.print("  }\n");
+      writer.print("\n");
+    }
+    for (ProtobufEncodingMode encodingMode : encodingModes) {
+      writer.print("  static void fromProto" + encodingModeSuffix(encodingMode) + "(CodedInputStream input, " + simpleName + " obj) throws IOException {\n");
+      renderCompatibleDefaults(writer, model, encodingMode);
+      renderArrayBuffers(writer, orderedProperties);
       writer.print("    int tag;\n");
       writer.print("    while ((tag = input.readTag()) != 0) {\n");
       writer.print("      switch (tag) {\n");
-      for (PropertyInfo prop : orderedProperties) {
-        ClassKind propKind = prop.getType().getKind();
-        int fieldNumber = fieldNumbers.get(prop.getName());
-        ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
-        writer.print("        case " + protoProperty.getTag() + ": {\n");
-        if (prop.getType().getKind() == ClassKind.ENUM) {
-          writer.print("          switch (input.readEnum()) {\n");
-          EnumTypeInfo enumTypeInfo = (EnumTypeInfo) prop.getType();
-          int enumIntValue = 0;
-          for (String enumValue : enumTypeInfo.getValues()) {
-            writer.print("            case " + enumIntValue + ":\n" );
-            writer.print("              obj." + prop.getSetterMethod() +"(" + enumTypeInfo.getSimpleName() + "." + enumValue +");\n");
-            writer.print("              break;\n");
-            enumIntValue++;
-          }
-          writer.print("          }\n");
-          writer.print("          break;\n");
-        } else { // Not Enum
-          if (prop.getKind().isList()) {
-            if (propKind.basic) {
-              writer.print("          int length = input.readRawVarint32();\n");
-              writer.print("          int limit = input.pushLimit(length);\n");
-              writer.print("          List<Integer> list = new ArrayList<>();\n");
-              writer.print("          while (input.getBytesUntilLimit() > 0) {\n");
-              writer.print("            list.add(input." + protoProperty.getProtoType().read() + "());\n");
-              writer.print("          }\n");
-              writer.print("          obj." + prop.getSetterMethod() + "(list);\n");
-              writer.print("          input.popLimit(limit);\n");
-              writer.print("          break;\n");
-            } else {
-              if (protoProperty.isBuiltinType()) {
-                String builtInType = prop.getType().getSimpleName();
-                writer.print("          int length = input.readUInt32();\n");
-                writer.print("          int limit = input.pushLimit(length);\n");
-                writer.print("          if (obj." + prop.getGetterMethod() + "() == null) {\n");
-                writer.print("            obj." + prop.getSetterMethod() + "(new ArrayList<>());\n");
-                writer.print("          }\n");
-                writer.print("          obj." + prop.getGetterMethod() + "().add(" + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
-                writer.print("          input.popLimit(limit);\n");
-                writer.print("          break;\n");
-              } else {
-                writer.print("          int length = input.readUInt32();\n");
-                writer.print("          int limit = input.pushLimit(length);\n");
-                writer.print("          " + protoProperty.getMessage() + " nested = new " + protoProperty.getMessage() + "();\n");
-                writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto(input, nested);\n");
-                writer.print("          if (obj." + prop.getGetterMethod() + "() == null) {\n");
-                writer.print("            obj." + prop.getSetterMethod() + "(new ArrayList<>());\n");
-                writer.print("          }\n");
-                writer.print("          obj." + prop.getGetterMethod() + "().add(nested);\n");
-                writer.print("          input.popLimit(limit);\n");
-                writer.print("          break;\n");
-              }
-            }
-          } else if (prop.getKind().isMap()) {
-            if (propKind.basic) {
-              writer.print("          int length = input.readRawVarint32();\n");
-              writer.print("          int limit = input.pushLimit(length);\n");
-              writer.print("          Map<String, " + prop.getType().getSimpleName() + "> map = obj." + prop.getGetterMethod() + "();\n");
-              writer.print("          if (map == null) {\n");
-              writer.print("            map = new HashMap<>();\n");
-              writer.print("          }\n");
-              writer.print("          input.readTag();\n");
-              writer.print("          String key = input.readString();\n");
-              writer.print("          input.readTag();\n");
-              writer.print("          " + prop.getType().getSimpleName() + " value = input." + protoProperty.getProtoType().read() + "();\n");
-              writer.print("          map.put(key, value);\n");
-              writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
-              writer.print("          input.popLimit(limit);\n");
-              writer.print("          break;\n");
-            } else {
-              if (protoProperty.isBuiltinType()) {
-                String builtInType = prop.getType().getSimpleName();
-                writer.print("          int length = input.readUInt32();\n");
-                writer.print("          int limit = input.pushLimit(length);\n");
-                writer.print("          Map<String, " + builtInType + "> map = obj." + prop.getGetterMethod() + "();\n");
-                writer.print("          if (map == null) {\n");
-                writer.print("            map = new HashMap<>();\n");
-                writer.print("          }\n");
-                writer.print("          input.readTag();\n");
-                writer.print("          String key = input.readString();\n");
-                writer.print("          input.readTag();\n");
-                writer.print("          int vlength = input.readUInt32();\n");
-                writer.print("          int vlimit = input.pushLimit(vlength);\n");
-                writer.print("          map.put(key, " + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
-                writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
-                writer.print("          input.popLimit(vlimit);\n");
-                writer.print("          input.popLimit(limit);\n");
-                writer.print("          break;\n");
-              } else {
-                writer.print("          int length = input.readUInt32();\n");
-                writer.print("          int limit = input.pushLimit(length);\n");
-                writer.print("          Map<String, " + protoProperty.getMessage() + "> map = obj." + prop.getGetterMethod() + "();\n");
-                writer.print("          if (map == null) {\n");
-                writer.print("            map = new HashMap<>();\n");
-                writer.print("          }\n");
-                writer.print("          input.readTag();\n");
-                writer.print("          String key = input.readString();\n");
-                writer.print("          input.readTag();\n");
-                writer.print("          int vlength = input.readUInt32();\n");
-                writer.print("          int vlimit = input.pushLimit(vlength);\n");
-                writer.print("          " + protoProperty.getMessage() + " value = new " + protoProperty.getMessage() + "();\n");
-                writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto(input, value);\n");
-                writer.print("          map.put(key, value);\n");
-                writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
-                writer.print("          input.popLimit(vlimit);\n");
-                writer.print("          input.popLimit(limit);\n");
-                writer.print("          break;\n");
-              }
-            }
-          } else {
-            if (propKind.basic) {
-              String javaDataType = prop.getType().getName();
-              String casting = "";
-              if ("java.lang.Short".equals(javaDataType) || "short".equals(javaDataType)) {
-                casting = "(short) ";
-              } else if ("java.lang.Character".equals(javaDataType) || "char".equals(javaDataType)) {
-                casting = "(char) ";
-              } else if ("java.lang.Byte".equals(javaDataType) || "byte".equals(javaDataType)) {
-                casting = "(byte) ";
-              }
-              writer.print("          obj." + prop.getSetterMethod() + "(" + casting + "input." + protoProperty.getProtoType().read() + "());\n");
-            } else {
-              if (protoProperty.isBuiltinType()) {
-                String builtInType = prop.getType().getSimpleName();
-                writer.print("          int length = input.readUInt32();\n");
-                writer.print("          int limit = input.pushLimit(length);\n");
-                writer.print("          obj." + prop.getSetterMethod() + "(" + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
-                writer.print("          input.popLimit(limit);\n");
-              } else {
-                writer.print("          int length = input.readUInt32();\n");
-                writer.print("          int limit = input.pushLimit(length);\n");
-                writer.print("          " + protoProperty.getMessage() + " nested = new " + protoProperty.getMessage() + "();\n");
-                writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto(input, nested);\n");
-                writer.print("          obj." + prop.getSetterMethod() + "(nested);\n");
-                writer.print("          input.popLimit(limit);\n");
-              }
-            }
-            writer.print("          break;\n");
-          }
-        } // Not Enum
-        writer.print("        }\n");
-      }
+      renderFromProtoCases(writer, orderedProperties, fieldNumbers, jsonProtoEncoding, encodingMode, null, retainUnknownFields);
       writer.print("      }\n");
       writer.print("    } // while loop\n");
+      renderArrayFlush(writer, orderedProperties, "    ");
       writer.print("  }\n");
       writer.print("\n");
     }
 
+    // Streaming of repeated message fields
+    for (PropertyInfo prop : orderedProperties) {
+      if (!prop.getKind().isList() || prop.getType().getKind().basic || prop.getType().getKind() == ClassKind.ENUM) {
+        continue;
+      }
+      String elementType = prop.getType().getSimpleName();
+      String methodSuffix = Character.toUpperCase(prop.getName().charAt(0)) + prop.getName().substring(1);
+      writer.print("  " + visibility + " static void stream" + methodSuffix + "(CodedInputStream input, " + simpleName + " obj, Handler<" + elementType + "> handler) throws IOException {\n");
+      writer.print("    stream" + methodSuffix + "(input, obj, ProtobufEncodingMode." + defaultEncodingMode + ", handler);\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static void stream" + methodSuffix + "(CodedInputStream input, " + simpleName + " obj, ProtobufEncodingMode encodingMode, Handler<" + elementType + "> handler) throws IOException {\n");
+      renderEncodingModeDispatch(writer, encodingModes, "", "stream" + methodSuffix, "input, obj, handler");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static ReadStream<" + elementType + "> stream" + methodSuffix + "(CodedInputStream input, " + simpleName + " obj) {\n");
+      writer.print("    return stream" + methodSuffix + "(input, obj, ProtobufEncodingMode." + defaultEncodingMode + ");\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static ReadStream<" + elementType + "> stream" + methodSuffix + "(CodedInputStream input, " + simpleName + " obj, ProtobufEncodingMode encodingMode) {\n");
+      renderEncodingModeDispatch(writer, encodingModes, "return ", "stream" + methodSuffix, "input, obj");
+      writer.print("  }\n");
+      writer.print("\n");
+      for (ProtobufEncodingMode encodingMode : encodingModes) {
+        String suffix = encodingModeSuffix(encodingMode);
+        writer.print("  static void stream" + methodSuffix + suffix + "(CodedInputStream input, " + simpleName + " obj, Handler<" + elementType + "> handler) throws IOException {\n");
+        renderCompatibleDefaults(writer, model, encodingMode);
+        writer.print("    " + elementType + " element;\n");
+        writer.print("    while ((element = read" + methodSuffix + suffix + "(input, obj)) != null) {\n");
+        writer.print("      handler.handle(element);\n");
+        writer.print("    }\n");
+        writer.print("  }\n");
+        writer.print("\n");
+        writer.print("  static ReadStream<" + elementType + "> stream" + methodSuffix + suffix + "(CodedInputStream input, " + simpleName + " obj) {\n");
+        renderCompatibleDefaults(writer, model, encodingMode);
+        writer.print("    return new ProtoReadStream<>(() -> read" + methodSuffix + suffix + "(input, obj));\n");
+        writer.print("  }\n");
+        writer.print("\n");
+        writer.print("  static " + elementType + " read" + methodSuffix + suffix + "(CodedInputStream input, " + simpleName + " obj) throws IOException {\n");
+        renderArrayBuffers(writer, orderedProperties);
+        writer.print("    int tag;\n");
+        writer.print("    while ((tag = input.readTag()) != 0) {\n");
+        writer.print("      switch (tag) {\n");
+        renderFromProtoCases(writer, orderedProperties, fieldNumbers, jsonProtoEncoding, encodingMode, prop, retainUnknownFields);
+        writer.print("      }\n");
+        writer.print("    } // while loop\n");
+        renderArrayFlush(writer, orderedProperties, "    ");
+        writer.print("    return null;\n");
+        writer.print("  }\n");
+        writer.print("\n");
+      }
+    }
+
     // toProto()
     {
       writer.print("  " + visibility + " static void toProto(" + simpleName + " obj, CodedOutputStream output) throws IOException {\n");
-      writer.print("    toProto(obj, output, ProtobufEncodingMode.VERTX);\n");
+      writer.print("    toProto(obj, output, ProtobufEncodingMode." + defaultEncodingMode + ");\n");
       writer.print("  }\n");
       writer.print("\n");
       writer.print("  " + visibility + " static void toProto(" + simpleName + " obj, CodedOutputStream output, ProtobufEncodingMode encodingMode) throws IOException {\n");
-      writer.print("    ExpandableIntArray cache = new ExpandableIntArray(" + CACHE_INITIAL_CAPACITY + ");\n");
-      writer.print("    " + simpleName + "ProtoConverter.computeSize(obj, cache, 0, encodingMode);\n");
+      if (singlePassEncoding) {
+        writer.print("    BackpatchingOutput buffer = BackpatchingOutputPool.acquire();\n");
+        writer.print("    try {\n");
+        writer.print("      " + simpleName + "ProtoConverter.toProto(obj, buffer, encodingMode);\n");
+        writer.print("      buffer.writeTo(output);\n");
+        writer.print("    } finally {\n");
+        writer.print("      BackpatchingOutputPool.release(buffer);\n");
+        writer.print("    }\n");
+      } else {
+        writer.print("    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);\n");
+        writer.print("    try {\n");
+        writer.print("      " + simpleName + "ProtoConverter.toProto(obj, output, cache, encodingMode);\n");
+        writer.print("    } finally {\n");
+        writer.print("      SizeCachePool.release(cache);\n");
+        writer.print("    }\n");
+      }
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static void toProto(" + simpleName + " obj, CodedOutputStream output, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) throws IOException {\n");
+      writer.print("    " + simpleName + "ProtoConverter.computeSize(obj, cache, encodingMode);\n");
       writer.print("    " + simpleName + "ProtoConverter.toProto(obj, output, cache, 0, encodingMode);\n");
       writer.print("  }\n");
       writer.print("\n");
       writer.print("  static int toProto(" + simpleName + " obj, CodedOutputStream output, ExpandableIntArray cache, int index, ProtobufEncodingMode encodingMode) throws IOException {\n");
-      writer.print("    boolean compatibleMode = encodingMode == ProtobufEncodingMode.GOOGLE_COMPATIBLE;\n");
+      renderEncodingModeDispatch(writer, encodingModes, "return ", "toProto", "obj, output, cache, index");
+      writer.print("  }\n");
+      writer.print("\n");
+    }
+    for (ProtobufEncodingMode encodingMode : encodingModes) {
+      String suffix = encodingModeSuffix(encodingMode);
+      writer.print("  static int toProto" + suffix + "(" + simpleName + " obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {\n");
       writer.print("    index = index + 1;\n");
       for (PropertyInfo prop : orderedProperties) {
         ClassKind propKind = prop.getType().getKind();
         int fieldNumber = fieldNumbers.get(prop.getName());
         ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
-          writer.print("    // " + prop.getName() + "\n");
-          if (!prop.getKind().isList() && !prop.getKind().isMap() && propKind.basic && protoProperty.isBoxedType()) {
-            writer.print("    if (compatibleMode && obj." + prop.getGetterMethod() + "() == null) {\n");
-            writer.print("      throw new IllegalArgumentException(\"Null values are not allowed for boxed types in compatibility mode\");\n");
-            writer.print("    }\n");
-            String javaDataType = prop.getType().getName();
-            String defaultValue = protoProperty.getDefaultValue();
-            if ("java.lang.Boolean".equals(javaDataType) || "Boolean".equals(javaDataType)) {
-              writer.print("    if ((!compatibleMode && obj." + prop.getGetterMethod() + "() != null) || (compatibleMode && !obj." + prop.getGetterMethod() + "())) {\n");
-            } else if ("java.lang.String".equals(javaDataType) || "String".equals(javaDataType)) {
-              writer.print("    if ((!compatibleMode && obj." + prop.getGetterMethod() + "() != null) || (compatibleMode && !obj." + prop.getGetterMethod() + "().isEmpty())) {\n");
-            } else {
-              if (defaultValue != null) {
-                writer.print("    if ((!compatibleMode && obj." + prop.getGetterMethod() + "() != null) || (compatibleMode && obj." + prop.getGetterMethod() + "() != " + defaultValue + ")) {\n");
-              } else {
-                throw new RuntimeException();
-              }
-            }
-          } else {
-            if (protoProperty.isNullable()) {
-              writer.print("    if (obj." + prop.getGetterMethod() + "() != null) {\n");
-            } else {
-              if ("boolean".equals(prop.getType().getName())) {
-                writer.print("    if (obj." + prop.getGetterMethod() + "()) {\n");
-              } else {
-                writer.print("    if (obj." + prop.getGetterMethod() + "() != 0) {\n");
-              }
-            }
-          }
+        writer.print("    // " + prop.getName() + "\n");
+        renderPresenceCheck(writer, prop, protoProperty, encodingMode);
         if (prop.getType().getKind() == ClassKind.ENUM) {
           writer.print("      switch (obj." + prop.getGetterMethod() + "()) {\n");
           EnumTypeInfo enumTypeInfo = (EnumTypeInfo) prop.getType();
@@ -322,25 +253,22 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             enumIntValue++;
           }
           writer.print("      }\n");
+        } else if (protoProperty.isArray()) {
+          renderPackedToProto(writer, prop, protoProperty);
         } else { // Not Enum
           if (prop.getKind().isList()) {
             if (propKind.basic) {
-              writer.print("      // list | tag | data size | value[0] | value[1] | value[2] |\n");
-              writer.print("      if (obj." + prop.getGetterMethod() + "().size() > 0) {\n");
-              writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
-              writer.print("        int dataSize = 0;\n");
-              writer.print("        for (Integer element: obj." + prop.getGetterMethod() + "()) {\n");
-              writer.print("          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);\n");
-              writer.print("        }\n");
-              writer.print("        output.writeUInt32NoTag(dataSize);\n");
-              writer.print("        for (Integer element: obj." + prop.getGetterMethod() + "()) {\n");
-              writer.print("          output." + protoProperty.getProtoType().writeNoTag() + "(element);\n");
-              writer.print("        }\n");
-              writer.print("      }\n");
+              renderPackedToProto(writer, prop, protoProperty);
             } else {
               writer.print("      // list[0] | tag | data size | value |\n");
               writer.print("      // list[1] | tag | data size | value |\n");
-              if (protoProperty.isBuiltinType()) {
+              if (isSizeCachedStruct(prop, jsonProtoEncoding)) {
+                writer.print("      for (JsonObject element: obj." + prop.getGetterMethod() + "()) {\n");
+                writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("        output.writeUInt32NoTag(cache.getUnchecked(index));\n");
+                writer.print("        index = VertxStructProtoConverter.toProto(element, output, cache, index);\n");
+                writer.print("      }\n");
+              } else if (protoProperty.isBuiltinType()) {
                 String builtInType = prop.getType().getSimpleName();
                 writer.print("      for (" + protoProperty.getMessage() + " element: obj." + prop.getGetterMethod() + "()) {\n");
                 writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
@@ -350,8 +278,8 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
               } else {
                 writer.print("      for (" + protoProperty.getMessage() + " element: obj." + prop.getGetterMethod() + "()) {\n");
                 writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
-                writer.print("        output.writeUInt32NoTag(cache.get(index));\n");
-                writer.print("        index = " + protoProperty.getMessage() + "ProtoConverter.toProto(element, output, cache, index, encodingMode);\n");
+                writer.print("        output.writeUInt32NoTag(cache.getUnchecked(index));\n");
+                writer.print("        index = " + protoProperty.getMessage() + "ProtoConverter.toProto" + suffix + "(element, output, cache, index);\n");
                 writer.print("      }\n");
               }
             }
@@ -374,7 +302,25 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             } else {
               writer.print("      // map[0] | tag | data size | key | value |\n");
               writer.print("      // map[1] | tag | data size | key | value |\n");
-              if (protoProperty.isBuiltinType()) {
+              if (isSizeCachedStruct(prop, jsonProtoEncoding)) {
+                writer.print("      for (Map.Entry<String, JsonObject> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
+                writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("        // calculate data size\n");
+                writer.print("        int elementSize = cache.getUnchecked(index);\n");
+                writer.print("        int dataSize = 0;\n");
+                writer.print("        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());\n");
+                writer.print("        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);\n");
+                writer.print("        dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);\n");
+                writer.print("        dataSize += elementSize;\n");
+                writer.print("        // key\n");
+                writer.print("        output.writeUInt32NoTag(dataSize);\n");
+                writer.print("        // value\n");
+                writer.print("        output.writeString(1, entry.getKey());\n");
+                writer.print("        output.writeUInt32NoTag(18);\n");
+                writer.print("        output.writeUInt32NoTag(elementSize);\n");
+                writer.print("        index = VertxStructProtoConverter.toProto(entry.getValue(), output, cache, index);\n");
+                writer.print("      }\n");
+              } else if (protoProperty.isBuiltinType()) {
                 String builtInType = prop.getType().getSimpleName();
                 writer.print("      for (Map.Entry<String, " + builtInType + "> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
                 writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
@@ -397,7 +343,7 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
                 writer.print("      for (Map.Entry<String, " + protoProperty.getMessage() + "> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
                 writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
                 writer.print("        // calculate data size\n");
-                writer.print("        int elementSize = cache.get(index);\n");
+                writer.print("        int elementSize = cache.getUnchecked(index);\n");
                 writer.print("        int dataSize = 0;\n");
                 writer.print("        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());\n");
                 writer.print("        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);\n");
@@ -409,7 +355,7 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
                 writer.print("        output.writeString(1, entry.getKey());\n");
                 writer.print("        output.writeUInt32NoTag(18);\n");
                 writer.print("        output.writeUInt32NoTag(elementSize);\n");
-                writer.print("        index = " + protoProperty.getMessage() + "ProtoConverter.toProto(entry.getValue(), output, cache, index, encodingMode);\n");
+                writer.print("        index = " + protoProperty.getMessage() + "ProtoConverter.toProto" + suffix + "(entry.getValue(), output, cache, index);\n");
                 writer.print("      }\n");
               }
             }
@@ -417,54 +363,194 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             if (propKind.basic) {
               writer.print("      output." + protoProperty.getProtoType().write() + "(" + fieldNumber + ", obj." + prop.getGetterMethod() + "());\n");
             } else {
-              if (protoProperty.isBuiltinType()) {
+              if (isSizeCachedStruct(prop, jsonProtoEncoding)) {
+                writer.print("      output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("      output.writeUInt32NoTag(cache.getUnchecked(index));\n");
+                writer.print("      index = VertxStructProtoConverter.toProto(obj." + prop.getGetterMethod() + "(), output, cache, index);\n");
+              } else if (protoProperty.isBuiltinType()) {
                 String builtInType = prop.getType().getSimpleName();
                 writer.print("      output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
                 writer.print("      output.writeUInt32NoTag(" + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".computeSize(obj." + prop.getGetterMethod() + "()));\n");
                 writer.print("      " + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".toProto(obj." + prop.getGetterMethod() + "(), output);\n");
               } else {
                 writer.print("      output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
-                writer.print("      output.writeUInt32NoTag(cache.get(index));\n");
-                writer.print("      index = " + protoProperty.getMessage() + "ProtoConverter.toProto(obj." + prop.getGetterMethod() + "(), output, cache, index, encodingMode);\n");
+                writer.print("      output.writeUInt32NoTag(cache.getUnchecked(index));\n");
+                writer.print("      index = " + protoProperty.getMessage() + "ProtoConverter.toProto" + suffix + "(obj." + prop.getGetterMethod() + "(), output, cache, index);\n");
               }
             }
           }
         } // Not Enum
         writer.print("    }\n");
       }
+      if (retainUnknownFields) {
+        renderUnknownFieldsToProto(writer);
+      }
       writer.print("    return index;\n");
       writer.print("  }\n");
       writer.print("\n");
     }
 
+    // toProto() single pass
+    {
+      writer.print("  " + visibility + " static void toProto(" + simpleName + " obj, BackpatchingOutput output, ProtobufEncodingMode encodingMode) throws IOException {\n");
+      renderEncodingModeDispatch(writer, encodingModes, "", "toProto", "obj, output");
+      writer.print("  }\n");
+      writer.print("\n");
+    }
+    for (ProtobufEncodingMode encodingMode : encodingModes) {
+      String suffix = encodingModeSuffix(encodingMode);
+      writer.print("  " + visibility + " static void toProto" + suffix + "(" + simpleName + " obj, BackpatchingOutput output) throws IOException {\n");
+      for (PropertyInfo prop : orderedProperties) {
+        ClassKind propKind = prop.getType().getKind();
+        int fieldNumber = fieldNumbers.get(prop.getName());
+        ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
+        writer.print("    // " + prop.getName() + "\n");
+        renderPresenceCheck(writer, prop, protoProperty, encodingMode);
+        if (prop.getType().getKind() == ClassKind.ENUM) {
+          writer.print("      switch (obj." + prop.getGetterMethod() + "()) {\n");
+          EnumTypeInfo enumTypeInfo = (EnumTypeInfo) prop.getType();
+          int enumIntValue = 0;
+          for (String enumValue : enumTypeInfo.getValues()) {
+            writer.print("        case " + enumValue + ":\n" );
+            writer.print("          output.writeEnum(" + fieldNumber + ", " + enumIntValue +");\n");
+            writer.print("          break;\n");
+            enumIntValue++;
+          }
+          writer.print("      }\n");
+        } else if (protoProperty.isArray()) {
+          renderPackedSinglePass(writer, prop, protoProperty);
+        } else { // Not Enum
+          if (prop.getKind().isList()) {
+            if (propKind.basic) {
+              renderPackedSinglePass(writer, prop, protoProperty);
+            } else {
+              writer.print("      // list[0] | tag | data size | value |\n");
+              writer.print("      // list[1] | tag | data size | value |\n");
+              if (protoProperty.isBuiltinType()) {
+                String builtInType = prop.getType().getSimpleName();
+                String converter = ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding);
+                writer.print("      for (" + protoProperty.getMessage() + " element: obj." + prop.getGetterMethod() + "()) {\n");
+                writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("        int elementSize = " + converter + ".computeSize(element);\n");
+                writer.print("        output.writeUInt32NoTag(elementSize);\n");
+                writer.print("        " + converter + ".toProto(element, output.slice(elementSize));\n");
+                writer.print("      }\n");
+              } else {
+                writer.print("      for (" + protoProperty.getMessage() + " element: obj." + prop.getGetterMethod() + "()) {\n");
+                writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("        int mark = output.reserveLength();\n");
+                writer.print("        " + protoProperty.getMessage() + "ProtoConverter.toProto" + suffix + "(element, output);\n");
+                writer.print("        output.backpatchLength(mark);\n");
+                writer.print("      }\n");
+              }
+            }
+          } else if (prop.getKind().isMap()) {
+            writer.print("      // map[0] | tag | data size | key | value |\n");
+            writer.print("      // map[1] | tag | data size | key | value |\n");
+            if (propKind.basic) {
+              writer.print("      for (Map.Entry<String, " + prop.getType().getSimpleName() + "> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
+              writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+              writer.print("        int mark = output.reserveLength();\n");
+              writer.print("        output.writeString(1, entry.getKey());\n");
+              writer.print("        output." + protoProperty.getProtoType().write() + "(2, entry.getValue());\n");
+              writer.print("        output.backpatchLength(mark);\n");
+              writer.print("      }\n");
+            } else {
+              if (protoProperty.isBuiltinType()) {
+                String builtInType = prop.getType().getSimpleName();
+                String converter = ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding);
+                writer.print("      for (Map.Entry<String, " + builtInType + "> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
+                writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("        int mark = output.reserveLength();\n");
+                writer.print("        output.writeString(1, entry.getKey());\n");
+                writer.print("        output.writeUInt32NoTag(18);\n");
+                writer.print("        int elementSize = " + converter + ".computeSize(entry.getValue());\n");
+                writer.print("        output.writeUInt32NoTag(elementSize);\n");
+                writer.print("        " + converter + ".toProto(entry.getValue(), output.slice(elementSize));\n");
+                writer.print("        output.backpatchLength(mark);\n");
+                writer.print("      }\n");
+              } else {
+                writer.print("      for (Map.Entry<String, " + protoProperty.getMessage() + "> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
+                writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("        int mark = output.reserveLength();\n");
+                writer.print("        output.writeString(1, entry.getKey());\n");
+                writer.print("        output.writeUInt32NoTag(18);\n");
+                writer.print("        int valueMark = output.reserveLength();\n");
+                writer.print("        " + protoProperty.getMessage() + "ProtoConverter.toProto" + suffix + "(entry.getValue(), output);\n");
+                writer.print("        output.backpatchLength(valueMark);\n");
+                writer.print("        output.backpatchLength(mark);\n");
+                writer.print("      }\n");
+              }
+            }
+          } else {
+            if (propKind.basic) {
+              writer.print("      output." + protoProperty.getProtoType().write() + "(" + fieldNumber + ", obj." + prop.getGetterMethod() + "());\n");
+            } else {
+              if (protoProperty.isBuiltinType()) {
+                String builtInType = prop.getType().getSimpleName();
+                String converter = ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding);
+                writer.print("      output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("      int dataSize = " + converter + ".computeSize(obj." + prop.getGetterMethod() + "());\n");
+                writer.print("      output.writeUInt32NoTag(dataSize);\n");
+                writer.print("      " + converter + ".toProto(obj." + prop.getGetterMethod() + "(), output.slice(dataSize));\n");
+              } else {
+                writer.print("      output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("      int mark = output.reserveLength();\n");
+                writer.print("      " + protoProperty.getMessage() + "ProtoConverter.toProto" + suffix + "(obj." + prop.getGetterMethod() + "(), output);\n");
+                writer.print("      output.backpatchLength(mark);\n");
+              }
+            }
+          }
+        } // Not Enum
+        writer.print("    }\n");
+      }
+      if (retainUnknownFields) {
+        renderUnknownFieldsToProto(writer);
+      }
+      writer.print("  }\n");
+      writer.print("\n");
+    }
+
     // computeSize()
     {
       writer.print("  " + visibility + " static int computeSize(" + simpleName + " obj) {\n");
-      writer.print("    return computeSize(obj, ProtobufEncodingMode.VERTX);\n");
+      writer.print("    return computeSize(obj, ProtobufEncodingMode." + defaultEncodingMode + ");\n");
       writer.print("  }\n");
       writer.print("\n");
       writer.print("  " + visibility + " static int computeSize(" + simpleName + " obj, ProtobufEncodingMode encodingMode) {\n");
-      writer.print("    ExpandableIntArray cache = new ExpandableIntArray(" + CACHE_INITIAL_CAPACITY + ");\n");
-      writer.print("    " + simpleName + "ProtoConverter.computeSize(obj, cache, 0, encodingMode);\n");
-      writer.print("    return cache.get(0);\n");
+      writer.print("    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);\n");
+      writer.print("    try {\n");
+      writer.print("      return " + simpleName + "ProtoConverter.computeSize(obj, cache, encodingMode);\n");
+      writer.print("    } finally {\n");
+      writer.print("      SizeCachePool.release(cache);\n");
+      writer.print("    }\n");
       writer.print("  }\n");
       writer.print("\n");
-      writer.print("  static int computeSize(" + simpleName + " obj, ExpandableIntArray cache, final int baseIndex, ProtobufEncodingMode encodingMode) {\n");
+      writer.print("  " + visibility + " static int computeSize(" + simpleName + " obj, ExpandableIntArray cache, ProtobufEncodingMode encodingMode) {\n");
+      writer.print("    cache.reset();\n");
+      writer.print("    cache.ensureCapacity(cacheCapacity);\n");
+      writer.print("    int cacheSize = " + simpleName + "ProtoConverter.computeSize(obj, cache, 0, encodingMode);\n");
+      writer.print("    if (cacheSize > cacheCapacity) {\n");
+      writer.print("      cacheCapacity = cacheSize;\n");
+      writer.print("    }\n");
+      writer.print("    return cache.getUnchecked(0);\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  static int computeSize(" + simpleName + " obj, ExpandableIntArray cache, int baseIndex, ProtobufEncodingMode encodingMode) {\n");
+      renderEncodingModeDispatch(writer, encodingModes, "return ", "computeSize", "obj, cache, baseIndex");
+      writer.print("  }\n");
+      writer.print("\n");
+    }
+    for (ProtobufEncodingMode encodingMode : encodingModes) {
+      String suffix = encodingModeSuffix(encodingMode);
+      writer.print("  static int computeSize" + suffix + "(" + simpleName + " obj, ExpandableIntArray cache, final int baseIndex) {\n");
       writer.print("    int size = 0;\n");
       writer.print("    int index = baseIndex + 1;\n");
       for (PropertyInfo prop : orderedProperties) {
         ClassKind propKind = prop.getType().getKind();
         int fieldNumber = fieldNumbers.get(prop.getName());
         ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
-        if (protoProperty.isNullable()) {
-          writer.print("    if (obj." + prop.getGetterMethod() + "() != null) {\n");
-        } else {
-          if ("boolean".equals(prop.getType().getName())) {
-            writer.print("    if (obj." + prop.getGetterMethod() + "()) {\n");
-          } else {
-            writer.print("    if (obj." + prop.getGetterMethod() + "() != 0) {\n");
-          }
-        }
+        renderPresenceCheck(writer, prop, protoProperty, encodingMode);
         if (prop.getType().getKind() == ClassKind.ENUM) {
           writer.print("      switch (obj." + prop.getGetterMethod() + "()) {\n");
           EnumTypeInfo enumTypeInfo = (EnumTypeInfo) prop.getType();
@@ -476,23 +562,25 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             enumIntValue++;
           }
           writer.print("      }\n");
+        } else if (protoProperty.isArray()) {
+          renderPackedComputeSize(writer, prop, protoProperty);
         } else { // Not Enum
           if (prop.getKind().isList()) {
             if (propKind.basic) {
-              writer.print("      // list | tag | data size | value[0] | value[1] | value[2] |\n");
-              writer.print("      if (obj." + prop.getGetterMethod() + "().size() > 0) {\n");
-              writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
-              writer.print("        int dataSize = 0;\n");
-              writer.print("        for (Integer element: obj." + prop.getGetterMethod() + "()) {\n");
-              writer.print("          dataSize += CodedOutputStream." + protoProperty.getProtoType().computeSizeNoTag() + "(element);\n");
-              writer.print("        }\n");
-              writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
-              writer.print("        size += dataSize;\n");
-              writer.print("      }\n");
+              renderPackedComputeSize(writer, prop, protoProperty);
             } else {
               writer.print("      // list[0] | tag | data size | value |\n");
               writer.print("      // list[1] | tag | data size | value |\n");
-              if (protoProperty.isBuiltinType()) {
+              if (isSizeCachedStruct(prop, jsonProtoEncoding)) {
+                writer.print("      for (JsonObject element: obj." + prop.getGetterMethod() + "()) {\n");
+                writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("        int savedIndex = index;\n");
+                writer.print("        index = VertxStructProtoConverter.computeSize(element, cache, index);\n");
+                writer.print("        int dataSize = cache.getUnchecked(savedIndex);\n");
+                writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
+                writer.print("        size += dataSize;\n");
+                writer.print("      }\n");
+              } else if (protoProperty.isBuiltinType()) {
                 String builtInType = prop.getType().getSimpleName();
                 writer.print("      if (obj." + prop.getGetterMethod() + "().size() > 0) {\n");
                 writer.print("        for (" + builtInType + " element: obj." + prop.getGetterMethod() + "()) {\n");
@@ -507,8 +595,8 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
                 writer.print("        for (" + protoProperty.getMessage() + " element: obj." + prop.getGetterMethod() + "()) {\n");
                 writer.print("          size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
                 writer.print("          int savedIndex = index;\n");
-                writer.print("          index = " + protoProperty.getMessage() + "ProtoConverter.computeSize(element, cache, index, encodingMode);\n");
-                writer.print("          int dataSize = cache.get(savedIndex);\n");
+                writer.print("          index = " + protoProperty.getMessage() + "ProtoConverter.computeSize" + suffix + "(element, cache, index);\n");
+                writer.print("          int dataSize = cache.getUnchecked(savedIndex);\n");
                 writer.print("          size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
                 writer.print("          size += dataSize;\n");
                 writer.print("        }\n");
@@ -530,7 +618,25 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             } else {
               writer.print("        // map[0] | tag | data size | key | value |\n");
               writer.print("        // map[1] | tag | data size | key | value |\n");
-              if (protoProperty.isBuiltinType()) {
+              if (isSizeCachedStruct(prop, jsonProtoEncoding)) {
+                writer.print("      for (Map.Entry<String, JsonObject> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
+                writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("        // calculate data size\n");
+                writer.print("        int dataSize = 0;\n");
+                writer.print("        // key\n");
+                writer.print("        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());\n");
+                writer.print("        // value\n");
+                writer.print("        int savedIndex = index;\n");
+                writer.print("        index = VertxStructProtoConverter.computeSize(entry.getValue(), cache, index);\n");
+                writer.print("        int elementSize = cache.getUnchecked(savedIndex);\n");
+                writer.print("        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);\n");
+                writer.print("        dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);\n");
+                writer.print("        dataSize += elementSize;\n");
+                writer.print("        // data size\n");
+                writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
+                writer.print("        size += dataSize;\n");
+                writer.print("      }\n");
+              } else if (protoProperty.isBuiltinType()) {
                 String builtInType = prop.getType().getSimpleName();
                 writer.print("      for (Map.Entry<String, " + builtInType + "> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
                 writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
@@ -556,8 +662,8 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
                 writer.print("        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());\n");
                 writer.print("        // value\n");
                 writer.print("        int savedIndex = index;\n");
-                writer.print("        index = " + protoProperty.getMessage() + "ProtoConverter.computeSize(entry.getValue(), cache, index, encodingMode);\n");
-                writer.print("        int elementSize = cache.get(savedIndex);\n");
+                writer.print("        index = " + protoProperty.getMessage() + "ProtoConverter.computeSize" + suffix + "(entry.getValue(), cache, index);\n");
+                writer.print("        int elementSize = cache.getUnchecked(savedIndex);\n");
                 writer.print("        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);\n");
                 writer.print("        dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);\n");
                 writer.print("        dataSize += elementSize;\n");
@@ -571,7 +677,14 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             if (propKind.basic) {
               writer.print("      size += CodedOutputStream." + protoProperty.getProtoType().computeSize() + "(" + fieldNumber + ", obj." + prop.getGetterMethod() + "());\n");
             } else {
-              if (protoProperty.isBuiltinType()) {
+              if (isSizeCachedStruct(prop, jsonProtoEncoding)) {
+                writer.print("      size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
+                writer.print("      int savedIndex = index;\n");
+                writer.print("      index = VertxStructProtoConverter.computeSize(obj." + prop.getGetterMethod() + "(), cache, index);\n");
+                writer.print("      int dataSize = cache.getUnchecked(savedIndex);\n");
+                writer.print("      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
+                writer.print("      size += dataSize;\n");
+              } else if (protoProperty.isBuiltinType()) {
                 String builtInType = prop.getType().getSimpleName();
                 writer.print("      size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
                 writer.print("      int dataSize = " + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".computeSize(obj." + prop.getGetterMethod() + "());\n");
@@ -580,8 +693,8 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
               } else {
                 writer.print("      size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
                 writer.print("      int savedIndex = index;\n");
-                writer.print("      index = " + protoProperty.getMessage() + "ProtoConverter.computeSize(obj." + prop.getGetterMethod() + "(), cache, index, encodingMode);\n");
-                writer.print("      int dataSize = cache.get(savedIndex);\n");
+                writer.print("      index = " + protoProperty.getMessage() + "ProtoConverter.computeSize" + suffix + "(obj." + prop.getGetterMethod() + "(), cache, index);\n");
+                writer.print("      int dataSize = cache.getUnchecked(savedIndex);\n");
                 writer.print("      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
                 writer.print("      size += dataSize;\n");
               }
@@ -590,16 +703,569 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
         } // Not Enum
         writer.print("    }\n");
       }
+      if (retainUnknownFields) {
+        writer.print("    // unknown fields\n");
+        writer.print("    if (obj.getUnknownFields() != null) {\n");
+        writer.print("      size += obj.getUnknownFields().size();\n");
+        writer.print("    }\n");
+      }
       writer.print("    cache.set(baseIndex, size);\n");
       writer.print("    return index;\n");
       writer.print("  }\n");
       writer.print("\n");
+    }
+
+    // toBuffer()
+    {
+      writer.print("  " + visibility + " static Buffer toBuffer(" + simpleName + " obj) throws IOException {\n");
+      writer.print("    return toBuffer(obj, ProtobufEncodingMode." + defaultEncodingMode + ");\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static Buffer toBuffer(" + simpleName + " obj, ProtobufEncodingMode encodingMode) throws IOException {\n");
+      writer.print("    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);\n");
+      writer.print("    try {\n");
+      writer.print("      int size = " + simpleName + "ProtoConverter.computeSize(obj, cache, encodingMode);\n");
+      writer.print("      Buffer buffer = Buffer.buffer(size);\n");
+      writer.print("      CodedOutputStream output = CodedBuffers.append(buffer, size);\n");
+      writer.print("      " + simpleName + "ProtoConverter.toProto(obj, output, cache, 0, encodingMode);\n");
+      writer.print("      output.flush();\n");
+      writer.print("      return buffer;\n");
+      writer.print("    } finally {\n");
+      writer.print("      SizeCachePool.release(cache);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static void toBuffer(" + simpleName + " obj, Buffer buffer) throws IOException {\n");
+      writer.print("    toBuffer(obj, buffer, ProtobufEncodingMode." + defaultEncodingMode + ");\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static void toBuffer(" + simpleName + " obj, Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {\n");
+      writer.print("    ExpandableIntArray cache = SizeCachePool.acquire(cacheCapacity);\n");
+      writer.print("    try {\n");
+      writer.print("      int size = " + simpleName + "ProtoConverter.computeSize(obj, cache, encodingMode);\n");
+      writer.print("      CodedOutputStream output = CodedBuffers.append(buffer, size);\n");
+      writer.print("      " + simpleName + "ProtoConverter.toProto(obj, output, cache, 0, encodingMode);\n");
+      writer.print("      output.flush();\n");
+      writer.print("    } finally {\n");
+      writer.print("      SizeCachePool.release(cache);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+    }
+
+    // fromBuffer()
+    {
+      if (model.hasEmptyConstructor()) {
+        writer.print("  " + visibility + " static " + simpleName + " fromBuffer(Buffer buffer) throws IOException {\n");
+        writer.print("    return fromBuffer(buffer, ProtobufEncodingMode." + defaultEncodingMode + ");\n");
+        writer.print("  }\n");
+        writer.print("\n");
+        writer.print("  " + visibility + " static " + simpleName + " fromBuffer(Buffer buffer, ProtobufEncodingMode encodingMode) throws IOException {\n");
+        writer.print("    " + simpleName + " obj = new " + simpleName + "();\n");
+        writer.print("    fromBuffer(buffer, 0, buffer.length(), obj, encodingMode);\n");
+        writer.print("    return obj;\n");
+        writer.print("  }\n");
+        writer.print("\n");
+      }
+      writer.print("  " + visibility + " static void fromBuffer(Buffer buffer, int start, int end, " + simpleName + " obj, ProtobufEncodingMode encodingMode) throws IOException {\n");
+      writer.print("    fromProto(CodedBuffers.input(buffer, start, end), obj, encodingMode);\n");
+      writer.print("  }\n");
+      writer.print("\n");
       writer.print("}\n");
     }
 
     return buffer.toString();
   }
 
+  private void verifyUnknownFieldsAccessors(DataObjectModel model) {
+    TypeElement typeElt = (TypeElement) model.getElement();
+    boolean getter = false;
+    boolean setter = false;
+    for (ExecutableElement methodElt : ElementFilter.methodsIn(env.getElementUtils().getAllMembers(typeElt))) {
+      List<? extends VariableElement> params = methodElt.getParameters();
+      if (methodElt.getSimpleName().contentEquals("getUnknownFields") && params.isEmpty()) {
+        getter = methodElt.getReturnType().toString().equals(UNKNOWN_FIELDS_CLASS);
+      } else if (methodElt.getSimpleName().contentEquals("setUnknownFields") && params.size() == 1) {
+        setter = params.get(0).asType().toString().equals(UNKNOWN_FIELDS_CLASS);
+      }
+    }
+    if (!getter || !setter) {
+      throw new GenException(typeElt, "Retaining unknown fields requires the getUnknownFields() and setUnknownFields(ProtoUnknownFields) methods");
+    }
+  }
+
+  /**
+   * JSON objects encoded as Vert.x structs share the size cache of the data object, so the nested objects of a
+   * JSON object are sized once instead of once per enclosing level.
+   */
+  private static boolean isSizeCachedStruct(PropertyInfo prop, JsonProtoEncoding jsonProtoEncoding) {
+    return jsonProtoEncoding == JsonProtoEncoding.VERTX_STRUCT && prop.getType().getName().equals("io.vertx.core.json.JsonObject");
+  }
+
+  /**
+   * Render the default values that {@link ProtobufEncodingMode#GOOGLE_COMPATIBLE} decoding sets on the boxed
+   * properties before the fields are read, nothing is rendered for the other modes.
+   */
+  private static void renderCompatibleDefaults(PrintWriter writer, DataObjectModel model, ProtobufEncodingMode encodingMode) {
+    if (encodingMode != ProtobufEncodingMode.GOOGLE_COMPATIBLE) {
+      return;
+    }
+    int fieldNumber = 1;
+    for (PropertyInfo prop : model.getPropertyMap().values()) {
+      ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
+      ClassKind propKind = prop.getType().getKind();
+      // Only applicable to Boxed type
+      if (!prop.getKind().isList() && !prop.getKind().isMap() && propKind.basic) {
+        String defaultValue = protoProperty.getDefaultValue();
+        if (protoProperty.isBoxedType() && defaultValue != null) {
+          writer.print("    obj." + prop.getSetterMethod() + "(" + defaultValue + ");\n");
+        }
+      }
+      fieldNumber++;
+    }
+  }
+
+  /**
+   * Render the body of a method dispatching on its {@code encodingMode} parameter to the methods specialised for
+   * each generated mode, e.g. {@code toProtoVertx} for {@link ProtobufEncodingMode#VERTX}.
+   */
+  private static void renderEncodingModeDispatch(PrintWriter writer, List<ProtobufEncodingMode> encodingModes, String returnPrefix, String methodName, String args) {
+    writer.print("    switch (encodingMode) {\n");
+    for (ProtobufEncodingMode encodingMode : encodingModes) {
+      writer.print("      case " + encodingMode.name() + ":\n");
+      writer.print("        " + returnPrefix + methodName + encodingModeSuffix(encodingMode) + "(" + args + ");\n");
+      if (returnPrefix.isEmpty()) {
+        writer.print("        break;\n");
+      }
+    }
+    writer.print("      default:\n");
+    writer.print("        throw new IllegalArgumentException(\"Encoding mode \" + encodingMode + \" is not generated\");\n");
+    writer.print("    }\n");
+  }
+
+  static String encodingModeSuffix(ProtobufEncodingMode encodingMode) {
+    switch (encodingMode) {
+      case VERTX:
+        return "Vertx";
+      case GOOGLE_COMPATIBLE:
+        return "GoogleCompatible";
+      default:
+        throw new InternalError("Unknown encoding mode " + encodingMode);
+    }
+  }
+
+  /**
+   * The specialised methods of a nested data object are called directly, so it must generate every encoding mode
+   * of the enclosing data object.
+   */
+  private void verifyNestedEncodingModes(DataObjectModel model, List<PropertyInfo> properties, List<ProtobufEncodingMode> encodingModes) {
+    for (PropertyInfo prop : properties) {
+      if (prop.getType().getKind().basic || prop.getType().getKind() == ClassKind.ENUM) {
+        continue;
+      }
+      TypeElement nestedElt = env.getElementUtils().getTypeElement(prop.getType().getName());
+      if (nestedElt == null) {
+        continue;
+      }
+      // Empty when the nested type is not annotated with @ProtobufGen, e.g. a built-in type
+      Set<ProtobufEncodingMode> nestedModes = ProtobufGenAnnotation.encodingModes(nestedElt, env.getElementUtils());
+      if (!nestedModes.isEmpty() && !nestedModes.containsAll(encodingModes)) {
+        throw new GenException(model.getElement(), "Property " + prop.getName() + " requires " + prop.getType().getSimpleName() + " to generate the encoding modes " + encodingModes);
+      }
+    }
+  }
+
+  private static void renderUnknownFieldsToProto(PrintWriter writer) {
+    writer.print("    // unknown fields\n");
+    writer.print("    if (obj.getUnknownFields() != null) {\n");
+    writer.print("      obj.getUnknownFields().writeTo(output);\n");
+    writer.print("    }\n");
+  }
+
+  /**
+   * Render the cases of the {@code fromProto} switch of {@code encodingMode}, the nested data objects are read with
+   * their methods specialised for the same mode. The elements of the {@code streamed} list property are returned
+   * instead of being added to the list. The fields that are not known are skipped, or appended to the unknown fields
+   * of the data object when {@code retainUnknownFields} is {@code true}.
+   */
+  private static void renderFromProtoCases(PrintWriter writer, List<PropertyInfo> orderedProperties, Map<String, Integer> fieldNumbers, JsonProtoEncoding jsonProtoEncoding, ProtobufEncodingMode encodingMode, PropertyInfo streamed, boolean retainUnknownFields) {
+    for (PropertyInfo prop : orderedProperties) {
+      ClassKind propKind = prop.getType().getKind();
+      int fieldNumber = fieldNumbers.get(prop.getName());
+      ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
+      writer.print("        case " + protoProperty.getTag() + ": {\n");
+      if (prop.getType().getKind() == ClassKind.ENUM) {
+        writer.print("          switch (input.readEnum()) {\n");
+        EnumTypeInfo enumTypeInfo = (EnumTypeInfo) prop.getType();
+        int enumIntValue = 0;
+        for (String enumValue : enumTypeInfo.getValues()) {
+          writer.print("            case " + enumIntValue + ":\n" );
+          writer.print("              obj." + prop.getSetterMethod() +"(" + enumTypeInfo.getSimpleName() + "." + enumValue +");\n");
+          writer.print("              break;\n");
+          enumIntValue++;
+        }
+        writer.print("          }\n");
+        writer.print("          break;\n");
+      } else if (protoProperty.isArray()) {
+        ProtoType protoType = protoProperty.getProtoType();
+        String array = prop.getName() + "Array";
+        String count = prop.getName() + "Count";
+        writer.print("          int length = input.readRawVarint32();\n");
+        if (protoType.fixedSize > 1) {
+          writer.print("          if (length % " + protoType.fixedSize + " != 0) {\n");
+          writer.print("            throw new InvalidProtocolBufferException(\"Packed field " + prop.getName() + " has a length of \" + length + \" bytes, not a multiple of " + protoType.fixedSize + "\");\n");
+          writer.print("          }\n");
+        }
+        writer.print("          int limit = input.pushLimit(length);\n");
+        renderArrayBufferInit(writer, prop);
+        // The length is not checked against the input yet, the array grows as the values are read
+        writer.print("          " + array + " = ProtoArrays.ensureCapacity(" + array + ", " + count + ", ProtoArrays.initialCapacity(length, " + Math.max(protoType.fixedSize, 1) + "));\n");
+        writer.print("          while (input.getBytesUntilLimit() > 0) {\n");
+        writer.print("            if (" + count + " == " + array + ".length) {\n");
+        writer.print("              " + array + " = ProtoArrays.ensureCapacity(" + array + ", " + count + ", 1);\n");
+        writer.print("            }\n");
+        writer.print("            " + array + "[" + count + "++] = input." + protoType.read() + "();\n");
+        writer.print("          }\n");
+        writer.print("          input.popLimit(limit);\n");
+        writer.print("          break;\n");
+        writer.print("        }\n");
+        // Unpacked values of the same field
+        writer.print("        case " + ((fieldNumber << 3) | protoType.wireType()) + ": {\n");
+        renderArrayBufferInit(writer, prop);
+        writer.print("          " + array + " = ProtoArrays.ensureCapacity(" + array + ", " + count + ", 1);\n");
+        writer.print("          " + array + "[" + count + "++] = input." + protoType.read() + "();\n");
+        writer.print("          break;\n");
+      } else { // Not Enum
+        if (prop.getKind().isList()) {
+          if (propKind.basic) {
+            ProtoType protoType = protoProperty.getProtoType();
+            String elementType = prop.getType().getSimpleName();
+            writer.print("          int length = input.readRawVarint32();\n");
+            if (protoType.fixedSize > 1) {
+              writer.print("          if (length % " + protoType.fixedSize + " != 0) {\n");
+              writer.print("            throw new InvalidProtocolBufferException(\"Packed field " + prop.getName() + " has a length of \" + length + \" bytes, not a multiple of " + protoType.fixedSize + "\");\n");
+              writer.print("          }\n");
+            }
+            writer.print("          int limit = input.pushLimit(length);\n");
+            // The length is not checked against the input yet, the list grows as the values are read
+            writer.print("          if (obj." + prop.getGetterMethod() + "() == null) {\n");
+            writer.print("            obj." + prop.getSetterMethod() + "(new ArrayList<>(ProtoArrays.initialCapacity(length, " + Math.max(protoType.fixedSize, 1) + ")));\n");
+            writer.print("          }\n");
+            writer.print("          List<" + elementType + "> list = obj." + prop.getGetterMethod() + "();\n");
+            writer.print("          while (input.getBytesUntilLimit() > 0) {\n");
+            writer.print("            list.add(" + narrowingCast(prop) + "input." + protoType.read() + "());\n");
+            writer.print("          }\n");
+            writer.print("          input.popLimit(limit);\n");
+            writer.print("          break;\n");
+            if (protoType.wireType() != 2) {
+              // Unpacked values of the same field
+              writer.print("        }\n");
+              writer.print("        case " + ((fieldNumber << 3) | protoType.wireType()) + ": {\n");
+              writer.print("          if (obj." + prop.getGetterMethod() + "() == null) {\n");
+              writer.print("            obj." + prop.getSetterMethod() + "(new ArrayList<>());\n");
+              writer.print("          }\n");
+              writer.print("          obj." + prop.getGetterMethod() + "().add(" + narrowingCast(prop) + "input." + protoType.read() + "());\n");
+              writer.print("          break;\n");
+            }
+          } else if (prop == streamed) {
+            writer.print("          int length = input.readUInt32();\n");
+            writer.print("          int limit = input.pushLimit(length);\n");
+            if (protoProperty.isBuiltinType()) {
+              String builtInType = prop.getType().getSimpleName();
+              writer.print("          " + builtInType + " element = " + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input);\n");
+            } else {
+              writer.print("          " + protoProperty.getMessage() + " element = new " + protoProperty.getMessage() + "();\n");
+              writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto" + encodingModeSuffix(encodingMode) + "(input, element);\n");
+            }
+            writer.print("          input.popLimit(limit);\n");
+            renderArrayFlush(writer, orderedProperties, "          ");
+            writer.print("          return element;\n");
+          } else {
+            if (protoProperty.isBuiltinType()) {
+              String builtInType = prop.getType().getSimpleName();
+              writer.print("          int length = input.readUInt32();\n");
+              writer.print("          int limit = input.pushLimit(length);\n");
+              writer.print("          if (obj." + prop.getGetterMethod() + "() == null) {\n");
+              writer.print("            obj." + prop.getSetterMethod() + "(new ArrayList<>());\n");
+              writer.print("          }\n");
+              writer.print("          obj." + prop.getGetterMethod() + "().add(" + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
+              writer.print("          input.popLimit(limit);\n");
+              writer.print("          break;\n");
+            } else {
+              writer.print("          int length = input.readUInt32();\n");
+              writer.print("          int limit = input.pushLimit(length);\n");
+              writer.print("          " + protoProperty.getMessage() + " nested = new " + protoProperty.getMessage() + "();\n");
+              writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto" + encodingModeSuffix(encodingMode) + "(input, nested);\n");
+              writer.print("          if (obj." + prop.getGetterMethod() + "() == null) {\n");
+              writer.print("            obj." + prop.getSetterMethod() + "(new ArrayList<>());\n");
+              writer.print("          }\n");
+              writer.print("          obj." + prop.getGetterMethod() + "().add(nested);\n");
+              writer.print("          input.popLimit(limit);\n");
+              writer.print("          break;\n");
+            }
+          }
+        } else if (prop.getKind().isMap()) {
+          if (propKind.basic) {
+            writer.print("          int length = input.readRawVarint32();\n");
+            writer.print("          int limit = input.pushLimit(length);\n");
+            writer.print("          Map<String, " + prop.getType().getSimpleName() + "> map = obj." + prop.getGetterMethod() + "();\n");
+            writer.print("          if (map == null) {\n");
+            writer.print("            map = new HashMap<>();\n");
+            writer.print("          }\n");
+            writer.print("          input.readTag();\n");
+            writer.print("          String key = input.readString();\n");
+            writer.print("          input.readTag();\n");
+            writer.print("          " + prop.getType().getSimpleName() + " value = input." + protoProperty.getProtoType().read() + "();\n");
+            writer.print("          map.put(key, value);\n");
+            writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
+            writer.print("          input.popLimit(limit);\n");
+            writer.print("          break;\n");
+          } else {
+            if (protoProperty.isBuiltinType()) {
+              String builtInType = prop.getType().getSimpleName();
+              writer.print("          int length = input.readUInt32();\n");
+              writer.print("          int limit = input.pushLimit(length);\n");
+              writer.print("          Map<String, " + builtInType + "> map = obj." + prop.getGetterMethod() + "();\n");
+              writer.print("          if (map == null) {\n");
+              writer.print("            map = new HashMap<>();\n");
+              writer.print("          }\n");
+              writer.print("          input.readTag();\n");
+              writer.print("          String key = input.readString();\n");
+              writer.print("          input.readTag();\n");
+              writer.print("          int vlength = input.readUInt32();\n");
+              writer.print("          int vlimit = input.pushLimit(vlength);\n");
+              writer.print("          map.put(key, " + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
+              writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
+              writer.print("          input.popLimit(vlimit);\n");
+              writer.print("          input.popLimit(limit);\n");
+              writer.print("          break;\n");
+            } else {
+              writer.print("          int length = input.readUInt32();\n");
+              writer.print("          int limit = input.pushLimit(length);\n");
+              writer.print("          Map<String, " + protoProperty.getMessage() + "> map = obj." + prop.getGetterMethod() + "();\n");
+              writer.print("          if (map == null) {\n");
+              writer.print("            map = new HashMap<>();\n");
+              writer.print("          }\n");
+              writer.print("          input.readTag();\n");
+              writer.print("          String key = input.readString();\n");
+              writer.print("          input.readTag();\n");
+              writer.print("          int vlength = input.readUInt32();\n");
+              writer.print("          int vlimit = input.pushLimit(vlength);\n");
+              writer.print("          " + protoProperty.getMessage() + " value = new " + protoProperty.getMessage() + "();\n");
+              writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto" + encodingModeSuffix(encodingMode) + "(input, value);\n");
+              writer.print("          map.put(key, value);\n");
+              writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
+              writer.print("          input.popLimit(vlimit);\n");
+              writer.print("          input.popLimit(limit);\n");
+              writer.print("          break;\n");
+            }
+          }
+        } else {
+          if (propKind.basic) {
+            String javaDataType = prop.getType().getName();
+            String casting = "";
+            if ("java.lang.Short".equals(javaDataType) || "short".equals(javaDataType)) {
+              casting = "(short) ";
+            } else if ("java.lang.Character".equals(javaDataType) || "char".equals(javaDataType)) {
+              casting = "(char) ";
+            } else if ("java.lang.Byte".equals(javaDataType) || "byte".equals(javaDataType)) {
+              casting = "(byte) ";
+            }
+            writer.print("          obj." + prop.getSetterMethod() + "(" + casting + "input." + protoProperty.getProtoType().read() + "());\n");
+          } else {
+            if (protoProperty.isBuiltinType()) {
+              String builtInType = prop.getType().getSimpleName();
+              writer.print("          int length = input.readUInt32();\n");
+              writer.print("          int limit = input.pushLimit(length);\n");
+              writer.print("          obj." + prop.getSetterMethod() + "(" + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
+              writer.print("          input.popLimit(limit);\n");
+            } else {
+              writer.print("          int length = input.readUInt32();\n");
+              writer.print("          int limit = input.pushLimit(length);\n");
+              writer.print("          " + protoProperty.getMessage() + " nested = new " + protoProperty.getMessage() + "();\n");
+              writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto" + encodingModeSuffix(encodingMode) + "(input, nested);\n");
+              writer.print("          obj." + prop.getSetterMethod() + "(nested);\n");
+              writer.print("          input.popLimit(limit);\n");
+            }
+          }
+          writer.print("          break;\n");
+        }
+      } // Not Enum
+      writer.print("        }\n");
+    }
+    writer.print("        default: {\n");
+    if (retainUnknownFields) {
+      writer.print("          ProtoUnknownFields unknownFields = obj.getUnknownFields();\n");
+      writer.print("          if (unknownFields == null) {\n");
+      writer.print("            unknownFields = new ProtoUnknownFields();\n");
+      writer.print("            obj.setUnknownFields(unknownFields);\n");
+      writer.print("          }\n");
+      writer.print("          if (!unknownFields.readField(tag, input)) {\n");
+    } else {
+      writer.print("          if (!input.skipField(tag)) {\n");
+    }
+    // An end group tag ends the message
+    renderArrayFlush(writer, orderedProperties, "            ");
+    writer.print("            return" + (streamed != null ? " null" : "") + ";\n");
+    writer.print("          }\n");
+    writer.print("          break;\n");
+    writer.print("        }\n");
+  }
+
+  /**
+   * Render the local buffers of the primitive array properties: the values of a field can be split in several packed
+   * or unpacked chunks, they are accumulated in a buffer that grows like a list and set on the data object at the end.
+   */
+  private static void renderArrayBuffers(PrintWriter writer, List<PropertyInfo> orderedProperties) {
+    for (PropertyInfo prop : orderedProperties) {
+      if (prop.getType() instanceof ArrayTypeInfo) {
+        writer.print("    " + prop.getType().getName() + " " + prop.getName() + "Array = null;\n");
+        writer.print("    int " + prop.getName() + "Count = 0;\n");
+      }
+    }
+  }
+
+  /**
+   * Render the initialization of the buffer of an array property with the values it already holds, the getter
+   * is only called when the field is read.
+   */
+  private static void renderArrayBufferInit(PrintWriter writer, PropertyInfo prop) {
+    String array = prop.getName() + "Array";
+    writer.print("          if (" + array + " == null) {\n");
+    writer.print("            " + array + " = obj." + prop.getGetterMethod() + "();\n");
+    writer.print("            " + prop.getName() + "Count = " + array + " == null ? 0 : " + array + ".length;\n");
+    writer.print("          }\n");
+  }
+
+  private static void renderArrayFlush(PrintWriter writer, List<PropertyInfo> orderedProperties, String indent) {
+    for (PropertyInfo prop : orderedProperties) {
+      if (prop.getType() instanceof ArrayTypeInfo) {
+        String array = prop.getName() + "Array";
+        String count = prop.getName() + "Count";
+        writer.print(indent + "if (" + array + " != null) {\n");
+        writer.print(indent + "  obj." + prop.getSetterMethod() + "(" + count + " == " + array + ".length ? " + array + " : Arrays.copyOf(" + array + ", " + count + "));\n");
+        writer.print(indent + "}\n");
+      }
+    }
+  }
+
+  // Packed repeated fields are either lists of basic values or primitive arrays, arrays are iterated without boxing
+  private static String packedElementType(PropertyInfo prop, ProtoProperty protoProperty) {
+    if (protoProperty.isArray()) {
+      return ((ArrayTypeInfo) prop.getType()).getComponentType().getName();
+    }
+    return prop.getType().getSimpleName();
+  }
+
+  private static String packedCount(PropertyInfo prop, ProtoProperty protoProperty) {
+    return "obj." + prop.getGetterMethod() + (protoProperty.isArray() ? "().length" : "().size()");
+  }
+
+  private static void renderPackedToProto(PrintWriter writer, PropertyInfo prop, ProtoProperty protoProperty) {
+    writer.print("      // " + (protoProperty.isArray() ? "array" : "list") + " | tag | data size | value[0] | value[1] | value[2] |\n");
+    writer.print("      if (" + packedCount(prop, protoProperty) + " > 0) {\n");
+    writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+    renderPackedDataSize(writer, prop, protoProperty);
+    writer.print("        output.writeUInt32NoTag(dataSize);\n");
+    writer.print("        for (" + packedElementType(prop, protoProperty) + " element: obj." + prop.getGetterMethod() + "()) {\n");
+    writer.print("          output." + protoProperty.getProtoType().writeNoTag() + "(element);\n");
+    writer.print("        }\n");
+    writer.print("      }\n");
+  }
+
+  private static void renderPackedSinglePass(PrintWriter writer, PropertyInfo prop, ProtoProperty protoProperty) {
+    ProtoType protoType = protoProperty.getProtoType();
+    writer.print("      // " + (protoProperty.isArray() ? "array" : "list") + " | tag | data size | value[0] | value[1] | value[2] |\n");
+    writer.print("      if (" + packedCount(prop, protoProperty) + " > 0) {\n");
+    writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+    if (protoType.isFixedSize()) {
+      // The data size is known upfront, no need to backpatch it
+      writer.print("        output.writeUInt32NoTag(" + packedCount(prop, protoProperty) + " * " + protoType.fixedSize + ");\n");
+    } else {
+      writer.print("        int mark = output.reserveLength();\n");
+    }
+    writer.print("        for (" + packedElementType(prop, protoProperty) + " element: obj." + prop.getGetterMethod() + "()) {\n");
+    writer.print("          output." + protoType.writeNoTag() + "(element);\n");
+    writer.print("        }\n");
+    if (!protoType.isFixedSize()) {
+      writer.print("        output.backpatchLength(mark);\n");
+    }
+    writer.print("      }\n");
+  }
+
+  private static void renderPackedComputeSize(PrintWriter writer, PropertyInfo prop, ProtoProperty protoProperty) {
+    writer.print("      // " + (protoProperty.isArray() ? "array" : "list") + " | tag | data size | value[0] | value[1] | value[2] |\n");
+    writer.print("      if (" + packedCount(prop, protoProperty) + " > 0) {\n");
+    writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
+    renderPackedDataSize(writer, prop, protoProperty);
+    writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
+    writer.print("        size += dataSize;\n");
+    writer.print("      }\n");
+  }
+
+  // Computes the data size of a packed repeated field, fixed size values do not need to be iterated
+  private static void renderPackedDataSize(PrintWriter writer, PropertyInfo prop, ProtoProperty protoProperty) {
+    ProtoType protoType = protoProperty.getProtoType();
+    if (protoType.isFixedSize()) {
+      writer.print("        int dataSize = " + packedCount(prop, protoProperty) + " * " + protoType.fixedSize + ";\n");
+    } else {
+      writer.print("        int dataSize = 0;\n");
+      writer.print("        for (" + packedElementType(prop, protoProperty) + " element: obj." + prop.getGetterMethod() + "()) {\n");
+      writer.print("          dataSize += CodedOutputStream." + protoType.computeSizeNoTag() + "(element);\n");
+      writer.print("        }\n");
+    }
+  }
+
+  // Java types encoded as int32 but narrower than int
+  private static String narrowingCast(PropertyInfo prop) {
+    switch (prop.getType().getName()) {
+      case "java.lang.Short":
+        return "(short) ";
+      case "java.lang.Byte":
+        return "(byte) ";
+      case "java.lang.Character":
+        return "(char) ";
+      default:
+        return "";
+    }
+  }
+
+  private static void renderPresenceCheck(PrintWriter writer, PropertyInfo prop, ProtoProperty protoProperty, ProtobufEncodingMode encodingMode) {
+    ClassKind propKind = prop.getType().getKind();
+    if (!prop.getKind().isList() && !prop.getKind().isMap() && propKind.basic && protoProperty.isBoxedType()) {
+      if (encodingMode == ProtobufEncodingMode.VERTX) {
+        writer.print("    if (obj." + prop.getGetterMethod() + "() != null) {\n");
+        return;
+      }
+      writer.print("    if (obj." + prop.getGetterMethod() + "() == null) {\n");
+      writer.print("      throw new IllegalArgumentException(\"Null values are not allowed for boxed types in compatibility mode\");\n");
+      writer.print("    }\n");
+      String javaDataType = prop.getType().getName();
+      String defaultValue = protoProperty.getDefaultValue();
+      if ("java.lang.Boolean".equals(javaDataType) || "Boolean".equals(javaDataType)) {
+        writer.print("    if (obj." + prop.getGetterMethod() + "()) {\n");
+      } else if ("java.lang.String".equals(javaDataType) || "String".equals(javaDataType)) {
+        writer.print("    if (!obj." + prop.getGetterMethod() + "().isEmpty()) {\n");
+      } else {
+        if (defaultValue != null) {
+          writer.print("    if (obj." + prop.getGetterMethod() + "() != " + defaultValue + ") {\n");
+        } else {
+          throw new RuntimeException();
+        }
+      }
+    } else {
+      if (protoProperty.isNullable()) {
+        writer.print("    if (obj." + prop.getGetterMethod() + "() != null) {\n");
+      } else {
+        if ("boolean".equals(prop.getType().getName())) {
+          writer.print("    if (obj." + prop.getGetterMethod() + "()) {\n");
+        } else {
+          writer.print("    if (obj." + prop.getGetterMethod() + "() != 0) {\n");
+        }
+      }
+    }
+  }
+
   private static String getString(PropertyInfo prop) {
     String javaDataType = prop.getType().getName();
     String casting = "";
@@ -126,7 +126,7 @@ public class ProtoFileGen extends Generator<Model> {
       ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
 
       String protoFieldType;
-      if (propKind.basic) {
+      if (propKind.basic || protoProperty.isArray()) {
         protoFieldType = protoProperty.getProtoType().value;
       } else {
         if (prop.getType().getKind() == ClassKind.ENUM) {
@@ -140,7 +140,7 @@ public class ProtoFileGen extends Generator<Model> {
         }
       }
 
-      if (prop.getKind().isList()) {
+      if (prop.getKind().isList() || protoProperty.isArray()) {
         writer.print("  repeated " + protoFieldType + " " + prop.getName() + " = " + fieldNumber + ";\n");
       } else if (prop.getKind().isMap()) {
         writer.print("  map<string, " + protoFieldType + "> " + prop.getName() + " = " + fieldNumber + ";\n");
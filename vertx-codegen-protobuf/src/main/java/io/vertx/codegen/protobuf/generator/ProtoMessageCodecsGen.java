@@ -0,0 +1,81 @@
+package io.vertx.codegen.protobuf.generator;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.ModuleInfo;
+import io.vertx.codegen.format.CamelCase;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates a module level class registering the generated {@code MessageCodec} of every data object of the module.
+ */
+public class ProtoMessageCodecsGen extends Generator<DataObjectModel> {
+
+  public ProtoMessageCodecsGen() {
+    kinds = Collections.singleton("dataObject");
+    name = "proto_message_codecs";
+    incremental = true;
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(ProtobufGen.class);
+  }
+
+  static String className(ModuleInfo module) {
+    return module.getName(CamelCase.INSTANCE) + "ProtoMessageCodecs";
+  }
+
+  @Override
+  public String filename(DataObjectModel model) {
+    if (DataObjectProtoCodecGen.hasCodec(model)) {
+      ModuleInfo module = model.getModule();
+      return module.getPackageName() + "." + className(module) + ".java";
+    }
+    return null;
+  }
+
+  @Override
+  public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
+    StringWriter buffer = new StringWriter();
+    PrintWriter writer = new PrintWriter(buffer);
+    ModuleInfo module = model.getModule();
+    if (index == 0) {
+      session.put("dataObjects", new ArrayList<String>());
+    }
+    @SuppressWarnings("unchecked")
+    List<String> dataObjects = (List<String>) session.get("dataObjects");
+    dataObjects.add(model.getFqn());
+
+    if (index == 0) {
+      writer.print("package " + module.getPackageName() + ";\n");
+      writer.print("\n");
+      writer.print("import io.vertx.core.eventbus.EventBus;\n");
+      writer.print("\n");
+      writer.print("public class " + className(module) + " {\n");
+      writer.print("\n");
+      writer.print("  public static void registerCodecs(EventBus eventBus) {\n");
+    }
+    writer.print("    eventBus.registerDefaultCodec(" + model.getFqn() + ".class, new " + model.getFqn() + "ProtoMessageCodec());\n");
+    if (index == size - 1) {
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  public static void unregisterCodecs(EventBus eventBus) {\n");
+      for (String dataObject : dataObjects) {
+        writer.print("    eventBus.unregisterDefaultCodec(" + dataObject + ".class);\n");
+      }
+      writer.print("  }\n");
+      writer.print("}\n");
+    }
+    return buffer.toString();
+  }
+}
@@ -2,7 +2,11 @@ package io.vertx.codegen.protobuf.generator;
 
 import io.vertx.codegen.PropertyInfo;
 import io.vertx.codegen.PropertyKind;
+import io.vertx.codegen.protobuf.annotations.IntegerEncoding;
 import io.vertx.codegen.protobuf.annotations.JsonProtoEncoding;
+import io.vertx.codegen.protobuf.annotations.ProtobufField;
+import io.vertx.codegen.type.AnnotationValueInfo;
+import io.vertx.codegen.type.ArrayTypeInfo;
 import io.vertx.codegen.type.ClassKind;
 
 // This class store the protobuf properties of a given field
@@ -25,6 +29,8 @@ public class ProtoProperty {
   // Built-in types are predefined complex proto types
   // Examples: datetime.proto, struct.proto, vertx-struct.proto
   private String builtInType;
+  // Indicate the field is a primitive array encoded as a packed repeated field
+  private boolean isArray;
 
   public static ProtoProperty getProtoProperty(PropertyInfo prop, int fieldNumber) {
     ProtoProperty protoProperty = new ProtoProperty();
@@ -37,25 +43,39 @@ public class ProtoProperty {
     String enumType = null;
     String builtInProtoType = null;
     int wireType;
-    if (prop.getType().getKind() == ClassKind.ENUM) {
+    boolean isArray = false;
+    IntegerEncoding integerEncoding = determineIntegerEncoding(prop);
+    if (prop.getType() instanceof ArrayTypeInfo) {
+      protoType = determineArrayProtoType(((ArrayTypeInfo) prop.getType()).getComponentType().getName());
+      protoType = applyIntegerEncoding(prop, protoType, integerEncoding);
+      isArray = true;
+      wireType = 2;
+    } else if (prop.getType().getKind() == ClassKind.ENUM) {
       enumType = prop.getType().getSimpleName();
       wireType = 0;
     } else { // Not Enum
       if (propKind.basic) {
         protoType = determinePrimitiveProtoType(prop.getType().getName());
+        protoType = applyIntegerEncoding(prop, protoType, integerEncoding);
         switch (protoType) {
           case BOOL:
           case INT64:
           case INT32:
+          case SINT64:
+          case SINT32:
             wireType = 0;
             break;
           case DOUBLE:
+          case FIXED64:
+          case SFIXED64:
             wireType = 1;
             break;
           case STRING:
             wireType = 2;
             break;
           case FLOAT:
+          case FIXED32:
+          case SFIXED32:
             wireType = 5;
             break;
           default:
@@ -68,6 +88,10 @@ public class ProtoProperty {
       }
     } // Not Enum
 
+    if (protoType == null && integerEncoding != IntegerEncoding.DEFAULT) {
+      throw invalidIntegerEncoding(prop, integerEncoding);
+    }
+
     // Override wire type if property is a list, map or set
     if (prop.getKind() == PropertyKind.LIST ||
       prop.getKind() == PropertyKind.MAP ||
@@ -89,6 +113,7 @@ public class ProtoProperty {
     protoProperty.enumType = enumType;
     protoProperty.message = message;
     protoProperty.builtInType = builtInProtoType;
+    protoProperty.isArray = isArray;
     return protoProperty;
   }
 
@@ -126,6 +151,61 @@ public class ProtoProperty {
     }
   }
 
+  private static ProtoType determineArrayProtoType(String componentType) {
+    switch (componentType) {
+      case "int":
+        return ProtoType.INT32;
+      case "long":
+        return ProtoType.INT64;
+      case "float":
+        return ProtoType.FLOAT;
+      case "double":
+        return ProtoType.DOUBLE;
+      default:
+        throw new UnsupportedOperationException("Unsupported array data-type " + componentType + "[]");
+    }
+  }
+
+  private static IntegerEncoding determineIntegerEncoding(PropertyInfo prop) {
+    AnnotationValueInfo ann = prop.getAnnotation(ProtobufField.class.getName());
+    if (ann == null) {
+      return IntegerEncoding.DEFAULT;
+    }
+    return IntegerEncoding.valueOf((String) ann.getMember("encoding"));
+  }
+
+  // Map the int32 and int64 types to the proto-type of the encoding hint
+  private static ProtoType applyIntegerEncoding(PropertyInfo prop, ProtoType protoType, IntegerEncoding integerEncoding) {
+    if (integerEncoding == IntegerEncoding.DEFAULT) {
+      return protoType;
+    }
+    if (protoType == ProtoType.INT32) {
+      switch (integerEncoding) {
+        case SINT:
+          return ProtoType.SINT32;
+        case FIXED:
+          return ProtoType.FIXED32;
+        case SFIXED:
+          return ProtoType.SFIXED32;
+      }
+    } else if (protoType == ProtoType.INT64) {
+      switch (integerEncoding) {
+        case SINT:
+          return ProtoType.SINT64;
+        case FIXED:
+          return ProtoType.FIXED64;
+        case SFIXED:
+          return ProtoType.SFIXED64;
+      }
+    }
+    throw invalidIntegerEncoding(prop, integerEncoding);
+  }
+
+  private static IllegalArgumentException invalidIntegerEncoding(PropertyInfo prop, IntegerEncoding integerEncoding) {
+    return new IllegalArgumentException("Property '" + prop.getName() + "' is not an integer, it cannot use the "
+      + integerEncoding + " encoding");
+  }
+
   // Anything other than java primitive type should be nullable
   private static boolean determineIsNullable(String javaDataType) {
     switch (javaDataType) {
@@ -287,4 +367,8 @@ public class ProtoProperty {
   public String getBuiltInType() {
     return builtInType;
   }
+
+  public boolean isArray() {
+    return isArray;
+  }
 }
@@ -1,20 +1,46 @@
 package io.vertx.codegen.protobuf.generator;
 
 public enum ProtoType {
-  STRING  ("string",  "String"),
-  INT32   ("int32",   "Int32"),
-  INT64   ("int64",   "Int64"),
-  DOUBLE  ("double",  "Double"),
-  FLOAT   ("float",   "Float"),
-  BOOL    ("bool",    "Bool"),
-  BYTES   ("bytes",   "Bytes");
+  STRING  ("string",   "String",   0),
+  INT32   ("int32",    "Int32",    0),
+  INT64   ("int64",    "Int64",    0),
+  SINT32  ("sint32",   "SInt32",   0),
+  SINT64  ("sint64",   "SInt64",   0),
+  FIXED32 ("fixed32",  "Fixed32",  4),
+  FIXED64 ("fixed64",  "Fixed64",  8),
+  SFIXED32("sfixed32", "SFixed32", 4),
+  SFIXED64("sfixed64", "SFixed64", 8),
+  DOUBLE  ("double",   "Double",   8),
+  FLOAT   ("float",    "Float",    4),
+  BOOL    ("bool",     "Bool",     1),
+  BYTES   ("bytes",    "Bytes",    0);
 
   public final String value;
   public final String camelValue;
+  // Encoded size of a value, 0 when the size depends on the value
+  public final int fixedSize;
 
-  ProtoType(String value, String camelValue) {
+  ProtoType(String value, String camelValue, int fixedSize) {
     this.value = value;
     this.camelValue = camelValue;
+    this.fixedSize = fixedSize;
+  }
+
+  public boolean isFixedSize() {
+    return fixedSize > 0;
+  }
+
+  /**
+   * @return the wire type of a single value, the values of a packed repeated field are length delimited together
+   */
+  public int wireType() {
+    switch (this) {
+      case STRING:
+      case BYTES:
+        return 2;
+      default:
+        return fixedSize == 8 ? 1 : fixedSize == 4 ? 5 : 0;
+    }
   }
 
   public String read() {
@@ -1,17 +1,29 @@
 package io.vertx.codegen.protobuf.generator;
 
 import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.GenException;
 import io.vertx.codegen.Model;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
 import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;
 import io.vertx.codegen.protobuf.annotations.JsonProtoEncoding;
 import io.vertx.codegen.protobuf.annotations.ProtobufGen;
 
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 class ProtobufGenAnnotation {
   static JsonProtoEncoding jsonProtoEncoding(DataObjectModel model) {
@@ -28,6 +40,69 @@ class ProtobufGenAnnotation {
       .orElseThrow(NoSuchElementException::new); // the annotation member is mandatory, so this should never happen
   }
 
+  static boolean singlePassEncoding(Model model) {
+    return model.getAnnotation(ProtobufGen.class)
+      .map(ann -> ann.getMember("singlePassEncoding") == Boolean.TRUE)
+      .orElse(false);
+  }
+
+  static boolean lazyView(Model model) {
+    return model.getAnnotation(ProtobufGen.class)
+      .map(ann -> ann.getMember("lazyView") == Boolean.TRUE)
+      .orElse(false);
+  }
+
+  static boolean retainUnknownFields(Model model) {
+    return model.getAnnotation(ProtobufGen.class)
+      .map(ann -> ann.getMember("retainUnknownFields") == Boolean.TRUE)
+      .orElse(false);
+  }
+
+  /**
+   * @return the encoding modes to generate, in declaration order of {@link ProtobufEncodingMode}
+   */
+  static List<ProtobufEncodingMode> encodingModes(Model model) {
+    Set<ProtobufEncodingMode> modes = model.getAnnotation(ProtobufGen.class)
+      .map(ann -> (List<String>) ann.getMember("encodingModes"))
+      .map(names -> names.stream().map(ProtobufEncodingMode::valueOf).collect(Collectors.toCollection(() -> EnumSet.noneOf(ProtobufEncodingMode.class))))
+      .orElseGet(() -> EnumSet.allOf(ProtobufEncodingMode.class));
+    if (modes.isEmpty()) {
+      throw new GenException(model.getElement(), "At least one encoding mode must be generated");
+    }
+    return new ArrayList<>(modes);
+  }
+
+  /**
+   * @return the encoding mode of the overloads without an encoding mode parameter, {@link ProtobufEncodingMode#VERTX}
+   * unless it is not generated
+   */
+  static ProtobufEncodingMode defaultEncodingMode(Model model) {
+    List<ProtobufEncodingMode> modes = encodingModes(model);
+    return modes.contains(ProtobufEncodingMode.VERTX) ? ProtobufEncodingMode.VERTX : modes.get(0);
+  }
+
+  /**
+   * @return the encoding modes generated for a type that is not the model being generated, e.g. a nested data object,
+   * empty when the type is not annotated with {@link ProtobufGen}
+   */
+  static Set<ProtobufEncodingMode> encodingModes(TypeElement typeElt, Elements elementUtils) {
+    for (AnnotationMirror annotation : typeElt.getAnnotationMirrors()) {
+      if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(ProtobufGen.class.getName())) {
+        continue;
+      }
+      Set<ProtobufEncodingMode> modes = EnumSet.noneOf(ProtobufEncodingMode.class);
+      for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> member : elementUtils.getElementValuesWithDefaults(annotation).entrySet()) {
+        if (member.getKey().getSimpleName().contentEquals("encodingModes")) {
+          for (AnnotationValue value : (List<? extends AnnotationValue>) member.getValue().getValue()) {
+            modes.add(ProtobufEncodingMode.valueOf(((VariableElement) value.getValue()).getSimpleName().toString()));
+          }
+        }
+      }
+      return modes;
+    }
+    return EnumSet.noneOf(ProtobufEncodingMode.class);
+  }
+
   static Set<Integer> reservedFieldNumbers(Model model) {
     return model.getAnnotation(ProtobufGen.class)
       .map(ann -> (List<Integer>) ann.getMember("reservedFieldNumbers"))
@@ -0,0 +1,317 @@
+package io.vertx.codegen.protobuf.utils;
+
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable protobuf output buffer that writes length-delimited fields in a single pass.
+ * <p>
+ * Instead of computing the size of a nested message up-front, the writer reserves a single byte
+ * for the length with {@link #reserveLength()}, writes the nested content, and then fixes the
+ * length with {@link #backpatchLength(int)}. When the length does not fit in one byte the content
+ * is shifted to make room for the varint, so the resulting bytes are identical to the ones produced
+ * by {@link CodedOutputStream} with pre-computed sizes.
+ * <p>
+ * The shift copies the content of the message, so a large message nested at depth {@code d} is copied up to
+ * {@code d} times: messages whose nested content is large and deep pay {@code O(n * d)} instead of {@code O(n)}.
+ * The two pass encoding is preferable for such messages.
+ */
+public class BackpatchingOutput {
+  private byte[] data;
+  private int position;
+
+  public BackpatchingOutput(int initialCapacity) {
+    data = new byte[initialCapacity];
+    position = 0;
+  }
+
+  public int size() {
+    return position;
+  }
+
+  public int capacity() {
+    return data.length;
+  }
+
+  public void reset() {
+    position = 0;
+  }
+
+  public byte[] toByteArray() {
+    return Arrays.copyOf(data, position);
+  }
+
+  public void writeTo(CodedOutputStream output) throws IOException {
+    output.writeRawBytes(data, 0, position);
+  }
+
+  /**
+   * Reserve a length slot for a length-delimited field.
+   *
+   * @return the mark to pass to {@link #backpatchLength(int)} once the content is written
+   */
+  public int reserveLength() {
+    ensureCapacity(1);
+    return position++;
+  }
+
+  /**
+   * Write the length of the content written since {@link #reserveLength()} returned {@code mark}.
+   * A length of {@code 128} or more does not fit in the reserved byte, the content is shifted by the extra bytes.
+   */
+  public void backpatchLength(int mark) {
+    int length = position - mark - 1;
+    if (length < 0x80) {
+      data[mark] = (byte) length;
+      return;
+    }
+    int lengthSize = CodedOutputStream.computeUInt32SizeNoTag(length);
+    int shift = lengthSize - 1;
+    ensureCapacity(shift);
+    System.arraycopy(data, mark + 1, data, mark + 1 + shift, length);
+    position += shift;
+    int index = mark;
+    while ((length & ~0x7F) != 0) {
+      data[index++] = (byte) ((length & 0x7F) | 0x80);
+      length >>>= 7;
+    }
+    data[index] = (byte) length;
+  }
+
+  /**
+   * Returns a {@link CodedOutputStream} writing the next {@code length} bytes of this buffer, this is used
+   * for nested values whose converter only writes to a {@link CodedOutputStream}. The slice must be
+   * completely written before any other write to this buffer.
+   */
+  public CodedOutputStream slice(int length) {
+    ensureCapacity(length);
+    CodedOutputStream slice = CodedOutputStream.newInstance(data, position, length);
+    position += length;
+    return slice;
+  }
+
+  public void writeTag(int fieldNumber, int wireType) {
+    writeUInt32NoTag((fieldNumber << 3) | wireType);
+  }
+
+  public void writeUInt32NoTag(int value) {
+    ensureCapacity(5);
+    while ((value & ~0x7F) != 0) {
+      data[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    data[position++] = (byte) value;
+  }
+
+  public void writeUInt64NoTag(long value) {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      data[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    data[position++] = (byte) value;
+  }
+
+  public void writeInt32NoTag(int value) {
+    if (value >= 0) {
+      writeUInt32NoTag(value);
+    } else {
+      // negative int32 are sign extended to 10 bytes
+      writeUInt64NoTag(value);
+    }
+  }
+
+  public void writeInt64NoTag(long value) {
+    writeUInt64NoTag(value);
+  }
+
+  public void writeSInt32NoTag(int value) {
+    // ZigZag encoding, small negative values take as few bytes as small positive values
+    writeUInt32NoTag((value << 1) ^ (value >> 31));
+  }
+
+  public void writeSInt64NoTag(long value) {
+    writeUInt64NoTag((value << 1) ^ (value >> 63));
+  }
+
+  public void writeFixed32NoTag(int value) {
+    ensureCapacity(4);
+    data[position++] = (byte) value;
+    data[position++] = (byte) (value >> 8);
+    data[position++] = (byte) (value >> 16);
+    data[position++] = (byte) (value >> 24);
+  }
+
+  public void writeFixed64NoTag(long value) {
+    ensureCapacity(8);
+    data[position++] = (byte) value;
+    data[position++] = (byte) (value >> 8);
+    data[position++] = (byte) (value >> 16);
+    data[position++] = (byte) (value >> 24);
+    data[position++] = (byte) (value >> 32);
+    data[position++] = (byte) (value >> 40);
+    data[position++] = (byte) (value >> 48);
+    data[position++] = (byte) (value >> 56);
+  }
+
+  public void writeSFixed32NoTag(int value) {
+    writeFixed32NoTag(value);
+  }
+
+  public void writeSFixed64NoTag(long value) {
+    writeFixed64NoTag(value);
+  }
+
+  public void writeDoubleNoTag(double value) {
+    writeFixed64NoTag(Double.doubleToRawLongBits(value));
+  }
+
+  public void writeFloatNoTag(float value) {
+    writeFixed32NoTag(Float.floatToRawIntBits(value));
+  }
+
+  public void writeBoolNoTag(boolean value) {
+    ensureCapacity(1);
+    data[position++] = (byte) (value ? 1 : 0);
+  }
+
+  public void writeEnumNoTag(int value) {
+    writeInt32NoTag(value);
+  }
+
+  public void writeStringNoTag(String value) {
+    int mark = reserveLength();
+    if (!writeUtf8(value)) {
+      // unpaired surrogate, fallback to the JDK encoder like CodedOutputStream does
+      position = mark + 1;
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      ensureCapacity(bytes.length);
+      System.arraycopy(bytes, 0, data, position, bytes.length);
+      position += bytes.length;
+    }
+    backpatchLength(mark);
+  }
+
+  public void writeRawBytes(byte[] value, int offset, int length) {
+    ensureCapacity(length);
+    System.arraycopy(value, offset, data, position, length);
+    position += length;
+  }
+
+  public void writeInt32(int fieldNumber, int value) {
+    writeTag(fieldNumber, 0);
+    writeInt32NoTag(value);
+  }
+
+  public void writeUInt32(int fieldNumber, int value) {
+    writeTag(fieldNumber, 0);
+    writeUInt32NoTag(value);
+  }
+
+  public void writeInt64(int fieldNumber, long value) {
+    writeTag(fieldNumber, 0);
+    writeInt64NoTag(value);
+  }
+
+  public void writeSInt32(int fieldNumber, int value) {
+    writeTag(fieldNumber, 0);
+    writeSInt32NoTag(value);
+  }
+
+  public void writeSInt64(int fieldNumber, long value) {
+    writeTag(fieldNumber, 0);
+    writeSInt64NoTag(value);
+  }
+
+  public void writeFixed32(int fieldNumber, int value) {
+    writeTag(fieldNumber, 5);
+    writeFixed32NoTag(value);
+  }
+
+  public void writeFixed64(int fieldNumber, long value) {
+    writeTag(fieldNumber, 1);
+    writeFixed64NoTag(value);
+  }
+
+  public void writeSFixed32(int fieldNumber, int value) {
+    writeTag(fieldNumber, 5);
+    writeSFixed32NoTag(value);
+  }
+
+  public void writeSFixed64(int fieldNumber, long value) {
+    writeTag(fieldNumber, 1);
+    writeSFixed64NoTag(value);
+  }
+
+  public void writeDouble(int fieldNumber, double value) {
+    writeTag(fieldNumber, 1);
+    writeDoubleNoTag(value);
+  }
+
+  public void writeFloat(int fieldNumber, float value) {
+    writeTag(fieldNumber, 5);
+    writeFloatNoTag(value);
+  }
+
+  public void writeBool(int fieldNumber, boolean value) {
+    writeTag(fieldNumber, 0);
+    writeBoolNoTag(value);
+  }
+
+  public void writeEnum(int fieldNumber, int value) {
+    writeTag(fieldNumber, 0);
+    writeEnumNoTag(value);
+  }
+
+  public void writeString(int fieldNumber, String value) {
+    writeTag(fieldNumber, 2);
+    writeStringNoTag(value);
+  }
+
+  private boolean writeUtf8(String value) {
+    int length = value.length();
+    ensureCapacity(length * 3);
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        data[position++] = (byte) c;
+      } else if (c < 0x800) {
+        data[position++] = (byte) (0xC0 | (c >>> 6));
+        data[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (!Character.isSurrogate(c)) {
+        data[position++] = (byte) (0xE0 | (c >>> 12));
+        data[position++] = (byte) (0x80 | ((c >>> 6) & 0x3F));
+        data[position++] = (byte) (0x80 | (c & 0x3F));
+      } else {
+        if (i + 1 == length || !Character.isSurrogatePair(c, value.charAt(i + 1))) {
+          return false;
+        }
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        data[position++] = (byte) (0xF0 | (codePoint >>> 18));
+        data[position++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+        data[position++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+        data[position++] = (byte) (0x80 | (codePoint & 0x3F));
+      }
+    }
+    return true;
+  }
+
+  private void ensureCapacity(int length) {
+    int minCapacity = position + length;
+    if (minCapacity - data.length > 0) {
+      grow(minCapacity);
+    }
+  }
+
+  private void grow(int minCapacity) {
+    int oldCapacity = data.length;
+    int newCapacity = oldCapacity << 1;
+    if (newCapacity - minCapacity < 0) {
+      newCapacity = minCapacity;
+    }
+    data = Arrays.copyOf(data, newCapacity);
+  }
+}
@@ -0,0 +1,52 @@
+package io.vertx.codegen.protobuf.utils;
+
+/**
+ * A thread local pool of the {@link BackpatchingOutput} buffers used by the generated single pass {@code toProto}.
+ * <p>
+ * Like {@link SizeCachePool}, each thread keeps reusing its own buffer instead of allocating one for every
+ * {@code toProto} call. A buffer that is acquired while the buffer of the thread is already in use is freshly
+ * allocated.
+ */
+public final class BackpatchingOutputPool {
+
+  public static final int INITIAL_CAPACITY = 256;
+
+  /**
+   * Buffers that grew beyond this capacity are not kept by the pool, so a single very large message does not
+   * retain memory for the lifetime of the thread.
+   */
+  public static final int MAX_POOLED_CAPACITY = 1 << 20;
+
+  private static final ThreadLocal<BackpatchingOutputPool> POOL = ThreadLocal.withInitial(BackpatchingOutputPool::new);
+
+  private BackpatchingOutput output = new BackpatchingOutput(INITIAL_CAPACITY);
+  private boolean inUse;
+
+  private BackpatchingOutputPool() {
+  }
+
+  /**
+   * Acquire the empty buffer of the current thread, the buffer must be given back with
+   * {@link #release(BackpatchingOutput)}.
+   */
+  public static BackpatchingOutput acquire() {
+    BackpatchingOutputPool pool = POOL.get();
+    if (pool.inUse) {
+      return new BackpatchingOutput(INITIAL_CAPACITY);
+    }
+    pool.inUse = true;
+    BackpatchingOutput output = pool.output;
+    output.reset();
+    return output;
+  }
+
+  public static void release(BackpatchingOutput output) {
+    BackpatchingOutputPool pool = POOL.get();
+    if (output == pool.output) {
+      if (output.capacity() > MAX_POOLED_CAPACITY) {
+        pool.output = new BackpatchingOutput(INITIAL_CAPACITY);
+      }
+      pool.inUse = false;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package io.vertx.codegen.protobuf.utils;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static com.google.protobuf.WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+/**
+ * Protobuf streams reading and writing the memory of a Vert.x {@link Buffer}.
+ * <p>
+ * The streams work directly on the Netty {@link ByteBuf} backing the buffer: its array when the buffer is
+ * on heap, otherwise a NIO view of its memory. No intermediate {@code byte[]} is allocated or copied, except when
+ * writing a buffer whose memory is not contiguous, e.g. a composite buffer.
+ */
+public final class CodedBuffers {
+
+  private CodedBuffers() {
+  }
+
+  /**
+   * Append {@code length} bytes to the {@code buffer} and return a stream writing them.
+   * <p>
+   * The buffer is grown at most once and its length is updated immediately, so the returned stream must write
+   * exactly {@code length} bytes and be flushed before the buffer is used again. The bytes are written straight to
+   * the memory of the buffer, unless its memory is not contiguous: they are then encoded in a temporary array that
+   * is copied to the buffer when the stream is flushed.
+   */
+  public static CodedOutputStream append(Buffer buffer, int length) {
+    ByteBuf byteBuf = ((BufferInternal) buffer).unwrap();
+    byteBuf.ensureWritable(length);
+    int index = byteBuf.writerIndex();
+    CodedOutputStream output;
+    if (byteBuf.hasArray()) {
+      output = CodedOutputStream.newInstance(byteBuf.array(), byteBuf.arrayOffset() + index, length);
+    } else if (byteBuf.nioBufferCount() == 1) {
+      output = CodedOutputStream.newInstance(byteBuf.nioBuffer(index, length));
+    } else {
+      // nioBuffer would return a merged copy of the components, the bytes written to it would be lost
+      output = CodedOutputStream.newInstance(new OutputStream() {
+        private int position = index;
+        @Override
+        public void write(int b) {
+          byteBuf.setByte(position++, b);
+        }
+        @Override
+        public void write(byte[] b, int off, int len) {
+          byteBuf.setBytes(position, b, off, len);
+          position += len;
+        }
+      }, length);
+    }
+    byteBuf.writerIndex(index + length);
+    return output;
+  }
+
+  /**
+   * Return a stream reading the bytes of the {@code buffer} between {@code start} inclusive and {@code end} exclusive.
+   */
+  public static CodedInputStream input(Buffer buffer, int start, int end) {
+    if (start < 0 || start > end || end > buffer.length()) {
+      throw new IndexOutOfBoundsException("Invalid range [" + start + ", " + end + ") for buffer of length " + buffer.length());
+    }
+    ByteBuf byteBuf = ((BufferInternal) buffer).unwrap();
+    if (byteBuf.hasArray()) {
+      return CodedInputStream.newInstance(byteBuf.array(), byteBuf.arrayOffset() + start, end - start);
+    } else {
+      return CodedInputStream.newInstance(byteBuf.nioBuffer(start, end - start));
+    }
+  }
+
+  /**
+   * Compute the size of a {@code bytes} field holding the content of the {@code buffer}.
+   */
+  public static int computeBytesSize(int fieldNumber, Buffer buffer) {
+    int length = buffer.length();
+    return CodedOutputStream.computeTagSize(fieldNumber) + CodedOutputStream.computeUInt32SizeNoTag(length) + length;
+  }
+
+  /**
+   * Write a {@code bytes} field holding the content of the {@code buffer}, the content is written straight from
+   * the memory backing the buffer.
+   */
+  public static void writeBytes(CodedOutputStream output, int fieldNumber, Buffer buffer) throws IOException {
+    ByteBuf byteBuf = ((BufferInternal) buffer).unwrap();
+    int length = buffer.length();
+    output.writeTag(fieldNumber, WIRETYPE_LENGTH_DELIMITED);
+    output.writeUInt32NoTag(length);
+    if (byteBuf.hasArray()) {
+      output.writeRawBytes(byteBuf.array(), byteBuf.arrayOffset(), length);
+    } else {
+      output.writeRawBytes(byteBuf.nioBuffer(0, length));
+    }
+  }
+
+  /**
+   * Read a {@code bytes} value as a buffer.
+   * <p>
+   * When aliasing is enabled on the {@code input}, see {@link CodedInputStream#enableAliasing(boolean)}, and the
+   * input reads a byte array, the returned buffer is a slice of that array: it is only valid as long as the array
+   * is not modified.
+   */
+  public static Buffer readBytes(CodedInputStream input) throws IOException {
+    return BufferInternal.buffer(Unpooled.wrappedBuffer(input.readByteBuffer()));
+  }
+}
@@ -18,6 +18,14 @@ public class ExpandableIntArray {
     return data[index];
   }
 
+  /**
+   * Like {@link #get(int)} without checking the index against the size, for the generated converters that read back
+   * the sizes their {@code computeSize} pass has just stored. The index is only checked against the capacity by the JVM.
+   */
+  public int getUnchecked(int index) {
+    return data[index];
+  }
+
   public void set(int index, int v) {
     if (index < 0) {
       throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
@@ -34,7 +42,22 @@ public class ExpandableIntArray {
     data[size++] = v;
   }
 
-  private void ensureCapacity(int minCapacity) {
+  public int size() {
+    return size;
+  }
+
+  public int capacity() {
+    return data.length;
+  }
+
+  /**
+   * Clear the array without releasing its storage, so it can be reused.
+   */
+  public void reset() {
+    size = 0;
+  }
+
+  public void ensureCapacity(int minCapacity) {
     if (minCapacity - data.length > 0) {
       grow(minCapacity);
     }
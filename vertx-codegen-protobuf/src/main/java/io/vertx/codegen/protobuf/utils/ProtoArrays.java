@@ -0,0 +1,66 @@
+package io.vertx.codegen.protobuf.utils;
+
+import java.util.Arrays;
+
+/**
+ * The growth of the primitive arrays and the lists decoded from packed fields by the generated converters.
+ * <p>
+ * The length of a packed repeated field is read from the wire, it is only an upper bound of the element count that
+ * may not even match the remaining input. The arrays and lists start with at most {@link #MAX_INITIAL_CAPACITY}
+ * elements and grow as the elements are actually read, a field can also be split in several packed or unpacked chunks.
+ */
+public final class ProtoArrays {
+
+  public static final int MAX_INITIAL_CAPACITY = 1024;
+
+  private ProtoArrays() {
+  }
+
+  /**
+   * @return the capacity to reserve for a packed field of {@code length} bytes holding values of {@code size} bytes,
+   *         {@code 1} for varints
+   */
+  public static int initialCapacity(int length, int size) {
+    return Math.min(length / size, MAX_INITIAL_CAPACITY);
+  }
+
+  /**
+   * @return {@code array} when it can hold {@code count + free} elements, otherwise a copy with a larger capacity,
+   *         a new array when {@code array} is {@code null}
+   */
+  public static int[] ensureCapacity(int[] array, int count, int free) {
+    if (array != null && array.length - count >= free) {
+      return array;
+    }
+    int capacity = newCapacity(count, free);
+    return array == null ? new int[capacity] : Arrays.copyOf(array, capacity);
+  }
+
+  public static long[] ensureCapacity(long[] array, int count, int free) {
+    if (array != null && array.length - count >= free) {
+      return array;
+    }
+    int capacity = newCapacity(count, free);
+    return array == null ? new long[capacity] : Arrays.copyOf(array, capacity);
+  }
+
+  public static float[] ensureCapacity(float[] array, int count, int free) {
+    if (array != null && array.length - count >= free) {
+      return array;
+    }
+    int capacity = newCapacity(count, free);
+    return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+  }
+
+  public static double[] ensureCapacity(double[] array, int count, int free) {
+    if (array != null && array.length - count >= free) {
+      return array;
+    }
+    int capacity = newCapacity(count, free);
+    return array == null ? new double[capacity] : Arrays.copyOf(array, capacity);
+  }
+
+  private static int newCapacity(int count, int free) {
+    return Math.max(count + free, count << 1);
+  }
+}
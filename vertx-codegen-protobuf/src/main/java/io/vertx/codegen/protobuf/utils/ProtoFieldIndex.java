@@ -0,0 +1,146 @@
+package io.vertx.codegen.protobuf.utils;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The offsets of the fields of an encoded protobuf message, built with a single scan of the message bytes.
+ * <p>
+ * Each field occurrence (tag and value) is an entry of the index, a repeated field has one entry per occurrence.
+ * An entry is consumed once its field has been decoded or replaced; the entries that are not consumed can be written
+ * back byte for byte with {@link #writeTo(CodedOutputStream)}.
+ */
+public class ProtoFieldIndex {
+
+  private final byte[] bytes;
+  private final int offset;
+  private final int length;
+  private final int[] fieldNumbers;
+  private final int[] starts;
+  private final int[] ends;
+  private final boolean[] consumed;
+  private int consumedCount;
+
+  private ProtoFieldIndex(byte[] bytes, int offset, int length, int[] fieldNumbers, int[] starts, int[] ends) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+    this.fieldNumbers = fieldNumbers;
+    this.starts = starts;
+    this.ends = ends;
+    this.consumed = new boolean[fieldNumbers.length];
+  }
+
+  /**
+   * Index the fields of the message encoded in {@code bytes} between {@code offset} and {@code offset + length}.
+   * The bytes are not copied, they must not be modified while the index is used.
+   */
+  public static ProtoFieldIndex scan(byte[] bytes, int offset, int length) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(bytes, offset, length);
+    int[] fieldNumbers = new int[8];
+    int[] starts = new int[8];
+    int[] ends = new int[8];
+    int count = 0;
+    while (true) {
+      int start = input.getTotalBytesRead();
+      int tag = input.readTag();
+      if (tag == 0) {
+        break;
+      }
+      input.skipField(tag);
+      if (count == fieldNumbers.length) {
+        fieldNumbers = Arrays.copyOf(fieldNumbers, count << 1);
+        starts = Arrays.copyOf(starts, count << 1);
+        ends = Arrays.copyOf(ends, count << 1);
+      }
+      fieldNumbers[count] = WireFormat.getTagFieldNumber(tag);
+      starts[count] = offset + start;
+      ends[count] = offset + input.getTotalBytesRead();
+      count++;
+    }
+    return new ProtoFieldIndex(bytes, offset, length,
+      Arrays.copyOf(fieldNumbers, count), Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+  }
+
+  /**
+   * @return the next entry of {@code fieldNumber} after {@code entry}, use {@code -1} to get the first entry,
+   *         {@code -1} is returned when there are no more entries
+   */
+  public int next(int fieldNumber, int entry) {
+    for (int i = entry + 1; i < fieldNumbers.length; i++) {
+      if (fieldNumbers[i] == fieldNumber) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return a stream reading the tag and value of the {@code entry}
+   */
+  public CodedInputStream input(int entry) {
+    return CodedInputStream.newInstance(bytes, starts[entry], ends[entry] - starts[entry]);
+  }
+
+  /**
+   * Consume all the entries of {@code fieldNumber}, they are not written anymore by {@link #writeTo(CodedOutputStream)}.
+   */
+  public void consume(int fieldNumber) {
+    for (int i = 0; i < fieldNumbers.length; i++) {
+      if (fieldNumbers[i] == fieldNumber && !consumed[i]) {
+        consumed[i] = true;
+        consumedCount++;
+      }
+    }
+  }
+
+  /**
+   * @return whether no entry has been consumed, i.e. the message is unchanged
+   */
+  public boolean isUntouched() {
+    return consumedCount == 0;
+  }
+
+  /**
+   * @return the size of the entries that are not consumed
+   */
+  public int computeSize() {
+    if (consumedCount == 0) {
+      return length;
+    }
+    int size = 0;
+    for (int i = 0; i < fieldNumbers.length; i++) {
+      if (!consumed[i]) {
+        size += ends[i] - starts[i];
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Write the entries that are not consumed as is, in their original order.
+   */
+  public void writeTo(CodedOutputStream output) throws IOException {
+    if (consumedCount == 0) {
+      output.writeRawBytes(bytes, offset, length);
+      return;
+    }
+    // Adjacent entries are written at once
+    int runStart = 0;
+    int runEnd = 0;
+    for (int i = 0; i < fieldNumbers.length; i++) {
+      if (!consumed[i]) {
+        if (starts[i] != runEnd) {
+          output.writeRawBytes(bytes, runStart, runEnd - runStart);
+          runStart = starts[i];
+        }
+        runEnd = ends[i];
+      }
+    }
+    output.writeRawBytes(bytes, runStart, runEnd - runStart);
+  }
+}
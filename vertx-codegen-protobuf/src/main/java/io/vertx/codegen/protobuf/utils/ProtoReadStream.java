@@ -0,0 +1,119 @@
+package io.vertx.codegen.protobuf.utils;
+
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+
+import java.io.IOException;
+
+/**
+ * A {@link ReadStream} of the elements of a repeated field, each element is decoded when there is demand for it.
+ * <p>
+ * Like other read streams, the stream is in flowing mode until {@link #pause()} is called, elements are emitted
+ * as soon as a handler is set. The input is decoded synchronously on the thread calling {@link #handler(Handler)},
+ * {@link #resume()} or {@link #fetch(long)}.
+ */
+public class ProtoReadStream<T> implements ReadStream<T> {
+
+  /**
+   * Decodes the next element of the stream.
+   */
+  @FunctionalInterface
+  public interface ElementReader<T> {
+
+    /**
+     * @return the next element or {@code null} when the input is fully decoded
+     */
+    T read() throws IOException;
+
+  }
+
+  private final ElementReader<T> reader;
+  private Handler<T> handler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+  private long demand = Long.MAX_VALUE;
+  private boolean emitting;
+  private boolean ended;
+
+  public ProtoReadStream(ElementReader<T> reader) {
+    this.reader = reader;
+  }
+
+  @Override
+  public ProtoReadStream<T> exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public ProtoReadStream<T> handler(Handler<T> handler) {
+    this.handler = handler;
+    emit();
+    return this;
+  }
+
+  @Override
+  public ProtoReadStream<T> pause() {
+    demand = 0L;
+    return this;
+  }
+
+  @Override
+  public ProtoReadStream<T> resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public ProtoReadStream<T> fetch(long amount) {
+    if (amount < 0L) {
+      throw new IllegalArgumentException("Invalid fetch amount " + amount);
+    }
+    demand += amount;
+    if (demand < 0L) {
+      demand = Long.MAX_VALUE;
+    }
+    emit();
+    return this;
+  }
+
+  @Override
+  public ProtoReadStream<T> endHandler(Handler<Void> endHandler) {
+    this.endHandler = endHandler;
+    return this;
+  }
+
+  private void emit() {
+    // Re-entrant calls from the handler only update the demand
+    if (emitting) {
+      return;
+    }
+    emitting = true;
+    try {
+      while (!ended && handler != null && demand > 0L) {
+        T element;
+        try {
+          element = reader.read();
+        } catch (IOException e) {
+          ended = true;
+          if (exceptionHandler != null) {
+            exceptionHandler.handle(e);
+          }
+          return;
+        }
+        if (element == null) {
+          ended = true;
+          if (endHandler != null) {
+            endHandler.handle(null);
+          }
+          return;
+        }
+        if (demand != Long.MAX_VALUE) {
+          demand--;
+        }
+        handler.handle(element);
+      }
+    } finally {
+      emitting = false;
+    }
+  }
+}
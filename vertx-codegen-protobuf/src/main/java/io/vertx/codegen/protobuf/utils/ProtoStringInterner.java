@@ -0,0 +1,158 @@
+package io.vertx.codegen.protobuf.utils;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A small bounded table of the strings read from protobuf messages, so the keys repeated in a message, e.g. the keys
+ * of many similar JSON objects, decode to the same {@code String} instance instead of a new one each time.
+ * <p>
+ * A string is matched on its raw UTF-8 bytes before it is decoded, only the strings that miss the table are decoded.
+ * The bytes are read in a scratch array of the interner, so a string found in the table is read without allocating.
+ * The table is direct mapped: a string replaces the one that had the same slot, so the memory held stays bounded
+ * by the capacity. Map keys are always interned, string values only when {@code maxValueLength} is positive and
+ * they are not longer than {@code maxValueLength} bytes.
+ * <p>
+ * An interner is not thread safe, it can be reused by the decodings of a same thread, e.g. of an event loop.
+ */
+public class ProtoStringInterner {
+
+  public static final int DEFAULT_CAPACITY = 256;
+
+  /**
+   * Keys longer than this length are decoded without being interned.
+   */
+  public static final int MAX_KEY_LENGTH = 128;
+
+  private final byte[][] bytes;
+  private final String[] strings;
+  private final byte[] scratch;
+  private final int mask;
+  private final int maxValueLength;
+  private long hits;
+  private long misses;
+
+  /**
+   * Create an interner of {@link #DEFAULT_CAPACITY} entries interning map keys only.
+   */
+  public ProtoStringInterner() {
+    this(DEFAULT_CAPACITY, 0);
+  }
+
+  /**
+   * @param capacity the number of entries of the table, rounded up to a power of two
+   * @param maxValueLength the maximum length in bytes of the interned string values, {@code 0} to intern map keys only
+   */
+  public ProtoStringInterner(int capacity, int maxValueLength) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Invalid capacity " + capacity);
+    }
+    if (maxValueLength < 0) {
+      throw new IllegalArgumentException("Invalid max value length " + maxValueLength);
+    }
+    int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.bytes = new byte[size][];
+    this.strings = new String[size];
+    this.scratch = new byte[Math.max(MAX_KEY_LENGTH, maxValueLength)];
+    this.mask = size - 1;
+    this.maxValueLength = maxValueLength;
+  }
+
+  /**
+   * Read a length delimited map key.
+   */
+  public String readKey(CodedInputStream input) throws IOException {
+    return read(input, MAX_KEY_LENGTH);
+  }
+
+  /**
+   * Read a length delimited string value, it is only interned when it is not longer than {@code maxValueLength}.
+   */
+  public String readValue(CodedInputStream input) throws IOException {
+    if (maxValueLength == 0) {
+      return input.readString();
+    }
+    return read(input, maxValueLength);
+  }
+
+  /**
+   * @return the number of strings found in the table
+   */
+  public long hits() {
+    return hits;
+  }
+
+  /**
+   * @return the number of strings looked up but not found in the table, the strings too long to be interned
+   * are not counted
+   */
+  public long misses() {
+    return misses;
+  }
+
+  /**
+   * @return the ratio of the lookups found in the table, {@code 0} when no string was looked up
+   */
+  public double hitRate() {
+    long lookups = hits + misses;
+    return lookups == 0 ? 0d : (double) hits / lookups;
+  }
+
+  /**
+   * Reset the counters, the table is kept.
+   */
+  public void resetCounters() {
+    hits = 0;
+    misses = 0;
+  }
+
+  private String read(CodedInputStream input, int maxLength) throws IOException {
+    int length = input.readRawVarint32();
+    if (length < 0) {
+      throw new InvalidProtocolBufferException("Negative string length " + length);
+    }
+    if (length > maxLength) {
+      return new String(input.readRawBytes(length), StandardCharsets.UTF_8);
+    }
+    int h = 0;
+    for (int i = 0; i < length; i++) {
+      byte b = input.readRawByte();
+      scratch[i] = b;
+      h = 31 * h + b;
+    }
+    int slot = spread(h) & mask;
+    byte[] raw = bytes[slot];
+    if (raw != null && matches(raw, length)) {
+      hits++;
+      return strings[slot];
+    }
+    misses++;
+    raw = Arrays.copyOf(scratch, length);
+    String s = new String(raw, StandardCharsets.UTF_8);
+    bytes[slot] = raw;
+    strings[slot] = s;
+    return s;
+  }
+
+  private boolean matches(byte[] raw, int length) {
+    if (raw.length != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (raw[i] != scratch[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int spread(int h) {
+    // Spread the similar keys, e.g. with a numeric suffix, over the table
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
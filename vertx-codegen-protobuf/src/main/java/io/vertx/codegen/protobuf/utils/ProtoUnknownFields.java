@@ -0,0 +1,135 @@
+package io.vertx.codegen.protobuf.utils;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The fields of an encoded protobuf message that the converter of a data object does not know, e.g. the fields
+ * added by a newer version of the message.
+ * <p>
+ * Each field is kept as its raw bytes (tag and value) in the order it was read, the fields are written back
+ * byte for byte after the known fields when the data object is encoded again.
+ */
+public class ProtoUnknownFields {
+
+  /**
+   * The maximum nesting of groups, like the default recursion limit of {@link CodedInputStream}.
+   */
+  public static final int RECURSION_LIMIT = 100;
+
+  // Length delimited values are copied by chunks, so the buffer grows with the bytes actually read
+  private static final int CHUNK_SIZE = 4096;
+
+  private byte[] bytes = new byte[32];
+  private int length;
+
+  /**
+   * Read the value of the field whose {@code tag} was just read from {@code input} and append the field.
+   *
+   * @return {@code false} when the tag ends a group, like {@link CodedInputStream#skipField(int)}
+   */
+  public boolean readField(int tag, CodedInputStream input) throws IOException {
+    return readField(tag, input, 0);
+  }
+
+  private boolean readField(int tag, CodedInputStream input, int depth) throws IOException {
+    if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_END_GROUP) {
+      return false;
+    }
+    writeVarint(tag);
+    switch (WireFormat.getTagWireType(tag)) {
+      case WireFormat.WIRETYPE_VARINT:
+        writeVarint(input.readRawVarint64());
+        return true;
+      case WireFormat.WIRETYPE_FIXED64:
+        writeLittleEndian(input.readRawLittleEndian64(), 8);
+        return true;
+      case WireFormat.WIRETYPE_LENGTH_DELIMITED: {
+        int size = input.readRawVarint32();
+        if (size < 0) {
+          throw new InvalidProtocolBufferException("Negative length " + size + " of field " + WireFormat.getTagFieldNumber(tag));
+        }
+        writeVarint(size);
+        // Read the value straight into the buffer, readRawBytes would copy it in an intermediate array first,
+        // a truncated input fails in readRawByte before the buffer grew much beyond the bytes read
+        while (size > 0) {
+          int chunk = Math.min(size, CHUNK_SIZE);
+          ensureCapacity(chunk);
+          for (int i = 0; i < chunk; i++) {
+            bytes[length++] = input.readRawByte();
+          }
+          size -= chunk;
+        }
+        return true;
+      }
+      case WireFormat.WIRETYPE_START_GROUP: {
+        if (depth >= RECURSION_LIMIT) {
+          throw new InvalidProtocolBufferException("Protocol message had too many levels of nesting.");
+        }
+        int endTag = (tag & ~7) | WireFormat.WIRETYPE_END_GROUP;
+        int nested;
+        while ((nested = input.readTag()) != 0 && readField(nested, input, depth + 1)) {
+        }
+        if (nested != endTag) {
+          throw new InvalidProtocolBufferException("Protocol message end-group tag did not match expected tag.");
+        }
+        writeVarint(endTag);
+        return true;
+      }
+      case WireFormat.WIRETYPE_FIXED32:
+        writeLittleEndian(input.readRawLittleEndian32(), 4);
+        return true;
+      default:
+        throw new InvalidProtocolBufferException("Protocol message tag had invalid wire type.");
+    }
+  }
+
+  /**
+   * @return the size in bytes of the unknown fields
+   */
+  public int size() {
+    return length;
+  }
+
+  /**
+   * @return a copy of the raw bytes of the unknown fields
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(bytes, length);
+  }
+
+  public void writeTo(CodedOutputStream output) throws IOException {
+    output.writeRawBytes(bytes, 0, length);
+  }
+
+  public void writeTo(BackpatchingOutput output) {
+    output.writeRawBytes(bytes, 0, length);
+  }
+
+  private void writeVarint(long value) {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    bytes[length++] = (byte) value;
+  }
+
+  private void writeLittleEndian(long value, int size) {
+    ensureCapacity(size);
+    for (int i = 0; i < size; i++) {
+      bytes[length++] = (byte) (value >> (8 * i));
+    }
+  }
+
+  private void ensureCapacity(int size) {
+    if (size > bytes.length - length) {
+      bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, length + size));
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package io.vertx.codegen.protobuf.utils;
+
+/**
+ * A thread local pool of the size caches used by the generated converters.
+ * <p>
+ * Vert.x event loops are long-lived threads, so each event loop keeps reusing its own cache instead of
+ * allocating a new {@link ExpandableIntArray} for every {@code toProto} or {@code computeSize} call.
+ * A cache that is acquired while the cache of the thread is already in use (e.g. a converter called
+ * from a getter) is freshly allocated.
+ */
+public final class SizeCachePool {
+
+  public static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * Caches that grew beyond this capacity are not kept by the pool, so a single very large message does not
+   * retain memory for the lifetime of the thread.
+   */
+  public static final int MAX_POOLED_CAPACITY = 1 << 16;
+
+  private static final ThreadLocal<SizeCachePool> POOL = ThreadLocal.withInitial(SizeCachePool::new);
+
+  private ExpandableIntArray cache = new ExpandableIntArray(INITIAL_CAPACITY);
+  private boolean inUse;
+
+  private SizeCachePool() {
+  }
+
+  /**
+   * Acquire the cache of the current thread, the cache is empty and can hold at least {@code capacity} elements.
+   * The cache must be given back with {@link #release(ExpandableIntArray)}.
+   */
+  public static ExpandableIntArray acquire(int capacity) {
+    SizeCachePool pool = POOL.get();
+    if (pool.inUse) {
+      return new ExpandableIntArray(capacity);
+    }
+    pool.inUse = true;
+    ExpandableIntArray cache = pool.cache;
+    cache.reset();
+    cache.ensureCapacity(capacity);
+    return cache;
+  }
+
+  public static void release(ExpandableIntArray cache) {
+    SizeCachePool pool = POOL.get();
+    if (cache == pool.cache) {
+      if (cache.capacity() > MAX_POOLED_CAPACITY) {
+        pool.cache = new ExpandableIntArray(INITIAL_CAPACITY);
+      }
+      pool.inUse = false;
+    }
+  }
+}
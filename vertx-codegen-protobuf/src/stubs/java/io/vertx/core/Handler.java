@@ -0,0 +1,11 @@
+package io.vertx.core;
+
+/**
+ * Compile stub
+ */
+@FunctionalInterface
+public interface Handler<E> {
+
+  void handle(E event);
+
+}
@@ -0,0 +1,38 @@
+package io.vertx.core.buffer;
+
+import io.vertx.core.buffer.impl.BufferImpl;
+
+/**
+ * Compile stub
+ */
+public interface Buffer {
+
+  static Buffer buffer() {
+    return new BufferImpl();
+  }
+
+  static Buffer buffer(int initialSizeHint) {
+    return new BufferImpl(initialSizeHint);
+  }
+
+  static Buffer buffer(byte[] bytes) {
+    return new BufferImpl(bytes);
+  }
+
+  int length();
+
+  byte getByte(int pos);
+
+  byte[] getBytes();
+
+  byte[] getBytes(int start, int end);
+
+  int getInt(int pos);
+
+  Buffer appendBytes(byte[] bytes);
+
+  Buffer appendInt(int i);
+
+  Buffer setInt(int pos, int i);
+
+}
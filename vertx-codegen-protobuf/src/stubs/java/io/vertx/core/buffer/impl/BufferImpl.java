@@ -0,0 +1,74 @@
+package io.vertx.core.buffer.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.internal.buffer.BufferInternal;
+
+/**
+ * Compile stub
+ */
+public class BufferImpl implements BufferInternal {
+
+  private final ByteBuf buffer;
+
+  public BufferImpl() {
+    this(0);
+  }
+
+  public BufferImpl(int initialSizeHint) {
+    this(Unpooled.buffer(initialSizeHint));
+  }
+
+  public BufferImpl(byte[] bytes) {
+    this(Unpooled.buffer(bytes.length).writeBytes(bytes));
+  }
+
+  public BufferImpl(ByteBuf buffer) {
+    this.buffer = buffer;
+  }
+
+  public int length() {
+    return buffer.writerIndex();
+  }
+
+  public byte getByte(int pos) {
+    return buffer.getByte(pos);
+  }
+
+  public byte[] getBytes() {
+    return getBytes(0, buffer.writerIndex());
+  }
+
+  public byte[] getBytes(int start, int end) {
+    byte[] bytes = new byte[end - start];
+    buffer.getBytes(start, bytes);
+    return bytes;
+  }
+
+  public int getInt(int pos) {
+    return buffer.getInt(pos);
+  }
+
+  public BufferImpl appendBytes(byte[] bytes) {
+    buffer.writeBytes(bytes);
+    return this;
+  }
+
+  public BufferImpl appendInt(int i) {
+    buffer.writeInt(i);
+    return this;
+  }
+
+  public BufferImpl setInt(int pos, int i) {
+    buffer.setInt(pos, i);
+    return this;
+  }
+
+  public ByteBuf getByteBuf() {
+    return buffer.duplicate();
+  }
+
+  public ByteBuf unwrap() {
+    return buffer;
+  }
+}
@@ -0,0 +1,16 @@
+package io.vertx.core.eventbus;
+
+/**
+ * Compile stub
+ */
+public interface EventBus {
+
+  EventBus registerCodec(MessageCodec codec);
+
+  EventBus unregisterCodec(String name);
+
+  <T> EventBus registerDefaultCodec(Class<T> clazz, MessageCodec<T, ?> codec);
+
+  EventBus unregisterDefaultCodec(Class clazz);
+
+}
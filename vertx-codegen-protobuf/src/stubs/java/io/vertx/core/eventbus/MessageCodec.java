@@ -0,0 +1,20 @@
+package io.vertx.core.eventbus;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Compile stub
+ */
+public interface MessageCodec<S, R> {
+
+  void encodeToWire(Buffer buffer, S s);
+
+  R decodeFromWire(int pos, Buffer buffer);
+
+  R transform(S s);
+
+  String name();
+
+  byte systemCodecID();
+
+}
@@ -0,0 +1,26 @@
+package io.vertx.core.internal.buffer;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
+
+/**
+ * Compile stub
+ */
+public interface BufferInternal extends Buffer {
+
+  static BufferInternal buffer(ByteBuf byteBuf) {
+    return new BufferImpl(byteBuf);
+  }
+
+  /**
+   * @return a duplicate of the underlying buffer that maintains its own indices
+   */
+  ByteBuf getByteBuf();
+
+  /**
+   * @return the underlying buffer
+   */
+  ByteBuf unwrap();
+
+}
@@ -0,0 +1,108 @@
+package io.vertx.test.codegen.protobuf;
+
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.test.codegen.converter.SimplePojo;
+import io.vertx.test.codegen.converter.SimplePojoProtoConverter;
+import io.vertx.test.codegen.converter.User;
+import io.vertx.test.codegen.converter.UserProtoConverter;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class BufferConverterTest {
+
+  @Test
+  public void testToBuffer() throws IOException {
+    User user = TestUtils.user();
+    Buffer buffer = UserProtoConverter.toBuffer(user);
+    byte[] expected = TestUtils.encode(output -> UserProtoConverter.toProto(user, output));
+    assertEquals(expected.length, buffer.length());
+    // exactly sized by computeSize
+    assertEquals(expected.length, ((BufferInternal) buffer).unwrap().capacity());
+    assertArrayEquals(expected, buffer.getBytes());
+  }
+
+  @Test
+  public void testAppendToBuffer() throws IOException {
+    User user = TestUtils.user();
+    byte[] expected = TestUtils.encode(output -> UserProtoConverter.toProto(user, output));
+    Buffer buffer = Buffer.buffer().appendBytes(new byte[]{1, 2, 3});
+    UserProtoConverter.toBuffer(user, buffer);
+    assertEquals(3 + expected.length, buffer.length());
+    assertArrayEquals(expected, buffer.getBytes(3, buffer.length()));
+
+    User decoded = new User();
+    UserProtoConverter.fromBuffer(buffer, 3, buffer.length(), decoded, ProtobufEncodingMode.VERTX);
+    assertUser(user, decoded);
+  }
+
+  @Test
+  public void testDirectBuffer() throws IOException {
+    User user = TestUtils.user();
+    byte[] expected = TestUtils.encode(output -> UserProtoConverter.toProto(user, output));
+    Buffer buffer = BufferInternal.buffer(Unpooled.directBuffer(16));
+    UserProtoConverter.toBuffer(user, buffer);
+    assertArrayEquals(expected, buffer.getBytes());
+    assertUser(user, UserProtoConverter.fromBuffer(buffer));
+  }
+
+  @Test
+  public void testCompositeBuffer() throws IOException {
+    User user = TestUtils.user();
+    byte[] expected = TestUtils.encode(output -> UserProtoConverter.toProto(user, output));
+    CompositeByteBuf composite = Unpooled.compositeBuffer();
+    composite.addComponent(true, Unpooled.directBuffer(4).writeBytes(new byte[]{1, 2, 3}));
+    Buffer buffer = BufferInternal.buffer(composite);
+    UserProtoConverter.toBuffer(user, buffer);
+    assertEquals(3 + expected.length, buffer.length());
+    assertArrayEquals(expected, buffer.getBytes(3, buffer.length()));
+    User decoded = new User();
+    UserProtoConverter.fromBuffer(buffer, 3, buffer.length(), decoded, ProtobufEncodingMode.VERTX);
+    assertUser(user, decoded);
+  }
+
+  @Test
+  public void testEncodingModes() throws IOException {
+    SimplePojo pojo = new SimplePojo();
+    pojo.setIntegerField(7);
+    pojo.setLongField(8L);
+    pojo.setBooleanField(false);
+    pojo.setStringField("");
+    for (ProtobufEncodingMode encodingMode : ProtobufEncodingMode.values()) {
+      Buffer buffer = SimplePojoProtoConverter.toBuffer(pojo, encodingMode);
+      assertEquals(SimplePojoProtoConverter.computeSize(pojo, encodingMode), buffer.length());
+      assertEquals(pojo, SimplePojoProtoConverter.fromBuffer(buffer, encodingMode));
+    }
+  }
+
+  @Test
+  public void testEmpty() throws IOException {
+    Buffer buffer = UserProtoConverter.toBuffer(new User());
+    assertEquals(0, buffer.length());
+    User decoded = UserProtoConverter.fromBuffer(buffer);
+    assertEquals(null, decoded.getUserName());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testInvalidRange() throws IOException {
+    Buffer buffer = UserProtoConverter.toBuffer(TestUtils.user());
+    UserProtoConverter.fromBuffer(buffer, 0, buffer.length() + 1, new User(), ProtobufEncodingMode.VERTX);
+  }
+
+  private static void assertUser(User expected, User actual) {
+    assertEquals(expected.getUserName(), actual.getUserName());
+    assertEquals(expected.getAge(), actual.getAge());
+    assertEquals(expected.getPrimitiveLong(), actual.getPrimitiveLong());
+    assertEquals(expected.getAddress().getName(), actual.getAddress().getName());
+    assertEquals(expected.getEnumType(), actual.getEnumType());
+    assertEquals(expected.getIntegerListField(), actual.getIntegerListField());
+    assertEquals(expected.getJsonObjectField(), actual.getJsonObjectField());
+  }
+}
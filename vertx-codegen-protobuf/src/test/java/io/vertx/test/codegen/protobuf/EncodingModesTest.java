@@ -0,0 +1,69 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.test.codegen.converter.CompatiblePojo;
+import io.vertx.test.codegen.converter.CompatiblePojoProtoConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class EncodingModesTest {
+
+  @Test
+  public void testDefaultEncodingMode() throws IOException {
+    CompatiblePojo pojo = new CompatiblePojo();
+    pojo.setIntegerField(null);
+    pojo.setStringField("value");
+    try {
+      TestUtils.encode(output -> CompatiblePojoProtoConverter.toProto(pojo, output));
+      Assert.fail();
+    } catch (IllegalArgumentException e) {
+      Assert.assertEquals("Null values are not allowed for boxed types in compatibility mode", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testDecodeDefaultValues() throws IOException {
+    CompatiblePojo pojo = new CompatiblePojo();
+    CompatiblePojoProtoConverter.fromProto(CodedInputStream.newInstance(new byte[0]), pojo);
+    Assert.assertEquals(Integer.valueOf(0), pojo.getIntegerField());
+    Assert.assertEquals("", pojo.getStringField());
+  }
+
+  @Test
+  public void testEncode() throws IOException {
+    CompatiblePojo pojo = new CompatiblePojo();
+    pojo.setIntegerField(7);
+    pojo.setStringField("value");
+
+    byte[] expected = TestUtils.encode(output -> {
+      output.writeInt32(1, 7);
+      output.writeString(2, "value");
+    });
+    Assert.assertArrayEquals(expected, TestUtils.encode(output -> CompatiblePojoProtoConverter.toProto(pojo, output)));
+    Assert.assertEquals(expected.length, CompatiblePojoProtoConverter.computeSize(pojo));
+
+    // Default values are not encoded
+    pojo.setIntegerField(0);
+    pojo.setStringField("");
+    Assert.assertEquals(0, TestUtils.encode(output -> CompatiblePojoProtoConverter.toProto(pojo, output)).length);
+  }
+
+  @Test
+  public void testEncodingModeNotGenerated() throws IOException {
+    CompatiblePojo pojo = new CompatiblePojo();
+    try {
+      TestUtils.encode(output -> CompatiblePojoProtoConverter.toProto(pojo, output, ProtobufEncodingMode.VERTX));
+      Assert.fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      CompatiblePojoProtoConverter.fromProto(CodedInputStream.newInstance(new byte[0]), pojo, ProtobufEncodingMode.VERTX);
+      Assert.fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+}
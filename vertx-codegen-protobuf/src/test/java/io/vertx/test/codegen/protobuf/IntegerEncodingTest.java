@@ -0,0 +1,116 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.test.codegen.converter.IntegerEncodingPojo;
+import io.vertx.test.codegen.converter.IntegerEncodingPojoProtoConverter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class IntegerEncodingTest {
+
+  @Test
+  public void testWireCompatibility() throws IOException {
+    IntegerEncodingPojo pojo = new IntegerEncodingPojo();
+    pojo.setSintField(-1);
+    pojo.setSint64Field(-300_000_000_000L);
+    pojo.setSintShortField((short) -300);
+    pojo.setFixedField(0xCAFEBABE);
+    pojo.setFixed64Field(Long.MAX_VALUE);
+    pojo.setSfixedField(-42);
+    pojo.setSfixed64Field(Long.MIN_VALUE);
+    pojo.setSintListField(Arrays.asList(-1, 0, 1, Integer.MIN_VALUE));
+    pojo.setFixedArrayField(new long[]{1L, -1L, 0x1234_5678_9ABC_DEF0L});
+    pojo.setSfixedMapField(Collections.singletonMap("key", -7));
+
+    byte[] encoded = vertxEncode(pojo);
+
+    // Decode using Google's protoc plugin
+    io.vertx.protobuf.generated.IntegerEncodingPojo protocObj = io.vertx.protobuf.generated.IntegerEncodingPojo.parseFrom(encoded);
+    assertEquals(-1, protocObj.getSintField());
+    assertEquals(-300_000_000_000L, protocObj.getSint64Field());
+    assertEquals(-300, protocObj.getSintShortField());
+    assertEquals(0xCAFEBABE, protocObj.getFixedField());
+    assertEquals(Long.MAX_VALUE, protocObj.getFixed64Field());
+    assertEquals(-42, protocObj.getSfixedField());
+    assertEquals(Long.MIN_VALUE, protocObj.getSfixed64Field());
+    assertEquals(pojo.getSintListField(), protocObj.getSintListFieldList());
+    assertEquals(Arrays.asList(1L, -1L, 0x1234_5678_9ABC_DEF0L), protocObj.getFixedArrayFieldList());
+    assertEquals(pojo.getSfixedMapField(), protocObj.getSfixedMapFieldMap());
+
+    // Encode using Google's protoc plugin
+    assertArrayEquals(protocObj.toByteArray(), encoded);
+
+    // Vertx Decode
+    IntegerEncodingPojo decoded = new IntegerEncodingPojo();
+    IntegerEncodingPojoProtoConverter.fromProto(CodedInputStream.newInstance(protocObj.toByteArray()), decoded);
+    assertEquals(pojo.getSintField(), decoded.getSintField());
+    assertEquals(pojo.getSint64Field(), decoded.getSint64Field());
+    assertEquals(pojo.getSintShortField(), decoded.getSintShortField());
+    assertEquals(pojo.getFixedField(), decoded.getFixedField());
+    assertEquals(pojo.getFixed64Field(), decoded.getFixed64Field());
+    assertEquals(pojo.getSfixedField(), decoded.getSfixedField());
+    assertEquals(pojo.getSfixed64Field(), decoded.getSfixed64Field());
+    assertEquals(pojo.getSintListField(), decoded.getSintListField());
+    assertArrayEquals(pojo.getFixedArrayField(), decoded.getFixedArrayField());
+    assertEquals(pojo.getSfixedMapField(), decoded.getSfixedMapField());
+
+    assertEquals(encoded.length, IntegerEncodingPojoProtoConverter.computeSize(pojo));
+
+    // Single pass encoding
+    BackpatchingOutput output = new BackpatchingOutput(16);
+    IntegerEncodingPojoProtoConverter.toProto(pojo, output, ProtobufEncodingMode.VERTX);
+    byte[] singlePassEncoded = output.toByteArray();
+    assertArrayEquals(protocObj.toByteArray(), singlePassEncoded);
+    assertEquals(protocObj, io.vertx.protobuf.generated.IntegerEncodingPojo.parseFrom(singlePassEncoded));
+    IntegerEncodingPojo singlePassDecoded = new IntegerEncodingPojo();
+    IntegerEncodingPojoProtoConverter.fromProto(CodedInputStream.newInstance(singlePassEncoded), singlePassDecoded);
+    assertEquals(pojo.getSintField(), singlePassDecoded.getSintField());
+    assertEquals(pojo.getSint64Field(), singlePassDecoded.getSint64Field());
+    assertEquals(pojo.getSintShortField(), singlePassDecoded.getSintShortField());
+    assertEquals(pojo.getFixedField(), singlePassDecoded.getFixedField());
+    assertEquals(pojo.getFixed64Field(), singlePassDecoded.getFixed64Field());
+    assertEquals(pojo.getSfixedField(), singlePassDecoded.getSfixedField());
+    assertEquals(pojo.getSfixed64Field(), singlePassDecoded.getSfixed64Field());
+    assertEquals(pojo.getSintListField(), singlePassDecoded.getSintListField());
+    assertArrayEquals(pojo.getFixedArrayField(), singlePassDecoded.getFixedArrayField());
+    assertEquals(pojo.getSfixedMapField(), singlePassDecoded.getSfixedMapField());
+  }
+
+  @Test
+  public void testEncodedSize() throws IOException {
+    IntegerEncodingPojo pojo = new IntegerEncodingPojo();
+    pojo.setSintField(-1);
+    // tag | zigzag(-1), int32 would use 10 bytes for the value
+    assertArrayEquals(new byte[]{0x08, 0x01}, vertxEncode(pojo));
+
+    pojo = new IntegerEncodingPojo();
+    pojo.setFixedField(1);
+    // tag | 4 bytes little endian
+    assertArrayEquals(new byte[]{0x25, 0x01, 0x00, 0x00, 0x00}, vertxEncode(pojo));
+
+    pojo = new IntegerEncodingPojo();
+    pojo.setSintListField(Arrays.asList(-1, 1, -2));
+    // tag | data size | zigzag values
+    assertArrayEquals(new byte[]{0x42, 0x03, 0x01, 0x02, 0x03}, vertxEncode(pojo));
+  }
+
+  private byte[] vertxEncode(IntegerEncodingPojo obj) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    IntegerEncodingPojoProtoConverter.toProto(obj, output);
+    output.flush();
+    byte[] encoded = baos.toByteArray();
+    TestUtils.debug("Vertx encoded", encoded);
+    return encoded;
+  }
+}
@@ -0,0 +1,97 @@
+package io.vertx.test.codegen.protobuf;
+
+import io.vertx.codegen.Processor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LazyViewGenTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File output;
+
+  @Test
+  public void testRejectGoogleCompatibleOnly() throws Exception {
+    DiagnosticCollector<JavaFileObject> diagnostics = generate(
+      "@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT, lazyView = true, encodingModes = ProtobufEncodingMode.GOOGLE_COMPATIBLE)");
+    assertTrue(hasError(diagnostics, "A lazy view requires the VERTX encoding mode"));
+  }
+
+  @Test
+  public void testAcceptBothEncodingModes() throws Exception {
+    DiagnosticCollector<JavaFileObject> diagnostics = generate(
+      "@ProtobufGen(fieldNumberStrategy = FieldNumberStrategy.COMPACT, lazyView = true, encodingModes = { ProtobufEncodingMode.VERTX, ProtobufEncodingMode.GOOGLE_COMPATIBLE })");
+    assertFalse(hasError(diagnostics, "lazy view"));
+    assertTrue(new File(output, "io/vertx/test/codegen/lazy/LazyPojoProtoLazyView.java").exists());
+  }
+
+  private DiagnosticCollector<JavaFileObject> generate(String annotation) throws Exception {
+    String dataObject = "package io.vertx.test.codegen.lazy;\n" +
+      "\n" +
+      "import io.vertx.codegen.annotations.DataObject;\n" +
+      "import io.vertx.codegen.protobuf.ProtobufEncodingMode;\n" +
+      "import io.vertx.codegen.protobuf.annotations.FieldNumberStrategy;\n" +
+      "import io.vertx.codegen.protobuf.annotations.ProtobufGen;\n" +
+      "\n" +
+      "@DataObject\n" +
+      annotation + "\n" +
+      "public class LazyPojo {\n" +
+      "  private String name;\n" +
+      "  public String getName() { return name; }\n" +
+      "  public void setName(String name) { this.name = name; }\n" +
+      "}\n";
+    String packageInfo = "@ModuleGen(name = \"lazy\", groupPackage = \"io.vertx.test\")\n" +
+      "package io.vertx.test.codegen.lazy;\n" +
+      "\n" +
+      "import io.vertx.codegen.annotations.ModuleGen;\n";
+    output = folder.newFolder();
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+    List<String> options = Arrays.asList(
+      "-proc:only",
+      "-classpath", System.getProperty("java.class.path"),
+      "-d", output.getAbsolutePath(),
+      "-s", output.getAbsolutePath(),
+      "-Acodegen.output=" + output.getAbsolutePath(),
+      "-Acodegen.generators=data_object_proto_lazy_views");
+    JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+      Arrays.asList(source("io/vertx/test/codegen/lazy/LazyPojo", dataObject), source("io/vertx/test/codegen/lazy/package-info", packageInfo)));
+    task.setProcessors(Collections.singletonList(new Processor()));
+    task.call();
+    fileManager.close();
+    return diagnostics;
+  }
+
+  private static boolean hasError(DiagnosticCollector<JavaFileObject> diagnostics, String message) {
+    return diagnostics.getDiagnostics().stream()
+      .anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR && diagnostic.getMessage(null).contains(message));
+  }
+
+  private static JavaFileObject source(String path, String content) {
+    return new SimpleJavaFileObject(URI.create("string:///" + path + ".java"), JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return content;
+      }
+    };
+  }
+}
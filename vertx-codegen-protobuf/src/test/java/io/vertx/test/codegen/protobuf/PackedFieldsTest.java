@@ -0,0 +1,116 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import io.vertx.test.codegen.converter.User;
+import io.vertx.test.codegen.converter.UserProtoConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class PackedFieldsTest {
+
+  private static final int INTEGER_LIST_FIELD = 3;
+  private static final int DOUBLE_LIST_FIELD = 34;
+  private static final int INT_ARRAY_FIELD = 37;
+  private static final int DOUBLE_ARRAY_FIELD = 39;
+
+  @Test
+  public void testArrayChunks() throws IOException {
+    byte[] bytes = TestUtils.encode(output -> {
+      output.writeTag(INT_ARRAY_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+      output.writeUInt32NoTag(2);
+      output.writeInt32NoTag(1);
+      output.writeInt32NoTag(2);
+      output.writeInt32(INT_ARRAY_FIELD, 3);
+      output.writeTag(INT_ARRAY_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+      output.writeUInt32NoTag(2);
+      output.writeInt32NoTag(4);
+      output.writeInt32NoTag(5);
+    });
+    assertArrayEquals(new int[]{1, 2, 3, 4, 5}, decode(bytes).getIntArrayField());
+  }
+
+  @Test
+  public void testUnpackedArray() throws IOException {
+    byte[] bytes = TestUtils.encode(output -> {
+      for (int i = 0; i < 2000; i++) {
+        output.writeDouble(DOUBLE_ARRAY_FIELD, i);
+      }
+    });
+    double[] array = decode(bytes).getDoubleArrayField();
+    Assert.assertEquals(2000, array.length);
+    Assert.assertEquals(1999d, array[1999], 0d);
+  }
+
+  @Test
+  public void testForgedArrayLength() throws IOException {
+    // A length of almost 2GB followed by a single value
+    byte[] bytes = TestUtils.encode(output -> {
+      output.writeTag(DOUBLE_ARRAY_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+      output.writeUInt32NoTag(Integer.MAX_VALUE - 15);
+      output.writeDoubleNoTag(1d);
+    });
+    try {
+      decode(bytes);
+      Assert.fail();
+    } catch (InvalidProtocolBufferException expected) {
+    }
+  }
+
+  @Test
+  public void testFixedArrayLengthNotMultiple() throws IOException {
+    byte[] bytes = TestUtils.encode(output -> {
+      output.writeTag(DOUBLE_ARRAY_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+      output.writeUInt32NoTag(9);
+      output.writeDoubleNoTag(1d);
+      output.writeRawByte(0);
+    });
+    try {
+      decode(bytes);
+      Assert.fail();
+    } catch (InvalidProtocolBufferException expected) {
+    }
+  }
+
+  @Test
+  public void testListChunks() throws IOException {
+    byte[] bytes = TestUtils.encode(output -> {
+      output.writeTag(INTEGER_LIST_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+      output.writeUInt32NoTag(2);
+      output.writeInt32NoTag(1);
+      output.writeInt32NoTag(2);
+      output.writeInt32(INTEGER_LIST_FIELD, 3);
+      output.writeTag(INTEGER_LIST_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+      output.writeUInt32NoTag(2);
+      output.writeInt32NoTag(4);
+      output.writeInt32NoTag(5);
+    });
+    Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5), decode(bytes).getIntegerListField());
+  }
+
+  @Test
+  public void testForgedListLength() throws IOException {
+    byte[] bytes = TestUtils.encode(output -> {
+      output.writeTag(DOUBLE_LIST_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+      output.writeUInt32NoTag(Integer.MAX_VALUE - 15);
+      output.writeDoubleNoTag(1d);
+    });
+    try {
+      decode(bytes);
+      Assert.fail();
+    } catch (InvalidProtocolBufferException expected) {
+    }
+  }
+
+  private static User decode(byte[] bytes) throws IOException {
+    User user = new User();
+    UserProtoConverter.fromProto(CodedInputStream.newInstance(bytes), user);
+    return user;
+  }
+}
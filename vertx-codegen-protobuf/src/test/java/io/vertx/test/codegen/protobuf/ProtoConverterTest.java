@@ -3,6 +3,8 @@ package io.vertx.test.codegen.protobuf;
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.test.codegen.converter.Address;
@@ -23,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
@@ -185,6 +188,28 @@ public class ProtoConverterTest {
     Assert.assertEquals(encoded.length, UserProtoConverter.computeSize(user));
   }
 
+  @Test
+  public void testCallerSuppliedCache() throws IOException {
+    Address address = new Address();
+    address.setName("Address-01");
+    User user = new User();
+    user.setUserName("user-01");
+    user.setAddress(address);
+    user.setStructListField(Arrays.asList(address, address));
+
+    byte[] expected = vertxEncode(user);
+
+    ExpandableIntArray cache = new ExpandableIntArray(1);
+    for (int i = 0; i < 2; i++) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      CodedOutputStream output = CodedOutputStream.newInstance(baos);
+      UserProtoConverter.toProto(user, output, cache, ProtobufEncodingMode.VERTX);
+      output.flush();
+      assertArrayEquals(expected, baos.toByteArray());
+      assertEquals(expected.length, UserProtoConverter.computeSize(user, cache, ProtobufEncodingMode.VERTX));
+    }
+  }
+
   @Test
   public void testNestedField() throws IOException {
     Address address = new Address();
@@ -247,6 +272,62 @@ public class ProtoConverterTest {
     testEncodeDecode(user, User::getIntegerListField, io.vertx.protobuf.generated.User::getIntegerListFieldList);
   }
 
+  @Test
+  public void testLongListField() throws IOException {
+    User user = new User();
+    user.setLongListField(Collections.unmodifiableList(Arrays.asList(1L, -2L, Long.MAX_VALUE)));
+    testEncodeDecode(user, User::getLongListField, io.vertx.protobuf.generated.User::getLongListFieldList);
+  }
+
+  @Test
+  public void testDoubleListField() throws IOException {
+    User user = new User();
+    user.setDoubleListField(Collections.unmodifiableList(Arrays.asList(3.142, -1.5, 0d)));
+    testEncodeDecode(user, User::getDoubleListField, io.vertx.protobuf.generated.User::getDoubleListFieldList);
+  }
+
+  @Test
+  public void testFloatListField() throws IOException {
+    User user = new User();
+    user.setFloatListField(Collections.unmodifiableList(Arrays.asList(3.142f, -1.5f)));
+    testEncodeDecode(user, User::getFloatListField, io.vertx.protobuf.generated.User::getFloatListFieldList);
+  }
+
+  @Test
+  public void testBooleanListField() throws IOException {
+    User user = new User();
+    user.setBooleanListField(Collections.unmodifiableList(Arrays.asList(true, false, true)));
+    testEncodeDecode(user, User::getBooleanListField, io.vertx.protobuf.generated.User::getBooleanListFieldList);
+  }
+
+  @Test
+  public void testIntArrayField() throws IOException {
+    User user = new User();
+    user.setIntArrayField(new int[]{1, -2, 300000});
+    testEncodeDecode(user, obj -> Arrays.stream(obj.getIntArrayField()).boxed().collect(Collectors.toList()), io.vertx.protobuf.generated.User::getIntArrayFieldList);
+  }
+
+  @Test
+  public void testLongArrayField() throws IOException {
+    User user = new User();
+    user.setLongArrayField(new long[]{1L, -2L, Long.MAX_VALUE});
+    testEncodeDecode(user, obj -> Arrays.stream(obj.getLongArrayField()).boxed().collect(Collectors.toList()), io.vertx.protobuf.generated.User::getLongArrayFieldList);
+  }
+
+  @Test
+  public void testDoubleArrayField() throws IOException {
+    User user = new User();
+    user.setDoubleArrayField(new double[]{3.142, -1.5, 0d});
+    testEncodeDecode(user, obj -> Arrays.stream(obj.getDoubleArrayField()).boxed().collect(Collectors.toList()), io.vertx.protobuf.generated.User::getDoubleArrayFieldList);
+  }
+
+  @Test
+  public void testFloatArrayField() throws IOException {
+    User user = new User();
+    user.setFloatArrayField(new float[]{3.142f, -1.5f});
+    testEncodeDecode(user, obj -> Arrays.asList(obj.getFloatArrayField()[0], obj.getFloatArrayField()[1]), io.vertx.protobuf.generated.User::getFloatArrayFieldList);
+  }
+
   @Test
   public void testIntegerMapField() throws IOException {
     User user = new User();
@@ -0,0 +1,97 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import io.vertx.test.codegen.converter.User;
+import io.vertx.test.codegen.converter.UserProtoConverter;
+import io.vertx.test.codegen.converter.UserProtoLazyView;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ProtoLazyViewTest {
+
+  @Test
+  public void testUntouched() throws IOException {
+    byte[] bytes = encode(TestUtils.user());
+    UserProtoLazyView view = new UserProtoLazyView(bytes);
+    assertEquals(bytes.length, view.computeSize());
+    assertArrayEquals(bytes, encode(view));
+  }
+
+  @Test
+  public void testRange() throws IOException {
+    byte[] bytes = encode(TestUtils.user());
+    byte[] padded = new byte[bytes.length + 4];
+    System.arraycopy(bytes, 0, padded, 2, bytes.length);
+    UserProtoLazyView view = new UserProtoLazyView(padded, 2, bytes.length);
+    assertArrayEquals(bytes, encode(view));
+    assertEquals("Addr-1", view.getAddress().getName());
+  }
+
+  @Test
+  public void testGetters() throws IOException {
+    User user = TestUtils.user();
+    UserProtoLazyView view = new UserProtoLazyView(encode(user));
+    assertEquals(user.getUserName(), view.getUserName());
+    assertEquals(user.getAge(), view.getAge());
+    assertEquals(user.getAddress().getName(), view.getAddress().getName());
+    assertEquals(user.getStructListField().size(), view.getStructListField().size());
+    assertEquals(user.getIntegerListField(), view.getIntegerListField());
+    assertEquals(user.getJsonObjectField(), view.getJsonObjectField());
+    assertEquals(user.getEnumType(), view.getEnumType());
+    assertEquals(user.getStringValueMap(), view.getStringValueMap());
+    assertEquals(user.getPrimitiveLong(), view.getPrimitiveLong());
+    assertEquals(null, view.getDoubleField());
+  }
+
+  @Test
+  public void testPartiallyDecoded() throws IOException {
+    User user = TestUtils.user();
+    UserProtoLazyView view = new UserProtoLazyView(encode(user));
+    assertEquals(user.getUserName(), view.getUserName());
+    view.getStructListField().get(0).setName("Modified");
+    view.setAge(99);
+    byte[] bytes = encode(view);
+    assertEquals(bytes.length, view.computeSize());
+
+    user.getStructListField().get(0).setName("Modified");
+    user.setAge(99);
+    User decoded = new User();
+    UserProtoConverter.fromProto(CodedInputStream.newInstance(bytes), decoded);
+    assertArrayEquals(encode(user), encode(decoded));
+  }
+
+  @Test
+  public void testDecodeOnFirstAccess() throws IOException {
+    User user = new User();
+    user.setUserName("user");
+    byte[] valid = encode(user);
+    // address (field 7) with an invalid nested message
+    byte[] bytes = Arrays.copyOf(valid, valid.length + 4);
+    bytes[valid.length] = 58;
+    bytes[valid.length + 1] = 2;
+    bytes[valid.length + 2] = (byte) 0xFF;
+    bytes[valid.length + 3] = (byte) 0xFF;
+    UserProtoLazyView view = new UserProtoLazyView(bytes);
+    assertEquals("user", view.getUserName());
+    assertArrayEquals(bytes, encode(view));
+    try {
+      view.getAddress();
+      fail();
+    } catch (UncheckedIOException expected) {
+    }
+  }
+
+  private static byte[] encode(User user) throws IOException {
+    if (user instanceof UserProtoLazyView) {
+      return TestUtils.encode(((UserProtoLazyView) user)::toProto);
+    }
+    return TestUtils.encode(output -> UserProtoConverter.toProto(user, output));
+  }
+}
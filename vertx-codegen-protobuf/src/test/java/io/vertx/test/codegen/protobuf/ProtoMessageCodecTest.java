@@ -0,0 +1,101 @@
+package io.vertx.test.codegen.protobuf;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.test.codegen.converter.Address;
+import io.vertx.test.codegen.converter.SimplePojo;
+import io.vertx.test.codegen.converter.SimplePojoProtoConverter;
+import io.vertx.test.codegen.converter.SimplePojoProtoMessageCodec;
+import io.vertx.test.codegen.converter.User;
+import io.vertx.test.codegen.converter.UserProtoMessageCodec;
+import io.vertx.test.codegen.converter.VertxProtoMessageCodecs;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class ProtoMessageCodecTest {
+
+  @Test
+  public void testWire() throws IOException {
+    SimplePojo pojo = pojo();
+    SimplePojoProtoMessageCodec codec = new SimplePojoProtoMessageCodec();
+    Buffer buffer = Buffer.buffer().appendBytes(new byte[]{1, 2, 3});
+    codec.encodeToWire(buffer, pojo);
+    byte[] expected = SimplePojoProtoConverter.toBuffer(pojo).getBytes();
+    assertEquals(expected.length, buffer.getInt(3));
+    assertArrayEquals(expected, buffer.getBytes(7, buffer.length()));
+    assertEquals(pojo, codec.decodeFromWire(3, buffer));
+  }
+
+  @Test
+  public void testWireNested() {
+    Address address = new Address();
+    address.setName("Addr-1");
+    User user = new User();
+    user.setUserName("user");
+    user.setAddress(address);
+    user.setIntegerListField(Arrays.asList(1, 2, 3));
+    UserProtoMessageCodec codec = new UserProtoMessageCodec();
+    Buffer buffer = Buffer.buffer();
+    codec.encodeToWire(buffer, user);
+    codec.encodeToWire(buffer, user);
+    int second = 4 + buffer.getInt(0);
+    User decoded = codec.decodeFromWire(second, buffer);
+    assertEquals("user", decoded.getUserName());
+    assertEquals("Addr-1", decoded.getAddress().getName());
+    assertEquals(Arrays.asList(1, 2, 3), decoded.getIntegerListField());
+  }
+
+  @Test
+  public void testTransform() {
+    SimplePojo pojo = pojo();
+    SimplePojo copy = new SimplePojoProtoMessageCodec().transform(pojo);
+    assertNotSame(pojo, copy);
+    assertEquals(pojo, copy);
+  }
+
+  @Test
+  public void testRegisterCodecs() {
+    Map<Class<?>, MessageCodec<?, ?>> codecs = new HashMap<>();
+    EventBus eventBus = new EventBus() {
+      public EventBus registerCodec(MessageCodec codec) {
+        throw new UnsupportedOperationException();
+      }
+      public EventBus unregisterCodec(String name) {
+        throw new UnsupportedOperationException();
+      }
+      public <T> EventBus registerDefaultCodec(Class<T> clazz, MessageCodec<T, ?> codec) {
+        codecs.put(clazz, codec);
+        return this;
+      }
+      public EventBus unregisterDefaultCodec(Class clazz) {
+        codecs.remove(clazz);
+        return this;
+      }
+    };
+    VertxProtoMessageCodecs.registerCodecs(eventBus);
+    assertTrue(codecs.get(User.class) instanceof UserProtoMessageCodec);
+    assertTrue(codecs.get(SimplePojo.class) instanceof SimplePojoProtoMessageCodec);
+    assertEquals(UserProtoMessageCodec.NAME, codecs.get(User.class).name());
+    VertxProtoMessageCodecs.unregisterCodecs(eventBus);
+    assertTrue(codecs.isEmpty());
+  }
+
+  private static SimplePojo pojo() {
+    SimplePojo pojo = new SimplePojo();
+    pojo.setIntegerField(7);
+    pojo.setLongField(8L);
+    pojo.setBooleanField(true);
+    pojo.setStringField("hello");
+    return pojo;
+  }
+}
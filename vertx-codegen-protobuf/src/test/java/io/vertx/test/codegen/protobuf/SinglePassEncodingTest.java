@@ -0,0 +1,119 @@
+package io.vertx.test.codegen.protobuf;
+
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.test.codegen.converter.Address;
+import io.vertx.test.codegen.converter.CompatiblePojo;
+import io.vertx.test.codegen.converter.CompatiblePojoProtoConverter;
+import io.vertx.test.codegen.converter.EnumType;
+import io.vertx.test.codegen.converter.RecursiveItem;
+import io.vertx.test.codegen.converter.RecursiveItemProtoConverter;
+import io.vertx.test.codegen.converter.User;
+import io.vertx.test.codegen.converter.UserProtoConverter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SinglePassEncodingTest {
+
+  @Test
+  public void testAllFields() throws IOException {
+    Address address1 = new Address();
+    address1.setName("Addr-1");
+    address1.setLatitude(3.301f);
+    address1.setLongitude(4.401f);
+    Address address2 = new Address();
+    address2.setName("Addr-2");
+
+    User user = new User();
+    user.setUserName(String.join("", Collections.nCopies(100, "long-user-name")));
+    user.setAge(-21);
+    user.setDoubleField(5055.5d);
+    user.setLongField(1000L);
+    user.setBoolField(true);
+    user.setPrimitiveInt(-3000);
+    user.setPrimitiveLong(300000L);
+    user.setPrimitiveBoolean(true);
+    user.setAddress(address1);
+    user.setJsonObjectField(new JsonObject().put("IntField", 105).put("Nested", new JsonObject().put("StringField", "StringValue")));
+    user.setJsonArrayField(new JsonArray().add("One").add(2));
+    user.setEnumType(EnumType.B);
+    user.setStructListField(Arrays.asList(address1, address2));
+    user.setIntegerListField(Arrays.asList(100, -101, 300000));
+    user.setJsonListField(Arrays.asList(new JsonObject().put("key", "value"), new JsonObject().put("key", 1)));
+    user.setZonedDateTimeListField(Collections.singletonList(ZonedDateTime.of(2023, 6, 5, 20, 56, 15, 11, ZoneId.of("UTC"))));
+    user.setZonedDateTimeField(ZonedDateTime.of(2023, 5, 27, 21, 23, 58, 15, ZoneId.of("UTC")));
+    user.setInstantField(Instant.ofEpochSecond(1700000000L, 123));
+    Map<String, String> stringValueMap = new HashMap<>();
+    stringValueMap.put("key1", "value1");
+    user.setStringValueMap(stringValueMap);
+    Map<String, Integer> integerValueMap = new HashMap<>();
+    integerValueMap.put("key1", 1);
+    user.setIntegerValueMap(integerValueMap);
+    Map<String, Address> structValueMap = new HashMap<>();
+    structValueMap.put("key1", address1);
+    structValueMap.put("key2", address2);
+    user.setStructValueMap(structValueMap);
+    Map<String, JsonObject> jsonValueMap = new HashMap<>();
+    jsonValueMap.put("key1", new JsonObject().put("IntField", 103));
+    user.setJsonValueMap(jsonValueMap);
+
+    byte[] expected = TestUtils.encode(output -> UserProtoConverter.toProto(user, output));
+    BackpatchingOutput output = new BackpatchingOutput(16);
+    UserProtoConverter.toProto(user, output, ProtobufEncodingMode.VERTX);
+    assertArrayEquals(expected, output.toByteArray());
+  }
+
+  @Test
+  public void testGoogleCompatible() throws IOException {
+    CompatiblePojo pojo = new CompatiblePojo();
+    pojo.setIntegerField(-7);
+    pojo.setStringField(String.join("", Collections.nCopies(100, "long-string")));
+    byte[] expected = TestUtils.encode(output -> CompatiblePojoProtoConverter.toProto(pojo, output));
+    BackpatchingOutput output = new BackpatchingOutput(16);
+    CompatiblePojoProtoConverter.toProto(pojo, output, ProtobufEncodingMode.GOOGLE_COMPATIBLE);
+    assertArrayEquals(expected, output.toByteArray());
+
+    // Default values are not encoded
+    pojo.setIntegerField(0);
+    pojo.setStringField("");
+    output = new BackpatchingOutput(16);
+    CompatiblePojoProtoConverter.toProto(pojo, output, ProtobufEncodingMode.GOOGLE_COMPATIBLE);
+    assertEquals(0, output.toByteArray().length);
+  }
+
+  @Test
+  public void testDeepRecursiveItem() throws IOException {
+    RecursiveItem root = tree(8, "root");
+
+    // RecursiveItem enables single pass encoding
+    byte[] encoded = TestUtils.encode(output -> RecursiveItemProtoConverter.toProto(root, output));
+
+    // Decode using Google's protoc plugin and encode it again
+    io.vertx.protobuf.generated.RecursiveItem protocObj = io.vertx.protobuf.generated.RecursiveItem.parseFrom(encoded);
+    assertArrayEquals(protocObj.toByteArray(), encoded);
+    assertEquals(RecursiveItemProtoConverter.computeSize(root), encoded.length);
+  }
+
+  private static RecursiveItem tree(int depth, String id) {
+    RecursiveItem item = new RecursiveItem(id);
+    if (depth > 0) {
+      item.setChildA(tree(depth - 1, id + "_a"));
+      item.setChildC(tree(depth - 1, id + "_c"));
+    }
+    return item;
+  }
+
+}
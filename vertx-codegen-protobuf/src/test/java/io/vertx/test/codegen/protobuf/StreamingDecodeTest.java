@@ -0,0 +1,123 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.test.codegen.converter.Address;
+import io.vertx.test.codegen.converter.User;
+import io.vertx.test.codegen.converter.UserProtoConverter;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class StreamingDecodeTest {
+
+  @Test
+  public void testHandler() throws IOException {
+    User user = user(1000);
+    List<Address> addresses = new ArrayList<>();
+    User decoded = new User();
+    UserProtoConverter.streamStructListField(CodedInputStream.newInstance(new ByteArrayInputStream(encode(user))), decoded, addresses::add);
+    assertEquals(1000, addresses.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals("Addr-" + i, addresses.get(i).getName());
+    }
+    assertNull(decoded.getStructListField());
+    assertEquals(user.getUserName(), decoded.getUserName());
+    assertEquals(user.getAddress().getName(), decoded.getAddress().getName());
+    assertEquals(user.getJsonListField(), decoded.getJsonListField());
+  }
+
+  @Test
+  public void testGoogleCompatibleMode() throws IOException {
+    User user = user(10);
+    List<Address> addresses = new ArrayList<>();
+    User decoded = new User();
+    UserProtoConverter.streamStructListField(CodedInputStream.newInstance(encode(user)), decoded, ProtobufEncodingMode.GOOGLE_COMPATIBLE, addresses::add);
+    assertEquals(10, addresses.size());
+    assertEquals("Addr-9", addresses.get(9).getName());
+    assertEquals(user.getUserName(), decoded.getUserName());
+    // The boxed properties that are not encoded are set to their protobuf default value
+    assertEquals(Long.valueOf(0), decoded.getLongField());
+    assertEquals(Boolean.FALSE, decoded.getBoolField());
+  }
+
+  @Test
+  public void testReadStreamBackpressure() throws IOException {
+    User user = user(10);
+    User decoded = new User();
+    List<Address> addresses = new ArrayList<>();
+    AtomicInteger ended = new AtomicInteger();
+    ReadStream<Address> stream = UserProtoConverter.streamStructListField(CodedInputStream.newInstance(encode(user)), decoded);
+    stream.pause();
+    stream.endHandler(v -> ended.incrementAndGet());
+    stream.handler(addresses::add);
+    assertEquals(0, addresses.size());
+    stream.fetch(1);
+    assertEquals(1, addresses.size());
+    stream.fetch(3);
+    assertEquals(4, addresses.size());
+    assertEquals(0, ended.get());
+    stream.resume();
+    assertEquals(10, addresses.size());
+    assertEquals(1, ended.get());
+    assertEquals(user.getUserName(), decoded.getUserName());
+  }
+
+  @Test
+  public void testReadStreamFetchFromHandler() throws IOException {
+    User user = user(5);
+    List<Address> addresses = new ArrayList<>();
+    ReadStream<Address> stream = UserProtoConverter.streamStructListField(CodedInputStream.newInstance(encode(user)), new User());
+    stream.pause();
+    stream.handler(address -> {
+      addresses.add(address);
+      stream.fetch(1);
+    });
+    stream.fetch(1);
+    assertEquals(5, addresses.size());
+  }
+
+  @Test
+  public void testReadStreamFailure() throws IOException {
+    byte[] bytes = encode(user(10));
+    byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    AtomicInteger ended = new AtomicInteger();
+    ReadStream<Address> stream = UserProtoConverter.streamStructListField(CodedInputStream.newInstance(truncated), new User());
+    stream.exceptionHandler(failure::set);
+    stream.endHandler(v -> ended.incrementAndGet());
+    stream.handler(address -> {});
+    assertNotNull(failure.get());
+    assertEquals(0, ended.get());
+  }
+
+  private static User user(int size) {
+    List<Address> addresses = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      Address element = new Address();
+      element.setName("Addr-" + i);
+      element.setLatitude((float) i);
+      addresses.add(element);
+    }
+    User user = TestUtils.user();
+    user.setStructListField(addresses);
+    user.setJsonListField(Arrays.asList(new JsonObject().put("key", "value")));
+    return user;
+  }
+
+  private static byte[] encode(User user) throws IOException {
+    return TestUtils.encode(output -> UserProtoConverter.toProto(user, output));
+  }
+}
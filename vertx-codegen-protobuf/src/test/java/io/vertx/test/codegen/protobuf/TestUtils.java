@@ -1,8 +1,57 @@
 package io.vertx.test.codegen.protobuf;
 
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.core.json.JsonObject;
+import io.vertx.test.codegen.converter.Address;
+import io.vertx.test.codegen.converter.EnumType;
+import io.vertx.test.codegen.converter.User;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 public class TestUtils {
   private static final boolean DEBUG = false;
 
+  public interface Encoder {
+    void encode(CodedOutputStream output) throws IOException;
+  }
+
+  public static byte[] encode(Encoder encoder) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    encoder.encode(output);
+    output.flush();
+    return baos.toByteArray();
+  }
+
+  public static User user() {
+    Address address1 = new Address();
+    address1.setName("Addr-1");
+    address1.setLatitude(3.301f);
+    address1.setLongitude(4.401f);
+    Address address2 = new Address();
+    address2.setName("Addr-2");
+    Address address3 = new Address();
+    address3.setName("Addr-3");
+    User user = new User();
+    user.setUserName(String.join("", Collections.nCopies(20, "user-name")));
+    user.setAge(21);
+    user.setPrimitiveLong(300000L);
+    user.setAddress(address1);
+    user.setStructListField(Arrays.asList(address2, address3));
+    user.setIntegerListField(Arrays.asList(100, -101, 300000));
+    user.setJsonObjectField(new JsonObject().put("IntField", 105));
+    user.setEnumType(EnumType.B);
+    Map<String, String> stringValueMap = new HashMap<>();
+    stringValueMap.put("key1", "value1");
+    user.setStringValueMap(stringValueMap);
+    return user;
+  }
+
   public static String prettyHexDump(byte[] bytes) {
     StringBuilder sb = new StringBuilder();
     for (int i = 0; i < bytes.length; i++) {
@@ -0,0 +1,150 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import io.vertx.codegen.protobuf.ProtobufEncodingMode;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.ProtoUnknownFields;
+import io.vertx.test.codegen.converter.Person;
+import io.vertx.test.codegen.converter.PersonProtoConverter;
+import io.vertx.test.codegen.converter.PersonRelay;
+import io.vertx.test.codegen.converter.PersonRelayProtoConverter;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class UnknownFieldsTest {
+
+  @Test
+  public void testSkipUnknownFields() throws IOException {
+    Person person = new Person();
+    PersonProtoConverter.fromProto(CodedInputStream.newInstance(newerPerson()), person);
+    assertEquals("Alice", person.getName());
+    assertEquals(42, person.getAge());
+  }
+
+  @Test
+  public void testRelayUnknownFields() throws IOException {
+    byte[] bytes = newerPerson();
+    PersonRelay relay = new PersonRelay();
+    PersonRelayProtoConverter.fromProto(CodedInputStream.newInstance(bytes), relay);
+    assertEquals("Alice", relay.getName());
+    assertEquals(bytes.length, PersonRelayProtoConverter.computeSize(relay));
+    assertArrayEquals(bytes, encode(relay));
+    BackpatchingOutput output = new BackpatchingOutput(16);
+    PersonRelayProtoConverter.toProto(relay, output, ProtobufEncodingMode.VERTX);
+    assertArrayEquals(bytes, output.toByteArray());
+  }
+
+  @Test
+  public void testRelayModifiedMessage() throws IOException {
+    PersonRelay relay = new PersonRelay();
+    PersonRelayProtoConverter.fromProto(CodedInputStream.newInstance(newerPerson()), relay);
+    relay.setName("Bob");
+    Person person = new Person();
+    PersonProtoConverter.fromProto(CodedInputStream.newInstance(encode(relay)), person);
+    assertEquals("Bob", person.getName());
+    assertEquals(42, person.getAge());
+  }
+
+  @Test
+  public void testNoUnknownFields() throws IOException {
+    Person person = new Person();
+    person.setName("Alice");
+    PersonRelay relay = new PersonRelay();
+    PersonRelayProtoConverter.fromProto(CodedInputStream.newInstance(encode(person)), relay);
+    assertNull(relay.getUnknownFields());
+    assertArrayEquals(encode(person), encode(relay));
+  }
+
+  @Test
+  public void testEndGroupEndsMessage() throws IOException {
+    byte[] bytes = TestUtils.encode(output -> {
+      output.writeString(2, "Alice");
+      output.writeTag(8, WireFormat.WIRETYPE_END_GROUP);
+      output.writeInt32(4, 42);
+    });
+    Person person = new Person();
+    PersonProtoConverter.fromProto(CodedInputStream.newInstance(bytes), person);
+    assertEquals("Alice", person.getName());
+    assertEquals(0, person.getAge());
+    PersonRelay relay = new PersonRelay();
+    PersonRelayProtoConverter.fromProto(CodedInputStream.newInstance(bytes), relay);
+    assertEquals("Alice", relay.getName());
+    assertNull(relay.getUnknownFields());
+  }
+
+  @Test
+  public void testInvalidUnknownFields() throws IOException {
+    // Negative length
+    assertInvalid(output -> {
+      output.writeTag(7, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+      output.writeUInt32NoTag(-1);
+    });
+    // Length of almost 2GB, truncated
+    assertInvalid(output -> {
+      output.writeTag(7, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+      output.writeUInt32NoTag(Integer.MAX_VALUE - 1);
+      output.writeRawBytes(new byte[16]);
+    });
+    // End group of another field
+    assertInvalid(output -> {
+      output.writeTag(8, WireFormat.WIRETYPE_START_GROUP);
+      output.writeTag(9, WireFormat.WIRETYPE_END_GROUP);
+    });
+    // Group not ended
+    assertInvalid(output -> output.writeTag(8, WireFormat.WIRETYPE_START_GROUP));
+    // Too many nested groups
+    assertInvalid(output -> {
+      for (int i = 0; i <= ProtoUnknownFields.RECURSION_LIMIT; i++) {
+        output.writeTag(8, WireFormat.WIRETYPE_START_GROUP);
+      }
+      for (int i = 0; i <= ProtoUnknownFields.RECURSION_LIMIT; i++) {
+        output.writeTag(8, WireFormat.WIRETYPE_END_GROUP);
+      }
+    });
+  }
+
+  private static void assertInvalid(TestUtils.Encoder encoder) throws IOException {
+    byte[] bytes = TestUtils.encode(output -> {
+      output.writeString(2, "Alice");
+      encoder.encode(output);
+    });
+    try {
+      PersonRelayProtoConverter.fromProto(CodedInputStream.newInstance(bytes), new PersonRelay());
+      fail();
+    } catch (InvalidProtocolBufferException expected) {
+    }
+  }
+
+  /**
+   * @return a person encoded by a newer producer, with fields of every wire type that the converters do not know
+   */
+  private static byte[] newerPerson() throws IOException {
+    return TestUtils.encode(output -> {
+      output.writeString(2, "Alice");
+      output.writeInt32(4, 42);
+      output.writeInt64(5, -1L);
+      output.writeFixed64(6, 0x0102030405060708L);
+      output.writeByteArray(7, new byte[300]);
+      output.writeTag(8, WireFormat.WIRETYPE_START_GROUP);
+      output.writeString(1, "nested");
+      output.writeFixed32(2, 7);
+      output.writeTag(8, WireFormat.WIRETYPE_END_GROUP);
+      output.writeFixed32(9, -7);
+    });
+  }
+
+  private static byte[] encode(Object obj) throws IOException {
+    if (obj instanceof Person) {
+      return TestUtils.encode(output -> PersonProtoConverter.toProto((Person) obj, output));
+    }
+    return TestUtils.encode(output -> PersonRelayProtoConverter.toProto((PersonRelay) obj, output));
+  }
+}
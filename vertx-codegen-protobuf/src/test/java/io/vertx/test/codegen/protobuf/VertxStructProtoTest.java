@@ -3,9 +3,11 @@ package io.vertx.test.codegen.protobuf;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.codegen.protobuf.converters.VertxStructProtoConverter;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
 import io.vertx.protobuf.Value;
 import org.junit.Assert;
 import org.junit.Test;
@@ -251,6 +253,73 @@ public class VertxStructProtoTest {
     Assert.assertEquals(encoded.length, VertxStructProtoConverter.computeSize(jsonObject));
   }
 
+  @Test
+  public void TestBufferField() throws IOException {
+    byte[] binary = {0x1, 0x2, 0x3, 0x4, 0x5, 0x6};
+    JsonObject jsonObject = new JsonObject();
+    jsonObject.put("BinaryField", Buffer.buffer(binary));
+
+    // Same encoding as a byte array
+    byte[] encoded = vertxEncode(jsonObject);
+    assertArrayEquals(vertxEncode(new JsonObject().put("BinaryField", binary)), encoded);
+
+    // Verify ComputeSize
+    Assert.assertEquals(encoded.length, VertxStructProtoConverter.computeSize(jsonObject));
+  }
+
+  @Test
+  public void TestAliasedBinaryField() throws IOException {
+    byte[] binary = {0x1, 0x2, 0x3, 0x4, 0x5, 0x6};
+    JsonObject jsonObject = new JsonObject();
+    jsonObject.put("BinaryField", binary);
+    jsonObject.put("ObjectField", new JsonObject().put("NestedBinaryField", binary));
+    byte[] encoded = vertxEncode(jsonObject);
+
+    CodedInputStream input = CodedInputStream.newInstance(encoded);
+    input.enableAliasing(true);
+    JsonObject decoded = VertxStructProtoConverter.fromProto(input, true);
+
+    Buffer buffer = (Buffer) decoded.getMap().get("BinaryField");
+    assertArrayEquals(binary, buffer.getBytes());
+    Buffer nestedBuffer = (Buffer) ((JsonObject) decoded.getMap().get("ObjectField")).getMap().get("NestedBinaryField");
+    assertArrayEquals(binary, nestedBuffer.getBytes());
+
+    // The buffers are slices of the input
+    encoded[encoded.length - 1] = 0x7;
+    assertEquals(0x7, nestedBuffer.getByte(binary.length - 1));
+
+    // Encoded back to the same bytes
+    assertArrayEquals(encoded, vertxEncode(decoded));
+  }
+
+  @Test
+  public void TestDeepJsonObject() throws IOException {
+    JsonObject jsonObject = new JsonObject().put("IntegerField", 16);
+    for (int i = 15; i >= 0; i--) {
+      jsonObject = new JsonObject()
+        .put("IntegerField", i)
+        .put("ArrayField", new JsonArray().add(i).add("element"))
+        .put("ObjectField", jsonObject);
+    }
+
+    // Vertx Encode
+    byte[] encoded = vertxEncode(jsonObject);
+
+    // Encode using Google's protoc plugin
+    io.vertx.protobuf.Struct protoJsonObject = io.vertx.protobuf.Struct.parseFrom(encoded);
+    assertArrayEquals(protocEncode(protoJsonObject), encoded);
+
+    // Vertx Decode
+    JsonObject decoded = VertxStructProtoConverter.fromProto(CodedInputStream.newInstance(encoded));
+    assertEquals(jsonObject, decoded);
+
+    // Verify ComputeSize, the size cache holds the size of each object and array
+    ExpandableIntArray cache = new ExpandableIntArray(16);
+    assertEquals(2 * 17 - 1, VertxStructProtoConverter.computeSize(jsonObject, cache, 0));
+    assertEquals(encoded.length, cache.get(0));
+    assertEquals(encoded.length, VertxStructProtoConverter.computeSize(jsonObject));
+  }
+
   private byte[] protocEncode(io.vertx.protobuf.Struct obj) throws IOException {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
     CodedOutputStream output = CodedOutputStream.newInstance(baos);
@@ -0,0 +1,44 @@
+package io.vertx.test.codegen.protobuf.utils;
+
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutputPool;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BackpatchingOutputPoolTest {
+
+  @Test
+  public void testReuse() {
+    BackpatchingOutput output1 = BackpatchingOutputPool.acquire();
+    output1.writeUInt32NoTag(1);
+    BackpatchingOutputPool.release(output1);
+    BackpatchingOutput output2 = BackpatchingOutputPool.acquire();
+    Assert.assertSame(output1, output2);
+    Assert.assertEquals(0, output2.size());
+    BackpatchingOutputPool.release(output2);
+  }
+
+  @Test
+  public void testReentrantAcquire() {
+    BackpatchingOutput outer = BackpatchingOutputPool.acquire();
+    BackpatchingOutput inner = BackpatchingOutputPool.acquire();
+    Assert.assertNotSame(outer, inner);
+    BackpatchingOutputPool.release(inner);
+    BackpatchingOutputPool.release(outer);
+    BackpatchingOutput output = BackpatchingOutputPool.acquire();
+    Assert.assertSame(outer, output);
+    BackpatchingOutputPool.release(output);
+  }
+
+  @Test
+  public void testLargeOutputNotRetained() {
+    BackpatchingOutput large = BackpatchingOutputPool.acquire();
+    byte[] bytes = new byte[BackpatchingOutputPool.MAX_POOLED_CAPACITY + 1];
+    large.writeRawBytes(bytes, 0, bytes.length);
+    BackpatchingOutputPool.release(large);
+    BackpatchingOutput output = BackpatchingOutputPool.acquire();
+    Assert.assertNotSame(large, output);
+    Assert.assertTrue(output.capacity() <= BackpatchingOutputPool.MAX_POOLED_CAPACITY);
+    BackpatchingOutputPool.release(output);
+  }
+}
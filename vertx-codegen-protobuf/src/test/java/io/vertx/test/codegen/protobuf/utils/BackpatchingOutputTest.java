@@ -0,0 +1,139 @@
+package io.vertx.test.codegen.protobuf.utils;
+
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.utils.BackpatchingOutput;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+public class BackpatchingOutputTest {
+
+  @Test
+  public void testShortLength() {
+    BackpatchingOutput output = new BackpatchingOutput(2);
+    int mark = output.reserveLength();
+    output.writeInt32(1, 150);
+    output.backpatchLength(mark);
+    Assert.assertArrayEquals(new byte[] { 3, 0x08, (byte) 0x96, 0x01 }, output.toByteArray());
+  }
+
+  @Test
+  public void testLongLength() throws IOException {
+    byte[] content = new byte[300];
+    Arrays.fill(content, (byte) 7);
+
+    BackpatchingOutput output = new BackpatchingOutput(2);
+    output.writeTag(1, 2);
+    int mark = output.reserveLength();
+    for (byte b : content) {
+      output.writeUInt32NoTag(b);
+    }
+    output.backpatchLength(mark);
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream expected = CodedOutputStream.newInstance(baos);
+    expected.writeByteArray(1, content);
+    expected.flush();
+    Assert.assertArrayEquals(baos.toByteArray(), output.toByteArray());
+  }
+
+  @Test
+  public void testNestedLength() {
+    BackpatchingOutput output = new BackpatchingOutput(2);
+    int outer = output.reserveLength();
+    int inner = output.reserveLength();
+    for (int i = 0; i < 200; i++) {
+      output.writeBool(1, true);
+    }
+    output.backpatchLength(inner);
+    output.backpatchLength(outer);
+
+    byte[] bytes = output.toByteArray();
+    Assert.assertEquals(2 + 2 + 400, bytes.length);
+    Assert.assertEquals((byte) 0x92, bytes[0]); // 402
+    Assert.assertEquals((byte) 0x03, bytes[1]);
+    Assert.assertEquals((byte) 0x90, bytes[2]); // 400
+    Assert.assertEquals((byte) 0x03, bytes[3]);
+  }
+
+  @Test
+  public void testString() throws IOException {
+    String[] values = { "", "ascii", "café", "€中", "😀", "unpaired \ud800 surrogate", new String(new char[200]).replace('\0', 'é') };
+    for (String value : values) {
+      BackpatchingOutput output = new BackpatchingOutput(2);
+      output.writeString(5, value);
+
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      CodedOutputStream expected = CodedOutputStream.newInstance(baos);
+      expected.writeString(5, value);
+      expected.flush();
+      Assert.assertArrayEquals(baos.toByteArray(), output.toByteArray());
+    }
+  }
+
+  @Test
+  public void testIntegerEncodings() throws IOException {
+    int[] ints = { 0, 1, -1, 150, -150, Integer.MAX_VALUE, Integer.MIN_VALUE };
+    long[] longs = { 0L, 1L, -1L, 300_000_000_000L, -300_000_000_000L, Long.MAX_VALUE, Long.MIN_VALUE };
+    BackpatchingOutput output = new BackpatchingOutput(2);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream expected = CodedOutputStream.newInstance(baos);
+    for (int value : ints) {
+      output.writeSInt32(1, value);
+      output.writeFixed32(2, value);
+      output.writeSFixed32(3, value);
+      output.writeSInt32NoTag(value);
+      output.writeSFixed32NoTag(value);
+      expected.writeSInt32(1, value);
+      expected.writeFixed32(2, value);
+      expected.writeSFixed32(3, value);
+      expected.writeSInt32NoTag(value);
+      expected.writeSFixed32NoTag(value);
+    }
+    for (long value : longs) {
+      output.writeSInt64(4, value);
+      output.writeFixed64(5, value);
+      output.writeSFixed64(6, value);
+      output.writeSInt64NoTag(value);
+      output.writeSFixed64NoTag(value);
+      expected.writeSInt64(4, value);
+      expected.writeFixed64(5, value);
+      expected.writeSFixed64(6, value);
+      expected.writeSInt64NoTag(value);
+      expected.writeSFixed64NoTag(value);
+    }
+    expected.flush();
+    Assert.assertArrayEquals(baos.toByteArray(), output.toByteArray());
+  }
+
+  @Test
+  public void testSlice() throws IOException {
+    BackpatchingOutput output = new BackpatchingOutput(2);
+    output.writeBool(1, true);
+    CodedOutputStream slice = output.slice(CodedOutputStream.computeStringSize(2, "slice"));
+    slice.writeString(2, "slice");
+    output.writeBool(3, false);
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream expected = CodedOutputStream.newInstance(baos);
+    expected.writeBool(1, true);
+    expected.writeString(2, "slice");
+    expected.writeBool(3, false);
+    expected.flush();
+    Assert.assertArrayEquals(baos.toByteArray(), output.toByteArray());
+  }
+
+  @Test
+  public void testReset() {
+    BackpatchingOutput output = new BackpatchingOutput(2);
+    output.writeInt64(1, -1L);
+    Assert.assertEquals(11, output.size());
+    output.reset();
+    Assert.assertEquals(0, output.size());
+    output.writeInt32NoTag(-1);
+    Assert.assertEquals(10, output.size());
+  }
+}
@@ -55,6 +55,18 @@ public class ExpandableArrayTest {
     });
   }
 
+  @Test
+  public void testGetUnchecked() {
+    ExpandableIntArray arr = new ExpandableIntArray(4);
+    arr.add(1);
+    arr.set(2, 3);
+    Assert.assertEquals(1, arr.getUnchecked(0));
+    Assert.assertEquals(3, arr.getUnchecked(2));
+    arr.reset();
+    // The slots are not cleared by reset
+    Assert.assertEquals(3, arr.getUnchecked(2));
+  }
+
   @Test
   public void testSetNegativeIndex() {
     ExpandableIntArray arr = new ExpandableIntArray(2);
@@ -64,6 +76,31 @@ public class ExpandableArrayTest {
     });
   }
 
+  @Test
+  public void testReset() {
+    ExpandableIntArray arr = new ExpandableIntArray(2);
+    arr.add(1);
+    arr.add(2);
+    arr.add(3);
+    int capacity = arr.capacity();
+    arr.reset();
+    Assert.assertEquals(0, arr.size());
+    Assert.assertEquals(capacity, arr.capacity());
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> {
+      arr.get(0);
+    });
+    arr.add(4);
+    Assert.assertEquals(4, arr.get(0));
+  }
+
+  @Test
+  public void testEnsureCapacity() {
+    ExpandableIntArray arr = new ExpandableIntArray(2);
+    arr.ensureCapacity(100);
+    Assert.assertEquals(100, arr.capacity());
+    Assert.assertEquals(0, arr.size());
+  }
+
   @Test(expected = OutOfMemoryError.class)
   public void testOutOfMemory() {
     new ExpandableIntArray(Integer.MAX_VALUE);
@@ -0,0 +1,78 @@
+package io.vertx.test.codegen.protobuf.utils;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.utils.ProtoFieldIndex;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ProtoFieldIndexTest {
+
+  @Test
+  public void testScan() throws IOException {
+    byte[] bytes = message();
+    ProtoFieldIndex index = ProtoFieldIndex.scan(bytes, 0, bytes.length);
+    int entry = index.next(2, -1);
+    CodedInputStream input = index.input(entry);
+    assertEquals((2 << 3) | 2, input.readTag());
+    assertEquals("a", input.readString());
+    entry = index.next(2, entry);
+    input = index.input(entry);
+    input.readTag();
+    assertEquals("b", input.readString());
+    assertEquals(-1, index.next(2, entry));
+    assertEquals(-1, index.next(5, -1));
+  }
+
+  @Test
+  public void testWriteUntouched() throws IOException {
+    byte[] bytes = message();
+    byte[] padded = new byte[bytes.length + 3];
+    System.arraycopy(bytes, 0, padded, 3, bytes.length);
+    ProtoFieldIndex index = ProtoFieldIndex.scan(padded, 3, bytes.length);
+    assertTrue(index.isUntouched());
+    assertEquals(bytes.length, index.computeSize());
+    assertArrayEquals(bytes, write(index));
+  }
+
+  @Test
+  public void testConsume() throws IOException {
+    byte[] bytes = message();
+    ProtoFieldIndex index = ProtoFieldIndex.scan(bytes, 0, bytes.length);
+    index.consume(2);
+    assertFalse(index.isUntouched());
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(expected);
+    output.writeInt32(1, 300);
+    output.writeInt32(3, 4);
+    output.flush();
+    assertEquals(expected.size(), index.computeSize());
+    assertArrayEquals(expected.toByteArray(), write(index));
+  }
+
+  private static byte[] message() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    output.writeInt32(1, 300);
+    output.writeString(2, "a");
+    output.writeInt32(3, 4);
+    output.writeString(2, "b");
+    output.flush();
+    return baos.toByteArray();
+  }
+
+  private static byte[] write(ProtoFieldIndex index) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    index.writeTo(output);
+    output.flush();
+    return baos.toByteArray();
+  }
+}
@@ -0,0 +1,146 @@
+package io.vertx.test.codegen.protobuf.utils;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.vertx.codegen.protobuf.converters.VertxStructProtoConverter;
+import io.vertx.codegen.protobuf.utils.ProtoStringInterner;
+import com.sun.management.ThreadMXBean;
+import io.vertx.core.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+public class ProtoStringInternerTest {
+
+  @Test
+  public void testInternKeys() throws IOException {
+    byte[] encoded = encodeStrings("name", "name", "value", "name");
+    CodedInputStream input = CodedInputStream.newInstance(encoded);
+    ProtoStringInterner interner = new ProtoStringInterner();
+    String first = interner.readKey(input);
+    String second = interner.readKey(input);
+    String third = interner.readKey(input);
+    String fourth = interner.readKey(input);
+    Assert.assertEquals("name", first);
+    Assert.assertSame(first, second);
+    Assert.assertEquals("value", third);
+    Assert.assertSame(first, fourth);
+    Assert.assertEquals(2, interner.hits());
+    Assert.assertEquals(2, interner.misses());
+    Assert.assertEquals(0.5d, interner.hitRate(), 0d);
+  }
+
+  @Test
+  public void testValuesNotInternedByDefault() throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(encodeStrings("value", "value"));
+    ProtoStringInterner interner = new ProtoStringInterner();
+    Assert.assertNotSame(interner.readValue(input), interner.readValue(input));
+    Assert.assertEquals(0, interner.hits() + interner.misses());
+  }
+
+  @Test
+  public void testMaxValueLength() throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(encodeStrings("short", "short", "too-long", "too-long"));
+    ProtoStringInterner interner = new ProtoStringInterner(16, 5);
+    Assert.assertSame(interner.readValue(input), interner.readValue(input));
+    Assert.assertNotSame(interner.readValue(input), interner.readValue(input));
+    Assert.assertEquals(1, interner.hits());
+    Assert.assertEquals(1, interner.misses());
+  }
+
+  @Test
+  public void testCollision() throws IOException {
+    // A single entry table keeps the last string
+    CodedInputStream input = CodedInputStream.newInstance(encodeStrings("a", "b", "a", "a"));
+    ProtoStringInterner interner = new ProtoStringInterner(1, 0);
+    Assert.assertEquals("a", interner.readKey(input));
+    Assert.assertEquals("b", interner.readKey(input));
+    String a = interner.readKey(input);
+    Assert.assertEquals("a", a);
+    Assert.assertSame(a, interner.readKey(input));
+    Assert.assertEquals(1, interner.hits());
+    Assert.assertEquals(3, interner.misses());
+  }
+
+  @Test
+  public void testNonAsciiKeys() throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(encodeStrings("clé", "clé"));
+    ProtoStringInterner interner = new ProtoStringInterner();
+    String key = interner.readKey(input);
+    Assert.assertEquals("clé", key);
+    Assert.assertSame(key, interner.readKey(input));
+  }
+
+  @Test
+  public void testNegativeLength() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    output.writeUInt32NoTag(-1);
+    output.flush();
+    ProtoStringInterner interner = new ProtoStringInterner(16, 16);
+    try {
+      interner.readKey(CodedInputStream.newInstance(baos.toByteArray()));
+      Assert.fail();
+    } catch (InvalidProtocolBufferException expected) {
+    }
+  }
+
+  @Test
+  public void testHitsDoNotAllocate() throws IOException {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+    int count = 10_000;
+    String[] keys = new String[count];
+    Arrays.fill(keys, "name");
+    CodedInputStream input = CodedInputStream.newInstance(encodeStrings(keys));
+    ProtoStringInterner interner = new ProtoStringInterner();
+    interner.readKey(input);
+    long threadId = Thread.currentThread().getId();
+    long before = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 1; i < count; i++) {
+      interner.readKey(input);
+    }
+    long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+    Assert.assertEquals(count - 1, interner.hits());
+    // Copying the bytes of each key would allocate at least 16 bytes per key
+    Assert.assertTrue("Allocated " + allocated + " bytes", allocated < count);
+  }
+
+  @Test
+  public void testDecodeJsonObject() throws IOException {
+    JsonObject json = new JsonObject();
+    for (int i = 0; i < 100; i++) {
+      json.put("object-" + i, new JsonObject().put("name", "metric").put("value", i));
+    }
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    VertxStructProtoConverter.toProto(json, output);
+    output.flush();
+
+    ProtoStringInterner interner = new ProtoStringInterner(256, 16);
+    JsonObject decoded = VertxStructProtoConverter.fromProto(CodedInputStream.newInstance(baos.toByteArray()), false, interner);
+    Assert.assertEquals(json, decoded);
+    JsonObject first = (JsonObject) decoded.getMap().get("object-0");
+    JsonObject last = (JsonObject) decoded.getMap().get("object-99");
+    Assert.assertSame(first.getMap().keySet().iterator().next(), last.getMap().keySet().iterator().next());
+    Assert.assertSame(first.getMap().get("name"), last.getMap().get("name"));
+    // "name", "value" and "metric" are interned once and found 99 times
+    Assert.assertEquals(3 * 99, interner.hits());
+  }
+
+  private static byte[] encodeStrings(String... strings) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    for (String s : strings) {
+      output.writeStringNoTag(s);
+    }
+    output.flush();
+    return baos.toByteArray();
+  }
+}
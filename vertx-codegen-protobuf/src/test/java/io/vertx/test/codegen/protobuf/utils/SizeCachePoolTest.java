@@ -0,0 +1,61 @@
+package io.vertx.test.codegen.protobuf.utils;
+
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.SizeCachePool;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SizeCachePoolTest {
+
+  @Test
+  public void testReuse() {
+    ExpandableIntArray cache1 = SizeCachePool.acquire(4);
+    cache1.add(1);
+    SizeCachePool.release(cache1);
+    ExpandableIntArray cache2 = SizeCachePool.acquire(32);
+    Assert.assertSame(cache1, cache2);
+    Assert.assertEquals(0, cache2.size());
+    Assert.assertTrue(cache2.capacity() >= 32);
+    SizeCachePool.release(cache2);
+  }
+
+  @Test
+  public void testReentrantAcquire() {
+    ExpandableIntArray outer = SizeCachePool.acquire(4);
+    ExpandableIntArray inner = SizeCachePool.acquire(4);
+    Assert.assertNotSame(outer, inner);
+    SizeCachePool.release(inner);
+    SizeCachePool.release(outer);
+    ExpandableIntArray cache = SizeCachePool.acquire(4);
+    Assert.assertSame(outer, cache);
+    SizeCachePool.release(cache);
+  }
+
+  @Test
+  public void testThreadLocal() throws Exception {
+    ExpandableIntArray cache = SizeCachePool.acquire(4);
+    SizeCachePool.release(cache);
+    AtomicReference<ExpandableIntArray> other = new AtomicReference<>();
+    Thread thread = new Thread(() -> {
+      ExpandableIntArray c = SizeCachePool.acquire(4);
+      other.set(c);
+      SizeCachePool.release(c);
+    });
+    thread.start();
+    thread.join();
+    Assert.assertNotNull(other.get());
+    Assert.assertNotSame(cache, other.get());
+  }
+
+  @Test
+  public void testLargeCacheNotRetained() {
+    ExpandableIntArray large = SizeCachePool.acquire(SizeCachePool.MAX_POOLED_CAPACITY + 1);
+    SizeCachePool.release(large);
+    ExpandableIntArray cache = SizeCachePool.acquire(4);
+    Assert.assertNotSame(large, cache);
+    Assert.assertTrue(cache.capacity() <= SizeCachePool.MAX_POOLED_CAPACITY);
+    SizeCachePool.release(cache);
+  }
+}